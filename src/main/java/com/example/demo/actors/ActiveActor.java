@@ -1,6 +1,11 @@
 package com.example.demo.actors;
 
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.diagnostics.AssetLoadEvent;
+import com.example.demo.views.Camera;
+import com.example.demo.views.QualityGovernor;
 import javafx.scene.image.*;
+import javafx.scene.transform.Translate;
 
 /**
  * Represents an active actor in the game, displayed as an image.
@@ -13,6 +18,15 @@ import javafx.scene.image.*;
 public abstract class ActiveActor extends ImageView {
 	
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private final String imagePath;
+	private final double spriteWidth;
+	private final double spriteHeight;
+	private boolean culled;
+	private final Translate renderOffset = new Translate();
+	private double previousWorldX;
+	private double previousWorldY;
+	private CollisionMask collisionMask;
+	private boolean collisionMaskLoaded;
 	/**
 	 * Constructs an {@code ActiveActor} with the specified image, size, and initial position.
 	 *
@@ -24,11 +38,27 @@ public abstract class ActiveActor extends ImageView {
 
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		this.imagePath = IMAGE_LOCATION + imageName;
+		AssetLoadEvent load = new AssetLoadEvent();
+		load.begin();
+		this.setImage(new Image(getClass().getResource(imagePath).toExternalForm()));
+		load.asset = imageName;
+		load.commit();
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
+
+		// Cache the rendered size so visibility checks do not need to compute bounds
+		Image image = getImage();
+		this.spriteHeight = imageHeight;
+		this.spriteWidth = image.getHeight() > 0 ? image.getWidth() * imageHeight / image.getHeight() : imageHeight;
+
+		this.setSmooth(QualityGovernor.getInstance().getLevel().hasSmoothSprites());
+
+		// Rendering lags the simulation through this offset; translateX/Y stay authoritative
+		getTransforms().add(renderOffset);
+		savePreviousPosition();
 	}
 	/**
 	 * Updates the position of the actor. This method must be implemented by subclasses
@@ -52,4 +82,107 @@ public abstract class ActiveActor extends ImageView {
 		this.setTranslateY(getTranslateY() + verticalMove);
 	}
 
+	/**
+	 * Gets the X-coordinate of the actor's top-left corner in world space.
+	 *
+	 * @return the world X-coordinate
+	 */
+	public double getWorldX() {
+		return getLayoutX() + getTranslateX();
+	}
+
+	/**
+	 * Gets the Y-coordinate of the actor's top-left corner in world space.
+	 *
+	 * @return the world Y-coordinate
+	 */
+	public double getWorldY() {
+		return getLayoutY() + getTranslateY();
+	}
+
+	/**
+	 * Gets the rendered width of the sprite.
+	 *
+	 * @return the sprite width
+	 */
+	public double getSpriteWidth() {
+		return spriteWidth;
+	}
+
+	/**
+	 * Gets the rendered height of the sprite.
+	 *
+	 * @return the sprite height
+	 */
+	public double getSpriteHeight() {
+		return spriteHeight;
+	}
+
+	/**
+	 * Gets the opaque pixels of the sprite at its rendered size.
+	 * <p>
+	 * The mask is shared by every actor drawn with the same image and size, and is
+	 * built the first time any of them asks for it.
+	 * </p>
+	 *
+	 * @return the collision mask, or {@code null} if the image has no readable pixels
+	 */
+	public CollisionMask getCollisionMask() {
+		if (!collisionMaskLoaded) {
+			collisionMask = CollisionMask.forResource(imagePath,
+					(int) Math.ceil(spriteWidth), (int) Math.ceil(spriteHeight));
+			collisionMaskLoaded = true;
+		}
+		return collisionMask;
+	}
+
+	/**
+	 * Remembers the current simulation position as the start of the next tick.
+	 * <p>
+	 * Called before each simulation tick so the renderer can interpolate between the
+	 * position before and after the tick.
+	 * </p>
+	 */
+	public void savePreviousPosition() {
+		previousWorldX = getWorldX();
+		previousWorldY = getWorldY();
+	}
+
+	/**
+	 * Places the node between its previous and current simulation positions.
+	 *
+	 * @param alpha the fraction of the current tick that has elapsed, from 0 to 1
+	 */
+	public void interpolate(double alpha) {
+		double lag = 1 - alpha;
+		renderOffset.setX((previousWorldX - getWorldX()) * lag);
+		renderOffset.setY((previousWorldY - getWorldY()) * lag);
+	}
+
+	/**
+	 * Shows or hides the actor depending on whether the camera can see it.
+	 * <p>
+	 * Hidden actors keep being simulated but are skipped by the renderer and by
+	 * purely visual effects.
+	 * </p>
+	 *
+	 * @param camera the camera of the level
+	 */
+	public void updateCulling(Camera camera) {
+		boolean outside = !camera.isVisible(getWorldX(), getWorldY(), spriteWidth, spriteHeight);
+		if (outside != culled) {
+			culled = outside;
+			setVisible(!outside);
+		}
+	}
+
+	/**
+	 * Checks whether the actor was outside the camera view at the last culling pass.
+	 *
+	 * @return {@code true} if the actor is currently culled
+	 */
+	public boolean isCulled() {
+		return culled;
+	}
+
 }
@@ -1,6 +1,8 @@
 package com.example.demo.actors;
 
 import com.example.demo.utilities.Destructible;
+import com.example.demo.utilities.SnapshotBuffer;
+import com.example.demo.views.Camera;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.shape.Rectangle;
@@ -44,15 +46,6 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 * </p>
 	 */
 	public abstract void updateActor();
-	/**
-	 * Fires a projectile from the actor.
-	 * <p>
-	 * This method must be implemented by subclasses to define projectile behavior.
-	 * </p>
-	 *
-	 * @return a new {@link ActiveActorDestructible} representing the projectile, or {@code null} if no projectile is fired
-	 */
-	public abstract ActiveActorDestructible fireProjectile();
 	/**
 	 * Takes damage and handles any effects related to being damaged.
 	 * This method must be implemented by subclasses.
@@ -74,6 +67,23 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	protected void setDestroyed(boolean isDestroyed) {
 		this.isDestroyed = isDestroyed;
 	}
+	/**
+	 * Brings a destroyed actor back at a new position, so a pool can reuse it instead of
+	 * building a new node. Subclasses reset their own state on top of this.
+	 *
+	 * @param x the new X-coordinate of the actor's top-left corner
+	 * @param y the new Y-coordinate of the actor's top-left corner
+	 */
+	public void respawn(double x, double y) {
+		setLayoutX(x);
+		setLayoutY(y);
+		setTranslateX(0);
+		setTranslateY(0);
+		isDestroyed = false;
+		setStyle(null);
+		savePreviousPosition();
+		interpolate(1); // No render lag from the actor's previous life
+	}
 	/**
 	 * Checks whether the actor is destroyed.
 	 *
@@ -82,23 +92,50 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public boolean isDestroyed() {
 		return isDestroyed;
 	}
+
+	/**
+	 * Writes the actor's simulation state into a snapshot. Subclasses with more state
+	 * extend this and {@link #restoreState(SnapshotBuffer)} in the same order.
+	 *
+	 * @param buffer the snapshot being written
+	 */
+	public void saveState(SnapshotBuffer buffer) {
+		buffer.putDouble(getTranslateX());
+		buffer.putDouble(getTranslateY());
+		buffer.putBoolean(isDestroyed);
+	}
+
+	/**
+	 * Reads back the state written by {@link #saveState(SnapshotBuffer)}, reusing this node.
+	 *
+	 * @param buffer the snapshot being read
+	 */
+	public void restoreState(SnapshotBuffer buffer) {
+		setTranslateX(buffer.getDouble());
+		setTranslateY(buffer.getDouble());
+		isDestroyed = buffer.getBoolean();
+		setStyle(null); // Drop any hit flash that was in progress
+		savePreviousPosition();
+	}
 	/**
 	 * Gets the adjusted bounding box of the actor for collision detection.
 	 * <p>
-	 * Shrinks the original bounds to make collision detection more precise.
+	 * Shrinks the sprite bounds to make collision detection more precise. The box is
+	 * computed from the simulation position, so render interpolation and hit effects
+	 * never move it. Collisions only use it for actors without a
+	 * {@link #getCollisionMask() collision mask}.
 	 * </p>
 	 *
 	 * @return the adjusted {@link Bounds} of the actor
 	 */
 	public Bounds getAdjustedBounds() {
-		Bounds originalBounds = this.getBoundsInParent();
 		double widthShrinkFactor = 0.8; // Shrink width to 80% of the original
 		double heightShrinkFactor = 0.4; // Shrink height to 60% of the original
 
-		double width = originalBounds.getWidth() * widthShrinkFactor;
-		double height = originalBounds.getHeight() * heightShrinkFactor;
-		double x = originalBounds.getMinX() + (originalBounds.getWidth() - width) / 2;
-		double y = originalBounds.getMinY() + (originalBounds.getHeight() - height) / 2;
+		double width = getSpriteWidth() * widthShrinkFactor;
+		double height = getSpriteHeight() * heightShrinkFactor;
+		double x = getWorldX() + (getSpriteWidth() - width) / 2;
+		double y = getWorldY() + (getSpriteHeight() - height) / 2;
 
 		return new BoundingBox(x, y, width, height);
 	}
@@ -136,16 +173,13 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	}
 
 	/**
-	 * Checks if the actor is visible on the screen.
+	 * Checks if the actor is visible to the camera.
 	 *
-	 * @param screenWidth  the width of the screen
-	 * @param screenHeight the height of the screen
+	 * @param camera the camera of the level
 	 * @return {@code true} if the actor is visible, {@code false} otherwise
 	 */
-	public boolean isVisibleOnScreen(double screenWidth, double screenHeight) {
-		Bounds bounds = getBoundsInParent();
-		return bounds.getMaxX() > 0 && bounds.getMinX() < screenWidth &&
-				bounds.getMaxY() > 0 && bounds.getMinY() < screenHeight;
+	public boolean isVisibleOnScreen(Camera camera) {
+		return camera.isVisible(getWorldX(), getWorldY(), getSpriteWidth(), getSpriteHeight());
 	}
 
 
@@ -0,0 +1,105 @@
+package com.example.demo.actors;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Keeps destroyed actors of one kind so they can be respawned instead of built again.
+ * <p>
+ * Building an actor creates a new image view and decodes its sprite, so levels that
+ * spawn without end take their actors from a pool and hand them back once they have
+ * been removed from the scene. At most {@code maxIdle} actors are kept; any beyond that
+ * are left to the garbage collector, which bounds the pool's memory.
+ * </p>
+ * <p>
+ * Only destroyed actors are handed out again. An idle actor that came back to life, for
+ * example because a level restored a snapshot that still held it, is dropped from the
+ * pool instead of being used twice.
+ * </p>
+ *
+ * @param <T> the kind of actor
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	private final Supplier<T> factory;
+	private final int maxIdle;
+	private final ArrayDeque<T> idle;
+	private int created;
+	private int reused;
+
+	/**
+	 * Constructs an empty pool.
+	 *
+	 * @param factory builds a new actor when no idle one is left
+	 * @param maxIdle the most idle actors kept
+	 */
+	public ActorPool(Supplier<T> factory, int maxIdle) {
+		this.factory = factory;
+		this.maxIdle = maxIdle;
+		this.idle = new ArrayDeque<>(maxIdle);
+	}
+
+	/**
+	 * Gets an actor at the given position, reusing an idle one if there is any.
+	 *
+	 * @param x the X-coordinate of the actor's top-left corner
+	 * @param y the Y-coordinate of the actor's top-left corner
+	 * @return a live actor that is not part of any level yet
+	 */
+	public T obtain(double x, double y) {
+		T actor;
+		while ((actor = idle.pollLast()) != null) {
+			if (actor.isDestroyed()) {
+				reused++;
+				actor.respawn(x, y);
+				return actor;
+			}
+		}
+		created++;
+		actor = factory.get();
+		actor.respawn(x, y);
+		return actor;
+	}
+
+	/**
+	 * Takes back an actor that has been destroyed and removed from its level.
+	 *
+	 * @param actor the actor, which must not be released twice
+	 * @return {@code true} if the actor was kept, {@code false} if it is still alive or
+	 *         the pool is full
+	 */
+	public boolean release(T actor) {
+		if (!actor.isDestroyed() || idle.size() >= maxIdle) {
+			return false;
+		}
+		idle.addLast(actor);
+		return true;
+	}
+
+	/**
+	 * Gets the number of actors waiting to be reused.
+	 *
+	 * @return the idle count
+	 */
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Gets the number of actors the pool has built.
+	 *
+	 * @return the created count
+	 */
+	public int getCreatedCount() {
+		return created;
+	}
+
+	/**
+	 * Gets the number of times an idle actor was handed out again.
+	 *
+	 * @return the reuse count
+	 */
+	public int getReusedCount() {
+		return reused;
+	}
+}
@@ -1,213 +1,166 @@
 package com.example.demo.actors;
 
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.GameEventType;
 import com.example.demo.levels.LevelParent;
-import com.example.demo.levels.LevelThree;
-import com.example.demo.views.LevelViewLevelTwo;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
-
-import java.util.*;
+import com.example.demo.utilities.SnapshotBuffer;
 
 /**
  * Represents the boss character in the game.
  * <p>
  * The Boss has unique behaviors, including firing projectiles, using a shield for protection,
- * and moving according to a defined pattern. The shield has a cooldown and can be permanently
- * destroyed after taking enough damage.
+ * and moving according to a defined pattern. Movement, firing and shield timing come from a
+ * {@link BossBehaviour}; the shield can be permanently destroyed after taking enough damage.
  * </p>
  */
 public class Boss extends FighterPlane {
 
 	private static final String IMAGE_NAME = "bossplane.png";
+	private static final String SHIELD_FLASH_STYLE = "-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, cyan, 30, 0.8, 0, 0);";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-	private static final double BOSS_FIRE_RATE = .02;
-	private static final double BOSS_SHIELD_PROBABILITY = 0.2; // test
-	private static final int SHIELD_COOLDOWN_FRAMES = 300;
 	private static final int IMAGE_HEIGHT = 300;
-	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HEALTH = 100;
-	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-	private static final int ZERO = 0;
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
 	private static final int Y_POSITION_UPPER_BOUND = -100;
 	private static final int Y_POSITION_LOWER_BOUND = 475;
-	private final List<Integer> movePattern;
+	private final BossBehaviour behaviour;
+	private final ActiveActor target;
+	private int volleysFired;
 	private boolean isShielded;
-	private int consecutiveMovesInSameDirection;
-	private int indexOfCurrentMove;
-	private int framesWithShieldActivated;
-	private int shieldCooldownFrames;
 	private static final int SHIELD_MAX_HEALTH = 50; // Max health for the shield
 	protected int shieldHealth; // Current shield health
 	private boolean shieldDestroyed = false; // Tracks whether the shield is permanently destroyed
 
-	private LevelParent level;
+	private final GameEventBus eventBus;
 
 
 	/**
-	 * Constructs a Boss object associated with a specific level.
+	 * Constructs a Boss object associated with a specific level, using the standard fight
+	 * drawn from the level's random generator.
 	 *
 	 * @param level the level to which this boss belongs
 	 */
 
 	public Boss(LevelParent level){
+		this(level, BossBehaviour.standard(level.getRandom()));
+	}
+
+	/**
+	 * Constructs a Boss object that follows a custom schedule of phases.
+	 *
+	 * @param level     the level to which this boss belongs
+	 * @param behaviour the phases the boss moves, fires and shields by
+	 */
+	public Boss(LevelParent level, BossBehaviour behaviour) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		this.level = level;
-		movePattern = new ArrayList<>();
-		consecutiveMovesInSameDirection = 0;
-		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
+		this.eventBus = level.getEventBus();
+		this.behaviour = behaviour;
+		this.target = level.getUserPlane();
 		isShielded = false;
-		initializeMovePattern();
+		behaviour.tick(HEALTH); // Enter the first phase
 	}
 
 	@Override
 	public void updatePosition() {
 		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
+		moveVertically(behaviour.getMove());
 		double currentPosition = getLayoutY() + getTranslateY();
 
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
 			setTranslateY(initialTranslateY);
 		}
-
-		// Dynamically track boss position for the shield
-		System.out.println("Boss position: (" + getTranslateX() + ", " + getTranslateY() + ")");
 	}
 
 
 	@Override
 	public void updateActor() {
+		behaviour.tick(getHealth());
 		updatePosition();
 		updateShield();
-		notifyShieldPosition(); // Notify the LevelView about the updated shield position
-		System.out.println("Shield is " + (isShielded ? "active" : "inactive"));
-	}
-
-	private void notifyShieldPosition() {
-		if (level instanceof LevelThree) {
-			double bossActualX = getLayoutX() + getTranslateX();
-			double bossActualY = getLayoutY() + getTranslateY();
-			((LevelThree) level).updateBossShieldPosition(bossActualX, bossActualY);
-		}
+		updateFlash();
 	}
 
 
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (bossFiresInCurrentFrame()) {
+	public void fireBullets(BulletSink bullets) {
+		if (behaviour.firesThisTick()) {
 			// Calculate the fireball's position relative to the boss's current position
 			double adjustedProjectileX = getLayoutX() + getTranslateX() - 50; // In front of the boss
 			double adjustedProjectileY = getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
-			return new BossProjectile(adjustedProjectileX, adjustedProjectileY, level.getUserPlane());
+			BulletPattern pattern = behaviour.getPhase().getPattern();
+			if (pattern == null) {
+				bullets.spawn(BulletType.BOSS_PROJECTILE, adjustedProjectileX, adjustedProjectileY);
+			} else {
+				bullets.spawnVolley(pattern, adjustedProjectileX, adjustedProjectileY,
+						target.getWorldX(), target.getWorldY(), volleysFired++);
+			}
 		}
-		return null;
 	}
 
 
-	private void updateShieldHealthBar() {
-		if (level.getLevelView() instanceof LevelViewLevelTwo) {
-			LevelViewLevelTwo levelViewLevelTwo = (LevelViewLevelTwo) level.getLevelView();
-			levelViewLevelTwo.updateShieldHealthBar(shieldHealth, SHIELD_MAX_HEALTH);
-		}
+	private void publishShieldChanged() {
+		eventBus.publish(GameEventType.SHIELD_CHANGED)
+				.value(Math.max(shieldHealth, 0), SHIELD_MAX_HEALTH)
+				.active(isShielded);
 	}
 
 	@Override
 	public void takeDamage() {
 		if (isShielded) {
 			shieldHealth--;
-			updateShieldHealthBar(); // Update the shield health bar
 			showShieldHitEffect();   // Apply the hit effect
 			if (shieldHealth <= 0) {
-				deactivateShield(); // Deactivate the shield
 				shieldDestroyed = true; // Permanently destroy the shield
-				System.out.println("Shield is permanently destroyed.");
+				deactivateShield(); // Deactivate the shield
+			} else {
+				publishShieldChanged(); // Update the shield health bar
 			}
 		} else {
 			super.takeDamage(); // Regular damage when not shielded
+			eventBus.publish(GameEventType.BOSS_DAMAGED).value(getHealth(), HEALTH);
 		}
 	}
 
 
-	private void initializeMovePattern() {
-		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
-		}
-		Collections.shuffle(movePattern);
-	}
-
-	protected void updateShield() {
-		if (shieldDestroyed) {
-			isShielded = false; // Ensure shield remains inactive
-			System.out.println("Shield is permanently destroyed and cannot be reactivated.");
-			return;
-		}
-
-		if (isShielded) {
-			framesWithShieldActivated++;
-			System.out.println("Shield active. Frame count: " + framesWithShieldActivated);
-			if (shieldExhausted()) {
-				deactivateShield();
-			}
-		} else {
-			// Reduce cooldown timer if shield is not active
-			if (shieldCooldownFrames > 0) {
-				shieldCooldownFrames--;
-			} else if (shieldShouldBeActivated()) {
-				activateShield();
-			}
-		}
-		System.out.println("Shield is " + (isShielded ? "active" : "inactive") + ", Cooldown: " + shieldCooldownFrames);
-	}
-
-
-
-	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
-		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
-			consecutiveMovesInSameDirection = 0;
-			indexOfCurrentMove++;
-		}
-		if (indexOfCurrentMove == movePattern.size()) {
-			indexOfCurrentMove = 0;
-		}
-		return currentMove;
-	}
-
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+	@Override
+	public void saveState(SnapshotBuffer buffer) {
+		super.saveState(buffer);
+		buffer.putInt(shieldHealth);
+		buffer.putBoolean(isShielded);
+		buffer.putBoolean(shieldDestroyed);
+		buffer.putInt(volleysFired);
+		behaviour.saveState(buffer);
 	}
 
-	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+	/**
+	 * Restores the boss and republishes its health and shield, so health bars follow.
+	 *
+	 * @param buffer the snapshot being read
+	 */
+	@Override
+	public void restoreState(SnapshotBuffer buffer) {
+		super.restoreState(buffer);
+		shieldHealth = buffer.getInt();
+		isShielded = buffer.getBoolean();
+		shieldDestroyed = buffer.getBoolean();
+		volleysFired = buffer.getInt();
+		behaviour.restoreState(buffer);
+		eventBus.publish(GameEventType.BOSS_DAMAGED).value(getHealth(), HEALTH);
+		publishShieldChanged();
 	}
 
-
-	private boolean shieldShouldBeActivated() {
-		// Activate the shield when:
-		// 1. The boss's health is below 75%, AND
-		// 2. A random chance based on the configured BOSS_SHIELD_PROBABILITY, AND
-		// 3. No cooldown is in effect.
-
-		if (shieldDestroyed) {
-			return false;
+	/**
+	 * Raises or lowers the shield to match the current phase. A permanently destroyed
+	 * shield stays down.
+	 */
+	protected void updateShield() {
+		boolean shieldWanted = behaviour.getPhase().isShielded() && !shieldDestroyed;
+		if (shieldWanted && !isShielded) {
+			activateShield();
+		} else if (!shieldWanted && isShielded) {
+			deactivateShield();
 		}
-
-		boolean shouldActivate = getHealth() <= 75 && Math.random() < BOSS_SHIELD_PROBABILITY && shieldCooldownFrames == 0;
-		System.out.println("Shield activation condition met: " + shouldActivate);
-		return shouldActivate;
-	}
-
-	private boolean shieldExhausted() {
-		// Deactivate the shield after it has been active for a fixed duration of 400 frames.
-		return framesWithShieldActivated >= 400; // You can adjust this value as needed
 	}
 
 	protected void activateShield() {
@@ -216,32 +169,20 @@ public class Boss extends FighterPlane {
 			if (shieldHealth <= 0) { // Only set shield health if it hasn't been initialized or was fully depleted
 				shieldHealth = SHIELD_MAX_HEALTH;
 			}
-			framesWithShieldActivated = 0; // Reset the activation frame count
-			System.out.println("Shield activated with health: " + shieldHealth);
+			publishShieldChanged();
 		}
 	}
 
 	private void deactivateShield() {
 		isShielded = false;
-		shieldCooldownFrames = SHIELD_COOLDOWN_FRAMES; // Start cooldown period
-		System.out.println("Shield deactivated! Cooldown started.");
+		publishShieldChanged();
 	}
 
 	private void showShieldHitEffect() {
 		if (!isShielded) {
 			return; // Only apply the effect if the shield is active
 		}
-
-		Timeline flashEffect = new Timeline(
-				new KeyFrame(Duration.seconds(0), e -> {
-					this.setStyle("-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, cyan, 30, 0.8, 0, 0);");
-				}),
-				new KeyFrame(Duration.seconds(0.1), e -> {
-					this.setStyle("-fx-opacity: 1.0; -fx-effect: none;");
-				})
-		);
-		flashEffect.setCycleCount(1);
-		flashEffect.play();
+		playFlash(SHIELD_FLASH_STYLE);
 	}
 
 
@@ -0,0 +1,209 @@
+package com.example.demo.actors;
+
+import java.util.Arrays;
+
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.SnapshotBuffer;
+
+/**
+ * Drives a boss through a schedule of {@link BossPhase phases}.
+ * <p>
+ * Each phase names the phase that follows it once its duration runs out, and may only
+ * be entered while the boss's health is at or below a threshold; otherwise the
+ * schedule skips ahead to that phase's successor. An optional enrage phase takes over
+ * once when the boss's health first drops to a threshold. Transitions are resolved to
+ * array indices on the first tick, so a tick is a counter increment and two table
+ * reads.
+ * </p>
+ * <p>
+ * New fights are built by adding phases here; {@link Boss} only reads the current
+ * movement, attack and shield state.
+ * </p>
+ */
+public class BossBehaviour {
+
+	private static final int ANY_HEALTH = Integer.MAX_VALUE;
+
+	private BossPhase[] phases = new BossPhase[0];
+	private String[] nextNames = new String[0];
+	private int[] maxHealth = new int[0];
+	private int[] next;
+	private String enragePhaseName;
+	private int enragePhase = -1;
+	private int enrageHealth;
+
+	private int current;
+	private int phaseTick = -1;
+	private boolean enraged;
+	private boolean phaseChanged;
+
+	/**
+	 * Builds the default boss fight: a short idle, then strafing, spiral barrages and,
+	 * once the boss is below 75 health, shielded phases, until it enrages at 25 health
+	 * and fires aimed fans.
+	 *
+	 * @param random the generator used to compile the step tables
+	 * @return the behaviour
+	 */
+	public static BossBehaviour standard(GameRandom random) {
+		return new BossBehaviour()
+				.addPhase(new BossPhase("idle", 40, BossPhase.still(), BossPhase.holdFire(), false), "strafe")
+				.addPhase(new BossPhase("strafe", 150, BossPhase.shuffledSegments(8, 10, 5, random),
+						BossPhase.fireRandomly(0.02, 150, random), false), "barrage")
+				.addPhase(new BossPhase("barrage", 60, BossPhase.shuffledSegments(4, 10, 2, random),
+						BossPhase.fireEvery(4), BulletPattern.spiral(BulletType.BOSS_PROJECTILE, 6, 9, 12), false),
+						"shielded")
+				.addPhase(new BossPhase("shielded", 300, BossPhase.shuffledSegments(8, 10, 5, random),
+						BossPhase.fireRandomly(0.02, 150, random), true), "strafe", 75)
+				.addPhase(new BossPhase("enraged", 200, BossPhase.shuffledSegments(12, 6, 5, random),
+						BossPhase.fireEvery(10), BulletPattern.aimedFan(BulletType.BOSS_PROJECTILE, 7, 60, 12), false),
+						"enraged")
+				.enrageAt(25, "enraged");
+	}
+
+	/**
+	 * Adds a phase that can be entered at any health. The first phase added starts the fight.
+	 *
+	 * @param phase     the phase
+	 * @param nextPhase the name of the phase that follows it
+	 * @return this behaviour
+	 */
+	public BossBehaviour addPhase(BossPhase phase, String nextPhase) {
+		return addPhase(phase, nextPhase, ANY_HEALTH);
+	}
+
+	/**
+	 * Adds a phase that is only entered while the boss's health is at or below a threshold.
+	 *
+	 * @param phase            the phase
+	 * @param nextPhase        the name of the phase that follows it
+	 * @param maxHealthToEnter the highest health at which the phase is entered
+	 * @return this behaviour
+	 */
+	public BossBehaviour addPhase(BossPhase phase, String nextPhase, int maxHealthToEnter) {
+		int size = phases.length + 1;
+		phases = Arrays.copyOf(phases, size);
+		nextNames = Arrays.copyOf(nextNames, size);
+		maxHealth = Arrays.copyOf(maxHealth, size);
+		phases[size - 1] = phase;
+		nextNames[size - 1] = nextPhase;
+		maxHealth[size - 1] = maxHealthToEnter;
+		next = null;
+		return this;
+	}
+
+	/**
+	 * Switches to a phase once, as soon as the boss's health drops to a threshold.
+	 *
+	 * @param health    the health at which the boss enrages
+	 * @param phaseName the phase to switch to
+	 * @return this behaviour
+	 */
+	public BossBehaviour enrageAt(int health, String phaseName) {
+		enrageHealth = health;
+		enragePhaseName = phaseName;
+		next = null;
+		return this;
+	}
+
+	/**
+	 * Advances the schedule by one tick.
+	 *
+	 * @param health the boss's current health
+	 */
+	public void tick(int health) {
+		if (next == null) {
+			resolve();
+		}
+		phaseChanged = false;
+		if (!enraged && enragePhase >= 0 && health <= enrageHealth) {
+			enraged = true;
+			enter(enragePhase);
+		} else if (++phaseTick >= phases[current].getDurationTicks()) {
+			enter(nextEligible(next[current], health));
+		}
+	}
+
+	/**
+	 * Gets the vertical velocity for the current tick.
+	 *
+	 * @return the vertical move
+	 */
+	public int getMove() {
+		return phases[current].moveStep(phaseTick);
+	}
+
+	/**
+	 * Checks whether the boss fires on the current tick.
+	 *
+	 * @return {@code true} if the attack table has a shot for this tick
+	 */
+	public boolean firesThisTick() {
+		return phases[current].fireStep(phaseTick);
+	}
+
+	/**
+	 * Gets the active phase.
+	 *
+	 * @return the current phase
+	 */
+	public BossPhase getPhase() {
+		return phases[current];
+	}
+
+	/**
+	 * Checks whether the last tick started a new phase.
+	 *
+	 * @return {@code true} on the first tick of a phase
+	 */
+	public boolean hasPhaseChanged() {
+		return phaseChanged;
+	}
+
+	void saveState(SnapshotBuffer buffer) {
+		buffer.putInt(current);
+		buffer.putInt(phaseTick);
+		buffer.putBoolean(enraged);
+	}
+
+	void restoreState(SnapshotBuffer buffer) {
+		current = buffer.getInt();
+		phaseTick = buffer.getInt();
+		enraged = buffer.getBoolean();
+		phaseChanged = false;
+	}
+
+	private void enter(int phase) {
+		current = phase;
+		phaseTick = 0;
+		phaseChanged = true;
+	}
+
+	private int nextEligible(int phase, int health) {
+		for (int skipped = 0; skipped < phases.length && health > maxHealth[phase]; skipped++) {
+			phase = next[phase];
+		}
+		return phase;
+	}
+
+	private void resolve() {
+		if (phases.length == 0) {
+			throw new IllegalStateException("A boss behaviour needs at least one phase.");
+		}
+		int[] resolved = new int[phases.length];
+		for (int i = 0; i < phases.length; i++) {
+			resolved[i] = indexOf(nextNames[i]);
+		}
+		enragePhase = enragePhaseName == null ? -1 : indexOf(enragePhaseName);
+		next = resolved;
+	}
+
+	private int indexOf(String name) {
+		for (int i = 0; i < phases.length; i++) {
+			if (phases[i].getName().equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Unknown boss phase: " + name);
+	}
+}
@@ -0,0 +1,182 @@
+package com.example.demo.actors;
+
+import com.example.demo.utilities.GameRandom;
+
+/**
+ * One phase of a boss fight, such as idling, strafing or a barrage.
+ * <p>
+ * A phase is compiled ahead of time into primitive step tables: the vertical velocity
+ * and whether to fire for each tick of a cycle. While the phase is active the boss
+ * simply reads the next entry of each table, so a tick does no random rolls, no list
+ * operations and no allocation. Tables shorter than the phase repeat. A phase with a
+ * {@link BulletPattern} fires a whole volley of it on each firing tick; otherwise it fires
+ * a single homing fireball.
+ * </p>
+ * <p>
+ * The static helpers build common tables; any other table can be passed directly.
+ * </p>
+ */
+public final class BossPhase {
+
+	private final String name;
+	private final int durationTicks;
+	private final int[] moveSteps;
+	private final boolean[] fireSteps;
+	private final BulletPattern pattern;
+	private final boolean shielded;
+
+	/**
+	 * Constructs a phase from precompiled step tables.
+	 *
+	 * @param name          the phase name, used for transitions and diagnostics
+	 * @param durationTicks how many ticks the phase lasts before its transition
+	 * @param moveSteps     the vertical velocity for each tick of the movement cycle
+	 * @param fireSteps     whether the boss fires on each tick of the attack cycle
+	 * @param shielded      whether the boss raises its shield during the phase
+	 */
+	public BossPhase(String name, int durationTicks, int[] moveSteps, boolean[] fireSteps, boolean shielded) {
+		this(name, durationTicks, moveSteps, fireSteps, null, shielded);
+	}
+
+	/**
+	 * Constructs a phase that fires volleys of a bullet pattern.
+	 *
+	 * @param name          the phase name, used for transitions and diagnostics
+	 * @param durationTicks how many ticks the phase lasts before its transition
+	 * @param moveSteps     the vertical velocity for each tick of the movement cycle
+	 * @param fireSteps     whether the boss fires a volley on each tick of the attack cycle
+	 * @param pattern       the volley fired, or {@code null} for a single homing fireball
+	 * @param shielded      whether the boss raises its shield during the phase
+	 */
+	public BossPhase(String name, int durationTicks, int[] moveSteps, boolean[] fireSteps,
+					 BulletPattern pattern, boolean shielded) {
+		if (durationTicks <= 0 || moveSteps.length == 0 || fireSteps.length == 0) {
+			throw new IllegalArgumentException("Phase " + name + " needs a duration and non-empty step tables.");
+		}
+		this.name = name;
+		this.durationTicks = durationTicks;
+		this.moveSteps = moveSteps.clone();
+		this.fireSteps = fireSteps.clone();
+		this.pattern = pattern;
+		this.shielded = shielded;
+	}
+
+	/**
+	 * Builds a movement table that holds still.
+	 *
+	 * @return a one-entry table of zero velocity
+	 */
+	public static int[] still() {
+		return new int[] {0};
+	}
+
+	/**
+	 * Builds a movement table of shuffled segments moving up, down or holding still.
+	 *
+	 * @param velocity     the vertical speed of a moving segment
+	 * @param segmentTicks how many ticks each segment lasts
+	 * @param cycles       how many up/down/still triples the table holds
+	 * @param random       the generator used to shuffle the segments
+	 * @return the movement table
+	 */
+	public static int[] shuffledSegments(int velocity, int segmentTicks, int cycles, GameRandom random) {
+		int[] segments = new int[cycles * 3];
+		for (int i = 0; i < cycles; i++) {
+			segments[i * 3] = velocity;
+			segments[i * 3 + 1] = -velocity;
+			segments[i * 3 + 2] = 0;
+		}
+		for (int i = segments.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = segments[i];
+			segments[i] = segments[j];
+			segments[j] = swap;
+		}
+		int[] steps = new int[segments.length * segmentTicks];
+		for (int i = 0; i < steps.length; i++) {
+			steps[i] = segments[i / segmentTicks];
+		}
+		return steps;
+	}
+
+	/**
+	 * Builds an attack table that never fires.
+	 *
+	 * @return a one-entry table without a shot
+	 */
+	public static boolean[] holdFire() {
+		return new boolean[] {false};
+	}
+
+	/**
+	 * Builds an attack table that fires at a fixed interval.
+	 *
+	 * @param intervalTicks the ticks between two shots
+	 * @return the attack table
+	 */
+	public static boolean[] fireEvery(int intervalTicks) {
+		boolean[] steps = new boolean[intervalTicks];
+		steps[intervalTicks - 1] = true;
+		return steps;
+	}
+
+	/**
+	 * Builds an attack table that fires on randomly chosen ticks.
+	 *
+	 * @param rate   the chance of firing on any one tick
+	 * @param length the number of ticks in the table
+	 * @param random the generator used to choose the ticks
+	 * @return the attack table
+	 */
+	public static boolean[] fireRandomly(double rate, int length, GameRandom random) {
+		boolean[] steps = new boolean[length];
+		for (int i = 0; i < length; i++) {
+			steps[i] = random.nextDouble() < rate;
+		}
+		return steps;
+	}
+
+	/**
+	 * Gets the name of the phase.
+	 *
+	 * @return the phase name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets how long the phase lasts.
+	 *
+	 * @return the duration in ticks
+	 */
+	public int getDurationTicks() {
+		return durationTicks;
+	}
+
+	/**
+	 * Gets the bullet pattern fired during the phase.
+	 *
+	 * @return the pattern, or {@code null} if the phase fires single homing fireballs
+	 */
+	public BulletPattern getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Checks whether the boss raises its shield during the phase.
+	 *
+	 * @return {@code true} for a shielded phase
+	 */
+	public boolean isShielded() {
+		return shielded;
+	}
+
+	int moveStep(int tick) {
+		return moveSteps[tick % moveSteps.length];
+	}
+
+	boolean fireStep(int tick) {
+		return fireSteps[tick % fireSteps.length];
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.demo.actors;
+
+/**
+ * A copy of the live bullets of one tick, as needed to draw them.
+ * <p>
+ * The {@link BulletSimulation} thread fills a frame after every tick and hands it to the
+ * JavaFX thread, which draws from it while the next tick is simulated. Frames are reused;
+ * their arrays are sized for a full pool once and never reallocated.
+ * </p>
+ */
+public final class BulletFrame {
+
+	private static final BulletType[] TYPES = BulletType.values();
+
+	final double[] x;
+	final double[] y;
+	final double[] previousX;
+	final double[] previousY;
+	final byte[] type;
+	int size;
+	long publishedNanos;
+
+	/**
+	 * Constructs an empty frame that can hold up to {@code capacity} bullets.
+	 *
+	 * @param capacity the capacity of the pool the frame copies
+	 */
+	public BulletFrame(int capacity) {
+		this.x = new double[capacity];
+		this.y = new double[capacity];
+		this.previousX = new double[capacity];
+		this.previousY = new double[capacity];
+		this.type = new byte[capacity];
+	}
+
+	/**
+	 * Gets the number of bullets in the frame.
+	 *
+	 * @return the bullet count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the time at which the tick of this frame finished.
+	 *
+	 * @return the {@link System#nanoTime()} of the tick, or 0 for a frame never filled
+	 */
+	public long getPublishedNanos() {
+		return publishedNanos;
+	}
+
+	/**
+	 * Gets the X-coordinate a bullet is drawn at between two ticks.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @param alpha the fraction of the tick that has elapsed, from 0 to 1
+	 * @return the interpolated X-coordinate
+	 */
+	public double getRenderX(int index, double alpha) {
+		return previousX[index] + (x[index] - previousX[index]) * alpha;
+	}
+
+	/**
+	 * Gets the Y-coordinate a bullet is drawn at between two ticks.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @param alpha the fraction of the tick that has elapsed, from 0 to 1
+	 * @return the interpolated Y-coordinate
+	 */
+	public double getRenderY(int index, double alpha) {
+		return previousY[index] + (y[index] - previousY[index]) * alpha;
+	}
+
+	/**
+	 * Gets the type of a bullet.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @return the bullet type
+	 */
+	public BulletType getType(int index) {
+		return TYPES[type[index]];
+	}
+}
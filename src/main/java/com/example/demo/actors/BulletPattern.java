@@ -0,0 +1,154 @@
+package com.example.demo.actors;
+
+/**
+ * A volley of straight-flying bullets spawned together, such as a ring, a spiral arm set,
+ * an aimed fan or a wall.
+ * <p>
+ * The direction and offset of every bullet is computed once when the pattern is built.
+ * Emitting a volley costs at most one {@code atan2} and one {@code sin}/{@code cos} pair to
+ * rotate the whole table, after which {@link BulletPool} writes all bullets in one batch.
+ * No objects are created per bullet or per volley, so patterns with hundreds of bullets
+ * are cheap to fire every few ticks.
+ * </p>
+ * <p>
+ * Patterns are laid out around a heading that points left, towards the player's side of
+ * the screen.
+ * </p>
+ */
+public final class BulletPattern {
+
+	final BulletType bulletType;
+	final int count;
+	final double[] velocityX;
+	final double[] velocityY;
+	final double[] offsetX;
+	final double[] offsetY;
+	private final double rotationPerVolley;
+	private final boolean aimed;
+
+	private BulletPattern(BulletType bulletType, int count, double rotationPerVolley, boolean aimed) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("A pattern needs at least one bullet: " + count);
+		}
+		this.bulletType = bulletType;
+		this.count = count;
+		this.velocityX = new double[count];
+		this.velocityY = new double[count];
+		this.offsetX = new double[count];
+		this.offsetY = new double[count];
+		this.rotationPerVolley = rotationPerVolley;
+		this.aimed = aimed;
+	}
+
+	/**
+	 * Builds a ring of bullets spread evenly in every direction.
+	 *
+	 * @param bulletType the kind of bullet
+	 * @param count      the number of bullets in the ring
+	 * @param speed      the distance each bullet travels per tick
+	 * @return the pattern
+	 */
+	public static BulletPattern radial(BulletType bulletType, int count, double speed) {
+		return spiral(bulletType, count, speed, 0);
+	}
+
+	/**
+	 * Builds a ring of bullets that turns a little further with every volley, tracing
+	 * spiral arms when fired repeatedly.
+	 *
+	 * @param bulletType       the kind of bullet
+	 * @param arms             the number of bullets per volley
+	 * @param speed            the distance each bullet travels per tick
+	 * @param degreesPerVolley how far the ring turns between two volleys
+	 * @return the pattern
+	 */
+	public static BulletPattern spiral(BulletType bulletType, int arms, double speed, double degreesPerVolley) {
+		BulletPattern pattern = new BulletPattern(bulletType, arms, Math.toRadians(degreesPerVolley), false);
+		for (int k = 0; k < arms; k++) {
+			pattern.setDirection(k, Math.PI + 2 * Math.PI * k / arms, speed);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Builds a fan of bullets centred on the target.
+	 *
+	 * @param bulletType    the kind of bullet
+	 * @param count         the number of bullets in the fan
+	 * @param spreadDegrees the angle between the outermost bullets
+	 * @param speed         the distance each bullet travels per tick
+	 * @return the pattern
+	 */
+	public static BulletPattern aimedFan(BulletType bulletType, int count, double spreadDegrees, double speed) {
+		BulletPattern pattern = new BulletPattern(bulletType, count, 0, true);
+		double spread = Math.toRadians(spreadDegrees);
+		for (int k = 0; k < count; k++) {
+			double fraction = count == 1 ? 0.5 : (double) k / (count - 1);
+			pattern.setDirection(k, Math.PI + spread * (fraction - 0.5), speed);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Builds a vertical line of bullets that flies left together.
+	 *
+	 * @param bulletType the kind of bullet
+	 * @param count      the number of bullets in the line
+	 * @param spacing    the vertical distance between two bullets
+	 * @param speed      the distance each bullet travels per tick
+	 * @return the pattern
+	 */
+	public static BulletPattern wall(BulletType bulletType, int count, double spacing, double speed) {
+		BulletPattern pattern = new BulletPattern(bulletType, count, 0, false);
+		for (int k = 0; k < count; k++) {
+			pattern.setDirection(k, Math.PI, speed);
+			pattern.offsetY[k] = spacing * (k - (count - 1) / 2.0);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Spawns one volley of the pattern.
+	 *
+	 * @param bullets the pool the bullets are added to
+	 * @param originX the X-coordinate the volley is fired from
+	 * @param originY the Y-coordinate the volley is fired from
+	 * @param targetX the X-coordinate aimed patterns point at
+	 * @param targetY the Y-coordinate aimed patterns point at
+	 * @param volley  the number of volleys of this pattern fired before, used to turn spirals
+	 * @return the number of bullets spawned, less than {@link #getCount()} if the pool is full
+	 */
+	public int emit(BulletPool bullets, double originX, double originY, double targetX, double targetY, int volley) {
+		double angle = rotationPerVolley * volley;
+		if (aimed) {
+			angle += Math.atan2(targetY - originY, targetX - originX) - Math.PI;
+		}
+		if (angle == 0) {
+			return bullets.spawnPattern(this, originX, originY, 1, 0);
+		}
+		return bullets.spawnPattern(this, originX, originY, Math.cos(angle), Math.sin(angle));
+	}
+
+	/**
+	 * Gets the number of bullets in one volley.
+	 *
+	 * @return the volley size
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the kind of bullet the pattern fires.
+	 *
+	 * @return the bullet type
+	 */
+	public BulletType getBulletType() {
+		return bulletType;
+	}
+
+	private void setDirection(int k, double angle, double speed) {
+		velocityX[k] = speed * Math.cos(angle);
+		velocityY[k] = speed * Math.sin(angle);
+	}
+}
@@ -0,0 +1,565 @@
+package com.example.demo.actors;
+
+import java.util.Arrays;
+
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.utilities.SnapshotBuffer;
+
+/**
+ * Stores and simulates enemy bullets without creating a scene-graph node per bullet.
+ * <p>
+ * Bullets live in parallel primitive arrays and are moved in one bulk pass per tick.
+ * Destroyed bullets are removed by swapping the last live bullet into their slot, so the
+ * live range is always {@code [0, size())}. Collision queries go through a coarse
+ * occupancy grid that is rebuilt lazily, so testing the player only touches the cells
+ * around the player instead of every bullet. Bullets whose box overlaps the player are
+ * confirmed against the pixel masks of both sprites when masks are available.
+ * </p>
+ */
+public class BulletPool implements BulletSink {
+
+	/** Default number of bullets a level can hold at once. */
+	public static final int DEFAULT_CAPACITY = 65536;
+
+	private static final BulletType[] TYPES = BulletType.values();
+	private static final int GRID_CELL_SIZE = 128;
+	private static final int MAX_GRID_COLUMNS = 64;
+	private static final int MAX_GRID_ROWS = 64;
+
+	private final int capacity;
+	private final double[] x;
+	private final double[] y;
+	private final double[] previousX;
+	private final double[] previousY;
+	private final double[] vx;
+	private final double[] vy;
+	private final int[] age;
+	private final byte[] type;
+	private final boolean[] homing;
+	private final boolean[] dead;
+	private int size;
+
+	// Per-type parameters unpacked from BulletType so the bulk loop only reads arrays
+	private final double[] typeSpeed = new double[TYPES.length];
+	private final double[] typeHomingDistance = new double[TYPES.length];
+	private final double[] typeMinimumDistance = new double[TYPES.length];
+	private final int[] typeLifespan = new int[TYPES.length];
+	private final boolean[] typeStopsWhenPassed = new boolean[TYPES.length];
+	private final double[] typeMargin = new double[TYPES.length];
+	private final double[] typeHitOffsetX = new double[TYPES.length];
+	private final double[] typeHitOffsetY = new double[TYPES.length];
+	private final double[] typeHitWidth = new double[TYPES.length];
+	private final double[] typeHitHeight = new double[TYPES.length];
+	private final CollisionMask[] typeMask = new CollisionMask[TYPES.length];
+	private double maxHitWidth;
+	private double maxHitHeight;
+
+	// Occupancy grid, built as a counting sort of bullet indices by cell
+	private final int[] cellOf;
+	private final int[] cellStart = new int[MAX_GRID_COLUMNS * MAX_GRID_ROWS + 1];
+	private final int[] cellFill = new int[MAX_GRID_COLUMNS * MAX_GRID_ROWS];
+	private final int[] sortedIndices;
+	private int gridColumns = 1;
+	private int gridRows = 1;
+	private boolean gridDirty = true;
+
+	/**
+	 * Constructs a pool with the {@link #DEFAULT_CAPACITY}.
+	 */
+	public BulletPool() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a pool that can hold up to {@code capacity} live bullets.
+	 *
+	 * @param capacity the maximum number of simultaneous bullets
+	 */
+	public BulletPool(int capacity) {
+		this.capacity = capacity;
+		this.x = new double[capacity];
+		this.y = new double[capacity];
+		this.previousX = new double[capacity];
+		this.previousY = new double[capacity];
+		this.vx = new double[capacity];
+		this.vy = new double[capacity];
+		this.age = new int[capacity];
+		this.type = new byte[capacity];
+		this.homing = new boolean[capacity];
+		this.dead = new boolean[capacity];
+		this.cellOf = new int[capacity];
+		this.sortedIndices = new int[capacity];
+		for (BulletType bulletType : TYPES) {
+			int t = bulletType.ordinal();
+			typeSpeed[t] = bulletType.getSpeed();
+			typeHomingDistance[t] = bulletType.getHomingDistance();
+			typeMinimumDistance[t] = bulletType.getHeight() / 2;
+			typeLifespan[t] = bulletType.getMaxLifespan();
+			typeStopsWhenPassed[t] = bulletType.stopsHomingOncePassed();
+			typeMargin[t] = bulletType.getHeight();
+			typeHitWidth[t] = bulletType.getHitWidth();
+			typeHitHeight[t] = bulletType.getHitHeight();
+			typeHitOffsetX[t] = (bulletType.getWidth() - bulletType.getHitWidth()) / 2;
+			typeHitOffsetY[t] = (bulletType.getHeight() - bulletType.getHitHeight()) / 2;
+			maxHitWidth = Math.max(maxHitWidth, typeHitWidth[t]);
+			maxHitHeight = Math.max(maxHitHeight, typeHitHeight[t]);
+		}
+	}
+
+	/**
+	 * Gives a bullet type the pixel mask of its sprite. The type's hit box then covers
+	 * the whole sprite and the mask decides which overlaps are hits.
+	 * <p>
+	 * Masks must be set before the pool is shared with another thread.
+	 * </p>
+	 *
+	 * @param bulletType the kind of bullet
+	 * @param mask       the mask of its sprite at the rendered size, or {@code null} to use
+	 *                   the shrunk hit box
+	 */
+	public void setTypeMask(BulletType bulletType, CollisionMask mask) {
+		int t = bulletType.ordinal();
+		typeMask[t] = mask;
+		typeHitWidth[t] = mask != null ? mask.getWidth() : bulletType.getHitWidth();
+		typeHitHeight[t] = mask != null ? mask.getHeight() : bulletType.getHitHeight();
+		typeHitOffsetX[t] = mask != null ? 0 : (bulletType.getWidth() - bulletType.getHitWidth()) / 2;
+		typeHitOffsetY[t] = mask != null ? 0 : (bulletType.getHeight() - bulletType.getHitHeight()) / 2;
+		maxHitWidth = 0;
+		maxHitHeight = 0;
+		for (int other = 0; other < TYPES.length; other++) {
+			maxHitWidth = Math.max(maxHitWidth, typeHitWidth[other]);
+			maxHitHeight = Math.max(maxHitHeight, typeHitHeight[other]);
+		}
+	}
+
+	/**
+	 * Spawns a homing bullet at the given position.
+	 *
+	 * @param bulletType the kind of bullet
+	 * @param initialXPos the X-coordinate of the bullet's top-left corner
+	 * @param initialYPos the Y-coordinate of the bullet's top-left corner
+	 * @return {@code true} if the bullet was spawned, {@code false} if the pool is full
+	 */
+	@Override
+	public boolean spawn(BulletType bulletType, double initialXPos, double initialYPos) {
+		return add(bulletType, initialXPos, initialYPos, 0, 0, true);
+	}
+
+	/**
+	 * Spawns a bullet that flies in a straight line with the given velocity.
+	 *
+	 * @param bulletType the kind of bullet
+	 * @param initialXPos the X-coordinate of the bullet's top-left corner
+	 * @param initialYPos the Y-coordinate of the bullet's top-left corner
+	 * @param velocityX the horizontal distance travelled per tick
+	 * @param velocityY the vertical distance travelled per tick
+	 * @return {@code true} if the bullet was spawned, {@code false} if the pool is full
+	 */
+	public boolean spawnDirected(BulletType bulletType, double initialXPos, double initialYPos,
+								 double velocityX, double velocityY) {
+		return add(bulletType, initialXPos, initialYPos, velocityX, velocityY, false);
+	}
+
+	@Override
+	public void spawnVolley(BulletPattern pattern, double originX, double originY,
+							double targetX, double targetY, int volley) {
+		pattern.emit(this, originX, originY, targetX, targetY, volley);
+	}
+
+	/**
+	 * Spawns a whole pattern volley in one pass, rotated about its origin.
+	 *
+	 * @param pattern the precomputed directions and offsets
+	 * @param originX the X-coordinate of the volley origin
+	 * @param originY the Y-coordinate of the volley origin
+	 * @param cos     the cosine of the rotation applied to the pattern
+	 * @param sin     the sine of the rotation applied to the pattern
+	 * @return the number of bullets spawned, limited by the free capacity
+	 */
+	int spawnPattern(BulletPattern pattern, double originX, double originY, double cos, double sin) {
+		int count = Math.min(pattern.count, capacity - size);
+		byte bulletType = (byte) pattern.bulletType.ordinal();
+		for (int k = 0; k < count; k++) {
+			int i = size + k;
+			double offsetX = pattern.offsetX[k];
+			double offsetY = pattern.offsetY[k];
+			double velocityX = pattern.velocityX[k];
+			double velocityY = pattern.velocityY[k];
+			x[i] = originX + offsetX * cos - offsetY * sin;
+			y[i] = originY + offsetX * sin + offsetY * cos;
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			vx[i] = velocityX * cos - velocityY * sin;
+			vy[i] = velocityX * sin + velocityY * cos;
+			age[i] = 0;
+			type[i] = bulletType;
+			homing[i] = false;
+			dead[i] = false;
+		}
+		size += count;
+		gridDirty |= count > 0;
+		return count;
+	}
+
+	private boolean add(BulletType bulletType, double initialXPos, double initialYPos,
+						double velocityX, double velocityY, boolean isHoming) {
+		if (size == capacity) {
+			return false;
+		}
+		int i = size++;
+		x[i] = initialXPos;
+		y[i] = initialYPos;
+		previousX[i] = initialXPos;
+		previousY[i] = initialYPos;
+		vx[i] = velocityX;
+		vy[i] = velocityY;
+		age[i] = 0;
+		type[i] = (byte) bulletType.ordinal();
+		homing[i] = isHoming;
+		dead[i] = false;
+		gridDirty = true;
+		return true;
+	}
+
+	/**
+	 * Moves every bullet by one tick and removes bullets that expired or left the world.
+	 *
+	 * @param targetX the X-coordinate homing bullets steer towards
+	 * @param targetY the Y-coordinate homing bullets steer towards
+	 * @param worldWidth the width of the playable area
+	 * @param worldHeight the height of the playable area
+	 */
+	public void update(double targetX, double targetY, double worldWidth, double worldHeight) {
+		int i = 0;
+		while (i < size) {
+			int t = type[i];
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			age[i]++;
+			if (homing[i]) {
+				double deltaX = targetX - x[i];
+				double deltaY = targetY - y[i];
+				double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+				boolean breakOff = distance > typeHomingDistance[t] || distance <= typeMinimumDistance[t]
+						|| (typeStopsWhenPassed[t] && deltaX < 0);
+				if (breakOff) {
+					// Lock in the current heading; the bullet moves straight from the next tick on
+					double angle = Math.atan2(deltaY, deltaX);
+					vx[i] = typeSpeed[t] * Math.cos(angle);
+					vy[i] = typeSpeed[t] * Math.sin(angle);
+					homing[i] = false;
+				} else {
+					x[i] += deltaX / distance * typeSpeed[t];
+					y[i] += deltaY / distance * typeSpeed[t];
+				}
+			} else {
+				x[i] += vx[i];
+				y[i] += vy[i];
+			}
+
+			double margin = typeMargin[t];
+			boolean offScreen = x[i] < -margin || x[i] > worldWidth + margin
+					|| y[i] < -margin || y[i] > worldHeight + margin;
+			if (dead[i] || age[i] > typeLifespan[t] || offScreen) {
+				removeAt(i); // The last bullet moved into slot i has not been updated yet
+			} else {
+				i++;
+			}
+		}
+		gridDirty = true;
+	}
+
+	/**
+	 * Destroys every live bullet whose hit box overlaps the given box.
+	 *
+	 * @param minX the left edge of the box
+	 * @param minY the top edge of the box
+	 * @param maxX the right edge of the box
+	 * @param maxY the bottom edge of the box
+	 * @return the number of bullets that hit the box
+	 */
+	public int collide(double minX, double minY, double maxX, double maxY) {
+		return collide(minX, minY, maxX, maxY, null);
+	}
+
+	/**
+	 * Destroys every live bullet that touches a target. Bullets whose hit box overlaps
+	 * the target's box are confirmed pixel by pixel, using the target mask and the masks
+	 * set with {@link #setTypeMask(BulletType, CollisionMask)} where there are any.
+	 *
+	 * @param minX       the left edge of the target box
+	 * @param minY       the top edge of the target box
+	 * @param maxX       the right edge of the target box
+	 * @param maxY       the bottom edge of the target box
+	 * @param targetMask the mask of the target with its top-left corner at
+	 *                   ({@code minX}, {@code minY}), or {@code null} to hit the whole box
+	 * @return the number of bullets that hit the target
+	 */
+	public int collide(double minX, double minY, double maxX, double maxY, CollisionMask targetMask) {
+		if (size == 0) {
+			return 0;
+		}
+		if (gridDirty) {
+			buildGrid();
+		}
+		// Bullets are binned by the top-left corner of their hit box, so widen the query
+		int firstColumn = columnOf(minX - maxHitWidth);
+		int lastColumn = columnOf(maxX);
+		int firstRow = rowOf(minY - maxHitHeight);
+		int lastRow = rowOf(maxY);
+
+		int hits = 0;
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * gridColumns + column;
+				for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+					int i = sortedIndices[k];
+					if (dead[i]) {
+						continue;
+					}
+					int t = type[i];
+					double hitMinX = x[i] + typeHitOffsetX[t];
+					double hitMinY = y[i] + typeHitOffsetY[t];
+					double hitMaxX = hitMinX + typeHitWidth[t];
+					double hitMaxY = hitMinY + typeHitHeight[t];
+					if (hitMinX < maxX && hitMaxX > minX && hitMinY < maxY && hitMaxY > minY
+							&& touches(typeMask[t], hitMinX, hitMinY, hitMaxX, hitMaxY,
+									targetMask, minX, minY, maxX, maxY)) {
+						dead[i] = true;
+						hits++;
+					}
+				}
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Narrowphase for two overlapping boxes, each optionally carrying a mask anchored
+	 * at its top-left corner.
+	 */
+	private static boolean touches(CollisionMask bulletMask, double bulletMinX, double bulletMinY,
+								   double bulletMaxX, double bulletMaxY, CollisionMask targetMask,
+								   double targetMinX, double targetMinY, double targetMaxX, double targetMaxY) {
+		if (targetMask != null && bulletMask != null) {
+			return targetMask.overlaps(bulletMask,
+					(int) Math.floor(bulletMinX - targetMinX), (int) Math.floor(bulletMinY - targetMinY));
+		}
+		if (targetMask != null) {
+			return targetMask.overlapsBox(
+					(int) Math.floor(bulletMinX - targetMinX), (int) Math.floor(bulletMinY - targetMinY),
+					(int) Math.ceil(bulletMaxX - targetMinX), (int) Math.ceil(bulletMaxY - targetMinY));
+		}
+		if (bulletMask != null) {
+			return bulletMask.overlapsBox(
+					(int) Math.floor(targetMinX - bulletMinX), (int) Math.floor(targetMinY - bulletMinY),
+					(int) Math.ceil(targetMaxX - bulletMinX), (int) Math.ceil(targetMaxY - bulletMinY));
+		}
+		return true;
+	}
+
+	/**
+	 * Copies the bullets still alive after this tick's collisions into a render frame.
+	 *
+	 * @param frame          the frame to overwrite
+	 * @param publishedNanos the time the tick finished
+	 */
+	void writeFrame(BulletFrame frame, long publishedNanos) {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (dead[i]) {
+				continue;
+			}
+			frame.x[count] = x[i];
+			frame.y[count] = y[i];
+			frame.previousX[count] = previousX[i];
+			frame.previousY[count] = previousY[i];
+			frame.type[count] = type[i];
+			count++;
+		}
+		frame.size = count;
+		frame.publishedNanos = publishedNanos;
+	}
+
+	/**
+	 * Writes every live bullet into a snapshot.
+	 *
+	 * @param buffer the snapshot being written
+	 */
+	public void saveState(SnapshotBuffer buffer) {
+		buffer.putInt(size);
+		for (int i = 0; i < size; i++) {
+			buffer.putDouble(x[i]);
+			buffer.putDouble(y[i]);
+			buffer.putDouble(vx[i]);
+			buffer.putDouble(vy[i]);
+			buffer.putInt(age[i]);
+			buffer.putInt(type[i]);
+			buffer.putBoolean(homing[i]);
+			buffer.putBoolean(dead[i]);
+		}
+	}
+
+	/**
+	 * Replaces all bullets with the ones written by {@link #saveState(SnapshotBuffer)}.
+	 *
+	 * @param buffer the snapshot being read
+	 */
+	public void restoreState(SnapshotBuffer buffer) {
+		size = buffer.getInt();
+		for (int i = 0; i < size; i++) {
+			x[i] = buffer.getDouble();
+			y[i] = buffer.getDouble();
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			vx[i] = buffer.getDouble();
+			vy[i] = buffer.getDouble();
+			age[i] = buffer.getInt();
+			type[i] = (byte) buffer.getInt();
+			homing[i] = buffer.getBoolean();
+			dead[i] = buffer.getBoolean();
+		}
+		gridDirty = true;
+	}
+
+	/**
+	 * Removes all bullets.
+	 */
+	public void clear() {
+		size = 0;
+		gridDirty = true;
+	}
+
+	/**
+	 * Gets the number of live bullets, including bullets destroyed this tick.
+	 *
+	 * @return the number of bullets in the pool
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the maximum number of simultaneous bullets.
+	 *
+	 * @return the pool capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the X-coordinate of a bullet's top-left corner.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @return the X-coordinate
+	 */
+	public double getX(int index) {
+		return x[index];
+	}
+
+	/**
+	 * Gets the Y-coordinate of a bullet's top-left corner.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @return the Y-coordinate
+	 */
+	public double getY(int index) {
+		return y[index];
+	}
+
+	/**
+	 * Gets the X-coordinate a bullet is drawn at between two ticks.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @param alpha the fraction of the current tick that has elapsed, from 0 to 1
+	 * @return the interpolated X-coordinate
+	 */
+	public double getRenderX(int index, double alpha) {
+		return previousX[index] + (x[index] - previousX[index]) * alpha;
+	}
+
+	/**
+	 * Gets the Y-coordinate a bullet is drawn at between two ticks.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @param alpha the fraction of the current tick that has elapsed, from 0 to 1
+	 * @return the interpolated Y-coordinate
+	 */
+	public double getRenderY(int index, double alpha) {
+		return previousY[index] + (y[index] - previousY[index]) * alpha;
+	}
+
+	/**
+	 * Gets the type of a bullet.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @return the bullet type
+	 */
+	public BulletType getType(int index) {
+		return TYPES[type[index]];
+	}
+
+	/**
+	 * Checks whether a bullet was destroyed since the last update.
+	 *
+	 * @param index the bullet index, between 0 and {@link #size()}
+	 * @return {@code true} if the bullet hit something this tick
+	 */
+	public boolean isDestroyed(int index) {
+		return dead[index];
+	}
+
+	private void removeAt(int i) {
+		int last = --size;
+		x[i] = x[last];
+		y[i] = y[last];
+		previousX[i] = previousX[last];
+		previousY[i] = previousY[last];
+		vx[i] = vx[last];
+		vy[i] = vy[last];
+		age[i] = age[last];
+		type[i] = type[last];
+		homing[i] = homing[last];
+		dead[i] = dead[last];
+	}
+
+	private void buildGrid() {
+		double extentX = 0;
+		double extentY = 0;
+		for (int i = 0; i < size; i++) {
+			extentX = Math.max(extentX, x[i]);
+			extentY = Math.max(extentY, y[i]);
+		}
+		gridColumns = Math.min(MAX_GRID_COLUMNS, (int) (extentX / GRID_CELL_SIZE) + 1);
+		gridRows = Math.min(MAX_GRID_ROWS, (int) (extentY / GRID_CELL_SIZE) + 1);
+		int cells = gridColumns * gridRows;
+
+		Arrays.fill(cellFill, 0, cells, 0);
+		for (int i = 0; i < size; i++) {
+			int t = type[i];
+			int cell = rowOf(y[i] + typeHitOffsetY[t]) * gridColumns + columnOf(x[i] + typeHitOffsetX[t]);
+			cellOf[i] = cell;
+			cellFill[cell]++;
+		}
+		cellStart[0] = 0;
+		for (int c = 0; c < cells; c++) {
+			cellStart[c + 1] = cellStart[c] + cellFill[c];
+			cellFill[c] = cellStart[c];
+		}
+		for (int i = 0; i < size; i++) {
+			sortedIndices[cellFill[cellOf[i]]++] = i;
+		}
+		gridDirty = false;
+	}
+
+	private int columnOf(double xPos) {
+		int column = (int) (xPos / GRID_CELL_SIZE);
+		return column < 0 ? 0 : Math.min(column, gridColumns - 1);
+	}
+
+	private int rowOf(double yPos) {
+		int row = (int) (yPos / GRID_CELL_SIZE);
+		return row < 0 ? 0 : Math.min(row, gridRows - 1);
+	}
+}
@@ -0,0 +1,456 @@
+package com.example.demo.actors;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.utilities.RenderHandoff;
+import com.example.demo.utilities.SnapshotBuffer;
+
+/**
+ * Runs a level's {@link BulletPool} on a dedicated simulation thread.
+ * <p>
+ * The JavaFX thread never touches the pool while the simulation thread runs. Each tick
+ * it only posts commands into a single-producer, single-consumer ring: the bullets fired
+ * this tick and one {@link #step} carrying the player's position and hit box. The
+ * simulation thread moves every bullet, tests them against the player, adds the hits to a
+ * counter the level drains with {@link #takeHits()}, and publishes a {@link BulletFrame}
+ * through a {@link RenderHandoff}. The render loop draws the newest frame. A long bullet
+ * tick therefore delays neither input nor rendering, and a slow frame never delays the
+ * bullets; hits reach the level on the first tick after they were simulated.
+ * </p>
+ * <p>
+ * Before {@link #start()} and after {@link #stop()} commands run straight away on the
+ * calling thread, which keeps tests and headless runs deterministic.
+ * </p>
+ */
+public class BulletSimulation implements BulletSink {
+
+	/** Default number of commands that can wait for the simulation thread. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+	private static final BulletType[] TYPES = BulletType.values();
+	private static final int SPAWN = 0;
+	private static final int VOLLEY = 1;
+	private static final int STEP = 2;
+	private static final int CLEAR = 3;
+	private static final int PUBLISH = 4;
+	private static final int COLLIDE = 5;
+	private static final int ARGUMENTS = 6;
+
+	private final BulletPool pool;
+	private final double worldWidth;
+	private final double worldHeight;
+	private final RenderHandoff<BulletFrame> frames;
+
+	// Command ring, written by the level thread and read by the simulation thread
+	private final int mask;
+	private final int[] opcodes;
+	private final int[] intArguments;
+	private final long[] timeArguments;
+	private final double[] arguments;
+	private final Object[] references;
+	private final AtomicLong head = new AtomicLong(); // Next command the simulation runs
+	private final AtomicLong tail = new AtomicLong(); // Next slot the level writes
+
+	private final AtomicInteger pendingHits = new AtomicInteger();
+	private final AtomicInteger pendingSecondaryHits = new AtomicInteger();
+	private volatile int bulletCount;
+	private volatile int bulletsTested;
+	private volatile long lastStepNanos;
+	private volatile boolean running;
+	private Thread worker;
+	private int queueStalls;
+	private long publishedNanos; // Simulation thread only
+
+	/**
+	 * Constructs a simulation for a pool in a world of the given size, with the
+	 * {@link #DEFAULT_QUEUE_CAPACITY}.
+	 *
+	 * @param pool        the bullets, owned by the simulation from now on
+	 * @param worldWidth  the width of the playable area
+	 * @param worldHeight the height of the playable area
+	 */
+	public BulletSimulation(BulletPool pool, double worldWidth, double worldHeight) {
+		this(pool, worldWidth, worldHeight, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Constructs a simulation for a pool in a world of the given size.
+	 *
+	 * @param pool          the bullets, owned by the simulation from now on
+	 * @param worldWidth    the width of the playable area
+	 * @param worldHeight   the height of the playable area
+	 * @param queueCapacity the number of commands that can wait, a power of two
+	 */
+	public BulletSimulation(BulletPool pool, double worldWidth, double worldHeight, int queueCapacity) {
+		if (Integer.bitCount(queueCapacity) != 1) {
+			throw new IllegalArgumentException("Queue capacity must be a power of two: " + queueCapacity);
+		}
+		this.pool = pool;
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
+		this.frames = new RenderHandoff<>(() -> new BulletFrame(pool.getCapacity()));
+		this.mask = queueCapacity - 1;
+		this.opcodes = new int[queueCapacity];
+		this.intArguments = new int[queueCapacity];
+		this.timeArguments = new long[queueCapacity];
+		this.arguments = new double[queueCapacity * ARGUMENTS];
+		this.references = new Object[queueCapacity];
+	}
+
+	/**
+	 * Starts the simulation thread. Does nothing if it is already running.
+	 */
+	public void start() {
+		if (worker != null) {
+			return;
+		}
+		running = true;
+		worker = new Thread(this::run, "bullet-simulation");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Runs the remaining commands and stops the simulation thread. Later commands run on
+	 * the calling thread until the simulation is started again.
+	 */
+	public void stop() {
+		if (worker == null) {
+			return;
+		}
+		running = false;
+		LockSupport.unpark(worker);
+		try {
+			worker.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		worker = null;
+	}
+
+	/**
+	 * Checks whether commands run on the simulation thread.
+	 *
+	 * @return {@code true} between {@link #start()} and {@link #stop()}
+	 */
+	public boolean isThreaded() {
+		return worker != null;
+	}
+
+	/**
+	 * Queues a homing bullet for the simulation thread.
+	 * <p>
+	 * The bullet only reaches the pool when the command drains, so whether there was room
+	 * for it is not known here. A full pool drops it silently at that point.
+	 * </p>
+	 *
+	 * @param bulletType  the kind of bullet
+	 * @param initialXPos the X-coordinate of the bullet's top-left corner
+	 * @param initialYPos the Y-coordinate of the bullet's top-left corner
+	 * @return always {@code true}, since the bullet is only queued
+	 */
+	@Override
+	public boolean spawn(BulletType bulletType, double initialXPos, double initialYPos) {
+		int slot = claim();
+		opcodes[slot] = SPAWN;
+		intArguments[slot] = bulletType.ordinal();
+		arguments[slot * ARGUMENTS] = initialXPos;
+		arguments[slot * ARGUMENTS + 1] = initialYPos;
+		commit();
+		return true;
+	}
+
+	@Override
+	public void spawnVolley(BulletPattern pattern, double originX, double originY,
+							double targetX, double targetY, int volley) {
+		int slot = claim();
+		opcodes[slot] = VOLLEY;
+		intArguments[slot] = volley;
+		references[slot] = pattern;
+		int a = slot * ARGUMENTS;
+		arguments[a] = originX;
+		arguments[a + 1] = originY;
+		arguments[a + 2] = targetX;
+		arguments[a + 3] = targetY;
+		commit();
+	}
+
+	/**
+	 * Simulates one tick of every bullet and publishes the result.
+	 *
+	 * @param tickNanos the time of the tick, which the render loop interpolates from
+	 * @param targetX   the X-coordinate homing bullets steer towards
+	 * @param targetY   the Y-coordinate homing bullets steer towards
+	 * @param minX      the left edge of the player's hit box
+	 * @param minY      the top edge of the player's hit box
+	 * @param maxX      the right edge of the player's hit box
+	 * @param maxY      the bottom edge of the player's hit box
+	 * @param collide   whether bullets can hit the player this tick
+	 */
+	public void step(long tickNanos, double targetX, double targetY,
+					 double minX, double minY, double maxX, double maxY, boolean collide) {
+		step(tickNanos, targetX, targetY, minX, minY, maxX, maxY, null, collide);
+	}
+
+	/**
+	 * Simulates one tick of every bullet against a player with a pixel mask, and
+	 * publishes the result.
+	 *
+	 * @param tickNanos  the time of the tick, which the render loop interpolates from
+	 * @param targetX    the X-coordinate homing bullets steer towards
+	 * @param targetY    the Y-coordinate homing bullets steer towards
+	 * @param minX       the left edge of the player's box
+	 * @param minY       the top edge of the player's box
+	 * @param maxX       the right edge of the player's box
+	 * @param maxY       the bottom edge of the player's box
+	 * @param targetMask the player's mask anchored at ({@code minX}, {@code minY}), or
+	 *                   {@code null} to hit the whole box
+	 * @param collide    whether bullets can hit the player this tick
+	 */
+	public void step(long tickNanos, double targetX, double targetY, double minX, double minY,
+					 double maxX, double maxY, CollisionMask targetMask, boolean collide) {
+		int slot = claim();
+		opcodes[slot] = STEP;
+		references[slot] = targetMask;
+		intArguments[slot] = collide ? 1 : 0;
+		timeArguments[slot] = tickNanos;
+		int a = slot * ARGUMENTS;
+		arguments[a] = targetX;
+		arguments[a + 1] = targetY;
+		arguments[a + 2] = minX;
+		arguments[a + 3] = minY;
+		arguments[a + 4] = maxX;
+		arguments[a + 5] = maxY;
+		commit();
+		if (worker != null) {
+			LockSupport.unpark(worker);
+		}
+	}
+
+	/**
+	 * Tests the bullets of the last {@link #step} against a second player, after the
+	 * first one has taken its hits. Hits are counted apart and drained with
+	 * {@link #takeSecondaryHits()}.
+	 *
+	 * @param minX       the left edge of the second player's box
+	 * @param minY       the top edge of the second player's box
+	 * @param maxX       the right edge of the second player's box
+	 * @param maxY       the bottom edge of the second player's box
+	 * @param targetMask the second player's mask anchored at ({@code minX}, {@code minY}),
+	 *                   or {@code null} to hit the whole box
+	 */
+	public void collideSecondary(double minX, double minY, double maxX, double maxY, CollisionMask targetMask) {
+		int slot = claim();
+		opcodes[slot] = COLLIDE;
+		references[slot] = targetMask;
+		int a = slot * ARGUMENTS;
+		arguments[a + 2] = minX;
+		arguments[a + 3] = minY;
+		arguments[a + 4] = maxX;
+		arguments[a + 5] = maxY;
+		commit();
+	}
+
+	/**
+	 * Removes all bullets.
+	 */
+	public void clear() {
+		int slot = claim();
+		opcodes[slot] = CLEAR;
+		commit();
+	}
+
+	/**
+	 * Takes the number of bullets that hit the player since the last call.
+	 *
+	 * @return the hits, each already removed from the pool
+	 */
+	public int takeHits() {
+		return pendingHits.getAndSet(0);
+	}
+
+	/**
+	 * Takes the number of bullets that hit the second player since the last call.
+	 *
+	 * @return the hits, each already removed from the pool
+	 */
+	public int takeSecondaryHits() {
+		return pendingSecondaryHits.getAndSet(0);
+	}
+
+	/**
+	 * Gets the newest simulated bullets. Only call from the render thread.
+	 *
+	 * @return the newest frame
+	 */
+	public BulletFrame getLatestFrame() {
+		return frames.acquire();
+	}
+
+	/**
+	 * Waits until every posted command has run.
+	 */
+	public void awaitIdle() {
+		while (head.get() != tail.get()) {
+			LockSupport.unpark(worker);
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Writes every live bullet into a snapshot, once all posted commands have run.
+	 *
+	 * @param buffer the snapshot being written
+	 */
+	public void saveState(SnapshotBuffer buffer) {
+		awaitIdle();
+		pool.saveState(buffer);
+	}
+
+	/**
+	 * Replaces all bullets with a snapshot, dropping hits that were not taken yet.
+	 *
+	 * @param buffer the snapshot being read
+	 */
+	public void restoreState(SnapshotBuffer buffer) {
+		awaitIdle();
+		pool.restoreState(buffer);
+		pendingHits.set(0);
+		pendingSecondaryHits.set(0);
+		int slot = claim();
+		opcodes[slot] = PUBLISH;
+		timeArguments[slot] = System.nanoTime();
+		commit();
+	}
+
+	/**
+	 * Gets the number of bullets alive after the last simulated tick.
+	 *
+	 * @return the bullet count
+	 */
+	public int getBulletCount() {
+		return bulletCount;
+	}
+
+	/**
+	 * Gets how many bullets were tested against the player in the last simulated tick.
+	 *
+	 * @return the number of bullets tested
+	 */
+	public int getBulletsTested() {
+		return bulletsTested;
+	}
+
+	/**
+	 * Gets how long the simulation thread took for the last tick.
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	public long getLastStepNanos() {
+		return lastStepNanos;
+	}
+
+	/**
+	 * Gets how often the level had to wait because the command ring was full.
+	 *
+	 * @return the number of waits
+	 */
+	public int getQueueStalls() {
+		return queueStalls;
+	}
+
+	private int claim() {
+		long slot = tail.get();
+		if (slot - head.get() > mask) {
+			queueStalls++;
+			do {
+				LockSupport.unpark(worker);
+				Thread.onSpinWait();
+			} while (slot - head.get() > mask);
+		}
+		return (int) (slot & mask);
+	}
+
+	private void commit() {
+		tail.set(tail.get() + 1);
+		if (worker == null) {
+			drain(); // Not threaded, so run the command right away
+		}
+	}
+
+	private void run() {
+		while (running || head.get() != tail.get()) {
+			if (!drain()) {
+				LockSupport.park(this);
+			}
+		}
+	}
+
+	private boolean drain() {
+		long next = head.get();
+		long end = tail.get();
+		if (next == end) {
+			return false;
+		}
+		while (next < end) {
+			execute((int) (next & mask));
+			head.set(++next);
+		}
+		return true;
+	}
+
+	private void execute(int slot) {
+		int a = slot * ARGUMENTS;
+		switch (opcodes[slot]) {
+			case SPAWN -> pool.spawn(TYPES[intArguments[slot]], arguments[a], arguments[a + 1]);
+			case VOLLEY -> {
+				BulletPattern pattern = (BulletPattern) references[slot];
+				references[slot] = null;
+				pattern.emit(pool, arguments[a], arguments[a + 1], arguments[a + 2], arguments[a + 3], intArguments[slot]);
+			}
+			case STEP -> {
+				long started = System.nanoTime();
+				pool.update(arguments[a], arguments[a + 1], worldWidth, worldHeight);
+				if (intArguments[slot] != 0) {
+					bulletsTested = pool.size();
+					int hits = pool.collide(arguments[a + 2], arguments[a + 3], arguments[a + 4], arguments[a + 5],
+							(CollisionMask) references[slot]);
+					if (hits > 0) {
+						pendingHits.addAndGet(hits);
+					}
+				} else {
+					bulletsTested = 0;
+				}
+				references[slot] = null;
+				publish(timeArguments[slot]);
+				lastStepNanos = System.nanoTime() - started;
+			}
+			case CLEAR -> {
+				pool.clear();
+				publish(System.nanoTime());
+			}
+			case COLLIDE -> {
+				int hits = pool.collide(arguments[a + 2], arguments[a + 3], arguments[a + 4], arguments[a + 5],
+						(CollisionMask) references[slot]);
+				references[slot] = null;
+				if (hits > 0) {
+					pendingSecondaryHits.addAndGet(hits);
+					publish(publishedNanos); // Drop the bullets that hit from the frame
+				}
+			}
+			case PUBLISH -> publish(timeArguments[slot]);
+			default -> throw new IllegalStateException("Unknown bullet command " + opcodes[slot]);
+		}
+	}
+
+	private void publish(long tickNanos) {
+		BulletFrame frame = frames.getBack();
+		pool.writeFrame(frame, tickNanos);
+		frames.publish();
+		bulletCount = frame.size();
+		publishedNanos = tickNanos;
+	}
+}
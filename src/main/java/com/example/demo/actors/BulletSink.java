@@ -0,0 +1,31 @@
+package com.example.demo.actors;
+
+/**
+ * Accepts the bullets planes fire, whether straight into a {@link BulletPool} or through
+ * the {@link BulletSimulation} thread that owns the pool.
+ */
+public interface BulletSink {
+
+	/**
+	 * Spawns a homing bullet at the given position.
+	 *
+	 * @param bulletType  the kind of bullet
+	 * @param initialXPos the X-coordinate of the bullet's top-left corner
+	 * @param initialYPos the Y-coordinate of the bullet's top-left corner
+	 * @return {@code false} if the bullet was dropped because there was no room for it; a
+	 *         sink that only queues the bullet for another thread returns {@code true}
+	 */
+	boolean spawn(BulletType bulletType, double initialXPos, double initialYPos);
+
+	/**
+	 * Spawns one volley of a bullet pattern.
+	 *
+	 * @param pattern the pattern to fire
+	 * @param originX the X-coordinate the volley is fired from
+	 * @param originY the Y-coordinate the volley is fired from
+	 * @param targetX the X-coordinate aimed patterns point at
+	 * @param targetY the Y-coordinate aimed patterns point at
+	 * @param volley  the number of volleys of this pattern fired before
+	 */
+	void spawnVolley(BulletPattern pattern, double originX, double originY, double targetX, double targetY, int volley);
+}
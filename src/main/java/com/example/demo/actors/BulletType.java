@@ -0,0 +1,122 @@
+package com.example.demo.actors;
+
+/**
+ * Describes the kinds of bullets simulated by the {@link BulletPool}.
+ * <p>
+ * Each type carries the sprite, size and flight parameters that used to live in the
+ * node-based {@code EnemyProjectile} and {@code BossProjectile} classes. Bullets home in
+ * on the player until they leave their homing range and then continue in a straight line.
+ * </p>
+ */
+public enum BulletType {
+
+	/** Homing shot fired by regular enemy planes. */
+	ENEMY_PROJECTILE("enemyFire.png", 50, 335.0 / 169.0, 7.0, 300, 300, false),
+
+	/** Homing fireball fired by the boss; stops homing once it has passed the player. */
+	BOSS_PROJECTILE("fireball.png", 75, 800.0 / 318.0, 15.0, 500, 300, true);
+
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private static final double HIT_WIDTH_FACTOR = 0.8; // Same shrink as ActiveActorDestructible
+	private static final double HIT_HEIGHT_FACTOR = 0.4;
+
+	private final String imageName;
+	private final int imageHeight;
+	private final double imageWidth;
+	private final double speed;
+	private final double homingDistance;
+	private final int maxLifespan;
+	private final boolean stopsHomingOncePassed;
+
+	BulletType(String imageName, int imageHeight, double aspectRatio, double speed,
+			   double homingDistance, int maxLifespan, boolean stopsHomingOncePassed) {
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		this.imageWidth = imageHeight * aspectRatio;
+		this.speed = speed;
+		this.homingDistance = homingDistance;
+		this.maxLifespan = maxLifespan;
+		this.stopsHomingOncePassed = stopsHomingOncePassed;
+	}
+
+	/**
+	 * Gets the resource path of the bullet sprite.
+	 *
+	 * @return the image resource path
+	 */
+	public String getImagePath() {
+		return IMAGE_LOCATION + imageName;
+	}
+
+	/**
+	 * Gets the rendered width of the bullet.
+	 *
+	 * @return the sprite width in pixels
+	 */
+	public double getWidth() {
+		return imageWidth;
+	}
+
+	/**
+	 * Gets the rendered height of the bullet.
+	 *
+	 * @return the sprite height in pixels
+	 */
+	public double getHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Gets the width of the collision box, shrunk like actor bounds.
+	 *
+	 * @return the hit box width
+	 */
+	public double getHitWidth() {
+		return imageWidth * HIT_WIDTH_FACTOR;
+	}
+
+	/**
+	 * Gets the height of the collision box, shrunk like actor bounds.
+	 *
+	 * @return the hit box height
+	 */
+	public double getHitHeight() {
+		return imageHeight * HIT_HEIGHT_FACTOR;
+	}
+
+	/**
+	 * Gets the distance travelled per tick.
+	 *
+	 * @return the bullet speed
+	 */
+	public double getSpeed() {
+		return speed;
+	}
+
+	/**
+	 * Gets the maximum distance at which the bullet keeps homing.
+	 *
+	 * @return the homing distance
+	 */
+	public double getHomingDistance() {
+		return homingDistance;
+	}
+
+	/**
+	 * Gets the number of ticks before the bullet disappears.
+	 *
+	 * @return the lifespan in ticks
+	 */
+	public int getMaxLifespan() {
+		return maxLifespan;
+	}
+
+	/**
+	 * Checks whether the bullet stops homing as soon as it is behind the player.
+	 *
+	 * @return {@code true} if the bullet breaks off once it has passed the player
+	 */
+	public boolean stopsHomingOncePassed() {
+		return stopsHomingOncePassed;
+	}
+}
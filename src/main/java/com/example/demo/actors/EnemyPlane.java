@@ -1,16 +1,13 @@
 package com.example.demo.actors;
 
-import javafx.animation.PauseTransition;
-import javafx.scene.Group;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.util.Duration;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.SnapshotBuffer;
 /**
  * Represents an enemy plane in the game.
  * <p>
  * The enemy plane moves horizontally across the screen and can fire projectiles
  * at the player's plane. It features logic to avoid firing when the player is
- * directly underneath and includes a visual damage effect when hit.
+ * directly underneath. Its explosion is drawn by the level's particle system.
  * </p>
  */
 public class EnemyPlane extends FighterPlane {
@@ -23,23 +20,22 @@ public class EnemyPlane extends FighterPlane {
 	private static final int INITIAL_HEALTH = 1;
 	private static final double FIRE_RATE = .01;
 	private final UserPlane userPlane;
-	private static final String DAMAGE_IMAGE = "/com/example/demo/images/explode.png";
-	private final Group root;
+	private final GameRandom random;
 	private boolean hasPassedPlayer; // Flag to indicate if the jet has passed the player
 	private static final double VERTICAL_SAFETY_DISTANCE = 100.0; // Distance to prevent shooting when user is underneath
 
 	/**
-	 * Constructs an EnemyPlane with the specified position and references to the player plane and root group.
+	 * Constructs an EnemyPlane with the specified position and a reference to the player plane.
 	 *
 	 * @param initialXPos the initial X-coordinate of the enemy plane
 	 * @param initialYPos the initial Y-coordinate of the enemy plane
 	 * @param userPlane   the player's plane
-	 * @param root        the root group to which the enemy plane belongs
+	 * @param random      the level's random generator, used to decide when to fire
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos, UserPlane userPlane, Group root) {
+	public EnemyPlane(double initialXPos, double initialYPos, UserPlane userPlane, GameRandom random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
 		this.userPlane = userPlane; // Initialize UserPlane reference
-		this.root = root; // Reference to the root group
+		this.random = random;
 		this.hasPassedPlayer = false; // Initialize flag
 	}
 
@@ -55,51 +51,37 @@ public class EnemyPlane extends FighterPlane {
 	}
 
 	@Override
-	public ActiveActorDestructible fireProjectile() {
+	public void fireBullets(BulletSink bullets) {
 		// Allow shooting only if the jet has not passed the player
-		if (!hasPassedPlayer && !isUserPlaneUnderneath() && Math.random() < FIRE_RATE) {
+		if (!hasPassedPlayer && !isUserPlaneUnderneath() && random.nextDouble() < FIRE_RATE) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPosition, userPlane); // Pass UserPlane
+			bullets.spawn(BulletType.ENEMY_PROJECTILE, projectileXPosition, projectileYPosition);
 		}
-		return null;
 	}
 
 	@Override
-	public void takeDamage() {
-		super.takeDamage(); // Call the base takeDamage method
-		showDamageEffect(); // Trigger the damage effect
+	public void updateActor() {
+		updatePosition();
+		updateFlash();
 	}
 
-	/**
-	 * Displays a visual effect when the enemy plane is damaged.
-	 */
-	private void showDamageEffect() {
-		// Create an ImageView for the damage image
-		ImageView damageEffect = new ImageView(new Image(getClass().getResource(DAMAGE_IMAGE).toExternalForm()));
-
-		// Set the position and size to align with the EnemyPlane
-		damageEffect.setFitWidth(getBoundsInParent().getWidth());
-		damageEffect.setFitHeight(getBoundsInParent().getHeight());
-		damageEffect.setLayoutX(getBoundsInParent().getMinX());
-		damageEffect.setLayoutY(getBoundsInParent().getMinY());
-
-		// Add the damage effect to the scene
-		root.getChildren().add(damageEffect);
-
-		// Pause before removing the damage effect
-		PauseTransition pause = new PauseTransition(Duration.seconds(0.5)); // Display for 0.5 seconds
-		pause.setOnFinished(e -> root.getChildren().remove(damageEffect));
-
-		// Play the effect
-		pause.play();
+	@Override
+	public void respawn(double x, double y) {
+		super.respawn(x, y);
+		hasPassedPlayer = false;
 	}
 
-
+	@Override
+	public void saveState(SnapshotBuffer buffer) {
+		super.saveState(buffer);
+		buffer.putBoolean(hasPassedPlayer);
+	}
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void restoreState(SnapshotBuffer buffer) {
+		super.restoreState(buffer);
+		hasPassedPlayer = buffer.getBoolean();
 	}
 
 	/**
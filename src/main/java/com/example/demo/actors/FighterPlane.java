@@ -1,19 +1,26 @@
 package com.example.demo.actors;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.example.demo.utilities.SnapshotBuffer;
+import com.example.demo.views.QualityGovernor;
 
 /**
  * Represents a fighter plane in the game.
  * <p>
- * Fighter planes are destructible actors that can take damage and fire projectiles.
+ * Fighter planes are destructible actors that can take damage and fire bullets. Only the
+ * player's {@link UserPlane} fires scene-graph projectiles.
  * </p>
  */
 
 public abstract class FighterPlane extends ActiveActorDestructible {
 
+    private static final String HIT_FLASH_STYLE = "-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, white, 30, 0.8, 0, 0);";
+    private static final String PLAIN_FLASH_STYLE = "-fx-opacity: 0.5; -fx-effect: none;";
+    private static final String RESTORED_STYLE = "-fx-opacity: 1.0; -fx-effect: none;";
+    private static final int FLASH_TICKS = 2; // 0.1 s at the level's 50 ms tick
+
     public int health;
+    private final int initialHealth;
+    private int flashTicksLeft; // Above zero while a flash holds one of the effect slots
 
 	/**
 	 * Constructs a FighterPlane with the specified image, position, and health.
@@ -27,14 +34,38 @@ public abstract class FighterPlane extends ActiveActorDestructible {
     public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
         super(imageName, imageHeight, initialXPos, initialYPos);
         this.health = health;
+        this.initialHealth = health;
+    }
+
+	/**
+	 * Brings the plane back at a new position with its initial health.
+	 *
+	 * @param x the new X-coordinate of the plane
+	 * @param y the new Y-coordinate of the plane
+	 */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        health = initialHealth;
+        endFlash();
     }
 
 	/**
-	 * Fires a projectile from the fighter plane.
+	 * Fires this plane's bullets into the level's bullet engine.
+	 * <p>
+	 * Planes whose shots are scene-graph projectiles leave this empty.
+	 * </p>
 	 *
-	 * @return the fired projectile
+	 * @param bullets where the level simulates enemy bullets
 	 */
-    public abstract ActiveActorDestructible fireProjectile();
+    public void fireBullets(BulletSink bullets) {
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        endFlash(); // Destroyed planes stop updating, so the flash would never end
+    }
 
     @Override
     public void takeDamage() {
@@ -49,13 +80,46 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * Displays a hit effect when the plane takes damage.
 	 */
     private void showHitEffect() {
-        // Create a flash effect using a timeline
-        Timeline flashEffect = new Timeline(
-                new KeyFrame(Duration.seconds(0), e -> this.setStyle("-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, white, 30, 0.8, 0, 0);")),
-                new KeyFrame(Duration.seconds(0.1), e -> this.setStyle("-fx-opacity: 1.0; -fx-effect: none;"))
-        );
-        flashEffect.setCycleCount(1);
-        flashEffect.play();
+        if (isCulled()) {
+            return; // Nobody can see the flash
+        }
+        playFlash(HIT_FLASH_STYLE);
+    }
+
+	/**
+	 * Flashes the plane for a moment, within the effect budget of the current quality level.
+	 * Without drop shadows the flash only dims the plane. The flash is counted down in
+	 * simulation ticks by {@link #updateFlash()} instead of playing an animation, since
+	 * starting an animation allocates on every hit. A hit during a flash extends it
+	 * without taking more of the budget.
+	 *
+	 * @param shadowStyle the style of the flash when drop shadows are enabled
+	 */
+    protected void playFlash(String shadowStyle) {
+        QualityGovernor governor = QualityGovernor.getInstance();
+        if (flashTicksLeft == 0 && !governor.tryStartEffect()) {
+            return; // Too many effects already playing
+        }
+        flashTicksLeft = FLASH_TICKS;
+        setStyle(governor.getLevel().hasDropShadows() ? shadowStyle : PLAIN_FLASH_STYLE);
+    }
+
+	/**
+	 * Counts down a running flash and restores the plane when it ends. Subclasses call
+	 * this once per tick from {@link #updateActor()}.
+	 */
+    protected void updateFlash() {
+        if (flashTicksLeft > 0 && --flashTicksLeft == 0) {
+            setStyle(RESTORED_STYLE);
+            QualityGovernor.getInstance().endEffect();
+        }
+    }
+
+    private void endFlash() {
+        if (flashTicksLeft > 0) {
+            flashTicksLeft = 0;
+            QualityGovernor.getInstance().endEffect();
+        }
     }
 
 	/**
@@ -88,6 +152,19 @@ public abstract class FighterPlane extends ActiveActorDestructible {
         return health == 0;
     }
 
+    @Override
+    public void saveState(SnapshotBuffer buffer) {
+        super.saveState(buffer);
+        buffer.putInt(health);
+    }
+
+    @Override
+    public void restoreState(SnapshotBuffer buffer) {
+        super.restoreState(buffer);
+        health = buffer.getInt();
+        endFlash(); // The restored style has no flash
+    }
+
 	/**
 	 * Gets the current health of the plane.
 	 *
@@ -1,7 +1,7 @@
 package com.example.demo.actors;
 
+import com.example.demo.utilities.SnapshotBuffer;
 import javafx.scene.Scene;
-import javafx.scene.media.AudioClip;
 
 /**
  * Represents the player's plane in the game.
@@ -22,45 +22,42 @@ public class UserPlane extends FighterPlane {
 	private int velocityMultiplier;
 	private int numberOfKills;
 
-	private final Scene scene;
-
-	private static final String SHOOTING_SOUND = "/com/example/demo/images/shootingsound.wav";
-	private final AudioClip shootingSound;
+	private final double worldWidth;
+	private final double worldHeight;
 
 
 	private int horizontalVelocityMultiplier; // New variable for horizontal movement
-	private static final int FIRE_COOLDOWN_MILLIS = 300;
-	private double gunshotVolume = 0.5; // Default volume (50%)
+	private static final int FIRE_COOLDOWN_TICKS = 6; // 300 ms at the 50 ms simulation tick
 
-	private long lastFireTime;
+	private int fireCooldownTicks;
+	private ActorPool<UserProjectile> projectilePool;
 
 	/**
-	 * Constructs a UserPlane with the specified health and scene reference.
+	 * Constructs a UserPlane that stays within the size of a scene.
 	 *
 	 * @param initialHealth the initial health of the plane
 	 * @param scene         the scene where the plane is displayed
 	 */
 	public UserPlane(int initialHealth, Scene scene) {
+		this(initialHealth, scene.getWidth(), scene.getHeight());
+	}
+
+	/**
+	 * Constructs a UserPlane that stays within a world of the given size. The bounds are
+	 * in world coordinates, so they do not change when the window is resized and are the
+	 * same on every instance of a co-op session.
+	 *
+	 * @param initialHealth the initial health of the plane
+	 * @param worldWidth    the width of the world
+	 * @param worldHeight   the height of the world
+	 */
+	public UserPlane(int initialHealth, double worldWidth, double worldHeight) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
-		this.scene = scene; // Save the scene for dynamic height and width calculation
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
 		velocityMultiplier = 0;
 		horizontalVelocityMultiplier = 0; // Initialize horizontal movement
-		this.lastFireTime = 0;
-
-		// Initialize the shooting sound
-		shootingSound = new AudioClip(getClass().getResource(SHOOTING_SOUND).toExternalForm());
-	}
-
-	public void setGunshotVolume(double volume) {
-		this.gunshotVolume = Math.min(1.0, Math.max(0.0, volume)); // Clamp between 0.0 and 1.0
-		shootingSound.setVolume(this.gunshotVolume); // Update the AudioClip volume
-
-		// Debugging
-		if (this.gunshotVolume == 0) {
-			System.out.println("Gunshot volume muted.");
-		} else {
-			System.out.println("Gunshot volume set to: " + (this.gunshotVolume * 100) + "%");
-		}
+		this.fireCooldownTicks = 0;
 	}
 
 
@@ -71,14 +68,11 @@ public class UserPlane extends FighterPlane {
 
 	@Override
 	public void updatePosition() {
-		double screenWidth = scene.getWidth();
-		double screenHeight = scene.getHeight();
-
 		// Define precise bounds
-		double upperBound = 0; // Top of the screen
-		double lowerBound = screenHeight; // Bottom of the screen
-		double leftBound = 0; // Left of the screen
-		double rightBound = screenWidth; // Right of the screen
+		double upperBound = 0; // Top of the world
+		double lowerBound = worldHeight; // Bottom of the world
+		double leftBound = 0; // Left of the world
+		double rightBound = worldWidth; // Right of the world
 
 		// Calculate new positions
 		double newTranslateY = getTranslateY() + VERTICAL_VELOCITY * velocityMultiplier;
@@ -86,20 +80,20 @@ public class UserPlane extends FighterPlane {
 
 		// Restrict movement within vertical bounds
 		double jetTopPosition = getLayoutY() + newTranslateY;
-		double jetBottomPosition = jetTopPosition + getBoundsInParent().getHeight();
+		double jetBottomPosition = jetTopPosition + getSpriteHeight();
 		if (jetTopPosition < upperBound) {
 			newTranslateY = upperBound - getLayoutY();
 		} else if (jetBottomPosition > lowerBound) {
-			newTranslateY = lowerBound - getBoundsInParent().getHeight() - getLayoutY();
+			newTranslateY = lowerBound - getSpriteHeight() - getLayoutY();
 		}
 
 		// Restrict movement within horizontal bounds
 		double jetLeftPosition = getLayoutX() + newTranslateX;
-		double jetRightPosition = jetLeftPosition + getBoundsInParent().getWidth();
+		double jetRightPosition = jetLeftPosition + getSpriteWidth();
 		if (jetLeftPosition < leftBound) {
 			newTranslateX = leftBound - getLayoutX();
 		} else if (jetRightPosition > rightBound) {
-			newTranslateX = rightBound - getBoundsInParent().getWidth() - getLayoutX();
+			newTranslateX = rightBound - getSpriteWidth() - getLayoutX();
 		}
 
 		// Apply calculated positions
@@ -110,34 +104,46 @@ public class UserPlane extends FighterPlane {
 	@Override
 	public void updateActor() {
 		updatePosition();
+		updateFlash();
+		if (fireCooldownTicks > 0) {
+			fireCooldownTicks--;
+		}
 	}
 
 	/**
 	 * Fires a projectile from the plane.
+	 * <p>
+	 * The cooldown is counted in simulation ticks, so holding the fire key gives the
+	 * same fire rate on every machine regardless of key repeat settings.
+	 * </p>
 	 *
 	 * @return the fired projectile, or null if on cooldown
 	 */
-	@Override
-	public ActiveActorDestructible fireProjectile() {
-		long currentTime = System.currentTimeMillis();
-		if (currentTime - lastFireTime < FIRE_COOLDOWN_MILLIS) {
+	public UserProjectile fireProjectile() {
+		if (fireCooldownTicks > 0) {
 			// Cooldown not elapsed, prevent firing
 			return null;
 		}
-		lastFireTime = currentTime; // Update last fire time
-
-		// Ensure the shooting sound volume is set to the latest value
-		shootingSound.setVolume(gunshotVolume);
-		if (gunshotVolume > 0) {
-			shootingSound.play(); // Only play the sound if volume > 0
-		}
+		fireCooldownTicks = FIRE_COOLDOWN_TICKS;
 
 		// Calculate the projectile's position relative to the jet's current position
 		double adjustedProjectileX = getLayoutX() + getTranslateX() + PROJECTILE_X_POSITION;
 		double adjustedProjectileY = getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		if (projectilePool != null) {
+			return projectilePool.obtain(adjustedProjectileX, adjustedProjectileY);
+		}
 		return new UserProjectile(adjustedProjectileX, adjustedProjectileY);
 	}
 
+	/**
+	 * Makes the plane take its projectiles from a pool instead of building new ones.
+	 *
+	 * @param pool the pool of projectiles, or {@code null} to build every projectile
+	 */
+	public void setProjectilePool(ActorPool<UserProjectile> pool) {
+		this.projectilePool = pool;
+	}
+
 
 	private boolean isMoving() {
 		return velocityMultiplier != 0 || horizontalVelocityMultiplier != 0;
@@ -168,6 +174,22 @@ public class UserPlane extends FighterPlane {
 		velocityMultiplier = 0;
 	}
 
+	@Override
+	public void saveState(SnapshotBuffer buffer) {
+		super.saveState(buffer);
+		buffer.putInt(numberOfKills);
+		buffer.putInt(fireCooldownTicks);
+	}
+
+	@Override
+	public void restoreState(SnapshotBuffer buffer) {
+		super.restoreState(buffer);
+		numberOfKills = buffer.getInt();
+		fireCooldownTicks = buffer.getInt();
+		velocityMultiplier = 0; // Movement follows the keys held after the restore
+		horizontalVelocityMultiplier = 0;
+	}
+
 	public int getNumberOfKills() {
 		return numberOfKills;
 	}
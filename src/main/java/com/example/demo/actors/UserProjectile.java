@@ -31,10 +31,4 @@ public class UserProjectile extends Projectile {
 	public void updateActor() {
 		updatePosition();
 	}
-
-	@Override
-	public ActiveActorDestructible fireProjectile() {
-		// UserProjectile does not fire further projectiles.
-		throw new UnsupportedOperationException("UserProjectile cannot fire projectiles.");
-	}
 }
@@ -0,0 +1,25 @@
+package com.example.demo.collision;
+
+/**
+ * The groups an actor can collide as.
+ * <p>
+ * Which layers interact, and what happens when they do, is declared on a
+ * {@link CollisionSystem}; layers without a declared pair never test each other.
+ * </p>
+ */
+public enum CollisionLayer {
+	PLAYER,
+	PLAYER_BULLET,
+	ENEMY,
+	BOSS,
+	BOSS_SHIELD;
+
+	/**
+	 * Gets the bit that represents this layer in a collision mask.
+	 *
+	 * @return the layer's bit mask
+	 */
+	public int bit() {
+		return 1 << ordinal();
+	}
+}
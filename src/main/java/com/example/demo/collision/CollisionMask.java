@@ -0,0 +1,259 @@
+package com.example.demo.collision;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.demo.diagnostics.AssetLoadEvent;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+
+/**
+ * The opaque pixels of a sprite, packed one bit per pixel for exact collision tests.
+ * <p>
+ * A mask is built once from the alpha channel of a sprite at the size the sprite is
+ * drawn, so scaled sprites are downsampled instead of testing the full-resolution
+ * image. Masks are immutable and cached per image and size, which makes them cheap to
+ * share between every actor with the same sprite and safe to read from any thread.
+ * </p>
+ * <p>
+ * Rows are stored as 64-bit words. Two masks are compared by shifting the words of one
+ * onto the grid of the other and AND-ing them, so one operation tests 64 pixels and only
+ * the rows where both sprites overlap are visited. Collisions use a mask as a
+ * narrowphase, after the bounding boxes were found to overlap.
+ * </p>
+ */
+public final class CollisionMask {
+
+	/** Alpha from which a source pixel counts as solid. */
+	public static final int ALPHA_THRESHOLD = 128;
+
+	private static final Map<String, CollisionMask> CACHE = new ConcurrentHashMap<>();
+	/** Cached in place of images that could not be read, since the cache cannot hold null. */
+	private static final CollisionMask UNREADABLE = new CollisionMask(0, 0);
+
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] bits;
+
+	private CollisionMask(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+		this.bits = new long[wordsPerRow * height];
+	}
+
+	/**
+	 * Gets the mask of a classpath image drawn at the given size, building it on first use.
+	 *
+	 * @param resourcePath the classpath location of the image
+	 * @param width        the width the sprite is drawn at
+	 * @param height       the height the sprite is drawn at
+	 * @return the mask, or {@code null} if the image has no readable pixels
+	 */
+	public static CollisionMask forResource(String resourcePath, int width, int height) {
+		CollisionMask mask = CACHE.computeIfAbsent(resourcePath + '@' + width + 'x' + height,
+				key -> load(resourcePath, width, height));
+		return mask == UNREADABLE ? null : mask;
+	}
+
+	private static CollisionMask load(String resourcePath, int width, int height) {
+		AssetLoadEvent load = new AssetLoadEvent();
+		load.begin();
+		var url = CollisionMask.class.getResource(resourcePath);
+		CollisionMask mask = url == null ? null : fromImage(new Image(url.toExternalForm()), width, height);
+		load.asset = resourcePath + " (collision mask)";
+		load.commit();
+		return mask == null ? UNREADABLE : mask;
+	}
+
+	/**
+	 * Builds the mask of a loaded image drawn at the given size.
+	 *
+	 * @param image  the sprite image
+	 * @param width  the width the sprite is drawn at
+	 * @param height the height the sprite is drawn at
+	 * @return the mask, or {@code null} if the image has no readable pixels
+	 */
+	public static CollisionMask fromImage(Image image, int width, int height) {
+		PixelReader reader = image.getPixelReader();
+		int sourceWidth = (int) image.getWidth();
+		int sourceHeight = (int) image.getHeight();
+		if (reader == null || sourceWidth == 0 || sourceHeight == 0) {
+			return null;
+		}
+		int[] argb = new int[sourceWidth * sourceHeight];
+		reader.getPixels(0, 0, sourceWidth, sourceHeight, PixelFormat.getIntArgbInstance(), argb, 0, sourceWidth);
+		return fromArgb(argb, sourceWidth, sourceHeight, width, height);
+	}
+
+	/**
+	 * Builds a mask from ARGB pixels, scaling them to the given size. A mask pixel is
+	 * solid when at least half of the source pixels it covers reach the
+	 * {@link #ALPHA_THRESHOLD}.
+	 *
+	 * @param argb         the source pixels, row by row
+	 * @param sourceWidth  the width of the source
+	 * @param sourceHeight the height of the source
+	 * @param width        the width of the mask
+	 * @param height       the height of the mask
+	 * @return the mask
+	 */
+	public static CollisionMask fromArgb(int[] argb, int sourceWidth, int sourceHeight, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("A mask needs a positive size: " + width + "x" + height);
+		}
+		CollisionMask mask = new CollisionMask(width, height);
+		for (int y = 0; y < height; y++) {
+			int sourceTop = y * sourceHeight / height;
+			int sourceBottom = Math.max(sourceTop + 1, (y + 1) * sourceHeight / height);
+			for (int x = 0; x < width; x++) {
+				int sourceLeft = x * sourceWidth / width;
+				int sourceRight = Math.max(sourceLeft + 1, (x + 1) * sourceWidth / width);
+				int solid = 0;
+				for (int sy = sourceTop; sy < sourceBottom; sy++) {
+					for (int sx = sourceLeft; sx < sourceRight; sx++) {
+						if ((argb[sy * sourceWidth + sx] >>> 24) >= ALPHA_THRESHOLD) {
+							solid++;
+						}
+					}
+				}
+				int covered = (sourceBottom - sourceTop) * (sourceRight - sourceLeft);
+				if (solid * 2 >= covered && solid > 0) {
+					mask.bits[y * mask.wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+				}
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Checks whether this mask and another share a solid pixel.
+	 *
+	 * @param other   the other mask
+	 * @param offsetX the X-coordinate of the other mask's left edge relative to this one
+	 * @param offsetY the Y-coordinate of the other mask's top edge relative to this one
+	 * @return {@code true} if the sprites touch
+	 */
+	public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+		int firstRow = Math.max(0, offsetY);
+		int lastRow = Math.min(height, offsetY + other.height);
+		int firstColumn = Math.max(0, offsetX);
+		int lastColumn = Math.min(width, offsetX + other.width);
+		if (firstRow >= lastRow || firstColumn >= lastColumn) {
+			return false;
+		}
+		int firstWord = firstColumn >>> 6;
+		int lastWord = (lastColumn - 1) >>> 6;
+		for (int y = firstRow; y < lastRow; y++) {
+			int row = y * wordsPerRow;
+			int otherRow = (y - offsetY) * other.wordsPerRow;
+			for (int w = firstWord; w <= lastWord; w++) {
+				long word = bits[row + w];
+				if (word != 0 && (word & other.wordAt(otherRow, (w << 6) - offsetX)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether a box covers a solid pixel of this mask.
+	 *
+	 * @param minX the left edge of the box, inclusive
+	 * @param minY the top edge of the box, inclusive
+	 * @param maxX the right edge of the box, exclusive
+	 * @param maxY the bottom edge of the box, exclusive
+	 * @return {@code true} if any solid pixel lies inside the box
+	 */
+	public boolean overlapsBox(int minX, int minY, int maxX, int maxY) {
+		int firstRow = Math.max(0, minY);
+		int lastRow = Math.min(height, maxY);
+		int firstColumn = Math.max(0, minX);
+		int lastColumn = Math.min(width, maxX);
+		if (firstRow >= lastRow || firstColumn >= lastColumn) {
+			return false;
+		}
+		int firstWord = firstColumn >>> 6;
+		int lastWord = (lastColumn - 1) >>> 6;
+		long firstMask = -1L << (firstColumn & 63);
+		long lastMask = -1L >>> (63 - ((lastColumn - 1) & 63));
+		for (int y = firstRow; y < lastRow; y++) {
+			int row = y * wordsPerRow;
+			for (int w = firstWord; w <= lastWord; w++) {
+				long word = bits[row + w];
+				if (w == firstWord) {
+					word &= firstMask;
+				}
+				if (w == lastWord) {
+					word &= lastMask;
+				}
+				if (word != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets 64 pixels of one row starting at any column, with pixels outside the row clear.
+	 */
+	private long wordAt(int row, int column) {
+		int word = Math.floorDiv(column, 64);
+		int shift = Math.floorMod(column, 64);
+		long low = word >= 0 && word < wordsPerRow ? bits[row + word] : 0;
+		if (shift == 0) {
+			return low;
+		}
+		long high = word + 1 >= 0 && word + 1 < wordsPerRow ? bits[row + word + 1] : 0;
+		return (low >>> shift) | (high << (64 - shift));
+	}
+
+	/**
+	 * Checks whether one pixel is solid.
+	 *
+	 * @param x the column
+	 * @param y the row
+	 * @return {@code true} for a solid pixel inside the mask
+	 */
+	public boolean isSolid(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+	}
+
+	/**
+	 * Gets the width of the mask.
+	 *
+	 * @return the width in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the height of the mask.
+	 *
+	 * @return the height in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Counts the solid pixels.
+	 *
+	 * @return the number of solid pixels
+	 */
+	public int getSolidCount() {
+		int solid = 0;
+		for (long word : bits) {
+			solid += Long.bitCount(word);
+		}
+		return solid;
+	}
+}
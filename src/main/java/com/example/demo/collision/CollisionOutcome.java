@@ -0,0 +1,22 @@
+package com.example.demo.collision;
+
+/**
+ * What a resolved collision did to one of the actors involved.
+ * <p>
+ * The {@link CollisionSystem} records one outcome per actor for every collision it
+ * resolves, after the response has run. An actor that is destroyed is skipped by the rest
+ * of the pass, so it has at most one {@link #DESTROYED} or {@link #KILLED} outcome per
+ * tick, which lets the level credit kills exactly once.
+ * </p>
+ */
+public enum CollisionOutcome {
+
+	/** The actor was hit and survived. */
+	DAMAGED,
+
+	/** The actor was destroyed, without any kill credit. */
+	DESTROYED,
+
+	/** The actor was destroyed on a layer whose kills are credited to the player. */
+	KILLED
+}
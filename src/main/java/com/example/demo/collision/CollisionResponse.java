@@ -0,0 +1,18 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * Reacts to two actors of a declared layer pair overlapping.
+ */
+@FunctionalInterface
+public interface CollisionResponse {
+
+	/**
+	 * Handles one collision.
+	 *
+	 * @param first  the actor on the first layer of the declared pair
+	 * @param second the actor on the second layer of the declared pair
+	 */
+	void onCollision(ActiveActorDestructible first, ActiveActorDestructible second);
+}
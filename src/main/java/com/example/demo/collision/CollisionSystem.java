@@ -0,0 +1,295 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import javafx.geometry.Bounds;
+
+/**
+ * Finds and resolves all collisions of a tick in one pass.
+ * <p>
+ * Levels declare once which {@link CollisionLayer} pairs interact and how each pair
+ * responds. Every tick the actors are registered with their layer and
+ * {@link #resolve()} runs a sweep-and-prune broadphase over them: actors are sorted
+ * by their left edge, so each pair that overlaps horizontally is visited exactly once,
+ * and only pairs whose layers are set in the mask matrix have their bounds compared.
+ * Actors with a {@link CollisionMask} are registered with the full box of their sprite,
+ * and pairs whose boxes overlap are then confirmed pixel by pixel; actors without one
+ * fall back to their shrunk {@link ActiveActorDestructible#getAdjustedBounds() bounds}.
+ * Enemy bullets are not actors and are collided by their
+ * {@link com.example.demo.actors.BulletSimulation} instead.
+ * </p>
+ * <p>
+ * Responses only apply damage. What each collision did to its actors is recorded as a
+ * {@link CollisionOutcome} list for the tick, which the level consumes once after
+ * {@link #resolve()}; destroying an actor on a layer declared with
+ * {@link #creditKills(CollisionLayer)} is recorded as a kill.
+ * </p>
+ * <p>
+ * The number of bounds tests per layer pair is kept for the last tick, which makes the
+ * cost of each interaction visible.
+ * </p>
+ */
+public class CollisionSystem {
+
+	private static final int LAYER_COUNT = CollisionLayer.values().length;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final int[] masks = new int[LAYER_COUNT];
+	private final CollisionResponse[][] responses = new CollisionResponse[LAYER_COUNT][LAYER_COUNT];
+	private final int[][] pairTests = new int[LAYER_COUNT][LAYER_COUNT];
+	private int creditedLayers;
+
+	private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+	private int[] layers = new int[INITIAL_CAPACITY];
+	private double[] minX = new double[INITIAL_CAPACITY];
+	private double[] minY = new double[INITIAL_CAPACITY];
+	private double[] maxX = new double[INITIAL_CAPACITY];
+	private double[] maxY = new double[INITIAL_CAPACITY];
+	private CollisionMask[] shapes = new CollisionMask[INITIAL_CAPACITY];
+	private int[] order = new int[INITIAL_CAPACITY];
+	private int count;
+
+	private ActiveActorDestructible[] outcomeActors = new ActiveActorDestructible[INITIAL_CAPACITY];
+	private CollisionOutcome[] outcomes = new CollisionOutcome[INITIAL_CAPACITY];
+	private int outcomeCount;
+
+	private int lastPairsTested;
+	private int lastMaskTests;
+	private int lastHits;
+
+	/**
+	 * Declares that two layers collide and how to respond.
+	 * <p>
+	 * The response always receives the actor of {@code first} as its first argument,
+	 * whichever order the broadphase finds the pair in.
+	 * </p>
+	 *
+	 * @param first    the first layer
+	 * @param second   the second layer
+	 * @param response the response to a collision between the two
+	 */
+	public void when(CollisionLayer first, CollisionLayer second, CollisionResponse response) {
+		masks[first.ordinal()] |= second.bit();
+		masks[second.ordinal()] |= first.bit();
+		responses[first.ordinal()][second.ordinal()] = response;
+		if (first != second) {
+			responses[second.ordinal()][first.ordinal()] = (a, b) -> response.onCollision(b, a);
+		}
+	}
+
+	/**
+	 * Declares that actors of a layer destroyed by a collision count as kills.
+	 *
+	 * @param layer the layer whose destruction is credited
+	 */
+	public void creditKills(CollisionLayer layer) {
+		creditedLayers |= layer.bit();
+	}
+
+	/**
+	 * Checks whether two layers were declared to collide.
+	 *
+	 * @param first  one layer
+	 * @param second the other layer
+	 * @return {@code true} if the pair is in the mask matrix
+	 */
+	public boolean collides(CollisionLayer first, CollisionLayer second) {
+		return (masks[first.ordinal()] & second.bit()) != 0;
+	}
+
+	/**
+	 * Registers an actor for the current tick. Destroyed actors are ignored.
+	 *
+	 * @param actor the actor
+	 * @param layer the layer it collides as this tick
+	 */
+	public void add(ActiveActorDestructible actor, CollisionLayer layer) {
+		if (actor.isDestroyed()) {
+			return;
+		}
+		if (count == actors.length) {
+			grow();
+		}
+		CollisionMask shape = actor.getCollisionMask();
+		actors[count] = actor;
+		layers[count] = layer.ordinal();
+		shapes[count] = shape;
+		if (shape != null) {
+			minX[count] = actor.getWorldX();
+			minY[count] = actor.getWorldY();
+			maxX[count] = minX[count] + shape.getWidth();
+			maxY[count] = minY[count] + shape.getHeight();
+		} else {
+			Bounds bounds = actor.getAdjustedBounds();
+			minX[count] = bounds.getMinX();
+			minY[count] = bounds.getMinY();
+			maxX[count] = bounds.getMaxX();
+			maxY[count] = bounds.getMaxY();
+		}
+		count++;
+	}
+
+	/**
+	 * Resolves every collision between the registered actors, then forgets them. The outcomes of the previous tick are replaced.
+	 */
+	public void resolve() {
+		Arrays.fill(outcomeActors, 0, outcomeCount, null);
+		outcomeCount = 0;
+		for (int[] row : pairTests) {
+			Arrays.fill(row, 0);
+		}
+		lastPairsTested = 0;
+		lastMaskTests = 0;
+		lastHits = 0;
+
+		sortByMinX();
+		for (int a = 0; a < count; a++) {
+			int i = order[a];
+			int mask = masks[layers[i]];
+			if (mask == 0) {
+				continue;
+			}
+			for (int b = a + 1; b < count; b++) {
+				int j = order[b];
+				if (minX[j] > maxX[i]) {
+					break; // Sorted by left edge, nothing further right can overlap
+				}
+				if ((mask & (1 << layers[j])) == 0) {
+					continue;
+				}
+				pairTests[layers[i]][layers[j]]++;
+				lastPairsTested++;
+				if (minY[i] <= maxY[j] && minY[j] <= maxY[i]
+						&& !actors[i].isDestroyed() && !actors[j].isDestroyed() && shapesTouch(i, j)) {
+					lastHits++;
+					responses[layers[i]][layers[j]].onCollision(actors[i], actors[j]);
+					recordOutcome(i);
+					recordOutcome(j);
+				}
+			}
+		}
+
+		Arrays.fill(actors, 0, count, null);
+		Arrays.fill(shapes, 0, count, null);
+		count = 0;
+	}
+
+	private boolean shapesTouch(int i, int j) {
+		if (shapes[i] == null || shapes[j] == null) {
+			return true;
+		}
+		lastMaskTests++;
+		return shapes[i].overlaps(shapes[j],
+				(int) Math.round(minX[j] - minX[i]), (int) Math.round(minY[j] - minY[i]));
+	}
+
+	/**
+	 * Gets the number of outcomes recorded by the last resolved tick.
+	 *
+	 * @return the outcome count
+	 */
+	public int getOutcomeCount() {
+		return outcomeCount;
+	}
+
+	/**
+	 * Gets one outcome of the last resolved tick, in the order the collisions were resolved.
+	 *
+	 * @param index the outcome index, between 0 and {@link #getOutcomeCount()}
+	 * @return what the collision did to the actor
+	 */
+	public CollisionOutcome getOutcome(int index) {
+		return outcomes[index];
+	}
+
+	/**
+	 * Gets the actor of one outcome of the last resolved tick.
+	 *
+	 * @param index the outcome index, between 0 and {@link #getOutcomeCount()}
+	 * @return the actor the outcome applies to
+	 */
+	public ActiveActorDestructible getOutcomeActor(int index) {
+		return outcomeActors[index];
+	}
+
+	/**
+	 * Gets the number of bounds tests between two layers in the last resolved tick.
+	 *
+	 * @param first  one layer
+	 * @param second the other layer
+	 * @return the number of actor pairs compared
+	 */
+	public int getPairTests(CollisionLayer first, CollisionLayer second) {
+		return pairTests[first.ordinal()][second.ordinal()] + (first == second ? 0 : pairTests[second.ordinal()][first.ordinal()]);
+	}
+
+	/**
+	 * Gets the number of actor pairs compared in the last resolved tick.
+	 *
+	 * @return the total bounds tests
+	 */
+	public int getPairsTested() {
+		return lastPairsTested;
+	}
+
+	/**
+	 * Gets the number of actor pairs whose boxes overlapped and were compared pixel by
+	 * pixel in the last resolved tick.
+	 *
+	 * @return the mask tests
+	 */
+	public int getMaskTests() {
+		return lastMaskTests;
+	}
+
+	/**
+	 * Gets the number of collisions found in the last resolved tick.
+	 *
+	 * @return the collisions
+	 */
+	public int getHits() {
+		return lastHits;
+	}
+
+	private void recordOutcome(int index) {
+		if (outcomeCount == outcomes.length) {
+			outcomeActors = Arrays.copyOf(outcomeActors, outcomeCount * 2);
+			outcomes = Arrays.copyOf(outcomes, outcomeCount * 2);
+		}
+		ActiveActorDestructible actor = actors[index];
+		CollisionOutcome outcome = CollisionOutcome.DAMAGED;
+		if (actor.isDestroyed()) {
+			outcome = (creditedLayers & (1 << layers[index])) != 0 ? CollisionOutcome.KILLED : CollisionOutcome.DESTROYED;
+		}
+		outcomeActors[outcomeCount] = actor;
+		outcomes[outcomeCount] = outcome;
+		outcomeCount++;
+	}
+
+	private void sortByMinX() {
+		// Insertion sort: actor order barely changes between ticks and counts are small
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			double key = minX[index];
+			int j = i - 1;
+			while (j >= 0 && minX[order[j]] > key) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = index;
+		}
+	}
+
+	private void grow() {
+		int capacity = actors.length * 2;
+		actors = Arrays.copyOf(actors, capacity);
+		layers = Arrays.copyOf(layers, capacity);
+		minX = Arrays.copyOf(minX, capacity);
+		minY = Arrays.copyOf(minY, capacity);
+		maxX = Arrays.copyOf(maxX, capacity);
+		maxY = Arrays.copyOf(maxY, capacity);
+		shapes = Arrays.copyOf(shapes, capacity);
+		order = Arrays.copyOf(order, capacity);
+	}
+}
@@ -0,0 +1,205 @@
+package com.example.demo.controller;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.demo.diagnostics.AssetLoadEvent;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+/**
+ * Plays the game's music and sound effects.
+ * <p>
+ * All sound effects are loaded once when the mixer is created. Every effect owns a
+ * small, fixed set of voices; when all of them are busy the oldest one is stopped and
+ * reused. The simulation only calls {@link #request(SoundEffect)}, which sets a bit,
+ * and {@link #flush()} once per tick, which hands all requests of that tick to a
+ * single audio thread. Requests for the same effect within one tick are merged, so
+ * rapid fire never costs frame time or floods the mixer.
+ * </p>
+ * <p>
+ * Music and effect volumes are stored here and read when a sound starts.
+ * </p>
+ */
+public class AudioMixer {
+
+	private static final String MUSIC_LOCATION = "/com/example/demo/images/";
+	private static final double DEFAULT_VOLUME = 0.5;
+
+	private static AudioMixer instance;
+
+	private final Map<SoundEffect, AudioClip[]> voices = new EnumMap<>(SoundEffect.class);
+	private final int[] nextVoice = new int[SoundEffect.values().length];
+	private final AtomicInteger pendingEffects = new AtomicInteger();
+	private final ExecutorService audioThread;
+	private final Runnable playPending = this::playPending;
+
+	private int tickEffects; // Requests of the current tick, simulation thread only
+	private volatile double musicVolume = DEFAULT_VOLUME;
+	private volatile double effectsVolume = DEFAULT_VOLUME;
+	private MediaPlayer musicPlayer;
+
+	/**
+	 * Gets the mixer shared by the whole game, creating it on first use.
+	 *
+	 * @return the shared mixer
+	 */
+	public static synchronized AudioMixer getInstance() {
+		if (instance == null) {
+			instance = new AudioMixer();
+		}
+		return instance;
+	}
+
+	private AudioMixer() {
+		for (SoundEffect effect : SoundEffect.values()) {
+			AssetLoadEvent load = new AssetLoadEvent();
+			load.begin();
+			String url = getClass().getResource(effect.getResourcePath()).toExternalForm();
+			AudioClip[] effectVoices = new AudioClip[effect.getMaxVoices()];
+			for (int i = 0; i < effectVoices.length; i++) {
+				effectVoices[i] = new AudioClip(url);
+			}
+			voices.put(effect, effectVoices);
+			load.asset = effect.getResourcePath();
+			load.commit();
+		}
+		audioThread = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "audio-mixer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Asks for a sound effect to be played at the end of the current tick.
+	 *
+	 * @param effect the sound effect
+	 */
+	public void request(SoundEffect effect) {
+		tickEffects |= effect.mask();
+	}
+
+	/**
+	 * Hands the requests of the current tick to the audio thread. Called once per tick.
+	 */
+	public void flush() {
+		if (tickEffects == 0) {
+			return;
+		}
+		int previous;
+		do {
+			previous = pendingEffects.get();
+		} while (!pendingEffects.compareAndSet(previous, previous | tickEffects));
+		tickEffects = 0;
+		if (previous == 0) {
+			audioThread.execute(playPending); // Otherwise a drain is already queued
+		}
+	}
+
+	/**
+	 * Drops the requests of the current tick, for ticks that replay what was already heard.
+	 */
+	public void discard() {
+		tickEffects = 0;
+	}
+
+	private void playPending() {
+		int effects = pendingEffects.getAndSet(0);
+		double volume = effectsVolume;
+		if (volume <= 0) {
+			return;
+		}
+		for (SoundEffect effect : SoundEffect.values()) {
+			if ((effects & effect.mask()) != 0) {
+				play(effect, volume);
+			}
+		}
+	}
+
+	private void play(SoundEffect effect, double volume) {
+		AudioClip[] effectVoices = voices.get(effect);
+		int index = nextVoice[effect.ordinal()];
+		nextVoice[effect.ordinal()] = (index + 1) % effectVoices.length;
+
+		// Voices are used in turn, so the next one is always the oldest
+		AudioClip voice = effectVoices[index];
+		if (voice.isPlaying()) {
+			voice.stop();
+		}
+		voice.play(volume);
+	}
+
+	/**
+	 * Starts looping a music file, replacing any music that is playing.
+	 *
+	 * @param fileName the music file in the game's resource folder
+	 */
+	public void playMusic(String fileName) {
+		stopMusic();
+		Media media = new Media(getClass().getResource(MUSIC_LOCATION + fileName).toExternalForm());
+		musicPlayer = new MediaPlayer(media);
+		musicPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+		musicPlayer.setVolume(musicVolume);
+		musicPlayer.play();
+	}
+
+	/**
+	 * Stops the music and releases its player.
+	 */
+	public void stopMusic() {
+		if (musicPlayer != null) {
+			musicPlayer.stop();
+			musicPlayer.dispose();
+			musicPlayer = null;
+		}
+	}
+
+	/**
+	 * Gets the music volume.
+	 *
+	 * @return the music volume (0.0 to 1.0)
+	 */
+	public double getMusicVolume() {
+		return musicVolume;
+	}
+
+	/**
+	 * Sets the music volume and applies it to the playing music.
+	 *
+	 * @param volume the music volume (0.0 to 1.0)
+	 */
+	public void setMusicVolume(double volume) {
+		musicVolume = clamp(volume);
+		if (musicPlayer != null) {
+			musicPlayer.setVolume(musicVolume);
+		}
+	}
+
+	/**
+	 * Gets the volume sound effects start with.
+	 *
+	 * @return the effects volume (0.0 to 1.0)
+	 */
+	public double getEffectsVolume() {
+		return effectsVolume;
+	}
+
+	/**
+	 * Sets the volume sound effects start with. Effects that are already playing keep
+	 * their volume.
+	 *
+	 * @param volume the effects volume (0.0 to 1.0)
+	 */
+	public void setEffectsVolume(double volume) {
+		effectsVolume = clamp(volume);
+	}
+
+	private static double clamp(double volume) {
+		return Math.min(1.0, Math.max(0.0, volume));
+	}
+}
@@ -1,10 +1,19 @@
 package com.example.demo.controller;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 import com.example.demo.actors.UserPlane;
+import com.example.demo.diagnostics.LevelTransitionEvent;
+import com.example.demo.events.GameEvent;
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.GameEventType;
+import com.example.demo.net.InputTransport;
+import com.example.demo.net.UdpInputTransport;
+import com.example.demo.utilities.HighScore;
+import com.example.demo.utilities.HighScoreStore;
 import com.example.demo.views.LevelView;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
@@ -13,24 +22,28 @@ import javafx.scene.layout.Pane;
 import com.example.demo.levels.LevelParent;
 import javafx.geometry.Rectangle2D;
 import javafx.stage.Screen;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage;
 
-import java.io.File;
-
 /**
  * Controls the main game logic, scene transitions, and volume settings.
  */
-public class Controller implements Observer {
+public class Controller {
 
 	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne";
+	private static final String ENDLESS_CLASS_NAME = "com.example.demo.levels.LevelEndless";
+	private static final String BACKGROUND_MUSIC = "8-bit-loop-189494.mp3";
+	private static final List<String> LEVEL_ORDER = Arrays.asList(LEVEL_ONE_CLASS_NAME,
+			"com.example.demo.levels.LevelTwo", "com.example.demo.levels.LevelThree");
+	private static final int COOP_HOST_PORT = 47001;
+	private static final int COOP_JOIN_PORT = 47002;
+	private static final double COOP_WORLD_WIDTH = 1300; // Both instances must simulate the same world
+	private static final double COOP_WORLD_HEIGHT = 750;
+	private static final Path HIGH_SCORE_FILE = Path.of(System.getProperty("user.home"), ".skybattle", "highscores.dat");
 	private final Stage stage;
-	private MediaPlayer mediaPlayer;
+	private final AudioMixer audioMixer;
+	private final HighScoreStore highScores;
 	private LevelParent currentLevel;
-
-	private double currentVolume = 0.5; // Default to 50%
-	private double pendingGunshotVolume = 0.5;
+	private int carriedKills; // Kills from finished levels of the current run
 
 	/**
 	 * Constructs the game controller.
@@ -39,16 +52,18 @@ public class Controller implements Observer {
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.audioMixer = AudioMixer.getInstance();
+		this.highScores = new HighScoreStore(HIGH_SCORE_FILE);
 		playBackgroundMusic();
 	}
 
 	/**
-	 * Gets the pending gunshot volume.
+	 * Gets the gunshot volume.
 	 *
-	 * @return the pending gunshot volume
+	 * @return the gunshot volume (0.0 to 1.0)
 	 */
-	public double getPendingGunshotVolume() {
-		return pendingGunshotVolume;
+	public double getGunshotVolume() {
+		return audioMixer.getEffectsVolume();
 	}
 
 	/**
@@ -57,34 +72,54 @@ public class Controller implements Observer {
 	 * @param volume the desired volume (0.0 to 1.0)
 	 */
 	public void setVolume(double volume) {
-		currentVolume = volume; // Update global volume setting
-		if (mediaPlayer != null) {
-			mediaPlayer.setVolume(volume);
-		}
+		audioMixer.setMusicVolume(volume);
 		System.out.println("Volume set to: " + (int) (volume * 100) + "%");
 	}
 
 	/**
-	 * Sets the pending gunshot volume for the user's plane.
+	 * Sets the gunshot volume. It applies to the next shot, in or out of a level.
 	 *
 	 * @param volume the desired gunshot volume (0.0 to 1.0)
 	 */
-	public void setPendingGunshotVolume(double volume) {
-		this.pendingGunshotVolume = volume;
-		System.out.println("Pending gunshot volume set to: " + (volume * 100) + "%");
+	public void setGunshotVolume(double volume) {
+		audioMixer.setEffectsVolume(volume);
+		System.out.println("Gunshot volume set to: " + (volume * 100) + "%");
 	}
 
 	/**
-	 * Applies the pending gunshot volume to the user's plane.
+	 * Gets the mixer that plays the game's music and sound effects.
+	 *
+	 * @return the audio mixer
 	 */
-	public void applyPendingGunshotVolume() {
-		UserPlane userPlane = getUserPlane();
-		if (userPlane != null) {
-			userPlane.setGunshotVolume(pendingGunshotVolume);
-			System.out.println("Pending gunshot volume applied: " + (pendingGunshotVolume * 100) + "%");
-		} else {
-			System.err.println("Failed to apply pending gunshot volume. UserPlane is still null.");
+	public AudioMixer getAudioMixer() {
+		return audioMixer;
+	}
+
+	/**
+	 * Gets the store of finished runs.
+	 *
+	 * @return the high-score store
+	 */
+	public HighScoreStore getHighScores() {
+		return highScores;
+	}
+
+	/**
+	 * Records the current run as finished, adding the current level's kills to those
+	 * carried over from earlier levels. Endless runs are not recorded.
+	 *
+	 * @param bossTimeMillis the time taken to defeat the boss, or 0 if it was not defeated
+	 */
+	public void recordRun(long bossTimeMillis) {
+		if (currentLevel == null) {
+			return;
 		}
+		int level = LEVEL_ORDER.indexOf(currentLevel.getClass().getName()) + 1;
+		if (level == 0) {
+			return; // Endless runs are not campaign runs and report their own statistics
+		}
+		int kills = carriedKills + currentLevel.getUser().getNumberOfKills();
+		highScores.record(new HighScore(System.currentTimeMillis(), kills, level, bossTimeMillis));
 	}
 
 	/**
@@ -120,26 +155,14 @@ public class Controller implements Observer {
 	 * Plays the background music in a loop.
 	 */
 	private void playBackgroundMusic() {
-		String loopMusicPath = new File("src/main/resources/com/example/demo/images/8-bit-loop-189494.mp3").toURI().toString();
-
-		Media loopMedia = new Media(loopMusicPath);
-		MediaPlayer loopMediaPlayer = new MediaPlayer(loopMedia);
-
-		loopMediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-		loopMediaPlayer.setVolume(currentVolume); // Apply global volume
-
-		mediaPlayer = loopMediaPlayer;
-		mediaPlayer.play();
+		audioMixer.playMusic(BACKGROUND_MUSIC);
 	}
 
 	/**
 	 * Stops the background music.
 	 */
 	public void stopMusic() {
-		if (mediaPlayer != null) {
-			mediaPlayer.stop();
-			mediaPlayer.dispose();
-		}
+		audioMixer.stopMusic();
 	}
 
 	/**
@@ -165,10 +188,19 @@ public class Controller implements Observer {
 	 * Exits the game and stops all resources.
 	 */
 	public void exitGame() {
-		stopMusic();
+		shutdown();
 		System.exit(0);
 	}
 
+	/**
+	 * Stops the music and waits for runs still being saved, so a run recorded just before
+	 * the application exits reaches the high-score file.
+	 */
+	public void shutdown() {
+		stopMusic();
+		highScores.close();
+	}
+
 	/**
 	 * Gets the current level's view.
 	 *
@@ -209,6 +241,35 @@ public class Controller implements Observer {
 		goToLevel(LEVEL_ONE_CLASS_NAME);
 	}
 
+	/**
+	 * Starts the endless survival mode.
+	 *
+	 * @throws Exception if an error occurs while starting the level
+	 */
+	public void startEndless() throws Exception {
+		goToLevel(ENDLESS_CLASS_NAME);
+	}
+
+	/**
+	 * Starts a co-op run of the endless mode with a second instance of the game on the
+	 * same machine. The host plays player one and the other instance joins as player two;
+	 * the run begins once both have started.
+	 *
+	 * @param host {@code true} to play player one, {@code false} to join as player two
+	 * @throws Exception if the connection cannot be opened or the level cannot start
+	 */
+	public void startCoop(boolean host) throws Exception {
+		InputTransport transport = host
+				? UdpInputTransport.loopback(COOP_HOST_PORT, COOP_JOIN_PORT)
+				: UdpInputTransport.loopback(COOP_JOIN_PORT, COOP_HOST_PORT);
+		try {
+			goToLevel(ENDLESS_CLASS_NAME, transport, host);
+		} catch (Exception e) {
+			transport.close();
+			throw e;
+		}
+	}
+
 	/**
 	 * Transitions to a specified level or main menu.
 	 *
@@ -218,39 +279,65 @@ public class Controller implements Observer {
 
 	public void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		goToLevel(className, null, true);
+	}
+
+	/**
+	 * Transitions to a level, optionally as a co-op session. Co-op levels are built at a
+	 * fixed world size and scaled to the window.
+	 *
+	 * @param className        the class name of the level to load, or "MAIN_MENU" for the main menu
+	 * @param coopTransport    the connection to the other player, or {@code null} to play alone
+	 * @param localIsPlayerOne whether the local keys steer player one in a co-op session
+	 * @throws Exception if an error occurs during the transition
+	 */
+	private void goToLevel(String className, InputTransport coopTransport, boolean localIsPlayerOne)
+			throws ClassNotFoundException, NoSuchMethodException, SecurityException, InstantiationException,
+			IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		LevelTransitionEvent transition = new LevelTransitionEvent();
+		transition.begin();
+		transition.from = currentLevel == null ? null : currentLevel.getClass().getName();
+		transition.to = className;
 		if (className.equals("MAIN_MENU")) {
+			carriedKills = 0;
 			showMainMenu();
+			transition.commit();
 			return;
 		}
+		if (className.equals(LEVEL_ONE_CLASS_NAME) || className.equals(ENDLESS_CLASS_NAME)) {
+			carriedKills = 0; // A new run
+		} else if (currentLevel != null && !currentLevel.getClass().getName().equals(className)) {
+			carriedKills += currentLevel.getUser().getNumberOfKills(); // Advancing, not restarting
+		}
 		if (currentLevel != null) {
 			currentLevel.stop();
 		}
 		Class<?> myClass = Class.forName(className);
 		var constructor = myClass.getConstructor(double.class, double.class, Controller.class);
-		currentLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), this);
-		currentLevel.addObserver((observable, arg) -> {
-			try {
-				goToLevel((String) arg);
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-		});
-
-		// Apply pending gunshot volume to the UserPlane
-		applyPendingGunshotVolume();
+		if (coopTransport == null) {
+			currentLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), this);
+		} else {
+			currentLevel = (LevelParent) constructor.newInstance(COOP_WORLD_HEIGHT, COOP_WORLD_WIDTH, this);
+			currentLevel.enableCoop(coopTransport, localIsPlayerOne);
+		}
+		GameEventBus events = currentLevel.getEventBus();
+		events.subscribe(GameEventType.LEVEL_COMPLETED, this::onTransitionRequested);
+		events.subscribe(GameEventType.LEVEL_RESTART_REQUESTED, this::onTransitionRequested);
+		events.subscribe(GameEventType.MAIN_MENU_REQUESTED, this::onTransitionRequested);
 
 		Scene scene = currentLevel.initializeScene();
 		stage.setScene(scene);
 		currentLevel.startGame();
+		transition.commit();
 	}
 
 
 
 
-	@Override
-	public void update(Observable arg0, Object arg1) {
+	private void onTransitionRequested(GameEvent event) {
+		String target = event.getType() == GameEventType.MAIN_MENU_REQUESTED ? "MAIN_MENU" : event.getTarget();
 		try {
-			goToLevel((String) arg1);
+			goToLevel(target);
 		} catch (Exception e) {
 			Alert alert = new Alert(AlertType.ERROR);
 			alert.setContentText(e.getMessage());
@@ -0,0 +1,224 @@
+package com.example.demo.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects key events and folds them into one key state per simulation tick.
+ * <p>
+ * Key handlers only timestamp the event and push it into a single-producer,
+ * single-consumer ring buffer. The simulation drains the buffer at the start of each
+ * tick with {@link #sampleTick(long)}, which updates a bitset of held keys and a bitset
+ * of keys pressed since the previous tick. A key tapped and released between two ticks
+ * is therefore still seen once, and holding a key no longer depends on OS key repeat.
+ * </p>
+ * <p>
+ * The buffer is lock-free and allocation-free, so the producer can stay on the FX
+ * thread even when the simulation runs elsewhere.
+ * </p>
+ */
+public class GameInput {
+
+	private static final int DEFAULT_CAPACITY = 256; // Must be a power of two
+
+	private final int mask;
+	private final long[] timestamps;
+	private final int[] keyMasks;
+	private final boolean[] pressed;
+	private final AtomicLong head = new AtomicLong(); // Next slot the consumer reads
+	private final AtomicLong tail = new AtomicLong(); // Next slot the producer writes
+
+	private int postedKeys; // Keys down as seen by the producer, used to drop OS key repeat
+	private int heldKeys;
+	private int pressedKeys;
+	private int droppedEvents;
+
+	private long lastLatencyNanos;
+	private long maxLatencyNanos;
+	private long totalLatencyNanos;
+	private long sampledEvents;
+	private int tickEvents;
+	private long tickLatencyNanos;
+
+	/**
+	 * Constructs a {@code GameInput} with room for 256 pending events.
+	 */
+	public GameInput() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a {@code GameInput} with the given event capacity.
+	 *
+	 * @param capacity the number of events that can wait for the next tick, a power of two
+	 */
+	public GameInput(int capacity) {
+		if (Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+		}
+		this.mask = capacity - 1;
+		this.timestamps = new long[capacity];
+		this.keyMasks = new int[capacity];
+		this.pressed = new boolean[capacity];
+	}
+
+	/**
+	 * Records a key press or release. Called by the key event handler.
+	 *
+	 * @param key       the gameplay key
+	 * @param isPressed {@code true} for a press, {@code false} for a release
+	 * @param nanoTime  the time of the event from {@link System#nanoTime()}
+	 */
+	public void post(GameKey key, boolean isPressed, long nanoTime) {
+		int keyMask = key.mask();
+		if (isPressed == ((postedKeys & keyMask) != 0)) {
+			return; // OS key repeat, the key is already down
+		}
+		long slot = tail.get();
+		if (slot - head.get() > mask) {
+			droppedEvents++; // Simulation stalled; dropping is better than blocking the FX thread
+			return;
+		}
+		int index = (int) (slot & mask);
+		timestamps[index] = nanoTime;
+		keyMasks[index] = keyMask;
+		pressed[index] = isPressed;
+		postedKeys ^= keyMask;
+		tail.lazySet(slot + 1);
+	}
+
+	/**
+	 * Drains all pending events into the key state for the tick that starts now.
+	 *
+	 * @param tickNanoTime the start time of the tick from {@link System#nanoTime()}
+	 */
+	public void sampleTick(long tickNanoTime) {
+		pressedKeys = 0;
+		tickEvents = 0;
+		tickLatencyNanos = 0;
+		long slot = head.get();
+		long end = tail.get();
+		while (slot < end) {
+			int index = (int) (slot & mask);
+			int key = keyMasks[index];
+			if (pressed[index]) {
+				pressedKeys |= key;
+				heldKeys |= key;
+			} else {
+				heldKeys &= ~key;
+			}
+			recordLatency(tickNanoTime - timestamps[index]);
+			slot++;
+		}
+		head.lazySet(slot);
+	}
+
+	/**
+	 * Releases every key, for example when the window loses focus.
+	 * <p>
+	 * Pending events are discarded and the producer forgets which keys it saw go down, so
+	 * the repeat press of a key still physically held is posted again and picked up by the
+	 * next tick. Must be called on the thread that posts events.
+	 * </p>
+	 */
+	public void releaseAll() {
+		head.lazySet(tail.get());
+		postedKeys = 0;
+		heldKeys = 0;
+		pressedKeys = 0;
+	}
+
+	/**
+	 * Checks whether a key is held during the current tick.
+	 * <p>
+	 * A key tapped and released before the tick counts as held for that tick.
+	 * </p>
+	 *
+	 * @param key the gameplay key
+	 * @return {@code true} if the key is down this tick
+	 */
+	public boolean isDown(GameKey key) {
+		return ((heldKeys | pressedKeys) & key.mask()) != 0;
+	}
+
+	/**
+	 * Checks whether a key went down since the previous tick.
+	 *
+	 * @param key the gameplay key
+	 * @return {@code true} if the key was pressed this tick
+	 */
+	public boolean wasPressed(GameKey key) {
+		return (pressedKeys & key.mask()) != 0;
+	}
+
+	/**
+	 * Gets the bitset of keys held during the current tick.
+	 *
+	 * @return the key-state bitset, see {@link GameKey#mask()}
+	 */
+	public int getKeyState() {
+		return heldKeys | pressedKeys;
+	}
+
+	/**
+	 * Gets the delay between the most recent key event and the tick that consumed it.
+	 *
+	 * @return the last input-to-tick latency in nanoseconds
+	 */
+	public long getLastLatencyNanos() {
+		return lastLatencyNanos;
+	}
+
+	/**
+	 * Gets the largest input-to-tick latency seen so far.
+	 *
+	 * @return the maximum latency in nanoseconds
+	 */
+	public long getMaxLatencyNanos() {
+		return maxLatencyNanos;
+	}
+
+	/**
+	 * Gets the mean input-to-tick latency of all consumed events.
+	 *
+	 * @return the average latency in nanoseconds, or 0 if no events were consumed
+	 */
+	public long getAverageLatencyNanos() {
+		return sampledEvents == 0 ? 0 : totalLatencyNanos / sampledEvents;
+	}
+
+	/**
+	 * Gets the number of key events consumed by the current tick.
+	 *
+	 * @return the event count of the last {@link #sampleTick(long)}
+	 */
+	public int getTickEvents() {
+		return tickEvents;
+	}
+
+	/**
+	 * Gets the longest input-to-tick latency among the events consumed by the current tick.
+	 *
+	 * @return the latency in nanoseconds, or 0 if the tick consumed no events
+	 */
+	public long getTickLatencyNanos() {
+		return tickLatencyNanos;
+	}
+
+	/**
+	 * Gets the number of events dropped because the buffer was full.
+	 *
+	 * @return the number of dropped events
+	 */
+	public int getDroppedEvents() {
+		return droppedEvents;
+	}
+
+	private void recordLatency(long latencyNanos) {
+		lastLatencyNanos = latencyNanos;
+		maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+		totalLatencyNanos += latencyNanos;
+		sampledEvents++;
+		tickEvents++;
+		tickLatencyNanos = Math.max(tickLatencyNanos, latencyNanos);
+	}
+}
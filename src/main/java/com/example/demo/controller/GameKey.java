@@ -0,0 +1,49 @@
+package com.example.demo.controller;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * Gameplay keys sampled by {@link GameInput}.
+ * <p>
+ * Each key owns one bit of the per-tick key-state bitset.
+ * </p>
+ */
+public enum GameKey {
+	UP,
+	DOWN,
+	LEFT,
+	RIGHT,
+	FIRE;
+
+	/**
+	 * Gets the bit that represents this key in a key-state bitset.
+	 *
+	 * @return the key's bit mask
+	 */
+	public int mask() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * Maps a JavaFX key code to a gameplay key.
+	 *
+	 * @param code the key code from a key event
+	 * @return the gameplay key, or {@code null} if the key is not used by the game
+	 */
+	public static GameKey fromKeyCode(KeyCode code) {
+		switch (code) {
+			case UP:
+				return UP;
+			case DOWN:
+				return DOWN;
+			case LEFT:
+				return LEFT;
+			case RIGHT:
+				return RIGHT;
+			case SPACE:
+				return FIRE;
+			default:
+				return null;
+		}
+	}
+}
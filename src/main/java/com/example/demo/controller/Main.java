@@ -10,6 +10,8 @@ public class Main extends Application {
 
 	private static final String TITLE = "Sky Battle";
 
+	private Controller controller;
+
 	@Override
 	public void start(Stage stage) throws Exception {
 		stage.setTitle(TITLE);
@@ -19,10 +21,20 @@ public class Main extends Application {
 		stage.setFullScreen(true);
 
 		// Create controller and start game
-		Controller controller = new Controller(stage);
+		controller = new Controller(stage);
 		controller.launchGame();
 	}
 
+	/**
+	 * Releases the controller's resources when the last window closes.
+	 */
+	@Override
+	public void stop() {
+		if (controller != null) {
+			controller.shutdown();
+		}
+	}
+
 	/**
 	 * The main method that launches the application.
 	 *
@@ -1,13 +1,14 @@
 package com.example.demo.controller;
 
-import com.example.demo.actors.UserPlane;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelThree;
 import com.example.demo.views.LevelView;
+import com.example.demo.views.ParallaxBackground;
 import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -83,9 +84,9 @@ public class MainMenu {
 
         // Add Background Image
         try {
-            ImageView img = new ImageView(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
-            img.fitWidthProperty().bind(root.widthProperty());
-            img.fitHeightProperty().bind(root.heightProperty());
+            ParallaxBackground img = new ParallaxBackground(IMAGE_NAME, root.getPrefWidth(), root.getPrefHeight());
+            img.widthProperty().bind(root.widthProperty());
+            img.heightProperty().bind(root.heightProperty());
             root.getChildren().add(img);
         } catch (NullPointerException e) {
             System.err.println("Image file not found: " + IMAGE_NAME);
@@ -118,11 +119,17 @@ public class MainMenu {
                         e.printStackTrace();
                     }
                 }),
+                new MenuItem("ENDLESS MODE", () -> {
+                    try {
+                        controller.startEndless();
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    }
+                }),
+                new MenuItem("CO-OP HOST", () -> startCoop(true)),
+                new MenuItem("CO-OP JOIN", () -> startCoop(false)),
                 new MenuItem("SETTINGS", () -> toggleSettings(root)),
-                new MenuItem("EXIT", () -> {
-                    controller.stopMusic();
-                    System.exit(0);
-                })
+                new MenuItem("EXIT", controller::exitGame)
         );
         vbox.layoutXProperty().bind(root.widthProperty().subtract(vbox.widthProperty()).divide(2));
         vbox.layoutYProperty().bind(root.heightProperty().divide(2.5));
@@ -232,21 +239,14 @@ public class MainMenu {
 
         javafx.scene.control.Slider gunshotVolumeSlider = new javafx.scene.control.Slider(0, 1, 0.5); // Default at 50%
         gunshotVolumeSlider.setPrefWidth(200);
-        gunshotVolumeSlider.setValue(controller.getPendingGunshotVolume()); // Initialize with the pending value
+        gunshotVolumeSlider.setValue(controller.getGunshotVolume()); // Initialize with the current value
         gunshotVolumeSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
             double volume = newValue.doubleValue();
             double percentage = volume * 100;
             gunshotVolumeLabel.setText(String.format("Gunshot Volume: %.0f%%", percentage));
 
-            // Update the pending volume and apply if possible
-            controller.setPendingGunshotVolume(volume);
-            UserPlane userPlane = controller.getUserPlane();
-            if (userPlane != null) {
-                userPlane.setGunshotVolume(volume);
-                System.out.println("Gunshot volume updated to: " + percentage + "%");
-            } else {
-                System.out.println("UserPlane is not initialized. Pending gunshot volume updated.");
-            }
+            // Stored by the audio mixer, so it applies whether or not a level is running
+            controller.setGunshotVolume(volume);
         });
 
         VBox gunshotVolumeControl = new VBox(10, gunshotVolumeLabel, gunshotVolumeSlider);
@@ -398,6 +398,22 @@ public class MainMenu {
     }
 
 
+    /**
+     * Starts a co-op run, reporting a connection that cannot be opened, for example
+     * because another instance already hosts on this machine.
+     *
+     * @param host {@code true} to host as player one, {@code false} to join as player two
+     */
+    private void startCoop(boolean host) {
+        try {
+            controller.startCoop(host);
+        } catch (Exception e) {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setContentText("Could not start co-op: " + e.getMessage());
+            alert.show();
+        }
+    }
+
     private void toggleSettings(Pane root) {
         for (var node : root.getChildren()) {
             if (node instanceof Pane && ((Pane) node).getPrefWidth() == 700) { // Match the size of the settings pane
@@ -0,0 +1,49 @@
+package com.example.demo.controller;
+
+/**
+ * Short sound effects played through the {@link AudioMixer}.
+ * <p>
+ * Each effect is preloaded once with a fixed number of voices, which caps how many
+ * copies of it can play at the same time.
+ * </p>
+ */
+public enum SoundEffect {
+	SHOOT("shootingsound.wav", 4);
+
+	private static final String SOUND_LOCATION = "/com/example/demo/images/";
+
+	private final String resourcePath;
+	private final int maxVoices;
+
+	SoundEffect(String fileName, int maxVoices) {
+		this.resourcePath = SOUND_LOCATION + fileName;
+		this.maxVoices = maxVoices;
+	}
+
+	/**
+	 * Gets the classpath location of the sound file.
+	 *
+	 * @return the resource path
+	 */
+	public String getResourcePath() {
+		return resourcePath;
+	}
+
+	/**
+	 * Gets the number of copies of the sound that may play at once.
+	 *
+	 * @return the voice limit
+	 */
+	public int getMaxVoices() {
+		return maxVoices;
+	}
+
+	/**
+	 * Gets the bit that represents this effect in a pending-play bitset.
+	 *
+	 * @return the effect's bit mask
+	 */
+	int mask() {
+		return 1 << ordinal();
+	}
+}
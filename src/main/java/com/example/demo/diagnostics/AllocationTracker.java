@@ -0,0 +1,268 @@
+package com.example.demo.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the heap allocated by the game loop thread, per tick and per tick phase.
+ * <p>
+ * Tracking is off unless the JVM is started with
+ * {@code -Dskybattle.allocations=ticks}, which reads the thread's allocation counter at
+ * every phase boundary, or {@code -Dskybattle.allocations=sample}, which additionally
+ * measures every actor update on one tick in {@value #ACTOR_SAMPLE_INTERVAL} and
+ * attributes the bytes to the actor's class. The counter is
+ * {@code com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}, so only the
+ * calling thread is measured; the bullet simulation thread is not included.
+ * </p>
+ * <p>
+ * The most recent {@value #HISTORY_TICKS} ticks are kept in a ring for percentiles, and
+ * running totals cover the whole level. {@link #summarize()} turns both into a report,
+ * which the level prints when it stops.
+ * </p>
+ */
+public class AllocationTracker {
+
+	/** System property that selects the tracking mode: {@code ticks} or {@code sample}. */
+	public static final String MODE_PROPERTY = "skybattle.allocations";
+	/** Number of ticks kept for percentiles. */
+	public static final int HISTORY_TICKS = 1024;
+	/** One tick in this many measures individual actor updates in sampling mode. */
+	public static final int ACTOR_SAMPLE_INTERVAL = 16;
+
+	private static final TickPhase[] PHASES = TickPhase.values();
+
+	private final LongSupplier allocatedBytes;
+	private final boolean sampleActors;
+
+	private final long[] tickHistory = new long[HISTORY_TICKS];
+	private final long[] phaseTotals = new long[PHASES.length];
+	private final long[] phaseMax = new long[PHASES.length];
+	private final Map<Class<?>, long[]> actorTotals = new HashMap<>();
+	private long ticks;
+	private long totalBytes;
+	private long maxTickBytes;
+
+	private long tick = -1;
+	private long tickStart;
+	private TickPhase phase;
+	private long phaseStart;
+	private long actorStart;
+
+	/**
+	 * Constructs a tracker that reads allocations from the given counter.
+	 *
+	 * @param allocatedBytes the bytes allocated so far by the calling thread
+	 * @param sampleActors   whether individual actor updates are measured on sampled ticks
+	 */
+	AllocationTracker(LongSupplier allocatedBytes, boolean sampleActors) {
+		this.allocatedBytes = allocatedBytes;
+		this.sampleActors = sampleActors;
+	}
+
+	/**
+	 * Creates a tracker for the mode selected by the {@link #MODE_PROPERTY} property.
+	 *
+	 * @return the tracker, or {@code null} if tracking is off or the JVM cannot measure
+	 *         thread allocations
+	 */
+	public static AllocationTracker fromSystemProperty() {
+		String mode = System.getProperty(MODE_PROPERTY, "off");
+		if (!mode.equals("ticks") && !mode.equals("sample")) {
+			return null;
+		}
+		AllocationTracker tracker = forCurrentThread(mode.equals("sample"));
+		if (tracker == null) {
+			System.err.println("Allocation tracking is not supported by this JVM.");
+		}
+		return tracker;
+	}
+
+	/**
+	 * Creates a tracker that measures the thread calling it, whatever the
+	 * {@link #MODE_PROPERTY} property says.
+	 *
+	 * @param sampleActors whether individual actor updates are measured on sampled ticks
+	 * @return the tracker, or {@code null} if the JVM cannot measure thread allocations
+	 */
+	public static AllocationTracker forCurrentThread(boolean sampleActors) {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+				|| !threads.isThreadAllocatedMemorySupported()) {
+			return null;
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+		return new AllocationTracker(threads::getCurrentThreadAllocatedBytes, sampleActors);
+	}
+
+	/**
+	 * Marks the start of a tick.
+	 *
+	 * @param tickNumber the number of the tick within the level
+	 */
+	public void beginTick(long tickNumber) {
+		tick = tickNumber;
+		phase = null;
+		tickStart = allocatedBytes.getAsLong();
+	}
+
+	/**
+	 * Ends the running phase, if any, and starts the next one.
+	 *
+	 * @param next the phase that starts now
+	 */
+	public void beginPhase(TickPhase next) {
+		long now = allocatedBytes.getAsLong();
+		endPhase(now);
+		phase = next;
+		phaseStart = now;
+	}
+
+	/**
+	 * Ends the tick and its last phase and records the bytes the tick allocated.
+	 */
+	public void endTick() {
+		if (tick < 0) {
+			return;
+		}
+		long now = allocatedBytes.getAsLong();
+		endPhase(now);
+		long bytes = now - tickStart;
+		tickHistory[(int) (ticks % HISTORY_TICKS)] = bytes;
+		ticks++;
+		totalBytes += bytes;
+		maxTickBytes = Math.max(maxTickBytes, bytes);
+		tick = -1;
+	}
+
+	private void endPhase(long now) {
+		if (phase == null) {
+			return;
+		}
+		long bytes = now - phaseStart;
+		phaseTotals[phase.ordinal()] += bytes;
+		phaseMax[phase.ordinal()] = Math.max(phaseMax[phase.ordinal()], bytes);
+		phase = null;
+	}
+
+	/**
+	 * Checks whether actor updates should be measured in the current tick.
+	 *
+	 * @return {@code true} in sampling mode on a sampled tick
+	 */
+	public boolean isSamplingActors() {
+		return sampleActors && tick >= 0 && tick % ACTOR_SAMPLE_INTERVAL == 0;
+	}
+
+	/**
+	 * Marks the start of one actor update on a sampled tick.
+	 */
+	public void beginActor() {
+		actorStart = allocatedBytes.getAsLong();
+	}
+
+	/**
+	 * Marks the end of one actor update on a sampled tick and attributes its bytes.
+	 *
+	 * @param actorType the class of the actor that was updated
+	 */
+	public void endActor(Class<?> actorType) {
+		long bytes = allocatedBytes.getAsLong() - actorStart;
+		long[] totals = actorTotals.computeIfAbsent(actorType, type -> new long[2]);
+		totals[0] += bytes;
+		totals[1]++;
+	}
+
+	/**
+	 * Gets the number of ticks measured.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Gets the bytes allocated by all measured ticks.
+	 *
+	 * @return the total bytes
+	 */
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * Gets the bytes allocated in one phase over all measured ticks.
+	 *
+	 * @param tickPhase the phase
+	 * @return the total bytes of the phase
+	 */
+	public long getPhaseBytes(TickPhase tickPhase) {
+		return phaseTotals[tickPhase.ordinal()];
+	}
+
+	/**
+	 * Gets the average bytes allocated by one update of an actor class on sampled ticks.
+	 *
+	 * @param actorType the class of actor
+	 * @return the mean bytes per update, or 0 if the class was never sampled
+	 */
+	public long getActorBytesPerUpdate(Class<?> actorType) {
+		long[] totals = actorTotals.get(actorType);
+		return totals == null ? 0 : totals[0] / totals[1];
+	}
+
+	/**
+	 * Gets a percentile of the bytes per tick over the recent ticks.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the bytes per tick at that percentile, or 0 if no tick was measured
+	 */
+	public long getTickPercentile(int percentile) {
+		int held = (int) Math.min(ticks, HISTORY_TICKS);
+		if (held == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(tickHistory, held);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile / 100.0 * held) - 1;
+		return sorted[Math.max(0, Math.min(held - 1, index))];
+	}
+
+	/**
+	 * Describes the allocations measured so far.
+	 *
+	 * @return a multi-line report
+	 */
+	public String summarize() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Allocations over %d ticks: %s total, %s per tick on average%n",
+				ticks, formatBytes(totalBytes), formatBytes(ticks == 0 ? 0 : totalBytes / ticks)));
+		report.append(String.format("  per tick over the last %d: p50 %s, p99 %s, max %s%n",
+				Math.min(ticks, HISTORY_TICKS), formatBytes(getTickPercentile(50)),
+				formatBytes(getTickPercentile(99)), formatBytes(maxTickBytes)));
+		for (TickPhase tickPhase : PHASES) {
+			long bytes = phaseTotals[tickPhase.ordinal()];
+			report.append(String.format("  %-16s %10s per tick, max %10s, %5.1f%%%n", tickPhase,
+					formatBytes(ticks == 0 ? 0 : bytes / ticks), formatBytes(phaseMax[tickPhase.ordinal()]),
+					totalBytes == 0 ? 0.0 : bytes * 100.0 / totalBytes));
+		}
+		actorTotals.entrySet().stream()
+				.sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+				.forEach(entry -> report.append(String.format("  %-16s %10s per update over %d sampled updates%n",
+						entry.getKey().getSimpleName(), formatBytes(entry.getValue()[0] / entry.getValue()[1]),
+						entry.getValue()[1])));
+		return report.toString();
+	}
+
+	private static String formatBytes(long bytes) {
+		if (bytes >= 10L << 20) {
+			return (bytes >> 20) + " MB";
+		}
+		if (bytes >= 10L << 10) {
+			return (bytes >> 10) + " KB";
+		}
+		return bytes + " B";
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for loading an image, animation or sound.
+ */
+@Name("com.example.demo.AssetLoad")
+@Label("Asset Load")
+@Description("Loading an image, animation or sound resource")
+@Category({"Sky Battle", "Assets"})
+@Threshold("1 ms")
+public class AssetLoadEvent extends jdk.jfr.Event {
+
+	@Label("Asset")
+	public String asset;
+
+	@Label("Frames")
+	@Description("Number of decoded frames, 1 for still images and sounds")
+	public int frames = 1;
+}
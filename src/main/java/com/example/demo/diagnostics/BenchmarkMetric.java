@@ -0,0 +1,75 @@
+package com.example.demo.diagnostics;
+
+/**
+ * The numbers a benchmark run reports, with how each one compares against a baseline.
+ */
+public enum BenchmarkMetric {
+	/** Simulation ticks per second of tick time, leaving out the scenario's own setup work. */
+	TICKS_PER_SECOND("ticksPerSecond", true, true, 0),
+	/** Mean tick time in microseconds. */
+	TICK_MEAN_MICROS("tickMeanMicros", false, false, 0),
+	/** Median tick time in microseconds. */
+	TICK_P50_MICROS("tickP50Micros", false, false, 0),
+	/** 99th percentile tick time in microseconds. */
+	TICK_P99_MICROS("tickP99Micros", false, true, 50),
+	/** Longest tick time in microseconds. */
+	TICK_MAX_MICROS("tickMaxMicros", false, false, 0),
+	/** Mean heap bytes allocated per tick by the game loop thread. */
+	BYTES_PER_TICK("bytesPerTick", false, true, 64),
+	/** Heap allocated by the game loop thread, in megabytes per second of tick time. */
+	ALLOCATION_MB_PER_SECOND("allocationMBPerSecond", false, false, 0),
+	/** Garbage collections during the measured ticks, from every collector. */
+	GC_COUNT("gcCount", false, false, 0),
+	/** Time spent in garbage collection during the measured ticks, in milliseconds. */
+	GC_MILLIS("gcMillis", false, false, 0);
+
+	private final String key;
+	private final boolean higherIsBetter;
+	private final boolean gated;
+	private final double noiseFloor;
+
+	BenchmarkMetric(String key, boolean higherIsBetter, boolean gated, double noiseFloor) {
+		this.key = key;
+		this.higherIsBetter = higherIsBetter;
+		this.gated = gated;
+		this.noiseFloor = noiseFloor;
+	}
+
+	/**
+	 * Gets the name of the metric in JSON and CSV reports.
+	 *
+	 * @return the report key
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Checks whether a larger value is an improvement.
+	 *
+	 * @return {@code true} for throughput, {@code false} for times and allocations
+	 */
+	public boolean isHigherBetter() {
+		return higherIsBetter;
+	}
+
+	/**
+	 * Checks whether a regression of this metric fails a baseline comparison. Timings of
+	 * single ticks and garbage collections are too noisy to gate on and are only shown.
+	 *
+	 * @return {@code true} if the metric is gated
+	 */
+	public boolean isGated() {
+		return gated;
+	}
+
+	/**
+	 * Gets the smallest change that counts as a regression whatever the tolerance, so a
+	 * baseline of zero does not turn every byte into a failure.
+	 *
+	 * @return the noise floor, in the metric's unit
+	 */
+	public double getNoiseFloor() {
+		return noiseFloor;
+	}
+}
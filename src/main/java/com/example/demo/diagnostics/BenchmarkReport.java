@@ -0,0 +1,274 @@
+package com.example.demo.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The results of one benchmark scenario run, written as JSON or as a CSV row.
+ * <p>
+ * A report holds the {@link BenchmarkMetric} values and the mean time of every
+ * {@link TickPhase} per tick. Missing values are {@code NaN}, written as {@code null} in
+ * JSON and as an empty CSV cell. {@link #fromJson(String)} reads back what
+ * {@link #toJson()} writes, so a stored report can serve as the baseline of a later run.
+ * </p>
+ */
+public class BenchmarkReport {
+
+	private static final TickPhase[] PHASES = TickPhase.values();
+	private static final String NUMBER = "(null|-?[0-9.]+(?:[eE][-+]?[0-9]+)?)";
+
+	private final String scenario;
+	private final long seed;
+	private final int warmUpTicks;
+	private final int ticks;
+	private final Map<BenchmarkMetric, Double> metrics = new EnumMap<>(BenchmarkMetric.class);
+	private final double[] phaseMicros = new double[PHASES.length];
+
+	/**
+	 * Constructs an empty report.
+	 *
+	 * @param scenario    the name of the scenario
+	 * @param seed        the seed of the run
+	 * @param warmUpTicks the ticks run before measuring
+	 * @param ticks       the ticks measured
+	 */
+	public BenchmarkReport(String scenario, long seed, int warmUpTicks, int ticks) {
+		if (scenario.isEmpty() || scenario.contains("\"") || scenario.contains(",")) {
+			throw new IllegalArgumentException("Unsupported scenario name: " + scenario);
+		}
+		this.scenario = scenario;
+		this.seed = seed;
+		this.warmUpTicks = warmUpTicks;
+		this.ticks = ticks;
+		Arrays.fill(phaseMicros, Double.NaN);
+	}
+
+	/**
+	 * Gets the name of the scenario.
+	 *
+	 * @return the scenario name
+	 */
+	public String getScenario() {
+		return scenario;
+	}
+
+	/**
+	 * Gets the seed of the run.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the number of ticks run before measuring.
+	 *
+	 * @return the warm-up tick count
+	 */
+	public int getWarmUpTicks() {
+		return warmUpTicks;
+	}
+
+	/**
+	 * Gets the number of ticks measured.
+	 *
+	 * @return the measured tick count
+	 */
+	public int getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Sets the value of a metric.
+	 *
+	 * @param metric the metric
+	 * @param value  the value, or {@code NaN} if it was not measured
+	 */
+	public void set(BenchmarkMetric metric, double value) {
+		metrics.put(metric, value);
+	}
+
+	/**
+	 * Gets the value of a metric.
+	 *
+	 * @param metric the metric
+	 * @return the value, or {@code NaN} if it was not measured
+	 */
+	public double get(BenchmarkMetric metric) {
+		return metrics.getOrDefault(metric, Double.NaN);
+	}
+
+	/**
+	 * Sets the mean time of a tick phase.
+	 *
+	 * @param phase  the phase
+	 * @param micros the mean time per tick in microseconds
+	 */
+	public void setPhaseMicros(TickPhase phase, double micros) {
+		phaseMicros[phase.ordinal()] = micros;
+	}
+
+	/**
+	 * Gets the mean time of a tick phase.
+	 *
+	 * @param phase the phase
+	 * @return the mean time per tick in microseconds, or {@code NaN} if it was not measured
+	 */
+	public double getPhaseMicros(TickPhase phase) {
+		return phaseMicros[phase.ordinal()];
+	}
+
+	/**
+	 * Finds the gated metrics that are worse than in a baseline by more than the tolerance.
+	 *
+	 * @param baseline  the report of an earlier run of the same scenario
+	 * @param tolerance the allowed relative change, for example {@code 0.1} for 10%
+	 * @return the regressed metrics, empty if there are none
+	 */
+	public List<BenchmarkMetric> findRegressions(BenchmarkReport baseline, double tolerance) {
+		List<BenchmarkMetric> regressions = new ArrayList<>();
+		for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+			double current = get(metric);
+			double previous = baseline.get(metric);
+			if (!metric.isGated() || Double.isNaN(current) || Double.isNaN(previous)) {
+				continue;
+			}
+			double worsening = metric.isHigherBetter() ? previous - current : current - previous;
+			if (worsening > Math.max(Math.abs(previous) * tolerance, metric.getNoiseFloor())) {
+				regressions.add(metric);
+			}
+		}
+		return regressions;
+	}
+
+	/**
+	 * Describes how every metric and phase changed against a baseline.
+	 *
+	 * @param baseline the report of an earlier run of the same scenario
+	 * @return a multi-line table of baseline, current value and change
+	 */
+	public String describeComparison(BenchmarkReport baseline) {
+		StringBuilder table = new StringBuilder();
+		table.append(String.format(Locale.ROOT, "%s against its baseline:%n", scenario));
+		for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+			appendComparison(table, metric.getKey(), baseline.get(metric), get(metric));
+		}
+		for (TickPhase phase : PHASES) {
+			appendComparison(table, phase + " us", baseline.getPhaseMicros(phase), getPhaseMicros(phase));
+		}
+		return table.toString();
+	}
+
+	private static void appendComparison(StringBuilder table, String name, double previous, double current) {
+		String change = previous == 0 || Double.isNaN(previous) || Double.isNaN(current)
+				? "" : String.format(Locale.ROOT, "%+7.1f%%", (current - previous) * 100 / Math.abs(previous));
+		table.append(String.format(Locale.ROOT, "  %-22s %14.2f %14.2f %s%n", name, previous, current, change));
+	}
+
+	/**
+	 * Writes the report as a JSON object.
+	 *
+	 * @return the JSON text
+	 */
+	public String toJson() {
+		StringBuilder json = new StringBuilder("{\n");
+		json.append("  \"scenario\": \"").append(scenario).append("\",\n");
+		json.append("  \"seed\": ").append(seed).append(",\n");
+		json.append("  \"warmUpTicks\": ").append(warmUpTicks).append(",\n");
+		json.append("  \"ticks\": ").append(ticks).append(",\n");
+		for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+			json.append("  \"").append(metric.getKey()).append("\": ").append(formatNumber(get(metric), "null"))
+					.append(",\n");
+		}
+		json.append("  \"phaseMicros\": {\n");
+		for (TickPhase phase : PHASES) {
+			json.append("    \"").append(phase).append("\": ").append(formatNumber(getPhaseMicros(phase), "null"))
+					.append(phase.ordinal() < PHASES.length - 1 ? ",\n" : "\n");
+		}
+		json.append("  }\n}\n");
+		return json.toString();
+	}
+
+	/**
+	 * Reads a report written by {@link #toJson()}.
+	 *
+	 * @param json the JSON text
+	 * @return the report
+	 * @throws IllegalArgumentException if the scenario, seed or tick counts are missing
+	 */
+	public static BenchmarkReport fromJson(String json) {
+		Matcher name = Pattern.compile("\"scenario\"\\s*:\\s*\"([^\"]*)\"").matcher(json);
+		if (!name.find()) {
+			throw new IllegalArgumentException("Not a benchmark report: the scenario is missing.");
+		}
+		BenchmarkReport report = new BenchmarkReport(name.group(1), (long) readRequired(json, "seed"),
+				(int) readRequired(json, "warmUpTicks"), (int) readRequired(json, "ticks"));
+		for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+			report.set(metric, readNumber(json, metric.getKey()));
+		}
+		for (TickPhase phase : PHASES) {
+			report.setPhaseMicros(phase, readNumber(json, phase.name()));
+		}
+		return report;
+	}
+
+	private static double readRequired(String json, String key) {
+		double value = readNumber(json, key);
+		if (Double.isNaN(value)) {
+			throw new IllegalArgumentException("Not a benchmark report: \"" + key + "\" is missing.");
+		}
+		return value;
+	}
+
+	private static double readNumber(String json, String key) {
+		Matcher matcher = Pattern.compile("\"" + key + "\"\\s*:\\s*" + NUMBER).matcher(json);
+		if (!matcher.find() || matcher.group(1).equals("null")) {
+			return Double.NaN;
+		}
+		return Double.parseDouble(matcher.group(1));
+	}
+
+	/**
+	 * Gets the header of the CSV rows written by {@link #toCsvRow()}.
+	 *
+	 * @return the header line, without a line separator
+	 */
+	public static String csvHeader() {
+		StringBuilder header = new StringBuilder("scenario,seed,warmUpTicks,ticks");
+		for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+			header.append(',').append(metric.getKey());
+		}
+		for (TickPhase phase : PHASES) {
+			header.append(',').append(phase).append("_micros");
+		}
+		return header.toString();
+	}
+
+	/**
+	 * Writes the report as one CSV row in the order of {@link #csvHeader()}.
+	 *
+	 * @return the row, without a line separator
+	 */
+	public String toCsvRow() {
+		StringBuilder row = new StringBuilder();
+		row.append(scenario).append(',').append(seed).append(',').append(warmUpTicks).append(',').append(ticks);
+		for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+			row.append(',').append(formatNumber(get(metric), ""));
+		}
+		for (TickPhase phase : PHASES) {
+			row.append(',').append(formatNumber(getPhaseMicros(phase), ""));
+		}
+		return row.toString();
+	}
+
+	private static String formatNumber(double value, String missing) {
+		return Double.isNaN(value) || Double.isInfinite(value) ? missing : String.format(Locale.ROOT, "%.3f", value);
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for the collision pass of one tick.
+ */
+@Name("com.example.demo.Collision")
+@Label("Collision Pass")
+@Description("All collision checks of one simulation tick")
+@Category({"Sky Battle", "Game Loop"})
+@Threshold("2 ms")
+public class CollisionEvent extends jdk.jfr.Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Actor Pairs Tested")
+	@Description("Pairs of scene-graph actors whose bounds were compared")
+	int pairsTested;
+
+	@Label("Bullets Tested")
+	@Description("Enemy bullets checked against the player through the bullet grid")
+	int bulletsTested;
+
+	@Label("Hits")
+	int hits;
+}
@@ -0,0 +1,237 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits the JFR events of a level's game loop.
+ * <p>
+ * The level calls the probe at tick and phase boundaries. Event objects are only
+ * created while a recording has the event enabled, so the probe costs a few flag
+ * checks per tick otherwise. Which events are kept is decided by the thresholds in the
+ * recording settings, for example the {@code jfr/skybattle.jfc} file.
+ * </p>
+ * <p>
+ * When allocation tracking is switched on with the
+ * {@value AllocationTracker#MODE_PROPERTY} system property, the same boundaries also
+ * feed an {@link AllocationTracker}. A test or benchmark can also attach its own
+ * tracker, and a {@link PhaseTimer} to time the phases.
+ * </p>
+ */
+public class GameLoopProbe {
+
+	private static final EventType TICK_TYPE = EventType.getEventType(TickEvent.class);
+	private static final EventType PHASE_TYPE = EventType.getEventType(TickPhaseEvent.class);
+	private static final EventType SPAWN_TYPE = EventType.getEventType(SpawnEvent.class);
+	private static final EventType COLLISION_TYPE = EventType.getEventType(CollisionEvent.class);
+
+	private final String level;
+	private long tick;
+	private TickEvent tickEvent;
+	private TickPhaseEvent phaseEvent;
+	private TickPhase phase;
+	private SpawnEvent spawnEvent;
+	private CollisionEvent collisionEvent;
+	private AllocationTracker allocations;
+	private PhaseTimer phaseTimer;
+
+	/**
+	 * Constructs a probe for one level.
+	 *
+	 * @param level the name recorded with every event
+	 */
+	public GameLoopProbe(String level) {
+		this(level, AllocationTracker.fromSystemProperty());
+	}
+
+	/**
+	 * Constructs a probe for one level with the given allocation tracker.
+	 *
+	 * @param level       the name recorded with every event
+	 * @param allocations the tracker fed at tick and phase boundaries, or {@code null}
+	 */
+	public GameLoopProbe(String level, AllocationTracker allocations) {
+		this.level = level;
+		this.allocations = allocations;
+	}
+
+	/**
+	 * Gets the allocation tracker.
+	 *
+	 * @return the tracker, or {@code null} if allocation tracking is off
+	 */
+	public AllocationTracker getAllocations() {
+		return allocations;
+	}
+
+	/**
+	 * Sets the allocation tracker fed at tick and phase boundaries, replacing the one
+	 * chosen by the system property.
+	 *
+	 * @param tracker the tracker, or {@code null} to stop tracking
+	 */
+	public void setAllocations(AllocationTracker tracker) {
+		this.allocations = tracker;
+	}
+
+	/**
+	 * Sets the timer fed at tick and phase boundaries.
+	 *
+	 * @param timer the timer, or {@code null} to stop timing
+	 */
+	public void setPhaseTimer(PhaseTimer timer) {
+		this.phaseTimer = timer;
+	}
+
+	/**
+	 * Prints the allocation summary of the level, if allocations were tracked.
+	 */
+	public void close() {
+		if (allocations != null && allocations.getTicks() > 0) {
+			System.out.println(level + " " + allocations.summarize());
+		}
+	}
+
+	/**
+	 * Marks the start of a tick.
+	 *
+	 * @param tickNumber the number of the tick within the level
+	 */
+	public void beginTick(long tickNumber) {
+		tick = tickNumber;
+		if (allocations != null) {
+			allocations.beginTick(tickNumber);
+		}
+		if (phaseTimer != null) {
+			phaseTimer.beginTick();
+		}
+		if (TICK_TYPE.isEnabled()) {
+			tickEvent = new TickEvent();
+			tickEvent.begin();
+		}
+	}
+
+	/**
+	 * Ends the running phase, if any, and starts the next one.
+	 *
+	 * @param next the phase that starts now
+	 */
+	public void beginPhase(TickPhase next) {
+		endPhase();
+		phase = next;
+		if (allocations != null) {
+			allocations.beginPhase(next);
+		}
+		if (phaseTimer != null) {
+			phaseTimer.beginPhase(next);
+		}
+		if (PHASE_TYPE.isEnabled()) {
+			phaseEvent = new TickPhaseEvent();
+			phaseEvent.begin();
+		}
+	}
+
+	/**
+	 * Ends the tick and its last phase.
+	 *
+	 * @param enemies           the number of enemies alive at the end of the tick
+	 * @param enemyBullets      the number of enemy bullets alive at the end of the tick
+	 * @param inputLatencyNanos the longest input-to-tick latency of the tick's key events,
+	 *                          or 0 without input
+	 */
+	public void endTick(int enemies, int enemyBullets, long inputLatencyNanos) {
+		endPhase();
+		if (allocations != null) {
+			allocations.endTick();
+		}
+		if (phaseTimer != null) {
+			phaseTimer.endTick();
+		}
+		if (tickEvent != null) {
+			tickEvent.end();
+			if (tickEvent.shouldCommit()) {
+				tickEvent.level = level;
+				tickEvent.tick = tick;
+				tickEvent.enemies = enemies;
+				tickEvent.enemyBullets = enemyBullets;
+				tickEvent.inputLatency = inputLatencyNanos;
+				tickEvent.commit();
+			}
+			tickEvent = null;
+		}
+	}
+
+	/**
+	 * Marks the start of enemy spawning.
+	 */
+	public void beginSpawn() {
+		if (SPAWN_TYPE.isEnabled()) {
+			spawnEvent = new SpawnEvent();
+			spawnEvent.begin();
+		}
+	}
+
+	/**
+	 * Marks the end of enemy spawning; recorded only if something spawned.
+	 *
+	 * @param spawned the number of enemies spawned
+	 * @param enemies the number of enemies alive afterwards
+	 */
+	public void endSpawn(int spawned, int enemies) {
+		if (spawnEvent != null) {
+			spawnEvent.end();
+			if (spawned > 0 && spawnEvent.shouldCommit()) {
+				spawnEvent.level = level;
+				spawnEvent.tick = tick;
+				spawnEvent.spawned = spawned;
+				spawnEvent.enemies = enemies;
+				spawnEvent.commit();
+			}
+			spawnEvent = null;
+		}
+	}
+
+	/**
+	 * Marks the start of the collision pass.
+	 */
+	public void beginCollisions() {
+		if (COLLISION_TYPE.isEnabled()) {
+			collisionEvent = new CollisionEvent();
+			collisionEvent.begin();
+		}
+	}
+
+	/**
+	 * Marks the end of the collision pass.
+	 *
+	 * @param pairsTested   the number of actor pairs whose bounds were compared
+	 * @param bulletsTested the number of enemy bullets checked against the player
+	 * @param hits          the number of collisions found
+	 */
+	public void endCollisions(int pairsTested, int bulletsTested, int hits) {
+		if (collisionEvent != null) {
+			collisionEvent.end();
+			if (collisionEvent.shouldCommit()) {
+				collisionEvent.level = level;
+				collisionEvent.tick = tick;
+				collisionEvent.pairsTested = pairsTested;
+				collisionEvent.bulletsTested = bulletsTested;
+				collisionEvent.hits = hits;
+				collisionEvent.commit();
+			}
+			collisionEvent = null;
+		}
+	}
+
+	private void endPhase() {
+		if (phaseEvent != null) {
+			phaseEvent.end();
+			if (phaseEvent.shouldCommit()) {
+				phaseEvent.level = level;
+				phaseEvent.tick = tick;
+				phaseEvent.phase = phase.name();
+				phaseEvent.commit();
+			}
+			phaseEvent = null;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for building and showing a level or the main menu.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Description("Switching from one level or menu to another")
+@Category({"Sky Battle", "Levels"})
+public class LevelTransitionEvent extends jdk.jfr.Event {
+
+	@Label("From")
+	public String from;
+
+	@Label("To")
+	public String to;
+}
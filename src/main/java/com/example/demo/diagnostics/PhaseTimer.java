@@ -0,0 +1,107 @@
+package com.example.demo.diagnostics;
+
+/**
+ * Measures the wall-clock time of every tick phase, for benchmarks.
+ * <p>
+ * A {@link GameLoopProbe} feeds the timer at the same boundaries as its JFR events, and
+ * the timer only adds to preallocated totals, so timing a run does not change what the
+ * run allocates. Phases never run in a tick are reported as zero.
+ * </p>
+ */
+public class PhaseTimer {
+
+	private static final TickPhase[] PHASES = TickPhase.values();
+
+	private final long[] phaseTotals = new long[PHASES.length];
+	private final long[] phaseMax = new long[PHASES.length];
+	private long ticks;
+	private long totalNanos;
+
+	private boolean inTick;
+	private long tickStart;
+	private TickPhase phase;
+	private long phaseStart;
+
+	/**
+	 * Marks the start of a tick.
+	 */
+	public void beginTick() {
+		inTick = true;
+		phase = null;
+		tickStart = System.nanoTime();
+	}
+
+	/**
+	 * Ends the running phase, if any, and starts the next one.
+	 *
+	 * @param next the phase that starts now
+	 */
+	public void beginPhase(TickPhase next) {
+		long now = System.nanoTime();
+		endPhase(now);
+		phase = next;
+		phaseStart = now;
+	}
+
+	/**
+	 * Ends the tick and its last phase.
+	 */
+	public void endTick() {
+		if (!inTick) {
+			return;
+		}
+		long now = System.nanoTime();
+		endPhase(now);
+		ticks++;
+		totalNanos += now - tickStart;
+		inTick = false;
+	}
+
+	private void endPhase(long now) {
+		if (phase == null) {
+			return;
+		}
+		long nanos = now - phaseStart;
+		phaseTotals[phase.ordinal()] += nanos;
+		phaseMax[phase.ordinal()] = Math.max(phaseMax[phase.ordinal()], nanos);
+		phase = null;
+	}
+
+	/**
+	 * Gets the number of ticks timed.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Gets the time spent in all timed ticks.
+	 *
+	 * @return the total time in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * Gets the time spent in one phase over all timed ticks.
+	 *
+	 * @param tickPhase the phase
+	 * @return the total time of the phase in nanoseconds
+	 */
+	public long getPhaseNanos(TickPhase tickPhase) {
+		return phaseTotals[tickPhase.ordinal()];
+	}
+
+	/**
+	 * Gets the longest single run of one phase.
+	 *
+	 * @param tickPhase the phase
+	 * @return the longest time of the phase in nanoseconds
+	 */
+	public long getPhaseMaxNanos(TickPhase tickPhase) {
+		return phaseMax[tickPhase.ordinal()];
+	}
+}
@@ -0,0 +1,27 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for the quality governor stepping to another quality level.
+ */
+@Name("com.example.demo.QualityChange")
+@Label("Quality Change")
+@Description("The adaptive quality level stepping up or down")
+@Category({"Sky Battle", "Rendering"})
+public class QualityChangeEvent extends jdk.jfr.Event {
+
+	@Label("From")
+	public String from;
+
+	@Label("To")
+	public String to;
+
+	@Label("Frame Time Percentile")
+	@Timespan(Timespan.NANOSECONDS)
+	public long percentileNanos;
+}
@@ -0,0 +1,30 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a tick that spawned at least one enemy.
+ */
+@Name("com.example.demo.Spawn")
+@Label("Enemy Spawn")
+@Description("A batch of enemies spawned in one tick")
+@Category({"Sky Battle", "Game Loop"})
+@Threshold("0 ms")
+public class SpawnEvent extends jdk.jfr.Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Spawned")
+	int spawned;
+
+	@Label("Enemies After Spawn")
+	int enemies;
+}
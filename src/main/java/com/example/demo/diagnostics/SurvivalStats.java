@@ -0,0 +1,147 @@
+package com.example.demo.diagnostics;
+
+/**
+ * Counts waves and the peak number of entities over a long endless run.
+ * <p>
+ * The level records every tick's entity counts and every finished wave. The peaks show
+ * whether anything piles up over a long run: with bounded waves the enemy, bullet and
+ * scene node peaks level off early, while a leak keeps pushing them up. Recording only
+ * compares integers, so it can run on every tick.
+ * </p>
+ */
+public class SurvivalStats {
+
+	private final long tickNanos;
+	private long ticks;
+	private int wavesCompleted;
+	private int peakEnemies;
+	private int peakUserProjectiles;
+	private int peakEnemyBullets;
+	private int peakParticles;
+	private int peakSceneNodes;
+	private int sceneNodes;
+
+	/**
+	 * Constructs empty statistics.
+	 *
+	 * @param tickNanos the simulated length of one tick
+	 */
+	public SurvivalStats(long tickNanos) {
+		this.tickNanos = tickNanos;
+	}
+
+	/**
+	 * Records the entity counts at the end of one tick.
+	 *
+	 * @param enemies         the number of enemies alive
+	 * @param userProjectiles the number of projectiles fired by the player
+	 * @param enemyBullets    the number of enemy bullets
+	 * @param particles       the number of live particles
+	 * @param nodes           the number of nodes directly under the level's world group
+	 */
+	public void recordTick(int enemies, int userProjectiles, int enemyBullets, int particles, int nodes) {
+		ticks++;
+		peakEnemies = Math.max(peakEnemies, enemies);
+		peakUserProjectiles = Math.max(peakUserProjectiles, userProjectiles);
+		peakEnemyBullets = Math.max(peakEnemyBullets, enemyBullets);
+		peakParticles = Math.max(peakParticles, particles);
+		peakSceneNodes = Math.max(peakSceneNodes, nodes);
+		sceneNodes = nodes;
+	}
+
+	/**
+	 * Records a finished wave.
+	 */
+	public void recordWave() {
+		wavesCompleted++;
+	}
+
+	/**
+	 * Gets the number of ticks recorded.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Gets the number of waves finished.
+	 *
+	 * @return the wave count
+	 */
+	public int getWavesCompleted() {
+		return wavesCompleted;
+	}
+
+	/**
+	 * Gets the rate at which waves were finished, in simulated time.
+	 *
+	 * @return waves per minute, or 0 before the first tick
+	 */
+	public double getWavesPerMinute() {
+		double minutes = ticks * tickNanos / 60_000_000_000.0;
+		return minutes == 0 ? 0 : wavesCompleted / minutes;
+	}
+
+	/**
+	 * Gets the most enemies alive at the end of a tick.
+	 *
+	 * @return the peak enemy count
+	 */
+	public int getPeakEnemies() {
+		return peakEnemies;
+	}
+
+	/**
+	 * Gets the most projectiles of the player alive at the end of a tick.
+	 *
+	 * @return the peak projectile count
+	 */
+	public int getPeakUserProjectiles() {
+		return peakUserProjectiles;
+	}
+
+	/**
+	 * Gets the most enemy bullets alive at the end of a tick.
+	 *
+	 * @return the peak bullet count
+	 */
+	public int getPeakEnemyBullets() {
+		return peakEnemyBullets;
+	}
+
+	/**
+	 * Gets the most live particles at the end of a tick.
+	 *
+	 * @return the peak particle count
+	 */
+	public int getPeakParticles() {
+		return peakParticles;
+	}
+
+	/**
+	 * Gets the most nodes directly under the level's world group at the end of a tick.
+	 *
+	 * @return the peak node count
+	 */
+	public int getPeakSceneNodes() {
+		return peakSceneNodes;
+	}
+
+	/**
+	 * Describes the run so far.
+	 *
+	 * @return a multi-line report
+	 */
+	public String summarize() {
+		Runtime runtime = Runtime.getRuntime();
+		double minutes = ticks * tickNanos / 60_000_000_000.0;
+		return String.format("Endless run: %d waves in %.1f minutes, %.2f waves/minute%n", wavesCompleted, minutes,
+				getWavesPerMinute())
+				+ String.format("  peak enemies %d, shots %d, bullets %d, particles %d%n", peakEnemies,
+				peakUserProjectiles, peakEnemyBullets, peakParticles)
+				+ String.format("  scene nodes %d now, %d at peak; heap %d MB used%n", sceneNodes, peakSceneNodes,
+				(runtime.totalMemory() - runtime.freeMemory()) >> 20);
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event covering one whole simulation tick.
+ * <p>
+ * Only ticks longer than the threshold are recorded; the default of 20 ms is well
+ * above a healthy tick and can be changed in the recording settings.
+ * </p>
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Description("One simulation tick of the game loop")
+@Category({"Sky Battle", "Game Loop"})
+@Threshold("20 ms")
+public class TickEvent extends jdk.jfr.Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Enemies")
+	int enemies;
+
+	@Label("Enemy Bullets")
+	int enemyBullets;
+
+	@Label("Input Latency")
+	@Description("Longest delay between a key event and the tick that consumed it, 0 without input")
+	@Timespan(Timespan.NANOSECONDS)
+	long inputLatency;
+}
@@ -0,0 +1,25 @@
+package com.example.demo.diagnostics;
+
+/**
+ * The phases of one simulation tick, in the order {@code LevelParent.updateScene} runs them.
+ */
+public enum TickPhase {
+	/** Saving previous positions and applying the sampled input. */
+	INPUT,
+	/** Spawning new enemies. */
+	SPAWN,
+	/** Moving actors and bullets. */
+	UPDATE,
+	/** Enemy fire. */
+	FIRE,
+	/** Penetration and collision checks. */
+	COLLISION,
+	/** Removing destroyed actors and counting kills. */
+	CLEANUP,
+	/** Delivering the tick's game events. */
+	EVENTS,
+	/** HUD, camera and audio updates. */
+	PRESENTATION,
+	/** Checking for a win or loss. */
+	GAME_OVER_CHECK
+}
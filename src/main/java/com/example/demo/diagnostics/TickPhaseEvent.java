@@ -0,0 +1,27 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event covering one {@link TickPhase} of a simulation tick.
+ */
+@Name("com.example.demo.TickPhase")
+@Label("Game Tick Phase")
+@Description("One phase of a simulation tick")
+@Category({"Sky Battle", "Game Loop"})
+@Threshold("5 ms")
+public class TickPhaseEvent extends jdk.jfr.Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Phase")
+	String phase;
+}
@@ -0,0 +1,118 @@
+package com.example.demo.diagnostics;
+
+/**
+ * A fixed-size ring of recent durations, such as frame or tick times.
+ * <p>
+ * Recording overwrites the oldest sample once the ring is full and never allocates, so
+ * the render loop can record every frame. Reads run from the oldest to the newest
+ * sample.
+ * </p>
+ */
+public class TimingHistory {
+
+	private final long[] samples;
+	private int size;
+	private int next;
+
+	/**
+	 * Constructs a history that keeps the given number of samples.
+	 *
+	 * @param capacity the number of samples kept
+	 */
+	public TimingHistory(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.samples = new long[capacity];
+	}
+
+	/**
+	 * Adds a sample, dropping the oldest one if the history is full.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		samples[next] = nanos;
+		next = (next + 1) % samples.length;
+		if (size < samples.length) {
+			size++;
+		}
+	}
+
+	/**
+	 * Forgets every sample.
+	 */
+	public void clear() {
+		size = 0;
+		next = 0;
+	}
+
+	/**
+	 * Gets the number of samples held.
+	 *
+	 * @return the sample count, at most the capacity
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the maximum number of samples held.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return samples.length;
+	}
+
+	/**
+	 * Gets one sample, counting from the oldest.
+	 *
+	 * @param index the sample index, between 0 and {@link #size()}
+	 * @return the duration in nanoseconds
+	 */
+	public long get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Sample " + index + " of " + size);
+		}
+		return samples[(next - size + index + samples.length) % samples.length];
+	}
+
+	/**
+	 * Gets the newest sample.
+	 *
+	 * @return the duration in nanoseconds, or 0 if there are no samples
+	 */
+	public long getLatest() {
+		return size == 0 ? 0 : get(size - 1);
+	}
+
+	/**
+	 * Gets the mean of the samples held.
+	 *
+	 * @return the mean duration in nanoseconds, or 0 if there are no samples
+	 */
+	public long getAverage() {
+		if (size == 0) {
+			return 0;
+		}
+		long total = 0;
+		for (int i = 0; i < size; i++) {
+			total += samples[i];
+		}
+		return total / size;
+	}
+
+	/**
+	 * Gets the longest of the samples held.
+	 *
+	 * @return the longest duration in nanoseconds, or 0 if there are no samples
+	 */
+	public long getMax() {
+		long max = 0;
+		for (int i = 0; i < size; i++) {
+			max = Math.max(max, samples[i]);
+		}
+		return max;
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.demo.events;
+
+/**
+ * A single event in a {@link GameEventBus} queue.
+ * <p>
+ * Event objects are pre-allocated by the bus and reused, so publishing does not
+ * allocate. The publisher fills in the fields its {@link GameEventType} uses through
+ * the chained setters; listeners must not keep a reference after handling it.
+ * </p>
+ */
+public final class GameEvent {
+
+	private GameEventType type;
+	private double x;
+	private double y;
+	private int value;
+	private int maxValue;
+	private boolean active;
+	private String target;
+
+	GameEvent() {
+	}
+
+	void reset(GameEventType type) {
+		this.type = type;
+		this.x = 0;
+		this.y = 0;
+		this.value = 0;
+		this.maxValue = 0;
+		this.active = false;
+		this.target = null;
+	}
+
+	/**
+	 * Sets where the event happened.
+	 *
+	 * @param x the X-coordinate in world space
+	 * @param y the Y-coordinate in world space
+	 * @return this event
+	 */
+	public GameEvent at(double x, double y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+
+	/**
+	 * Sets the main value of the event, such as a health or kill total.
+	 *
+	 * @param value the value
+	 * @return this event
+	 */
+	public GameEvent value(int value) {
+		this.value = value;
+		return this;
+	}
+
+	/**
+	 * Sets the value and the maximum it is measured against.
+	 *
+	 * @param value    the value
+	 * @param maxValue the maximum value
+	 * @return this event
+	 */
+	public GameEvent value(int value, int maxValue) {
+		this.value = value;
+		this.maxValue = maxValue;
+		return this;
+	}
+
+	/**
+	 * Sets whether the subject of the event is active.
+	 *
+	 * @param active the state
+	 * @return this event
+	 */
+	public GameEvent active(boolean active) {
+		this.active = active;
+		return this;
+	}
+
+	/**
+	 * Sets the name the event points to, such as the next level.
+	 *
+	 * @param target the target name
+	 * @return this event
+	 */
+	public GameEvent target(String target) {
+		this.target = target;
+		return this;
+	}
+
+	/**
+	 * Gets the type of the event.
+	 *
+	 * @return the event type
+	 */
+	public GameEventType getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the X-coordinate where the event happened.
+	 *
+	 * @return the X-coordinate in world space
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * Gets the Y-coordinate where the event happened.
+	 *
+	 * @return the Y-coordinate in world space
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Gets the main value of the event.
+	 *
+	 * @return the value
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Gets the maximum the value is measured against.
+	 *
+	 * @return the maximum value
+	 */
+	public int getMaxValue() {
+		return maxValue;
+	}
+
+	/**
+	 * Gets whether the subject of the event is active.
+	 *
+	 * @return the state
+	 */
+	public boolean isActive() {
+		return active;
+	}
+
+	/**
+	 * Gets the name the event points to.
+	 *
+	 * @return the target name, or {@code null} if the type has none
+	 */
+	public String getTarget() {
+		return target;
+	}
+}
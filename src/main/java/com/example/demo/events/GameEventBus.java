@@ -0,0 +1,125 @@
+package com.example.demo.events;
+
+import java.util.Arrays;
+
+/**
+ * Queues typed game events during a tick and delivers them in one batch.
+ * <p>
+ * Publishers claim a pre-allocated {@link GameEvent} from a ring buffer and fill it in,
+ * so publishing does not allocate. {@link #dispatch()} runs once per tick and hands
+ * each queued event to the listeners of its type only, in publishing order. Events
+ * published by a listener during dispatch are delivered in the same batch. The ring
+ * doubles in size if a tick ever publishes more events than it holds.
+ * </p>
+ * <p>
+ * The bus is not thread-safe; it belongs to the thread that runs the simulation.
+ * </p>
+ */
+public class GameEventBus {
+
+	private static final int DEFAULT_CAPACITY = 256; // Must be a power of two
+	private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+	private final GameEventListener[][] listeners = new GameEventListener[GameEventType.values().length][];
+	private GameEvent[] ring;
+	private int mask;
+	private long head; // Next event to deliver
+	private long tail; // Next free slot
+
+	/**
+	 * Constructs a bus with room for 256 events per tick before it grows.
+	 */
+	public GameEventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a bus with the given initial event capacity.
+	 *
+	 * @param capacity the number of events queued before the ring grows, a power of two
+	 */
+	public GameEventBus(int capacity) {
+		if (Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+		}
+		Arrays.fill(listeners, NO_LISTENERS);
+		this.ring = newEvents(capacity);
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Registers a listener for one event type.
+	 *
+	 * @param type     the event type
+	 * @param listener the listener
+	 */
+	public void subscribe(GameEventType type, GameEventListener listener) {
+		GameEventListener[] current = listeners[type.ordinal()];
+		GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = listener;
+		listeners[type.ordinal()] = updated;
+	}
+
+	/**
+	 * Queues an event for the next dispatch.
+	 *
+	 * @param type the event type
+	 * @return the queued event, to fill in with its chained setters
+	 */
+	public GameEvent publish(GameEventType type) {
+		if (tail - head > mask) {
+			grow();
+		}
+		GameEvent event = ring[(int) (tail & mask)];
+		event.reset(type);
+		tail++;
+		return event;
+	}
+
+	/**
+	 * Delivers every queued event to the listeners of its type.
+	 */
+	public void dispatch() {
+		while (head < tail) {
+			GameEvent event = ring[(int) (head & mask)];
+			GameEventListener[] typeListeners = listeners[event.getType().ordinal()];
+			for (GameEventListener listener : typeListeners) {
+				listener.onEvent(event);
+			}
+			head++;
+		}
+	}
+
+	/**
+	 * Gets the number of events waiting for dispatch.
+	 *
+	 * @return the queued event count
+	 */
+	public int getPendingCount() {
+		return (int) (tail - head);
+	}
+
+	private void grow() {
+		GameEvent[] larger = newEvents(ring.length * 2);
+		int pending = (int) (tail - head);
+		for (int i = 0; i < pending; i++) {
+			GameEvent moved = ring[(int) ((head + i) & mask)];
+			larger[i] = moved; // Keep the claimed objects, they may still be in use by a listener
+		}
+		for (int i = pending; i < ring.length; i++) {
+			larger[i] = ring[(int) ((head + i) & mask)];
+		}
+		ring = larger;
+		mask = larger.length - 1;
+		tail -= head;
+		head = 0;
+	}
+
+	private static GameEvent[] newEvents(int capacity) {
+		GameEvent[] events = new GameEvent[capacity];
+		for (int i = 0; i < capacity; i++) {
+			events[i] = new GameEvent();
+		}
+		return events;
+	}
+}
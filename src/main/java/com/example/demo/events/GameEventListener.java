@@ -0,0 +1,18 @@
+package com.example.demo.events;
+
+/**
+ * Receives events of the types it subscribed to on a {@link GameEventBus}.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+	/**
+	 * Handles an event.
+	 * <p>
+	 * The event object is reused by the bus and is only valid during this call.
+	 * </p>
+	 *
+	 * @param event the event
+	 */
+	void onEvent(GameEvent event);
+}
@@ -0,0 +1,28 @@
+package com.example.demo.events;
+
+/**
+ * The kinds of events published on a {@link GameEventBus}.
+ * <p>
+ * Each type documents which fields of the {@link GameEvent} it fills in.
+ * </p>
+ */
+public enum GameEventType {
+	/** An enemy was destroyed by the player. Position of the enemy's centre; value is the player's kill total. */
+	ENEMY_KILLED,
+	/** The player plane lost health. Position of the plane's centre; value is the remaining health. */
+	PLAYER_DAMAGED,
+	/** The player plane fired a shot. Position of the shot. */
+	PLAYER_FIRED,
+	/** A player shot hit an enemy or the boss. Position of the impact; active tells whether the boss shield took it. */
+	PROJECTILE_HIT,
+	/** The boss lost health. Value is the remaining health, max value the full health. */
+	BOSS_DAMAGED,
+	/** The boss shield was raised, lowered or hit. Value is the shield health, max value the full shield; active tells whether it is up. */
+	SHIELD_CHANGED,
+	/** The level was won and the game should move on. Target is the class name of the next level. */
+	LEVEL_COMPLETED,
+	/** The player asked to play the level again. Target is the class name of the level. */
+	LEVEL_RESTART_REQUESTED,
+	/** The player asked to leave for the main menu. */
+	MAIN_MENU_REQUESTED
+}
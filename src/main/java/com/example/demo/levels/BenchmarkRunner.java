@@ -0,0 +1,276 @@
+package com.example.demo.levels;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.example.demo.diagnostics.AllocationTracker;
+import com.example.demo.diagnostics.BenchmarkMetric;
+import com.example.demo.diagnostics.BenchmarkReport;
+import com.example.demo.diagnostics.PhaseTimer;
+import com.example.demo.diagnostics.TickPhase;
+import javafx.application.Platform;
+
+/**
+ * Runs {@link BenchmarkScenario}s from the command line and writes their reports.
+ * <p>
+ * Every scenario is stepped for a number of warm-up ticks and then measured for a fixed
+ * number of ticks with a fixed seed. The report of each scenario is written to
+ * {@code <out>/<scenario>.json}, and one row per scenario to {@code <out>/benchmarks.csv}.
+ * With {@code --baseline}, each report is compared with the JSON report of the same
+ * scenario in the baseline directory, and the runner exits with status 1 if a gated
+ * {@link BenchmarkMetric} got worse by more than the tolerance.
+ * </p>
+ * <p>
+ * Scenarios run on the JavaFX application thread, which owns the levels' nodes, so the
+ * animations a level starts only advance between runs. The levels print nothing while
+ * they tick, so the measured allocations are the simulation's own.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+	/** Measured ticks when {@code --ticks} is not given. */
+	public static final int DEFAULT_TICKS = 2_000;
+	/** Warm-up ticks when {@code --warmup} is not given. */
+	public static final int DEFAULT_WARM_UP_TICKS = 500;
+	/** Seed when {@code --seed} is not given. */
+	public static final long DEFAULT_SEED = 42;
+	/** Allowed relative regression when {@code --tolerance} is not given. */
+	public static final double DEFAULT_TOLERANCE = 0.10;
+
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final String CSV_FILE = "benchmarks.csv";
+	private static final String USAGE = String.join(System.lineSeparator(),
+			"Usage: BenchmarkRunner [options]",
+			"  --list                  print the scenarios and exit",
+			"  --scenario <names>      comma-separated scenario names, or all (default all)",
+			"  --ticks <n>             measured ticks (default " + DEFAULT_TICKS + ")",
+			"  --warmup <n>            warm-up ticks (default " + DEFAULT_WARM_UP_TICKS + ")",
+			"  --seed <n>              seed of every level (default " + DEFAULT_SEED + ")",
+			"  --out <dir>             report directory (default benchmarks)",
+			"  --baseline <dir>        directory of reports to compare against",
+			"  --tolerance <percent>   allowed regression of gated metrics (default 10)");
+
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Runs the scenarios selected on the command line.
+	 *
+	 * @param args the options printed by {@code --help}
+	 * @throws Exception if a scenario fails or a report cannot be read or written
+	 */
+	public static void main(String[] args) throws Exception {
+		List<BenchmarkScenario> scenarios = new ArrayList<>(Arrays.asList(BenchmarkScenario.values()));
+		int ticks = DEFAULT_TICKS;
+		int warmUpTicks = DEFAULT_WARM_UP_TICKS;
+		long seed = DEFAULT_SEED;
+		Path out = Path.of("benchmarks");
+		Path baseline = null;
+		double tolerance = DEFAULT_TOLERANCE;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String option = args[i];
+				if (option.equals("--list")) {
+					for (BenchmarkScenario scenario : BenchmarkScenario.values()) {
+						System.out.printf("%-24s %s%n", scenario.getId(), scenario.getDescription());
+					}
+					return;
+				}
+				if (option.equals("--help")) {
+					System.out.println(USAGE);
+					return;
+				}
+				if (i + 1 >= args.length) {
+					throw new IllegalArgumentException("Missing value for " + option);
+				}
+				String value = args[++i];
+				switch (option) {
+					case "--scenario" -> scenarios = parseScenarios(value);
+					case "--ticks" -> ticks = Integer.parseInt(value);
+					case "--warmup" -> warmUpTicks = Integer.parseInt(value);
+					case "--seed" -> seed = Long.parseLong(value);
+					case "--out" -> out = Path.of(value);
+					case "--baseline" -> baseline = Path.of(value);
+					case "--tolerance" -> tolerance = Double.parseDouble(value) / 100;
+					default -> throw new IllegalArgumentException("Unknown option: " + option);
+				}
+			}
+			if (ticks <= 0 || warmUpTicks < 0) {
+				throw new IllegalArgumentException("Tick counts must be positive.");
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+
+		Files.createDirectories(out);
+		List<String> csv = new ArrayList<>();
+		csv.add(BenchmarkReport.csvHeader());
+		boolean regressed = false;
+		Platform.startup(() -> {});
+		try {
+			for (BenchmarkScenario scenario : scenarios) {
+				System.out.printf("Running %s: %d warm-up and %d measured ticks, seed %d%n",
+						scenario.getId(), warmUpTicks, ticks, seed);
+				BenchmarkReport report = runOnFxThread(scenario, seed, warmUpTicks, ticks);
+				System.out.printf("  %.1f ticks/s, p99 %.0f us, %.0f bytes/tick, %.0f collections%n",
+						report.get(BenchmarkMetric.TICKS_PER_SECOND), report.get(BenchmarkMetric.TICK_P99_MICROS),
+						report.get(BenchmarkMetric.BYTES_PER_TICK), report.get(BenchmarkMetric.GC_COUNT));
+				Files.writeString(out.resolve(scenario.getId() + ".json"), report.toJson());
+				csv.add(report.toCsvRow());
+				if (baseline != null) {
+					regressed |= compareWithBaseline(report, baseline.resolve(scenario.getId() + ".json"), tolerance);
+				}
+			}
+			Files.write(out.resolve(CSV_FILE), csv);
+			System.out.println("Reports written to " + out.toAbsolutePath());
+		} finally {
+			Platform.exit();
+		}
+		if (regressed) {
+			System.exit(1);
+		}
+	}
+
+	private static List<BenchmarkScenario> parseScenarios(String value) {
+		if (value.equals("all")) {
+			return Arrays.asList(BenchmarkScenario.values());
+		}
+		List<BenchmarkScenario> scenarios = new ArrayList<>();
+		for (String id : value.split(",")) {
+			scenarios.add(BenchmarkScenario.fromId(id.trim()));
+		}
+		return scenarios;
+	}
+
+	private static boolean compareWithBaseline(BenchmarkReport report, Path baselineFile, double tolerance)
+			throws IOException {
+		if (!Files.exists(baselineFile)) {
+			System.out.println("  no baseline at " + baselineFile);
+			return false;
+		}
+		BenchmarkReport baseline = BenchmarkReport.fromJson(Files.readString(baselineFile));
+		System.out.print(report.describeComparison(baseline));
+		if (baseline.getSeed() != report.getSeed() || baseline.getTicks() != report.getTicks()) {
+			System.out.println("  warning: the baseline used a different seed or tick count");
+		}
+		List<BenchmarkMetric> regressions = report.findRegressions(baseline, tolerance);
+		if (regressions.isEmpty()) {
+			return false;
+		}
+		System.out.printf("  REGRESSION in %s: %s worse than the baseline by more than %.0f%%%n",
+				report.getScenario(), regressions, tolerance * 100);
+		return true;
+	}
+
+	private static BenchmarkReport runOnFxThread(BenchmarkScenario scenario, long seed, int warmUpTicks, int ticks)
+			throws Exception {
+		FutureTask<BenchmarkReport> task = new FutureTask<>(() -> run(scenario, seed, warmUpTicks, ticks));
+		Platform.runLater(task);
+		try {
+			return task.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception cause ? cause : e;
+		}
+	}
+
+	/**
+	 * Runs one scenario on the calling thread and measures it. The JavaFX toolkit must be
+	 * running.
+	 *
+	 * @param scenario    the scenario to run
+	 * @param seed        the seed of the level
+	 * @param warmUpTicks the ticks run before measuring
+	 * @param ticks       the ticks measured
+	 * @return the report of the measured ticks
+	 * @throws IllegalStateException if the player was destroyed, which ends the level
+	 */
+	public static BenchmarkReport run(BenchmarkScenario scenario, long seed, int warmUpTicks, int ticks) {
+		LevelHarness harness = new LevelHarness(scenario.createLevel(SCREEN_HEIGHT, SCREEN_WIDTH), seed);
+		try {
+			scenario.prepare(harness);
+			for (int i = 0; i < warmUpTicks; i++) {
+				scenario.beforeTick(harness);
+				harness.step();
+			}
+
+			PhaseTimer phases = new PhaseTimer();
+			harness.timePhases(phases);
+			AllocationTracker allocations = AllocationTracker.forCurrentThread(false);
+			long[] tickNanos = new long[ticks];
+			long collectionsBefore = countCollections();
+			long collectionMillisBefore = collectionMillis();
+			for (int i = 0; i < ticks; i++) {
+				scenario.beforeTick(harness); // Top-ups are neither timed nor counted as allocations
+				if (allocations != null) {
+					allocations.beginTick(i);
+				}
+				long start = System.nanoTime();
+				harness.step();
+				tickNanos[i] = System.nanoTime() - start;
+				if (allocations != null) {
+					allocations.endTick();
+				}
+			}
+			long collections = countCollections() - collectionsBefore;
+			long collectionTime = collectionMillis() - collectionMillisBefore;
+			if (harness.getLevel().getUser().isDestroyed()) {
+				throw new IllegalStateException(scenario.getId() + " lost the player before its last tick.");
+			}
+
+			BenchmarkReport report = new BenchmarkReport(scenario.getId(), seed, warmUpTicks, ticks);
+			long totalNanos = Arrays.stream(tickNanos).sum();
+			double seconds = totalNanos / 1_000_000_000.0;
+			long[] sorted = tickNanos.clone();
+			Arrays.sort(sorted);
+			report.set(BenchmarkMetric.TICKS_PER_SECOND, ticks / seconds);
+			report.set(BenchmarkMetric.TICK_MEAN_MICROS, totalNanos / 1_000.0 / ticks);
+			report.set(BenchmarkMetric.TICK_P50_MICROS, percentile(sorted, 50) / 1_000.0);
+			report.set(BenchmarkMetric.TICK_P99_MICROS, percentile(sorted, 99) / 1_000.0);
+			report.set(BenchmarkMetric.TICK_MAX_MICROS, sorted[ticks - 1] / 1_000.0);
+			if (allocations != null) {
+				report.set(BenchmarkMetric.BYTES_PER_TICK, (double) allocations.getTotalBytes() / ticks);
+				report.set(BenchmarkMetric.ALLOCATION_MB_PER_SECOND, allocations.getTotalBytes() / (1024.0 * 1024.0) / seconds);
+			}
+			report.set(BenchmarkMetric.GC_COUNT, collections);
+			report.set(BenchmarkMetric.GC_MILLIS, collectionTime);
+			for (TickPhase phase : TickPhase.values()) {
+				report.setPhaseMicros(phase, phases.getPhaseNanos(phase) / 1_000.0 / phases.getTicks());
+			}
+			return report;
+		} finally {
+			harness.close();
+		}
+	}
+
+	private static long percentile(long[] sorted, int percentile) {
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+	}
+
+	private static long countCollections() {
+		long count = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, collector.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long collectionMillis() {
+		long millis = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			millis += Math.max(0, collector.getCollectionTime());
+		}
+		return millis;
+	}
+}
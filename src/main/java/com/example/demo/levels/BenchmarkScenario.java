@@ -0,0 +1,185 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.BulletType;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.actors.UserProjectile;
+import com.example.demo.controller.GameKey;
+import com.example.demo.utilities.GameRandom;
+
+/**
+ * The named stress scenarios run by {@link BenchmarkRunner}.
+ * <p>
+ * Each scenario builds a real level, prepares it through a {@link LevelHarness} and tops
+ * up its load before every tick, so the load stays the same for the whole run. Levels
+ * are built without a controller: the player's health is raised far beyond what a run
+ * can take, and LevelOne is replaced by a copy without its kill target, since enemies
+ * crashing into the player count as kills.
+ * All randomness, the boss's fight included, comes from the level's seeded generator,
+ * so a scenario is the same for the same seed.
+ * </p>
+ */
+public enum BenchmarkScenario {
+
+	/** LevelOne with 50 enemy planes on screen, all firing at the player. */
+	LEVEL_ONE_50_ENEMIES("level-one-50-enemies", "LevelOne with 50 enemy planes on screen") {
+		@Override
+		LevelParent createLevel(double screenHeight, double screenWidth) {
+			return new EndlessLevelOne(screenHeight, screenWidth);
+		}
+
+		@Override
+		void beforeTick(LevelHarness harness) {
+			LevelParent level = harness.getLevel();
+			GameRandom random = level.getRandom();
+			for (int i = level.enemyUnits.size(); i < 50; i++) {
+				double y = random.nextDouble() * level.getEnemyMaximumYPosition();
+				EnemyPlane enemy = new EnemyPlane(level.getScreenWidth(), y, level.getUser(), random);
+				level.addEnemyUnit(enemy);
+			}
+		}
+	},
+
+	/** LevelThree's boss fight with 500 fireballs in flight on top of the boss's own fire. */
+	BOSS_500_FIREBALLS("boss-500-fireballs", "LevelThree's boss with 500 fireballs in flight") {
+		@Override
+		LevelParent createLevel(double screenHeight, double screenWidth) {
+			return new LevelThree(screenHeight, screenWidth, null);
+		}
+
+		@Override
+		void beforeTick(LevelHarness harness) {
+			LevelParent level = harness.getLevel();
+			GameRandom random = level.getRandom();
+			for (int i = level.getEnemyBulletCount(); i < 500; i++) {
+				double x = level.getScreenWidth() * (0.5 + 0.5 * random.nextDouble());
+				double y = random.nextDouble() * level.getScreenHeight();
+				level.getEnemyBullets().spawn(BulletType.BOSS_PROJECTILE, x, y);
+			}
+		}
+	},
+
+	/** 1000 player projectiles in flight over LevelOne's enemies. */
+	USER_PROJECTILES_1000("user-projectiles-1000", "1000 player projectiles in flight over LevelOne") {
+		@Override
+		LevelParent createLevel(double screenHeight, double screenWidth) {
+			return new EndlessLevelOne(screenHeight, screenWidth);
+		}
+
+		@Override
+		void beforeTick(LevelHarness harness) {
+			LevelParent level = harness.getLevel();
+			GameRandom random = level.getRandom();
+			for (int i = level.getUserProjectileCount(); i < 1000; i++) {
+				double x = random.nextDouble() * level.getScreenWidth() / 2;
+				double y = random.nextDouble() * level.getScreenHeight();
+				level.addUserProjectile(new UserProjectile(x, y));
+			}
+		}
+	},
+
+	/** The endless mode's own waves with the player firing nonstop, as a load test for leaks. */
+	ENDLESS_SURVIVAL("endless-survival", "LevelEndless waves with the player firing nonstop") {
+		@Override
+		LevelParent createLevel(double screenHeight, double screenWidth) {
+			return new LevelEndless(screenHeight, screenWidth, null);
+		}
+
+		@Override
+		void prepare(LevelHarness harness) {
+			super.prepare(harness);
+			harness.press(GameKey.FIRE);
+		}
+
+		@Override
+		void beforeTick(LevelHarness harness) {
+			// The waves bring their own load
+		}
+	};
+
+	/** Health given to the player so that no run ends in a loss. */
+	static final int PLAYER_HEALTH = 1_000_000;
+
+	private final String id;
+	private final String description;
+
+	BenchmarkScenario(String id, String description) {
+		this.id = id;
+		this.description = description;
+	}
+
+	/**
+	 * Gets the name used on the command line and in reports.
+	 *
+	 * @return the scenario name
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Gets a one-line description of the load.
+	 *
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Finds a scenario by its name.
+	 *
+	 * @param id the scenario name
+	 * @return the scenario
+	 * @throws IllegalArgumentException if no scenario has that name
+	 */
+	public static BenchmarkScenario fromId(String id) {
+		for (BenchmarkScenario scenario : values()) {
+			if (scenario.id.equals(id)) {
+				return scenario;
+			}
+		}
+		throw new IllegalArgumentException("Unknown benchmark scenario: " + id);
+	}
+
+	/**
+	 * Builds the scenario's level, without initializing its scene.
+	 *
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth  the width of the screen
+	 * @return the new level
+	 */
+	abstract LevelParent createLevel(double screenHeight, double screenWidth);
+
+	/**
+	 * Prepares a newly stepped level before the first tick.
+	 *
+	 * @param harness the harness stepping the scenario's level
+	 */
+	void prepare(LevelHarness harness) {
+		harness.setPlayerHealth(PLAYER_HEALTH);
+	}
+
+	/**
+	 * Tops up the scenario's load before a tick.
+	 *
+	 * @param harness the harness stepping the scenario's level
+	 */
+	abstract void beforeTick(LevelHarness harness);
+
+	/**
+	 * LevelOne without its kill target, so kills never end the level.
+	 */
+	static final class EndlessLevelOne extends LevelOne {
+
+		EndlessLevelOne(double screenHeight, double screenWidth) {
+			super(screenHeight, screenWidth, null);
+		}
+
+		@Override
+		protected void checkIfGameOver() {
+			if (userIsDestroyed()) {
+				loseGame();
+			}
+		}
+	}
+}
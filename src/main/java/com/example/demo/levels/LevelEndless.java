@@ -0,0 +1,249 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorPool;
+import com.example.demo.actors.BulletPattern;
+import com.example.demo.actors.BulletType;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.actors.UserProjectile;
+import com.example.demo.controller.Controller;
+import com.example.demo.diagnostics.SurvivalStats;
+import com.example.demo.utilities.SnapshotBuffer;
+import com.example.demo.views.LevelView;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * An endless survival mode of procedurally generated, ever denser waves.
+ * <p>
+ * Each {@link Wave} spawns its enemies in groups, in the wave's {@link WaveFormation},
+ * and later waves add bullet volleys. A wave ends once all its enemies have been
+ * spawned and none is left, and the next one starts after a short break. The level
+ * runs until the player is destroyed.
+ * </p>
+ * <p>
+ * To keep memory flat over hours of play, enemy planes and the player's projectiles
+ * come from {@link ActorPool}s and go back to them when they leave the scene, enemies on
+ * screen are capped by {@link Wave#MAX_ENEMIES_ON_SCREEN}, and enemy bullets and
+ * particles live in their fixed-size pools. The level records waves per minute and the
+ * peak entity and node counts in {@link SurvivalStats}, and prints them when it stops,
+ * which makes a long run a load test for leaks.
+ * </p>
+ */
+public class LevelEndless extends LevelParent {
+
+	protected static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/leveltwobg.gif";
+
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final int WAVE_BREAK_TICKS = 40; // Two seconds between waves
+	private static final int IDLE_PROJECTILES = 32;
+	private static final double VOLLEY_MARGIN = 80;
+	private static final BulletPattern[] VOLLEYS = {
+			BulletPattern.aimedFan(BulletType.ENEMY_PROJECTILE, 5, 40, 10),
+			BulletPattern.radial(BulletType.ENEMY_PROJECTILE, 12, 8),
+			BulletPattern.wall(BulletType.ENEMY_PROJECTILE, 6, 90, 9)
+	};
+
+	private final ActorPool<EnemyPlane> enemyPool;
+	private final ActorPool<UserProjectile> projectilePool;
+	private final SurvivalStats stats = new SurvivalStats(TICK_NANOS);
+	private final Text waveText;
+
+	private Wave wave;
+	private int spawnedInWave;
+	private long nextSpawnTick;
+	private long nextVolleyTick;
+	private int volleysFired;
+	private long waveBreakEndTick; // 0 while a wave is running
+
+	/**
+	 * Constructs the endless level.
+	 *
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth  the width of the screen
+	 * @param controller   the game controller
+	 */
+	public LevelEndless(double screenHeight, double screenWidth, Controller controller) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller);
+		this.enemyPool = new ActorPool<>(() -> new EnemyPlane(0, 0, getUser(), getRandom()), Wave.MAX_ENEMIES_ON_SCREEN);
+		this.projectilePool = new ActorPool<>(() -> new UserProjectile(0, 0), IDLE_PROJECTILES);
+		getUser().setProjectilePool(projectilePool);
+
+		this.waveText = new Text();
+		waveText.setFont(Font.font("Press Start 2P", 20));
+		waveText.setFill(Color.YELLOW);
+		waveText.setLayoutX(screenWidth / 2 - 60);
+		waveText.setLayoutY(screenHeight * 0.12);
+	}
+
+	/**
+	 * Adds the player and the wave counter to the scene.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		getWorld().getChildren().add(getUser());
+		getRoot().getChildren().add(waveText);
+	}
+
+	/**
+	 * Runs the waves: starts the next one after a break, spawns groups and fires volleys
+	 * on the wave's intervals, and ends the wave once it has been cleared.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		long tick = getTicksElapsed();
+		if (wave == null || (waveBreakEndTick > 0 && tick >= waveBreakEndTick)) {
+			startWave(wave == null ? 1 : wave.getNumber() + 1, tick);
+		}
+		if (waveBreakEndTick > 0) {
+			return; // Between waves
+		}
+		if (spawnedInWave < wave.getEnemyCount() && tick >= nextSpawnTick) {
+			spawnGroup();
+			nextSpawnTick = tick + wave.getSpawnIntervalTicks();
+		}
+		if (wave.getVolleyIntervalTicks() > 0 && tick >= nextVolleyTick) {
+			fireVolley();
+			nextVolleyTick = tick + wave.getVolleyIntervalTicks();
+		}
+		if (spawnedInWave >= wave.getEnemyCount() && enemyUnits.isEmpty()) {
+			stats.recordWave();
+			waveBreakEndTick = tick + WAVE_BREAK_TICKS;
+		}
+	}
+
+	private void startWave(int number, long tick) {
+		wave = Wave.generate(number, getRandom());
+		spawnedInWave = 0;
+		nextSpawnTick = tick;
+		nextVolleyTick = tick + wave.getVolleyIntervalTicks();
+		waveBreakEndTick = 0;
+		waveText.setText("Wave " + number);
+	}
+
+	private void spawnGroup() {
+		int room = getEnemyLimit(wave.getMaxOnScreen()) - enemyUnits.size();
+		int size = Math.min(wave.getGroupSize(), Math.min(wave.getEnemyCount() - spawnedInWave, room));
+		if (size <= 0) {
+			return; // The screen is full; try again on the next interval
+		}
+		WaveFormation formation = wave.getFormation();
+		double top = getRandom().nextDouble() * Math.max(0, getEnemyMaximumYPosition() - formation.getHeight(size));
+		for (int i = 0; i < size; i++) {
+			EnemyPlane enemy = enemyPool.obtain(getScreenWidth() + formation.getOffsetX(i),
+					top + formation.getOffsetY(i, size));
+			addEnemyUnit(enemy);
+			spawnedInWave++;
+		}
+	}
+
+	private void fireVolley() {
+		double originX = getScreenWidth() - VOLLEY_MARGIN;
+		double originY = VOLLEY_MARGIN + getRandom().nextDouble() * (getEnemyMaximumYPosition() - VOLLEY_MARGIN);
+		BulletPattern pattern = VOLLEYS[wave.getNumber() % VOLLEYS.length];
+		getEnemyBullets().spawnVolley(pattern, originX, originY,
+				getUser().getWorldX(), getUser().getWorldY(), volleysFired++);
+	}
+
+	/**
+	 * Hands removed enemy planes and projectiles back to their pools.
+	 *
+	 * @param actor the removed actor
+	 */
+	@Override
+	protected void releaseActor(ActiveActorDestructible actor) {
+		if (actor instanceof EnemyPlane enemy) {
+			enemyPool.release(enemy);
+		} else if (actor instanceof UserProjectile projectile) {
+			projectilePool.release(projectile);
+		}
+	}
+
+	/**
+	 * Records the tick's entity counts and ends the run once the player is destroyed.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		stats.recordTick(enemyUnits.size(), getUserProjectileCount(), getEnemyBulletCount(), getParticleCount(),
+				getWorld().getChildren().size());
+		if (userIsDestroyed()) {
+			loseGame();
+		}
+	}
+
+	/**
+	 * Instantiates the level view, with hearts and the kill counter.
+	 *
+	 * @return the LevelView instance
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH, false);
+	}
+
+	/**
+	 * Stops the level and prints the statistics of the run.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		if (stats.getTicks() > 0) {
+			System.out.print(stats.summarize());
+		}
+	}
+
+	/**
+	 * Captures the level's state together with the progress of the current wave.
+	 *
+	 * @param buffer the buffer to overwrite with the snapshot
+	 */
+	@Override
+	public void saveSnapshot(SnapshotBuffer buffer) {
+		super.saveSnapshot(buffer);
+		buffer.putInt(wave == null ? 0 : wave.getNumber());
+		buffer.putInt(wave == null ? 0 : wave.getFormation().ordinal());
+		buffer.putInt(spawnedInWave);
+		buffer.putLong(nextSpawnTick);
+		buffer.putLong(nextVolleyTick);
+		buffer.putInt(volleysFired);
+		buffer.putLong(waveBreakEndTick);
+	}
+
+	/**
+	 * Rewinds the level and the wave progress to a snapshot.
+	 *
+	 * @param buffer the snapshot to restore
+	 */
+	@Override
+	public void restoreSnapshot(SnapshotBuffer buffer) {
+		super.restoreSnapshot(buffer);
+		int number = buffer.getInt();
+		int formation = buffer.getInt();
+		wave = number == 0 ? null : new Wave(number, WaveFormation.values()[formation]);
+		spawnedInWave = buffer.getInt();
+		nextSpawnTick = buffer.getLong();
+		nextVolleyTick = buffer.getLong();
+		volleysFired = buffer.getInt();
+		waveBreakEndTick = buffer.getLong();
+		waveText.setText(wave == null ? "" : "Wave " + number);
+	}
+
+	/**
+	 * Gets the statistics of the run.
+	 *
+	 * @return the wave and peak counts
+	 */
+	public SurvivalStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * Gets the wave being played.
+	 *
+	 * @return the current wave, or {@code null} before the first tick
+	 */
+	public Wave getWave() {
+		return wave;
+	}
+}
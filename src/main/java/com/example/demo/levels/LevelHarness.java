@@ -0,0 +1,185 @@
+package com.example.demo.levels;
+
+import java.util.function.BooleanSupplier;
+
+import com.example.demo.controller.GameInput;
+import com.example.demo.controller.GameKey;
+import com.example.demo.diagnostics.AllocationTracker;
+import com.example.demo.diagnostics.PhaseTimer;
+import com.example.demo.views.QualityGovernor;
+import com.example.demo.views.QualityLevel;
+
+/**
+ * Advances a level tick by tick, synchronously, for scenario and performance tests.
+ * <p>
+ * The harness builds the level's scene without the countdown and never starts its
+ * timeline, render loop or bullet thread. Each {@link #step()} runs exactly one
+ * simulation tick on the calling thread, with a scripted clock that advances by one tick
+ * length, so a run depends only on the seed and the scripted keys. Keys are held from
+ * {@link #press(GameKey)} until {@link #release(GameKey)}, like a player holding them.
+ * The visual quality is pinned to {@link QualityLevel#HIGH}, since it also decides how
+ * many enemies may spawn.
+ * </p>
+ * <p>
+ * The level's actors are JavaFX nodes, so the JavaFX toolkit must be running, but the
+ * harness may be used from any thread as long as the level's scene is not shown.
+ * </p>
+ */
+public class LevelHarness {
+
+	/** Length of one scripted tick, the same as the level timeline's. */
+	public static final long TICK_NANOS = 50_000_000L;
+
+	private final LevelParent level;
+	private final GameInput input;
+	private long clockNanos;
+
+	/**
+	 * Prepares a level for stepping.
+	 *
+	 * @param level a newly constructed level whose scene was not initialized
+	 * @param seed  the seed of the level's random generator
+	 */
+	public LevelHarness(LevelParent level, long seed) {
+		this.level = level;
+		this.input = level.getInput();
+		QualityGovernor.getInstance().setLevel(QualityLevel.HIGH);
+		level.initializeForStepping(seed);
+	}
+
+	/**
+	 * Holds a key down from the next tick on.
+	 *
+	 * @param key the gameplay key
+	 * @return this harness
+	 */
+	public LevelHarness press(GameKey key) {
+		input.post(key, true, clockNanos);
+		return this;
+	}
+
+	/**
+	 * Releases a key from the next tick on.
+	 *
+	 * @param key the gameplay key
+	 * @return this harness
+	 */
+	public LevelHarness release(GameKey key) {
+		input.post(key, false, clockNanos);
+		return this;
+	}
+
+	/**
+	 * Releases every key.
+	 *
+	 * @return this harness
+	 */
+	public LevelHarness releaseAll() {
+		for (GameKey key : GameKey.values()) {
+			input.post(key, false, clockNanos);
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the player's health, for example high enough that a stress run cannot end in
+	 * a loss.
+	 *
+	 * @param health the new health
+	 * @return this harness
+	 */
+	public LevelHarness setPlayerHealth(int health) {
+		level.resetUserHealth(health);
+		return this;
+	}
+
+	/**
+	 * Times the phases of every following tick.
+	 *
+	 * @param timer the timer to feed, or {@code null} to stop timing
+	 * @return this harness
+	 */
+	public LevelHarness timePhases(PhaseTimer timer) {
+		level.getProbe().setPhaseTimer(timer);
+		return this;
+	}
+
+	/**
+	 * Measures the allocations of every following tick, phase by phase, with the
+	 * level's own probe.
+	 *
+	 * @param tracker the tracker to feed, or {@code null} to stop tracking
+	 * @return this harness
+	 */
+	public LevelHarness trackAllocations(AllocationTracker tracker) {
+		level.getProbe().setAllocations(tracker);
+		return this;
+	}
+
+	/**
+	 * Runs one simulation tick.
+	 *
+	 * @return this harness
+	 */
+	public LevelHarness step() {
+		clockNanos += TICK_NANOS;
+		level.updateScene(clockNanos);
+		return this;
+	}
+
+	/**
+	 * Runs a number of simulation ticks.
+	 *
+	 * @param ticks the number of ticks
+	 * @return this harness
+	 */
+	public LevelHarness step(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			step();
+		}
+		return this;
+	}
+
+	/**
+	 * Runs ticks until a condition holds, checking it before every tick.
+	 *
+	 * @param condition the condition to wait for
+	 * @param maxTicks  the most ticks to run
+	 * @return the number of ticks run, or -1 if the condition still does not hold after
+	 *         {@code maxTicks}
+	 */
+	public int stepUntil(BooleanSupplier condition, int maxTicks) {
+		for (int ticks = 0; ticks < maxTicks; ticks++) {
+			if (condition.getAsBoolean()) {
+				return ticks;
+			}
+			step();
+		}
+		return condition.getAsBoolean() ? maxTicks : -1;
+	}
+
+	/**
+	 * Gets the level being stepped.
+	 *
+	 * @return the level
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * Gets the scripted time of the last tick.
+	 *
+	 * @return the time in nanoseconds since the harness was created
+	 */
+	public long getClockNanos() {
+		return clockNanos;
+	}
+
+	/**
+	 * Stops the level and releases what it holds.
+	 */
+	public void close() {
+		level.stop();
+	}
+}
@@ -56,7 +56,6 @@ public class LevelOne extends LevelParent {
 	 * <ul>
 	 *   <li>If the player is destroyed, transitions to the game over menu.</li>
 	 *   <li>If the player reaches the kill target, transitions to the next level.</li>
-	 *   <li>Otherwise, logs the current player status (health and kills).</li>
 	 * </ul>
 	 */
 	@Override
@@ -67,10 +66,6 @@ public class LevelOne extends LevelParent {
 		} else if (userHasReachedKillTarget()) {
 			System.out.println("Kill target reached. Transitioning to next level.");
 			goToNextLevel(NEXT_LEVEL);
-		} else {
-			System.out.println("Player health: " + getUser().getHealth() +
-					", Kills: " + getUser().getNumberOfKills() +
-					", Required kills to advance: " + KILLS_TO_ADVANCE);
 		}
 	}
 
@@ -80,7 +75,7 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		getWorld().getChildren().add(getUser());
 	}
 
 	/**
@@ -93,34 +88,19 @@ public class LevelOne extends LevelParent {
 	@Override
 	protected void spawnEnemyUnits() {
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-		System.out.println("Current number of enemies: " + currentNumberOfEnemies);
 
-		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
+		for (int i = 0; i < getEnemyLimit(TOTAL_ENEMIES) - currentNumberOfEnemies; i++) {
+			if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
 				double newEnemyInitialXPosition = getScreenWidth(); // Spawning on the right edge
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+				double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
 
 				// Ensure no overlap with existing enemies
-				boolean positionValid = enemyUnits.stream()
-						.noneMatch(enemy -> {
-							double existingX = enemy.getTranslateX();
-							double existingY = enemy.getTranslateY();
-							double distanceX = Math.abs(existingX - newEnemyInitialXPosition);
-							double distanceY = Math.abs(existingY - newEnemyInitialYPosition);
-
-							return distanceX < 100 && distanceY < 50; // Minimum distance of 100 horizontally, 50 vertically
-						});
-
-				if (positionValid) {
-					EnemyPlane newEnemy = new EnemyPlane(newEnemyInitialXPosition, newEnemyInitialYPosition, getUser(), getRoot());
+				if (isClearOfEnemies(newEnemyInitialXPosition, newEnemyInitialYPosition)) {
+					EnemyPlane newEnemy = new EnemyPlane(newEnemyInitialXPosition, newEnemyInitialYPosition, getUser(), getRandom());
 					addEnemyUnit(newEnemy);
-					System.out.println("Spawned enemy at X: " + newEnemyInitialXPosition + ", Y: " + newEnemyInitialYPosition);
 
 					// Optionally add a projectile for the enemy
-					ActiveActorDestructible homingProjectile = newEnemy.fireProjectile();
-					if (homingProjectile != null) {
-						addEnemyProjectile(homingProjectile);
-					}
+					newEnemy.fireBullets(getEnemyBullets());
 				} else {
 					i--; // Retry this spawn if position is invalid
 				}
@@ -128,6 +108,25 @@ public class LevelOne extends LevelParent {
 		}
 	}
 
+	/**
+	 * Checks that a spawn position keeps a minimum distance from every enemy.
+	 *
+	 * @param x the X-coordinate of the new enemy
+	 * @param y the Y-coordinate of the new enemy
+	 * @return {@code true} if no enemy is within 100 pixels horizontally and 50 vertically
+	 */
+	private boolean isClearOfEnemies(double x, double y) {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			ActiveActorDestructible enemy = enemyUnits.get(i);
+			double distanceX = Math.abs(enemy.getTranslateX() - x);
+			double distanceY = Math.abs(enemy.getTranslateY() - y);
+			if (distanceX < 100 && distanceY < 50) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Instantiates the LevelView for LevelOne.
 	 * <p>
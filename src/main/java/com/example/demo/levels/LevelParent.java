@@ -1,16 +1,41 @@
 package com.example.demo.levels;
 
+import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.Boss;
+import com.example.demo.actors.BulletFrame;
+import com.example.demo.actors.BulletPool;
+import com.example.demo.actors.BulletSimulation;
+import com.example.demo.actors.BulletSink;
+import com.example.demo.actors.BulletType;
 import com.example.demo.actors.FighterPlane;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.collision.CollisionLayer;
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.collision.CollisionOutcome;
+import com.example.demo.collision.CollisionSystem;
+import com.example.demo.controller.AudioMixer;
 import com.example.demo.controller.Controller;
+import com.example.demo.controller.GameInput;
+import com.example.demo.controller.GameKey;
 import com.example.demo.controller.PauseMenu;
+import com.example.demo.controller.SoundEffect;
+import com.example.demo.diagnostics.AllocationTracker;
+import com.example.demo.diagnostics.GameLoopProbe;
+import com.example.demo.diagnostics.TickPhase;
+import com.example.demo.events.GameEvent;
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.GameEventType;
+import com.example.demo.net.InputTransport;
+import com.example.demo.net.RollbackSession;
+import com.example.demo.net.RollbackTarget;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.SnapshotBuffer;
 import com.example.demo.views.*;
 import javafx.animation.*;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
@@ -34,15 +59,31 @@ import javafx.util.Duration;
  *   <li>Define common actions like pausing, resuming, and restarting levels.</li>
  *   <li>Handle scene transitions and user interactions.</li>
  * </ul>
+ * <p>
+ * A level can also be played by two players on two instances of the game. After
+ * {@link #enableCoop(InputTransport, boolean)} the level adds a second plane and its
+ * ticks are driven by a {@link RollbackSession}, which rewinds the level through its
+ * {@link RollbackTarget} methods when the other player's keys arrive late.
+ * </p>
  */
 
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent implements RollbackTarget {
 
 	/** Adjustment value for calculating the maximum Y position of enemies. */
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 
 	/** Delay between game loop cycles in milliseconds. */
 	private static final int MILLISECOND_DELAY = 50;
+	/** Length of one simulation tick in nanoseconds. */
+	static final long TICK_NANOS = MILLISECOND_DELAY * 1_000_000L;
+	/** Longest particle step, so a stalled frame does not make every particle jump. */
+	private static final double MAX_PARTICLE_STEP_SECONDS = 0.1;
+	/** Distance of the performance overlay from the top-right corner of the screen. */
+	private static final double PERFORMANCE_OVERLAY_MARGIN = 60;
+	/** Vertical distance between the two players' planes when a co-op level starts. */
+	private static final double PARTNER_OFFSET_Y = 200;
+	/** Seed of every co-op level, so both instances play the same waves. */
+	private static final long COOP_SEED = 0x5EEDC0DEL;
 	/** Height of the game screen. */
 	private final double screenHeight;
 	/** Width of the game screen. */
@@ -51,22 +92,82 @@ public abstract class LevelParent extends Observable {
 	private final double enemyMaximumYPosition;
 	/** Root group for all graphical elements in the level. */
 	private final Group root;
+	/** Group under the root holding the background, actors, bullets and particles; the camera transforms only this group. */
+	private final Group world;
 	/** Timeline for the game loop. */
 	protected final Timeline timeline;
-	/** User-controlled plane. */
+	/** Display-rate loop that interpolates actors between simulation ticks. */
+	private final AnimationTimer renderLoop;
+	/** Time at which the last simulation tick ran. */
+	private long lastTickNanos;
+	/** Time of the previous display pulse, or 0 before the first one. */
+	private long lastFrameNanos;
+	/** Chooses effect and rendering detail from the measured frame times. */
+	private final QualityGovernor qualityGovernor = QualityGovernor.getInstance();
+	/** Quality change count the sprites were last updated for. */
+	private int appliedQualityChanges;
+	/** Number of simulation ticks run in this level. */
+	private long ticksElapsed;
+	/** Whether this level already reported the end of the run. */
+	private boolean runRecorded;
+	/** Source of all gameplay randomness, so a snapshot can capture it. */
+	private final GameRandom random;
+	/** State of the level when play began, restored by {@link #restartLevel()}. */
+	private final SnapshotBuffer levelStart = new SnapshotBuffer();
+	/** State saved by {@link #saveCheckpoint()}. */
+	private final SnapshotBuffer checkpoint = new SnapshotBuffer();
+	/** User-controlled plane; player one's in a co-op session. */
 	private final UserPlane user;
+	/** Player two's plane in a co-op session, or {@code null} when playing alone. */
+	private UserPlane partner;
+	/** The plane steered by the local keys, whose health the hearts show. */
+	private UserPlane localPlane;
+	/** Runs the ticks of a co-op session, or {@code null} when playing alone. */
+	private RollbackSession coopSession;
+	/** Connection to the other instance of a co-op session. */
+	private InputTransport coopTransport;
+	/** Snapshots the co-op session rewinds to, one per {@link RollbackSession} slot. */
+	private SnapshotBuffer[] rollbackSlots;
+	/** Time of the frame the co-op session is simulating; every tick it runs uses it. */
+	private long coopFrameNanos;
+	/** Highest tick count reached, so ticks replayed after a rollback can be told apart. */
+	private long newestTick;
+	/** Whether the running tick replays one already shown, so it plays no sounds or effects. */
+	private boolean replaying;
+	/** Key events folded into one key state per tick. */
+	private final GameInput input;
+	/** Sound effects requested during a tick and played when it ends. */
+	private final AudioMixer audioMixer;
+	/** Events published during a tick and delivered in one batch. */
+	private final GameEventBus eventBus;
+	/** User health last reported through a {@link GameEventType#PLAYER_DAMAGED} event. */
+	private int reportedUserHealth;
+	/** JFR instrumentation of the game loop. */
+	private final GameLoopProbe probe;
+	/** Layer/mask matrix that resolves all collisions of a tick in one pass. */
+	private final CollisionSystem collisions;
 	/** Scene representing the current level. */
 	private final Scene scene;
 	/** Background image for the level. */
-	private final ImageView background;
+	private final ParallaxBackground background;
 	/** List of friendly units in the level. */
 	private final List<ActiveActorDestructible> friendlyUnits;
 	/** List of enemy units in the level. */
 	public final List<ActiveActorDestructible> enemyUnits;
 	/** List of projectiles fired by the user. */
 	private final List<ActiveActorDestructible> userProjectiles;
-	/** List of projectiles fired by enemies. */
-	private final List<ActiveActorDestructible> enemyProjectiles;
+	/** Bullets fired by enemies and the boss, simulated on their own thread outside the scene graph. */
+	private final BulletSimulation enemyBullets;
+	/** Canvas that draws all enemy bullets in one pass. */
+	private final BulletLayer bulletLayer;
+	/** Explosions, sparks and muzzle flashes, simulated in arrays outside the scene graph. */
+	private final ParticleSystem particles;
+	/** Canvas that draws all particles in one pass. */
+	private final ParticleLayer particleLayer;
+	/** Camera mapping world coordinates onto the window. */
+	private final Camera camera;
+	/** Frame, tick and entity numbers, toggled with F3. */
+	private final PerformanceOverlay performanceOverlay;
 
 	/** Current number of enemies in the level. */
 	private int currentNumberOfEnemies;
@@ -74,7 +175,7 @@ public abstract class LevelParent extends Observable {
 	/** Level-specific UI elements. */
 	private LevelView levelView;
 
-	/** Boss entity in the level (if any). */
+	/** Boss entity in the level (if any); collides as a boss or shield layer instead of an enemy. */
 	protected Boss boss;
 	/** Indicates if the game is paused. */
 	private boolean isPaused = false;
@@ -111,15 +212,40 @@ public abstract class LevelParent extends Observable {
 	 * @param controller the controller managing game logic and transitions
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Controller controller) {
-		this.root = new Group();
+		this.world = new Group();
+		this.root = new Group(world);
 		this.scene = new Scene(root, screenWidth, screenHeight);
 		this.timeline = new Timeline();
-		this.user = new UserPlane(playerInitialHealth, this.scene);
+		this.renderLoop = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				renderFrame(now);
+			}
+		};
+		this.user = new UserPlane(playerInitialHealth, screenWidth, screenHeight);
+		this.localPlane = user;
+		this.input = new GameInput();
+		this.random = new GameRandom(System.nanoTime());
+		this.audioMixer = AudioMixer.getInstance();
+		this.eventBus = new GameEventBus();
+		this.probe = new GameLoopProbe(getClass().getSimpleName());
+		this.reportedUserHealth = playerInitialHealth;
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.collisions = new CollisionSystem();
+		this.bulletLayer = new BulletLayer(screenWidth, screenHeight);
+		this.particles = new ParticleSystem();
+		this.particleLayer = new ParticleLayer(screenWidth, screenHeight);
+		this.camera = new Camera(screenWidth, screenHeight);
+		camera.attach(world);
+		fitCameraToScene();
+		scene.widthProperty().addListener((observable, oldWidth, newWidth) -> fitCameraToScene());
+		scene.heightProperty().addListener((observable, oldHeight, newHeight) -> fitCameraToScene());
+		this.performanceOverlay = new PerformanceOverlay(0, PERFORMANCE_OVERLAY_MARGIN);
+		performanceOverlay.setLayoutX(screenWidth - performanceOverlay.getWidth() - PERFORMANCE_OVERLAY_MARGIN);
+		this.enemyBullets = new BulletSimulation(createBulletPool(), camera.getWorldWidth(), camera.getWorldHeight());
+		this.background = new ParallaxBackground(backgroundImageName, screenWidth, screenHeight);
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
@@ -129,6 +255,37 @@ public abstract class LevelParent extends Observable {
 		this.levelUIManager = new LevelUIManager(screenWidth, screenHeight, root, controller);
 		initializeTimeline();
 		friendlyUnits.add(user);
+		subscribeToEvents();
+		declareCollisions();
+	}
+
+	/**
+	 * Fits the camera view to the current scene size, so the world scales with the window
+	 * while the HUD on the root keeps its screen coordinates.
+	 */
+	private void fitCameraToScene() {
+		camera.setViewport(scene.getWidth(), scene.getHeight());
+		camera.update();
+	}
+
+	private void subscribeToEvents() {
+		eventBus.subscribe(GameEventType.PLAYER_FIRED, event -> audioMixer.request(SoundEffect.SHOOT));
+		eventBus.subscribe(GameEventType.PLAYER_DAMAGED, event -> levelView.removeHearts(event.getValue()));
+		eventBus.subscribe(GameEventType.ENEMY_KILLED, event -> {
+			emitParticles(ParticleEffect.EXPLOSION, event);
+			emitParticles(ParticleEffect.DEBRIS, event);
+		});
+		eventBus.subscribe(GameEventType.PROJECTILE_HIT, event ->
+				emitParticles(event.isActive() ? ParticleEffect.SHIELD_SPARKS : ParticleEffect.SPARKS, event));
+		eventBus.subscribe(GameEventType.PLAYER_DAMAGED, event -> emitParticles(ParticleEffect.SPARKS, event));
+		eventBus.subscribe(GameEventType.PLAYER_FIRED, event -> emitParticles(ParticleEffect.MUZZLE_FLASH, event));
+	}
+
+	private void emitParticles(ParticleEffect effect, GameEvent event) {
+		if (replaying) {
+			return; // Already shown when the tick first ran
+		}
+		particles.emit(effect, event.getX(), event.getY(), qualityGovernor.getLevel().getParticleDensity());
 	}
 
 	/**
@@ -170,8 +327,14 @@ public abstract class LevelParent extends Observable {
 	}
 
 
+	/**
+	 * Updates HUD elements that follow moving actors. Called once per tick.
+	 * <p>
+	 * Hearts, kills and boss bars change only through events and are updated by
+	 * subscribers of the level's {@link GameEventBus}.
+	 * </p>
+	 */
 	protected void updateLevelView() {
-		levelUIManager.updateLevelView(user, levelView, boss);
 	}
 
 	/**
@@ -193,6 +356,7 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected void loseGame() {
 		timeline.stop(); // Stop game logic
+		recordRun(0);
 		showGameOverMenu(); // Display the game over menu
 	}
 
@@ -213,10 +377,17 @@ public abstract class LevelParent extends Observable {
 	public Scene initializeScene() {
 		initializeBackground();
 		initializeFriendlyUnits();
+		if (partner != null) {
+			world.getChildren().add(partner);
+		}
+		world.getChildren().add(bulletLayer);
+		world.getChildren().add(particleLayer);
 		levelView.showHeartDisplay();
+		root.getChildren().add(performanceOverlay);
 
 		// Start the countdown before enabling gameplay
 		startCountdown(() -> {
+			saveSnapshot(levelStart); // Restarts rewind to this point instead of rebuilding the level
 			timeline.play(); // Start the game timeline
 			root.getChildren().remove(levelText); // Remove the level text
 		});
@@ -279,10 +450,127 @@ public abstract class LevelParent extends Observable {
 		levelFadeIn.setToValue(1.0);
 		levelFadeIn.play();
 
+		renderLoop.start();
+		if (coopSession == null) {
+			enemyBullets.start(); // Co-op keeps bullets on the level's thread, so a rollback replays them exactly
+		}
 		return scene;
 	}
 
 
+	/**
+	 * Builds the scene for a {@link LevelHarness}: the background, the player and the
+	 * display layers, without the countdown and texts. The timeline, the render loop and
+	 * the bullet thread are not started, so ticks only run when the harness asks and
+	 * bullets are simulated on the caller's thread.
+	 *
+	 * @param seed the seed of the level's random generator
+	 */
+	void initializeForStepping(long seed) {
+		reseed(seed);
+		initializeBackground();
+		initializeFriendlyUnits();
+		if (partner != null) {
+			world.getChildren().add(partner);
+		}
+		world.getChildren().add(bulletLayer);
+		world.getChildren().add(particleLayer);
+		levelView.showHeartDisplay();
+		saveSnapshot(levelStart);
+	}
+
+	/**
+	 * Makes the level a co-op session with another instance of the game. Must be called
+	 * before the scene is initialized.
+	 * <p>
+	 * A second plane joins the level for player two. Both instances step the same
+	 * simulation with the same keys, so they must build the level with the same world
+	 * size; the random generator is reset to a seed shared by every co-op level. Kills count for the team, the hearts follow the local plane, and the run ends once
+	 * both planes are destroyed. Enemy bullets are simulated on the level's thread and
+	 * the enemy limit ignores the quality governor, since both would differ between the
+	 * two machines.
+	 * </p>
+	 *
+	 * @param transport        the connection to the other instance, closed when the level stops
+	 * @param localIsPlayerOne {@code true} if the local keys steer player one's plane
+	 */
+	public void enableCoop(InputTransport transport, boolean localIsPlayerOne) {
+		reseed(COOP_SEED);
+		partner = new UserPlane(user.getHealth(), screenWidth, screenHeight);
+		partner.respawn(user.getLayoutX(), user.getLayoutY() + PARTNER_OFFSET_Y);
+		friendlyUnits.add(partner);
+		localPlane = localIsPlayerOne ? user : partner;
+		rollbackSlots = new SnapshotBuffer[RollbackSession.SNAPSHOT_SLOTS];
+		for (int i = 0; i < rollbackSlots.length; i++) {
+			rollbackSlots[i] = new SnapshotBuffer();
+		}
+		coopTransport = transport;
+		coopSession = new RollbackSession(this, transport, localIsPlayerOne);
+	}
+
+	/**
+	 * Checks whether the level is played by two players.
+	 *
+	 * @return {@code true} after {@link #enableCoop(InputTransport, boolean)}
+	 */
+	public boolean isCoop() {
+		return coopSession != null;
+	}
+
+	/**
+	 * Gets player two's plane.
+	 *
+	 * @return the second plane, or {@code null} when playing alone
+	 */
+	public UserPlane getPartner() {
+		return partner;
+	}
+
+	/**
+	 * Gets the session that runs the ticks of a co-op level.
+	 *
+	 * @return the rollback session, or {@code null} when playing alone
+	 */
+	public RollbackSession getCoopSession() {
+		return coopSession;
+	}
+
+	/**
+	 * Gets the number of simulation ticks run in this level.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicksElapsed() {
+		return ticksElapsed;
+	}
+
+	/**
+	 * Gets the number of projectiles fired by the player that are still alive.
+	 *
+	 * @return the player projectile count
+	 */
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * Gets the number of enemy bullets alive after the last simulated bullet tick.
+	 *
+	 * @return the enemy bullet count
+	 */
+	public int getEnemyBulletCount() {
+		return enemyBullets.getBulletCount();
+	}
+
+	/**
+	 * Gets the number of live particles.
+	 *
+	 * @return the particle count
+	 */
+	public int getParticleCount() {
+		return particles.size();
+	}
+
 	/**
 	 * Starts the game by requesting focus on the background and playing the game timeline.
 	 */
@@ -302,17 +590,27 @@ public abstract class LevelParent extends Observable {
 		fadeOut.setFromValue(1.0);
 		fadeOut.setToValue(0.0);
 		fadeOut.setOnFinished(e -> {
-			setChanged();
-			notifyObservers(levelName);
+			eventBus.publish(GameEventType.LEVEL_COMPLETED).target(levelName);
+			eventBus.dispatch(); // The simulation is stopped, so deliver right away
 			transitioningToNextLevel = false; // End transition
 		});
 		fadeOut.play();
 	}
 	/**
-	 * Stops the game timeline.
+	 * Stops the game timeline, the render loop and the bullet simulation thread.
 	 */
 	public void stop() {
 		timeline.stop();
+		renderLoop.stop();
+		enemyBullets.stop();
+		probe.close();
+		if (coopTransport != null) {
+			try {
+				coopTransport.close();
+			} catch (IOException e) {
+				System.err.println("Could not close the co-op connection: " + e.getMessage());
+			}
+		}
 	}
 
 	/**
@@ -325,24 +623,264 @@ public abstract class LevelParent extends Observable {
 	}
 
 
-	private void updateScene() {
+	/**
+	 * Runs one simulation tick. The timeline calls this in real time; a
+	 * {@link LevelHarness} calls it directly with a scripted clock.
+	 * <p>
+	 * In a co-op level the tick goes through the {@link RollbackSession} instead, which
+	 * may first replay earlier ticks or wait for the other player. The game over check
+	 * then only runs once both players' keys are known for every tick, so a rollback
+	 * can never take back the end of a run.
+	 * </p>
+	 *
+	 * @param tickNanos the time the tick starts, in {@link System#nanoTime()} units
+	 */
+	void updateScene(long tickNanos) {
+		if (coopSession != null) {
+			coopFrameNanos = tickNanos;
+			sampleInput(tickNanos);
+			coopSession.advance(input.getKeyState());
+			if (coopSession.getConfirmedTick() == coopSession.getTick() - 1) {
+				checkIfGameOver();
+			}
+			return;
+		}
+		beginTick(tickNanos);
+		sampleInput(tickNanos);
+		applyKeys(user, input.getKeyState());
+		finishTick(true);
+	}
+
+	private void sampleInput(long tickNanos) {
+		input.sampleTick(tickNanos);
+		if (input.getTickEvents() > 0) {
+			performanceOverlay.recordInput(input.getTickLatencyNanos());
+		}
+	}
+
+	/**
+	 * Stores the level in a rollback snapshot slot.
+	 *
+	 * @param slot the slot index
+	 */
+	@Override
+	public void saveState(int slot) {
+		saveSnapshot(rollbackSlots[slot]);
+	}
+
+	/**
+	 * Rewinds the level to a rollback snapshot slot.
+	 *
+	 * @param slot the slot index
+	 */
+	@Override
+	public void loadState(int slot) {
+		restoreSnapshot(rollbackSlots[slot]);
+	}
+
+	/**
+	 * Runs one co-op tick with both players' keys. Ticks replayed after a rollback play
+	 * no sounds and emit no particles, which were already heard and seen.
+	 *
+	 * @param player1Keys the key-state bitset of player one
+	 * @param player2Keys the key-state bitset of player two
+	 */
+	@Override
+	public void step(int player1Keys, int player2Keys) {
+		replaying = ticksElapsed < newestTick;
+		beginTick(coopFrameNanos);
+		applyKeys(user, player1Keys);
+		applyKeys(partner, player2Keys);
+		finishTick(false);
+		newestTick = Math.max(newestTick, ticksElapsed);
+		replaying = false;
+	}
+
+	private void beginTick(long tickNanos) {
+		lastTickNanos = tickNanos;
+		ticksElapsed++;
+		probe.beginTick(ticksElapsed);
+
+		probe.beginPhase(TickPhase.INPUT);
+		savePreviousPositions();
+	}
+
+	/**
+	 * Runs everything of a tick after the input: spawning, movement, fire, collisions,
+	 * cleanup, events and presentation.
+	 *
+	 * @param checkGameOver whether the tick ends with the level's game over check
+	 */
+	private void finishTick(boolean checkGameOver) {
+		probe.beginPhase(TickPhase.SPAWN);
+		probe.beginSpawn();
+		int enemiesBeforeSpawn = enemyUnits.size();
 		spawnEnemyUnits();
+		probe.endSpawn(enemyUnits.size() - enemiesBeforeSpawn, enemyUnits.size());
+
+		probe.beginPhase(TickPhase.UPDATE);
 		updateActors();
+
+		probe.beginPhase(TickPhase.FIRE);
 		generateEnemyFire();
 		updateNumberOfEnemies();
+
+		probe.beginPhase(TickPhase.COLLISION);
+		probe.beginCollisions();
 		handleEnemyPenetration();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
+		handleEscapedProjectiles();
+		resolveCollisions();
+		applyCollisionOutcomes();
+		int bulletHits = applyBulletHits();
+		probe.endCollisions(collisions.getPairsTested(), enemyBullets.getBulletsTested(), collisions.getHits() + bulletHits);
+
+		probe.beginPhase(TickPhase.CLEANUP);
 		removeAllDestroyedActors();
-		updateKillCount();
+		reportUserDamage();
+
+		probe.beginPhase(TickPhase.EVENTS);
+		eventBus.dispatch();
+
+		probe.beginPhase(TickPhase.PRESENTATION);
 		updateLevelView();
-		checkIfGameOver();
+		updateCamera();
+		if (replaying) {
+			audioMixer.discard();
+		} else {
+			audioMixer.flush();
+		}
+
+		probe.beginPhase(TickPhase.GAME_OVER_CHECK);
+		if (checkGameOver) {
+			checkIfGameOver();
+		}
+		probe.endTick(enemyUnits.size(), enemyBullets.getBulletCount(), replaying ? 0 : input.getTickLatencyNanos());
+		performanceOverlay.recordTick(System.nanoTime() - lastTickNanos);
+	}
+
+	/**
+	 * Steers a plane by one tick's key state.
+	 *
+	 * @param plane the plane to steer
+	 * @param keys  the key-state bitset, see {@link GameKey#mask()}
+	 */
+	private void applyKeys(UserPlane plane, int keys) {
+		if (plane.isDestroyed()) {
+			return;
+		}
+		boolean up = (keys & GameKey.UP.mask()) != 0;
+		boolean down = (keys & GameKey.DOWN.mask()) != 0;
+		if (up && !down) {
+			plane.moveUp();
+		} else if (down && !up) {
+			plane.moveDown();
+		} else {
+			plane.stop();
+		}
+
+		boolean left = (keys & GameKey.LEFT.mask()) != 0;
+		boolean right = (keys & GameKey.RIGHT.mask()) != 0;
+		if (left && !right) {
+			plane.moveLeft();
+		} else if (right && !left) {
+			plane.moveRight();
+		} else {
+			plane.stopHorizontal();
+		}
+
+		if ((keys & GameKey.FIRE.mask()) != 0) {
+			fireProjectile(plane); // Hold to fire; the plane's tick cooldown sets the rate
+		}
+	}
+
+	private void updateCamera() {
+		camera.update();
+		cullActors(friendlyUnits);
+		cullActors(enemyUnits);
+		cullActors(userProjectiles);
+	}
+
+	private void savePreviousPositions() {
+		savePreviousPositions(friendlyUnits);
+		savePreviousPositions(enemyUnits);
+		savePreviousPositions(userProjectiles);
+	}
+
+	private void savePreviousPositions(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).savePreviousPosition();
+		}
+	}
+
+	/**
+	 * Draws one display frame, placing every visible actor and bullet between its
+	 * previous and current simulation position. Particles are purely visual and move in
+	 * real time, so they are stepped here rather than in the simulation tick.
+	 *
+	 * @param now the timestamp of the current pulse in nanoseconds
+	 */
+	private void renderFrame(long now) {
+		long renderStarted = System.nanoTime();
+		long frameInterval = lastFrameNanos == 0 ? 0 : now - lastFrameNanos;
+		if (frameInterval > 0) {
+			qualityGovernor.recordFrame(frameInterval);
+			if (!isPaused) {
+				particles.update(Math.min(MAX_PARTICLE_STEP_SECONDS, frameInterval / 1_000_000_000.0));
+			}
+		}
+		lastFrameNanos = now;
+		if (appliedQualityChanges != qualityGovernor.getChangeCount()) {
+			appliedQualityChanges = qualityGovernor.getChangeCount();
+			applyQuality(qualityGovernor.getLevel());
+		}
+		double alpha = Math.min(1.0, Math.max(0.0, (now - lastTickNanos) / (double) TICK_NANOS));
+		interpolateActors(friendlyUnits, alpha);
+		interpolateActors(enemyUnits, alpha);
+		interpolateActors(userProjectiles, alpha);
+		BulletFrame bullets = enemyBullets.getLatestFrame();
+		double bulletAlpha = Math.min(1.0, Math.max(0.0, (now - bullets.getPublishedNanos()) / (double) TICK_NANOS));
+		bulletLayer.render(bullets, camera, bulletAlpha);
+		particleLayer.render(particles, camera);
+		if (frameInterval > 0) {
+			performanceOverlay.recordFrame(frameInterval, System.nanoTime() - renderStarted);
+		}
+		if (performanceOverlay.isRefreshDue(now)) {
+			performanceOverlay.refresh(now, root, friendlyUnits.size(), enemyUnits.size(), userProjectiles.size(),
+					bullets.size(), particles.size(), input.getDroppedEvents());
+		}
+	}
+
+	private void applyQuality(QualityLevel quality) {
+		boolean smooth = quality.hasSmoothSprites();
+		applySmoothing(friendlyUnits, smooth);
+		applySmoothing(enemyUnits, smooth);
+		applySmoothing(userProjectiles, smooth);
+	}
+
+	private void applySmoothing(List<ActiveActorDestructible> actors, boolean smooth) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).setSmooth(smooth);
+		}
+	}
+
+	private void interpolateActors(List<ActiveActorDestructible> actors, double alpha) {
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isCulled()) {
+				actor.interpolate(alpha);
+			}
+		}
+	}
+
+	private void cullActors(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).updateCulling(camera);
+		}
 	}
 
 	private void initializeTimeline() {
 		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
+		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene(System.nanoTime()));
 		timeline.getKeyFrames().add(gameLoop);
 		timeline.pause(); // Ensure the timeline is paused until the countdown ends
 	}
@@ -350,26 +888,40 @@ public abstract class LevelParent extends Observable {
 
 	private void initializeBackground() {
 		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
 
+		// Gameplay keys are only recorded here and applied at the start of the next tick
 		background.setOnKeyPressed(e -> {
 			KeyCode kc = e.getCode();
-			if (kc == KeyCode.UP) user.moveUp();
-			if (kc == KeyCode.DOWN) user.moveDown();
-			if (kc == KeyCode.LEFT) user.moveLeft(); // Add left movement
-			if (kc == KeyCode.RIGHT) user.moveRight(); // Add right movement
-			if (kc == KeyCode.SPACE) fireProjectile();
-			if (kc == KeyCode.ESCAPE) togglePause();
+			if (kc == KeyCode.ESCAPE) {
+				togglePause(); // Menu action, must work while the simulation is paused
+				return;
+			}
+			if (kc == KeyCode.F3) {
+				performanceOverlay.toggle();
+				return;
+			}
+			if (kc == KeyCode.F5) {
+				saveCheckpoint();
+				return;
+			}
+			if (kc == KeyCode.F9) {
+				restartFromCheckpoint(); // Also retries from the game over menu
+				return;
+			}
+			GameKey key = GameKey.fromKeyCode(kc);
+			if (key != null) {
+				input.post(key, true, System.nanoTime());
+			}
 		});
 
 		background.setOnKeyReleased(e -> {
-			KeyCode kc = e.getCode();
-			if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
-			if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) user.stopHorizontal(); // Stop horizontal movement
+			GameKey key = GameKey.fromKeyCode(e.getCode());
+			if (key != null) {
+				input.post(key, false, System.nanoTime());
+			}
 		});
 
-		root.getChildren().add(background);
+		world.getChildren().add(background);
 	}
 
 	private void togglePause() {
@@ -412,19 +964,136 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Restarts the current level by stopping the timeline and reloading the level.
+	 * Restarts the current level.
+	 * <p>
+	 * Once play has begun the level is rewound in place to its starting snapshot, which
+	 * keeps every node and skips the countdown. Before that, the level is rebuilt.
+	 * </p>
 	 */
 	public void restartLevel() {
+		if (coopSession != null) {
+			goToMainMenu(); // One player cannot rewind a shared session alone
+			return;
+		}
+		if (levelStart.isEmpty()) {
+			timeline.stop();
+			eventBus.publish(GameEventType.LEVEL_RESTART_REQUESTED).target(getClass().getName());
+			eventBus.dispatch();
+			return;
+		}
+		resumeFrom(levelStart);
+	}
+
+	/**
+	 * Saves the current state as a practice checkpoint, replacing the previous one. Bound
+	 * to F5. Co-op levels have no checkpoints, since one player cannot rewind both.
+	 */
+	public void saveCheckpoint() {
+		if (coopSession == null && !levelStart.isEmpty()) {
+			saveSnapshot(checkpoint);
+		}
+	}
+
+	/**
+	 * Rewinds to the last checkpoint, or restarts the level if none was saved. Bound to F9.
+	 */
+	public void restartFromCheckpoint() {
+		if (coopSession != null) {
+			return;
+		}
+		if (checkpoint.isEmpty()) {
+			restartLevel();
+		} else {
+			resumeFrom(checkpoint);
+		}
+	}
+
+	/**
+	 * Captures the complete simulation state of the level: the tick count, the random
+	 * generator, every live actor with its health, position and counters, and all enemy
+	 * bullets. Actors are kept by reference, so restoring reuses their nodes.
+	 *
+	 * @param buffer the buffer to overwrite with the snapshot
+	 */
+	public void saveSnapshot(SnapshotBuffer buffer) {
+		buffer.clear();
+		buffer.putLong(ticksElapsed);
+		buffer.putLong(random.getState());
+		saveActors(friendlyUnits, buffer);
+		saveActors(enemyUnits, buffer);
+		saveActors(userProjectiles, buffer);
+		buffer.putBoolean(boss != null); // The boss may be waiting outside enemyUnits to spawn
+		if (boss != null) {
+			boss.saveState(buffer);
+		}
+		enemyBullets.saveState(buffer);
+	}
+
+	/**
+	 * Rewinds the level to a snapshot taken by {@link #saveSnapshot(SnapshotBuffer)}.
+	 * Nodes of actors that died since are put back, and actors created since are removed.
+	 * Held keys and particles are left alone, so a co-op rollback goes unnoticed; a
+	 * restart resets them itself.
+	 *
+	 * @param buffer the snapshot to restore
+	 */
+	public void restoreSnapshot(SnapshotBuffer buffer) {
+		buffer.rewind();
+		ticksElapsed = buffer.getLong();
+		random.setSeed(buffer.getLong());
+		restoreActors(friendlyUnits, buffer);
+		restoreActors(enemyUnits, buffer);
+		restoreActors(userProjectiles, buffer);
+		if (buffer.getBoolean()) {
+			boss.restoreState(buffer);
+		}
+		enemyBullets.restoreState(buffer);
+		currentNumberOfEnemies = enemyUnits.size();
+		runRecorded = false;
+		reportedUserHealth = localPlane.getHealth();
+		levelView.setHearts(localPlane.getHealth());
+		levelView.updateKillCountDisplay(user.getNumberOfKills());
+		eventBus.dispatch(); // Deliver state events published by restored actors
+	}
+
+	private void resumeFrom(SnapshotBuffer snapshot) {
 		timeline.stop();
-		// Restart the current level
-		setChanged();
-		notifyObservers(this.getClass().getName());
+		restoreSnapshot(snapshot);
+		particles.clear();
+		input.releaseAll();
+		levelUIManager.hideMenus();
+		if (isPaused) {
+			resumeGame();
+		} else {
+			timeline.play();
+		}
+		background.requestFocus();
+	}
+
+	private void saveActors(List<ActiveActorDestructible> actors, SnapshotBuffer buffer) {
+		buffer.putInt(actors.size());
+		for (ActiveActorDestructible actor : actors) {
+			buffer.putReference(actor);
+			actor.saveState(buffer);
+		}
+	}
+
+	private void restoreActors(List<ActiveActorDestructible> actors, SnapshotBuffer buffer) {
+		world.getChildren().removeAll(actors);
+		actors.clear();
+		int count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			ActiveActorDestructible actor = buffer.getReference(ActiveActorDestructible.class);
+			actor.restoreState(buffer);
+			actors.add(actor);
+		}
+		world.getChildren().addAll(actors);
 	}
 
 	public void goToMainMenu() {
-		timeline.stop();
-		setChanged();
-		notifyObservers("MAIN_MENU"); // Use a constant string identifier for the main menu
+		stop();
+		eventBus.publish(GameEventType.MAIN_MENU_REQUESTED);
+		eventBus.dispatch();
 	}
 
 	/**
@@ -433,29 +1102,24 @@ public abstract class LevelParent extends Observable {
 	 * @return the screen height
 	 */
 	public double getScreenHeight() {
-		return this.scene.getHeight();
+		return screenHeight;
 	}
 
 
 
 
-	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
+	private void fireProjectile(UserPlane plane) {
+		ActiveActorDestructible projectile = plane.fireProjectile();
 		if (projectile != null) { // Only add projectile if it was created
-			root.getChildren().add(projectile);
-			userProjectiles.add(projectile);
+			addUserProjectile(projectile);
+			eventBus.publish(GameEventType.PLAYER_FIRED).at(projectile.getWorldX(), projectile.getWorldY());
 		}
 	}
 
 
 	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
-	}
-
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
-		if (projectile != null) {
-			root.getChildren().add(projectile);
-			enemyProjectiles.add(projectile);
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			((FighterPlane) enemyUnits.get(i)).fireBullets(enemyBullets);
 		}
 	}
 
@@ -492,18 +1156,62 @@ public abstract class LevelParent extends Observable {
 //		enemyProjectiles.forEach(projectile -> projectile.updateActor());
 //	}
 
+	private void updateActors(List<ActiveActorDestructible> actors) {
+		AllocationTracker allocations = probe.getAllocations();
+		if (allocations == null || !allocations.isSamplingActors()) {
+			actors.forEach(ActiveActorDestructible::updateActor);
+			return;
+		}
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			allocations.beginActor();
+			actor.updateActor();
+			allocations.endActor(actor.getClass());
+		}
+	}
+
+	private static BulletPool createBulletPool() {
+		BulletPool pool = new BulletPool();
+		for (BulletType type : BulletType.values()) {
+			pool.setTypeMask(type, CollisionMask.forResource(type.getImagePath(),
+					(int) Math.ceil(type.getWidth()), (int) Math.ceil(type.getHeight())));
+		}
+		return pool;
+	}
+
 	private void updateActors() {
-		friendlyUnits.forEach(ActiveActorDestructible::updateActor);
-		enemyUnits.forEach(ActiveActorDestructible::updateActor);
-		userProjectiles.forEach(ActiveActorDestructible::updateActor);
-		enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
+		updateActors(friendlyUnits);
+		updateActors(enemyUnits);
+		updateActors(userProjectiles);
+		UserPlane target = user.isDestroyed() && partner != null ? partner : user; // Homing bullets chase a live plane
+		CollisionMask userMask = user.getCollisionMask();
+		if (userMask != null) {
+			enemyBullets.step(lastTickNanos, target.getWorldX(), target.getWorldY(), user.getWorldX(), user.getWorldY(),
+					user.getWorldX() + userMask.getWidth(), user.getWorldY() + userMask.getHeight(), userMask,
+					!user.isDestroyed());
+		} else {
+			Bounds userBounds = user.getAdjustedBounds();
+			enemyBullets.step(lastTickNanos, target.getWorldX(), target.getWorldY(), userBounds.getMinX(),
+					userBounds.getMinY(), userBounds.getMaxX(), userBounds.getMaxY(), !user.isDestroyed());
+		}
+		if (partner == null || partner.isDestroyed()) {
+			return;
+		}
+		CollisionMask partnerMask = partner.getCollisionMask();
+		if (partnerMask != null) {
+			enemyBullets.collideSecondary(partner.getWorldX(), partner.getWorldY(),
+					partner.getWorldX() + partnerMask.getWidth(), partner.getWorldY() + partnerMask.getHeight(), partnerMask);
+		} else {
+			Bounds partnerBounds = partner.getAdjustedBounds();
+			enemyBullets.collideSecondary(partnerBounds.getMinX(), partnerBounds.getMinY(), partnerBounds.getMaxX(),
+					partnerBounds.getMaxY(), null);
+		}
 	}
 
 	private void removeAllDestroyedActors() {
 		removeDestroyedActors(friendlyUnits);
 		removeDestroyedActors(enemyUnits);
 		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
 	}
 
 
@@ -525,151 +1233,186 @@ public abstract class LevelParent extends Observable {
 //	}
 
 
-	// Remove bounding box logic in removeDestroyedActors
+	/**
+	 * Removes the destroyed actors from a list and from the world, compacting the list
+	 * in place so that a tick without deaths allocates nothing.
+	 */
 	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream()
-				.filter(ActiveActorDestructible::isDestroyed)
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+		int kept = 0;
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isDestroyed()) {
+				actors.set(kept++, actor);
+				continue;
+			}
+			world.getChildren().remove(actor);
+			releaseActor(actor);
+		}
+		for (int last = actors.size() - 1; last >= kept; last--) {
+			actors.remove(last);
+		}
 	}
 
-	private void handlePlaneCollisions() {
-		handleCollisions(friendlyUnits, enemyUnits);
+	/**
+	 * Called for every destroyed actor once it has left the scene. Levels that pool their
+	 * actors take them back here; the default does nothing.
+	 *
+	 * @param actor the removed actor
+	 */
+	protected void releaseActor(ActiveActorDestructible actor) {
 	}
 
+	/**
+	 * Declares which collision layers interact and how. Pairs that are not declared here,
+	 * such as enemies with each other, are never tested.
+	 */
+	private void declareCollisions() {
+		collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY, (projectile, enemy) -> {
+			enemy.takeDamage();
+			projectile.takeDamage();
+			publishProjectileHit(projectile, false);
+		});
+		collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.BOSS, (projectile, target) -> {
+			target.takeDamage();
+			projectile.takeDamage();
+			publishProjectileHit(projectile, false);
+		});
+		collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.BOSS_SHIELD, (projectile, shield) -> {
+			shield.takeDamage(); // The boss absorbs the hit with its shield
+			projectile.takeDamage();
+			publishProjectileHit(projectile, true);
+		});
+		collisions.when(CollisionLayer.PLAYER, CollisionLayer.ENEMY, (player, enemy) -> {
+			player.takeDamage();
+			enemy.takeDamage();
+		});
+		collisions.when(CollisionLayer.PLAYER, CollisionLayer.BOSS, (player, target) -> {
+			player.takeDamage();
+			target.takeDamage();
+		});
+		collisions.creditKills(CollisionLayer.ENEMY);
+	}
 
-	private void handleUserProjectileCollisions() {
-		List<ActiveActorDestructible> enemiesToRemove = new ArrayList<>();
-		List<ActiveActorDestructible> projectilesToRemove = new ArrayList<>();
+	private void publishProjectileHit(ActiveActorDestructible projectile, boolean shielded) {
+		eventBus.publish(GameEventType.PROJECTILE_HIT)
+				.at(projectile.getWorldX() + projectile.getSpriteWidth(), projectile.getWorldY() + projectile.getSpriteHeight() / 2)
+				.active(shielded);
+	}
 
-		// Handle collisions with enemy units
-		for (ActiveActorDestructible enemy : enemyUnits) {
-			if (!enemy.isVisibleOnScreen(screenWidth, screenHeight)) {
-				continue; // Skip enemies not visible on the screen
-			}
-			for (ActiveActorDestructible projectile : userProjectiles) {
-				if (enemy.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-					enemy.takeDamage();
-					projectile.takeDamage();
-
-					if (enemy.isDestroyed()) {
-						user.incrementKillCount();
-						System.out.println("Enemy destroyed. Total kills: " + user.getNumberOfKills());
-						enemiesToRemove.add(enemy);
-
-						// Remove bounding box visualization
-						Rectangle highlight = boundingBoxHighlights.remove(enemy);
-						if (highlight != null) {
-							root.getChildren().remove(highlight);
-						}
-					}
-					if (projectile.isDestroyed()) {
-						projectilesToRemove.add(projectile);
-					}
-				}
-			}
+	/**
+	 * Applies the enemy bullets that hit the players since the last tick. Bullets are
+	 * tested on the bullet simulation thread, so their hits arrive here rather than
+	 * through the collision system. A destroyed player ends the run in the tick's game
+	 * over check.
+	 *
+	 * @return the number of bullet hits applied
+	 */
+	private int applyBulletHits() {
+		int hits = enemyBullets.takeHits();
+		applyBulletHits(user, hits);
+		if (partner != null) {
+			int partnerHits = enemyBullets.takeSecondaryHits();
+			applyBulletHits(partner, partnerHits);
+			hits += partnerHits;
 		}
+		return hits;
+	}
 
-		// Handle collisions with the boss
-		if (boss != null) {
-			for (ActiveActorDestructible projectile : userProjectiles) {
-				if (boss.isShielded()) {
-					if (boss.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-						boss.takeDamage(); // Damage the shield
-						projectile.takeDamage(); // Destroy the projectile
-						if (projectile.isDestroyed()) {
-							projectilesToRemove.add(projectile);
-						}
-					}
-				} else if (boss.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-					boss.takeDamage(); // Damage the boss directly
-					projectile.takeDamage(); // Destroy the projectile
-					if (projectile.isDestroyed()) {
-						projectilesToRemove.add(projectile);
-					}
-				}
-			}
+	private void applyBulletHits(UserPlane plane, int hits) {
+		for (int i = 0; i < hits && !plane.isDestroyed(); i++) {
+			plane.takeDamage();
 		}
+	}
 
-		// Handle collisions between enemy projectiles and the user plane
-		for (ActiveActorDestructible projectile : enemyProjectiles) {
-			if (user.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-				user.takeDamage(); // Damage the user plane
-				projectile.takeDamage(); // Destroy the projectile
-				if (projectile.isDestroyed()) {
-					projectilesToRemove.add(projectile);
-				}
-
-				// Check if the user plane is destroyed
-				if (user.isDestroyed()) {
-					System.out.println("User plane destroyed. Game over.");
-					loseGame();
-					return; // Exit the function early if the game is over
-				}
+	/**
+	 * Registers this tick's actors with their collision layer and resolves every
+	 * collision in one pass. Destroyed actors are removed afterwards by
+	 * {@link #removeAllDestroyedActors()}.
+	 */
+	private void resolveCollisions() {
+		for (int i = 0; i < friendlyUnits.size(); i++) {
+			collisions.add(friendlyUnits.get(i), CollisionLayer.PLAYER);
+		}
+		for (int i = 0; i < userProjectiles.size(); i++) {
+			collisions.add(userProjectiles.get(i), CollisionLayer.PLAYER_BULLET);
+		}
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			ActiveActorDestructible enemy = enemyUnits.get(i);
+			if (!enemy.isVisibleOnScreen(camera)) {
+				continue; // Enemies still entering the screen cannot be hit yet
+			}
+			if (enemy == boss) {
+				collisions.add(enemy, boss.isShielded() ? CollisionLayer.BOSS_SHIELD : CollisionLayer.BOSS);
+			} else {
+				collisions.add(enemy, CollisionLayer.ENEMY);
 			}
 		}
-
-		// Remove destroyed enemies, projectiles, and update the game state
-		root.getChildren().removeAll(enemiesToRemove);
-		root.getChildren().removeAll(projectilesToRemove);
-		enemyUnits.removeAll(enemiesToRemove);
-		userProjectiles.removeAll(projectilesToRemove);
-		enemyProjectiles.removeAll(projectilesToRemove);
-
-		// Update the kill count display
-		levelView.updateKillCountDisplay(user.getNumberOfKills());
-		System.out.println("Kill count updated in UI: " + user.getNumberOfKills());
+		collisions.resolve();
 	}
 
 
-
-
-	private void handleEnemyProjectileCollisions() {
-		handleCollisions(enemyProjectiles, friendlyUnits);
+	private void handleEnemyPenetration() {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			ActiveActorDestructible enemy = enemyUnits.get(i);
+			if (enemyHasPenetratedDefenses(enemy)) {
+				enemy.destroy(); // Removed with the other destroyed actors, without reducing player health
+			}
+		}
 	}
 
-
-	private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getAdjustedBounds().intersects(otherActor.getAdjustedBounds())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
+	/**
+	 * Destroys the player's projectiles that have flown past the right edge of the world,
+	 * which would otherwise stay in the scene for the rest of the level.
+	 */
+	private void handleEscapedProjectiles() {
+		for (int i = 0; i < userProjectiles.size(); i++) {
+			ActiveActorDestructible projectile = userProjectiles.get(i);
+			if (projectile.getWorldX() > camera.getWorldWidth()) {
+				projectile.destroy();
 			}
 		}
 	}
 
-
-	private void handleEnemyPenetration() {
-		List<ActiveActorDestructible> penetratedEnemies = new ArrayList<>();
-		for (ActiveActorDestructible enemy : enemyUnits) {
-			if (enemyHasPenetratedDefenses(enemy)) {
-				// Mark enemy for removal without reducing player health
-				penetratedEnemies.add(enemy);
+	/**
+	 * Consumes the outcomes of this tick's collisions. This is the only place kills are
+	 * credited: an enemy destroyed by a collision is reported once as
+	 * {@link CollisionOutcome#KILLED}, while enemies that leave the screen are destroyed
+	 * without an outcome. The kill counter is refreshed once, however many kills there were.
+	 */
+	private void applyCollisionOutcomes() {
+		int kills = 0;
+		for (int i = 0; i < collisions.getOutcomeCount(); i++) {
+			if (collisions.getOutcome(i) != CollisionOutcome.KILLED) {
+				continue;
 			}
+			ActiveActorDestructible enemy = collisions.getOutcomeActor(i);
+			user.incrementKillCount();
+			kills++;
+			eventBus.publish(GameEventType.ENEMY_KILLED)
+					.at(enemy.getWorldX() + enemy.getSpriteWidth() / 2, enemy.getWorldY() + enemy.getSpriteHeight() / 2)
+					.value(user.getNumberOfKills());
 		}
-		// Remove penetrated enemies from the game
-		for (ActiveActorDestructible enemy : penetratedEnemies) {
-			enemy.destroy();
+		if (kills > 0) {
+			levelView.updateKillCountDisplay(user.getNumberOfKills());
 		}
 	}
 
-	private void updateKillCount() {
-		List<ActiveActorDestructible> destroyedEnemies = enemyUnits.stream()
-				.filter(enemy -> enemy.isDestroyed() && enemy.isVisibleOnScreen(screenWidth, screenHeight))
-				.collect(Collectors.toList());
-
-		for (ActiveActorDestructible enemy : destroyedEnemies) {
-			user.incrementKillCount();
-			System.out.println("Enemy destroyed. Total kills: " + user.getNumberOfKills());
-			enemyUnits.remove(enemy);
+	private void reportUserDamage() {
+		int health = localPlane.getHealth();
+		if (health < reportedUserHealth) {
+			reportedUserHealth = health;
+			eventBus.publish(GameEventType.PLAYER_DAMAGED)
+					.at(localPlane.getWorldX() + localPlane.getSpriteWidth() / 2,
+							localPlane.getWorldY() + localPlane.getSpriteHeight() / 2)
+					.value(health);
 		}
+	}
 
-		// Update the kill count display
-		levelView.updateKillCountDisplay(user.getNumberOfKills());
-		System.out.println("Kill count updated in UI: " + user.getNumberOfKills());
+	private void recordRun(long bossTimeMillis) {
+		if (!runRecorded) { // Game over can be detected twice in one tick
+			runRecorded = true;
+			controller.recordRun(bossTimeMillis);
+		}
 	}
 
 	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
@@ -678,6 +1421,7 @@ public abstract class LevelParent extends Observable {
 
 	protected void winGame() {
 		timeline.stop(); // Stop the game timeline
+		recordRun(ticksElapsed * MILLISECOND_DELAY);
 		levelUIManager.showWinMenu(this::restartToLevelOne, this::goToMainMenu); // Display win menu
 		System.out.println("Boss defeated. Transitioning to win menu.");
 	}
@@ -692,6 +1436,33 @@ public abstract class LevelParent extends Observable {
 		return user;
 	}
 
+	/**
+	 * Gets the bus that carries this level's game events.
+	 *
+	 * @return the level event bus
+	 */
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Gets the tick-sampled input of the level.
+	 *
+	 * @return the level input
+	 */
+	public GameInput getInput() {
+		return input;
+	}
+
+	/**
+	 * Gets the camera that maps the level's world onto the window.
+	 *
+	 * @return the level camera
+	 */
+	public Camera getCamera() {
+		return camera;
+	}
+
 	/**
 	 * Gets the root group of the scene.
 	 *
@@ -701,6 +1472,16 @@ public abstract class LevelParent extends Observable {
 		return root;
 	}
 
+	/**
+	 * Gets the group that holds the level's world: the background, actors, bullets and
+	 * particles. The camera transforms this group, so HUD nodes belong on the root instead.
+	 *
+	 * @return the world group
+	 */
+	protected Group getWorld() {
+		return world;
+	}
+
 	/**
 	 * Gets the current number of enemies.
 	 *
@@ -710,6 +1491,22 @@ public abstract class LevelParent extends Observable {
 		return enemyUnits.size();
 	}
 
+	/**
+	 * Gets how many enemies may be on screen at once, lowered while the quality governor
+	 * has reduced the quality level. Co-op levels always use the full limit, which must be
+	 * the same on both instances.
+	 *
+	 * @param maximumEnemies the level's own enemy limit
+	 * @return the limit to spawn up to, at least one
+	 */
+	protected int getEnemyLimit(int maximumEnemies) {
+		if (coopSession != null) {
+			return maximumEnemies;
+		}
+		double density = qualityGovernor.getLevel().getSpawnDensity();
+		return Math.max(1, (int) Math.ceil(maximumEnemies * density));
+	}
+
 	/**
 	 * Adds an enemy unit to the level.
 	 *
@@ -717,7 +1514,26 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		world.getChildren().add(enemy);
+	}
+
+	/**
+	 * Adds a projectile fired by the player to the level.
+	 *
+	 * @param projectile the projectile to add
+	 */
+	void addUserProjectile(ActiveActorDestructible projectile) {
+		world.getChildren().add(projectile);
+		userProjectiles.add(projectile);
+	}
+
+	/**
+	 * Gets the probe that marks the ticks of this level.
+	 *
+	 * @return the level's game loop probe
+	 */
+	GameLoopProbe getProbe() {
+		return probe;
 	}
 
 	/**
@@ -739,22 +1555,49 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Checks if the user is destroyed.
+	 * Checks if the user is destroyed. In a co-op level both planes must be.
 	 *
 	 * @return true if the user is destroyed; false otherwise
 	 */
 	protected boolean userIsDestroyed() {
-		return user.isDestroyed();
+		return user.isDestroyed() && (partner == null || partner.isDestroyed());
 	}
 
 	/**
-	 * Adds an enemy projectile to the level.
+	 * Gets the generator for all gameplay randomness in this level.
 	 *
-	 * @param projectile the projectile to add
+	 * @return the level's random generator
+	 */
+	public GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Resets the random generator to a seed and rebuilds the actors that drew from it
+	 * while the level was constructed, so that they follow the new seed too.
+	 *
+	 * @param seed the new seed
+	 */
+	private void reseed(long seed) {
+		random.setSeed(seed);
+		rebuildSeededActors();
+	}
+
+	/**
+	 * Rebuilds actors whose behaviour was drawn from the random generator in the
+	 * constructor. Called after the generator is reseeded, before the scene is built;
+	 * the default does nothing.
+	 */
+	protected void rebuildSeededActors() {
+	}
+
+	/**
+	 * Gets the bullet engine that simulates enemy and boss fire.
+	 *
+	 * @return where enemies fire their bullets
 	 */
-	protected void addEnemyProjectile(ActiveActorDestructible projectile) {
-		enemyProjectiles.add(projectile);
-		root.getChildren().add(projectile);
+	protected BulletSink getEnemyBullets() {
+		return enemyBullets;
 	}
 
 
@@ -766,6 +1609,7 @@ public abstract class LevelParent extends Observable {
 	// Add a method to reset the user's health when transitioning to a new level
 	protected void resetUserHealth(int health) {
 		user.setHealth(health); // Reset the health
+		reportedUserHealth = health;
 		System.out.println("User health reset to: " + user.getHealth());
 	}
 
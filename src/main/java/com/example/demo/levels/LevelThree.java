@@ -4,6 +4,8 @@ import com.example.demo.actors.Boss;
 import com.example.demo.views.LevelView;
 import com.example.demo.views.LevelViewLevelTwo;
 import com.example.demo.controller.Controller;
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.GameEventType;
 import javafx.animation.FadeTransition;
 import javafx.scene.Scene;
 import javafx.scene.paint.Color;
@@ -31,9 +33,6 @@ public class LevelThree extends LevelParent {
     /** Initial health of the player in Level Three. */
     private static final int PLAYER_INITIAL_HEALTH = 8;
 
-    /** The boss enemy featured in Level Three. */
-    protected Boss boss;
-
     /** The specialized level view for Level Three, including boss-specific UI elements. */
     private LevelViewLevelTwo levelView;
 
@@ -48,6 +47,18 @@ public class LevelThree extends LevelParent {
     public LevelThree(double screenHeight, double screenWidth, Controller controller) {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller); // Pass the controller
         boss = new Boss(this);
+
+        GameEventBus eventBus = getEventBus();
+        eventBus.subscribe(GameEventType.BOSS_DAMAGED,
+                event -> levelView.updateBossHealthBar(event.getValue(), event.getMaxValue()));
+        eventBus.subscribe(GameEventType.SHIELD_CHANGED, event -> {
+            levelView.updateShieldHealthBar(event.getValue(), event.getMaxValue());
+            if (event.isActive()) {
+                levelView.showShield();
+            } else {
+                levelView.hideShield();
+            }
+        });
     }
     /**
      * Initializes the scene for Level Three, including objective text and animations.
@@ -88,7 +99,16 @@ public class LevelThree extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getWorld().getChildren().add(getUser());
+    }
+
+    /**
+     * Rebuilds the boss, whose fight is drawn from the level's random generator,
+     * so a reseeded level fights the boss its seed describes.
+     */
+    @Override
+    protected void rebuildSeededActors() {
+        boss = new Boss(this);
     }
 
     /**
@@ -119,37 +139,24 @@ public class LevelThree extends LevelParent {
         if (getCurrentNumberOfEnemies() == 0) {
             if (boss == null) {
                 boss = new Boss(this); // Pass the current level instance
-                System.out.println("Boss initialized.");
             }
             addEnemyUnit(boss);
-            System.out.println("Boss added to enemy units.");
         }
     }
 
     /**
-     * Updates the level view, including health bars, shields, and boss position.
-     * Synchronizes the boss's shield visibility and position with the UI.
+     * Updates the boss position and keeps the shield image on top of the boss.
+     * Boss health and shield state are updated from the level's events.
      */
     @Override
     protected void updateLevelView() {
-        super.updateLevelView(); // Update hearts and other UI elements
+        super.updateLevelView();
         adjustBossPosition();
         if (boss != null) {
-            levelView.updateBossHealthBar(boss.getHealth(), 100);
-
             // Sync shield position with the boss
             double bossX = boss.getLayoutX() + boss.getTranslateX();
             double bossY = boss.getLayoutY() + boss.getTranslateY();
             levelView.updateShieldPosition(bossX, bossY);
-
-            // Handle shield visibility
-            if (boss.isShielded()) {
-                System.out.println("Shield should be visible.");
-                levelView.showShield();
-            } else {
-                System.out.println("Shield should be hidden.");
-                levelView.hideShield();
-            }
         }
     }
 
@@ -164,22 +171,10 @@ public class LevelThree extends LevelParent {
 
             boss.setLayoutX(bossX);
             boss.setLayoutY(bossY);
-
-            System.out.println("Boss position adjusted to: (" + bossX + ", " + bossY + ")");
         }
     }
 
 
-    /**
-     * Updates the position of the boss's shield relative to its location.
-     *
-     * @param bossX the X-coordinate of the boss
-     * @param bossY the Y-coordinate of the boss
-     */
-public void updateBossShieldPosition(double bossX, double bossY) {
-    levelView.updateShieldPosition(bossX, bossY);
-}
-
     /**
      * Instantiates the level view for Level Three, including boss-specific UI elements.
      *
@@ -187,7 +182,7 @@ public void updateBossShieldPosition(double bossX, double bossY) {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH);
+        levelView = new LevelViewLevelTwo(getRoot(), getWorld(), PLAYER_INITIAL_HEALTH);
         return levelView;
     }
 
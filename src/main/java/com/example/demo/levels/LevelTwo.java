@@ -1,6 +1,5 @@
 package com.example.demo.levels;
 
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.EnemyPlane;
 import com.example.demo.views.LevelView;
 import com.example.demo.controller.Controller;
@@ -43,10 +42,6 @@ public class LevelTwo extends LevelParent {
 		} else if (userHasReachedKillTarget()) {
 			System.out.println("Kill target reached for Level Two. Transitioning to next level.");
 			goToNextLevel(NEXT_LEVEL);
-		} else {
-			System.out.println("Player health: " + getUser().getHealth() +
-					", Kills: " + getUser().getNumberOfKills() +
-					", Required kills to advance: " + KILLS_TO_ADVANCE);
 		}
 	}
 
@@ -56,7 +51,7 @@ public class LevelTwo extends LevelParent {
 	@Override
 	protected void initializeFriendlyUnits() {
 		resetUserHealth(PLAYER_INITIAL_HEALTH); // Ensure health is reset first
-		getRoot().getChildren().add(getUser()); // Add the user to the scene
+		getWorld().getChildren().add(getUser()); // Add the user to the scene
 	}
 
 
@@ -66,12 +61,11 @@ public class LevelTwo extends LevelParent {
 	@Override
 	protected void spawnEnemyUnits() {
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-		System.out.println("Current number of enemies: " + currentNumberOfEnemies);
 
-		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
+		for (int i = 0; i < getEnemyLimit(TOTAL_ENEMIES) - currentNumberOfEnemies; i++) {
+			if (getRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
 				double newEnemyInitialXPosition = getScreenWidth(); // Spawning on the right edge
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+				double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
 
 				// Ensure no overlap with existing enemies
 				boolean positionValid = enemyUnits.stream()
@@ -86,15 +80,11 @@ public class LevelTwo extends LevelParent {
 
 				if (positionValid) {
 					// Pass the root group to the EnemyPlane constructor
-					EnemyPlane newEnemy = new EnemyPlane(newEnemyInitialXPosition, newEnemyInitialYPosition, getUser(), getRoot());
+					EnemyPlane newEnemy = new EnemyPlane(newEnemyInitialXPosition, newEnemyInitialYPosition, getUser(), getRandom());
 					addEnemyUnit(newEnemy);
-					System.out.println("Spawned enemy at X: " + newEnemyInitialXPosition + ", Y: " + newEnemyInitialYPosition);
 
 					// Optionally add a projectile for the enemy
-					ActiveActorDestructible homingProjectile = newEnemy.fireProjectile();
-					if (homingProjectile != null) {
-						addEnemyProjectile(homingProjectile);
-					}
+					newEnemy.fireBullets(getEnemyBullets());
 				} else {
 					i--; // Retry this spawn if position is invalid
 				}
@@ -0,0 +1,114 @@
+package com.example.demo.levels;
+
+import com.example.demo.utilities.GameRandom;
+
+/**
+ * One procedurally generated wave of {@link LevelEndless}.
+ * <p>
+ * Everything but the formation follows from the wave number: each wave has more
+ * enemies, allows more of them on screen at once, spawns them faster and, from wave
+ * {@value #FIRST_VOLLEY_WAVE} on, adds bullet volleys that come more and more often.
+ * The number of enemies on screen never exceeds {@value #MAX_ENEMIES_ON_SCREEN}, which
+ * bounds what any wave can keep alive.
+ * </p>
+ */
+public final class Wave {
+
+	/** The most enemies any wave keeps on screen at once. */
+	public static final int MAX_ENEMIES_ON_SCREEN = 24;
+	/** The first wave that fires bullet volleys. */
+	public static final int FIRST_VOLLEY_WAVE = 4;
+
+	private final int number;
+	private final WaveFormation formation;
+
+	/**
+	 * Constructs a wave.
+	 *
+	 * @param number    the wave number, starting at 1
+	 * @param formation the formation of the wave's spawn groups
+	 */
+	public Wave(int number, WaveFormation formation) {
+		if (number < 1) {
+			throw new IllegalArgumentException("Wave numbers start at 1: " + number);
+		}
+		this.number = number;
+		this.formation = formation;
+	}
+
+	/**
+	 * Generates a wave, picking its formation at random. The first wave always scatters.
+	 *
+	 * @param number the wave number, starting at 1
+	 * @param random the level's random generator
+	 * @return the wave
+	 */
+	public static Wave generate(int number, GameRandom random) {
+		WaveFormation[] formations = WaveFormation.values();
+		return new Wave(number, number == 1 ? WaveFormation.SCATTER : formations[random.nextInt(formations.length)]);
+	}
+
+	/**
+	 * Gets the wave number.
+	 *
+	 * @return the number, starting at 1
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Gets the formation of the wave's spawn groups.
+	 *
+	 * @return the formation
+	 */
+	public WaveFormation getFormation() {
+		return formation;
+	}
+
+	/**
+	 * Gets the number of enemies that must be spawned and cleared to finish the wave.
+	 *
+	 * @return the enemy count
+	 */
+	public int getEnemyCount() {
+		return 6 + 4 * (number - 1);
+	}
+
+	/**
+	 * Gets the most enemies the wave keeps on screen at once, before the quality level's
+	 * spawn density is applied.
+	 *
+	 * @return the enemy limit
+	 */
+	public int getMaxOnScreen() {
+		return Math.min(MAX_ENEMIES_ON_SCREEN, 4 + 2 * (number - 1));
+	}
+
+	/**
+	 * Gets the number of ticks between two spawn groups.
+	 *
+	 * @return the spawn interval in ticks
+	 */
+	public int getSpawnIntervalTicks() {
+		return Math.max(4, 20 - number);
+	}
+
+	/**
+	 * Gets the number of enemies that enter together.
+	 *
+	 * @return the group size
+	 */
+	public int getGroupSize() {
+		return formation == WaveFormation.SCATTER ? 1 : Math.min(5, 2 + number / 3);
+	}
+
+	/**
+	 * Gets the number of ticks between two bullet volleys.
+	 *
+	 * @return the volley interval in ticks, or 0 if the wave fires no volleys
+	 */
+	public int getVolleyIntervalTicks() {
+		return number < FIRST_VOLLEY_WAVE ? 0 : Math.max(20, 100 - 8 * (number - FIRST_VOLLEY_WAVE));
+	}
+}
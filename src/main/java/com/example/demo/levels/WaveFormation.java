@@ -0,0 +1,58 @@
+package com.example.demo.levels;
+
+/**
+ * How the enemies of one spawn group of an endless wave are arranged as they enter.
+ */
+public enum WaveFormation {
+	/** Single enemies at random heights. */
+	SCATTER,
+	/** A vertical line of enemies entering side by side. */
+	COLUMN,
+	/** A V pointing at the player, with the leader in front and the wings trailing. */
+	WEDGE;
+
+	/** Distance between two rows of a formation. */
+	static final double ROW_SPACING = 70;
+	/** Distance each pair of wedge wings trails the one before. */
+	static final double WING_SPACING = 60;
+
+	/**
+	 * Gets the horizontal offset of one member from the group's entry point.
+	 *
+	 * @param index the member's index within the group
+	 * @return the offset to the right, in pixels
+	 */
+	public double getOffsetX(int index) {
+		return this == WEDGE ? rank(index) * WING_SPACING : 0;
+	}
+
+	/**
+	 * Gets the vertical offset of one member from the top of the group.
+	 *
+	 * @param index the member's index within the group
+	 * @param size  the number of enemies in the group
+	 * @return the offset downwards, in pixels
+	 */
+	public double getOffsetY(int index, int size) {
+		return switch (this) {
+			case SCATTER -> 0;
+			case COLUMN -> index * ROW_SPACING;
+			// Leader on the middle row, then one wing above and one below, alternating
+			case WEDGE -> (size / 2 + (index % 2 == 1 ? -rank(index) : rank(index))) * ROW_SPACING;
+		};
+	}
+
+	/**
+	 * Gets the height a group takes up, to keep it on screen.
+	 *
+	 * @param size the number of enemies in the group
+	 * @return the distance from the top row to the bottom row, in pixels
+	 */
+	public double getHeight(int size) {
+		return this == SCATTER ? 0 : (size - 1) * ROW_SPACING;
+	}
+
+	private static int rank(int index) {
+		return (index + 1) / 2;
+	}
+}
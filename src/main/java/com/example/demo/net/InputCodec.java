@@ -0,0 +1,131 @@
+package com.example.demo.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes the input packets of a co-op session.
+ * <p>
+ * A packet repeats every input the peer has not acknowledged yet, so a lost packet is
+ * covered by the next one and no retransmission timer is needed. Held keys produce long
+ * runs of identical key states, so the inputs are run-length encoded:
+ * </p>
+ * <pre>
+ * int magic | int ackTick | int firstTick | short tickCount | (byte keys, byte runLength)*
+ * </pre>
+ * <p>
+ * {@code ackTick} is the newest tick of the receiver's inputs the sender has, or -1.
+ * A decoder instance is reused for every packet and never allocates.
+ * </p>
+ */
+public final class InputCodec {
+
+	/** Largest packet the codec writes. */
+	public static final int MAX_PACKET_SIZE = 14 + 2 * RollbackSession.INPUT_WINDOW;
+
+	private static final int MAGIC = 0x53424E54; // "SBNT"
+	private static final int MAX_RUN = 255;
+
+	private final int[] keys = new int[RollbackSession.INPUT_WINDOW];
+	private int ackTick;
+	private int firstTick;
+	private int tickCount;
+
+	/**
+	 * Writes a packet carrying a range of inputs from a ring buffer.
+	 *
+	 * @param out       the buffer to write to, with at least {@link #MAX_PACKET_SIZE} bytes left
+	 * @param ackTick   the newest peer tick received, or -1
+	 * @param firstTick the first tick carried
+	 * @param tickCount the number of ticks carried, at most {@link RollbackSession#INPUT_WINDOW}
+	 * @param inputs    the ring buffer of inputs, indexed by {@code tick & mask}
+	 * @param mask      the ring buffer's index mask
+	 */
+	public static void encode(ByteBuffer out, int ackTick, int firstTick, int tickCount, int[] inputs, int mask) {
+		out.putInt(MAGIC);
+		out.putInt(ackTick);
+		out.putInt(firstTick);
+		out.putShort((short) tickCount);
+		int tick = firstTick;
+		int end = firstTick + tickCount;
+		while (tick < end) {
+			int value = inputs[tick & mask];
+			int run = 1;
+			while (tick + run < end && run < MAX_RUN && inputs[(tick + run) & mask] == value) {
+				run++;
+			}
+			out.put((byte) value);
+			out.put((byte) run);
+			tick += run;
+		}
+	}
+
+	/**
+	 * Reads a packet.
+	 *
+	 * @param in the packet bytes
+	 * @return {@code true} if the packet was valid; the accessors then describe it
+	 */
+	public boolean decode(ByteBuffer in) {
+		if (in.remaining() < 14 || in.getInt() != MAGIC) {
+			return false;
+		}
+		ackTick = in.getInt();
+		firstTick = in.getInt();
+		tickCount = in.getShort();
+		if (tickCount < 0 || tickCount > keys.length) {
+			return false;
+		}
+		int decoded = 0;
+		while (decoded < tickCount) {
+			if (in.remaining() < 2) {
+				return false;
+			}
+			int value = in.get() & 0xFF;
+			int run = in.get() & 0xFF;
+			if (run == 0 || decoded + run > tickCount) {
+				return false;
+			}
+			for (int i = 0; i < run; i++) {
+				keys[decoded++] = value;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the newest of our ticks the peer has received.
+	 *
+	 * @return the acknowledged tick, or -1
+	 */
+	public int getAckTick() {
+		return ackTick;
+	}
+
+	/**
+	 * Gets the first tick carried by the packet.
+	 *
+	 * @return the first tick
+	 */
+	public int getFirstTick() {
+		return firstTick;
+	}
+
+	/**
+	 * Gets the number of ticks carried by the packet.
+	 *
+	 * @return the tick count
+	 */
+	public int getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Gets the key state of one carried tick.
+	 *
+	 * @param index the position in the packet, between 0 and {@link #getTickCount()}
+	 * @return the key-state bitset
+	 */
+	public int getKeys(int index) {
+		return keys[index];
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.demo.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Carries input packets between the two instances of a co-op session.
+ * <p>
+ * Both calls must return immediately; a lost or late packet is repaired by the next one,
+ * which repeats every input the peer has not acknowledged yet.
+ * </p>
+ */
+public interface InputTransport extends AutoCloseable {
+
+	/**
+	 * Sends the bytes between the buffer's position and limit as one packet.
+	 *
+	 * @param packet the encoded packet
+	 * @throws IOException if the packet cannot be sent
+	 */
+	void send(ByteBuffer packet) throws IOException;
+
+	/**
+	 * Reads the next waiting packet, if any, into the buffer and flips it for decoding.
+	 *
+	 * @param packet a cleared buffer that receives the packet
+	 * @return {@code true} if a packet was read, {@code false} if none is waiting
+	 * @throws IOException if reading fails
+	 */
+	boolean receive(ByteBuffer packet) throws IOException;
+
+	@Override
+	void close() throws IOException;
+}
@@ -0,0 +1,237 @@
+package com.example.demo.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps two game instances in step by exchanging inputs and rolling back mispredictions.
+ * <p>
+ * Every tick the local key state is simulated immediately together with a prediction of
+ * the remote player's keys: the last key state received from them. The state before
+ * each tick is saved into a ring of {@value #SNAPSHOT_SLOTS} snapshot slots. When the real
+ * remote input for an already simulated tick arrives and differs from the prediction,
+ * the target is rewound to that tick and the ticks since are simulated again with the
+ * corrected inputs, all within the current frame. A session never predicts more than
+ * {@value #MAX_ROLLBACK} ticks ahead of the remote player; beyond that it stalls until
+ * their inputs catch up.
+ * </p>
+ * <p>
+ * The session does no allocation per tick. Inputs, predictions and packets live in
+ * fixed ring buffers and direct byte buffers.
+ * </p>
+ */
+public class RollbackSession {
+
+	/** Largest number of ticks simulated on predicted input before the session stalls. */
+	public static final int MAX_ROLLBACK = 8;
+
+	/** Number of snapshot slots the target must provide. */
+	public static final int SNAPSHOT_SLOTS = 16; // Power of two above MAX_ROLLBACK
+
+	/** Number of ticks of input kept for resending and rollback. */
+	public static final int INPUT_WINDOW = 64; // Power of two
+
+	private static final int INPUT_MASK = INPUT_WINDOW - 1;
+	private static final int SLOT_MASK = SNAPSHOT_SLOTS - 1;
+
+	private final RollbackTarget target;
+	private final InputTransport transport;
+	private final boolean localIsPlayerOne;
+	private final InputCodec codec = new InputCodec();
+	private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(InputCodec.MAX_PACKET_SIZE);
+	private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(InputCodec.MAX_PACKET_SIZE);
+
+	private final int[] localInputs = new int[INPUT_WINDOW];
+	private final int[] remoteInputs = new int[INPUT_WINDOW];
+	private final int[] remoteUsed = new int[INPUT_WINDOW];
+
+	private int tick;
+	private int remoteConfirmed = -1;
+	private int peerAck = -1;
+	private int lastRemoteKeys;
+	private int rollbackFrom = Integer.MAX_VALUE;
+
+	private int rollbacks;
+	private long resimulatedTicks;
+	private int stalledTicks;
+	private int ioErrors;
+	private long lastRollbackNanos;
+	private long maxRollbackNanos;
+
+	/**
+	 * Constructs a session for one of the two players.
+	 *
+	 * @param target           the simulation to drive
+	 * @param transport        the connection to the other instance
+	 * @param localIsPlayerOne {@code true} if the local keys are player one's
+	 */
+	public RollbackSession(RollbackTarget target, InputTransport transport, boolean localIsPlayerOne) {
+		this.target = target;
+		this.transport = transport;
+		this.localIsPlayerOne = localIsPlayerOne;
+	}
+
+	/**
+	 * Runs one local tick: applies any remote inputs that arrived, rolls back if they
+	 * contradict a prediction, then simulates the next tick with the local keys.
+	 *
+	 * @param localKeys the local key-state bitset for the next tick
+	 * @return {@code true} if a tick was simulated, {@code false} if the session is
+	 *         stalled waiting for the remote player
+	 */
+	public boolean advance(int localKeys) {
+		receiveInputs();
+		if (rollbackFrom < tick) {
+			rollback();
+		}
+		if (tick - remoteConfirmed > MAX_ROLLBACK || tick - peerAck >= INPUT_WINDOW) {
+			stalledTicks++;
+			sendInputs(); // Keep acknowledging so the other side can catch up
+			return false;
+		}
+		localInputs[tick & INPUT_MASK] = localKeys;
+		simulate(tick);
+		tick++;
+		sendInputs();
+		return true;
+	}
+
+	/**
+	 * Gets the next tick the session will simulate.
+	 *
+	 * @return the number of ticks simulated so far
+	 */
+	public int getTick() {
+		return tick;
+	}
+
+	/**
+	 * Gets the newest tick simulated with confirmed inputs from both players.
+	 *
+	 * @return the confirmed tick, or -1 if none
+	 */
+	public int getConfirmedTick() {
+		return Math.min(tick - 1, remoteConfirmed);
+	}
+
+	/**
+	 * Gets the number of rollbacks performed.
+	 *
+	 * @return the rollback count
+	 */
+	public int getRollbacks() {
+		return rollbacks;
+	}
+
+	/**
+	 * Gets the number of ticks simulated again because of rollbacks.
+	 *
+	 * @return the re-simulated tick count
+	 */
+	public long getResimulatedTicks() {
+		return resimulatedTicks;
+	}
+
+	/**
+	 * Gets the number of ticks the session waited for the remote player.
+	 *
+	 * @return the stalled tick count
+	 */
+	public int getStalledTicks() {
+		return stalledTicks;
+	}
+
+	/**
+	 * Gets the number of failed sends and receives.
+	 *
+	 * @return the I/O error count
+	 */
+	public int getIoErrors() {
+		return ioErrors;
+	}
+
+	/**
+	 * Gets the duration of the most recent rollback, including re-simulation.
+	 *
+	 * @return the last rollback time in nanoseconds
+	 */
+	public long getLastRollbackNanos() {
+		return lastRollbackNanos;
+	}
+
+	/**
+	 * Gets the longest rollback so far.
+	 *
+	 * @return the maximum rollback time in nanoseconds
+	 */
+	public long getMaxRollbackNanos() {
+		return maxRollbackNanos;
+	}
+
+	private void simulate(int simulatedTick) {
+		int slot = simulatedTick & INPUT_MASK;
+		int remoteKeys = simulatedTick <= remoteConfirmed ? remoteInputs[slot] : lastRemoteKeys;
+		remoteUsed[slot] = remoteKeys;
+		target.saveState(simulatedTick & SLOT_MASK);
+		if (localIsPlayerOne) {
+			target.step(localInputs[slot], remoteKeys);
+		} else {
+			target.step(remoteKeys, localInputs[slot]);
+		}
+	}
+
+	private void rollback() {
+		long start = System.nanoTime();
+		int from = rollbackFrom;
+		rollbackFrom = Integer.MAX_VALUE;
+		target.loadState(from & SLOT_MASK);
+		for (int replayed = from; replayed < tick; replayed++) {
+			simulate(replayed);
+		}
+		rollbacks++;
+		resimulatedTicks += tick - from;
+		lastRollbackNanos = System.nanoTime() - start;
+		maxRollbackNanos = Math.max(maxRollbackNanos, lastRollbackNanos);
+	}
+
+	private void receiveInputs() {
+		try {
+			while (transport.receive(receiveBuffer.clear())) {
+				if (codec.decode(receiveBuffer)) {
+					applyPacket();
+				}
+			}
+		} catch (IOException e) {
+			ioErrors++;
+		}
+	}
+
+	private void applyPacket() {
+		peerAck = Math.max(peerAck, codec.getAckTick());
+		int first = codec.getFirstTick();
+		for (int i = 0; i < codec.getTickCount(); i++) {
+			int remoteTick = first + i;
+			if (remoteTick != remoteConfirmed + 1) {
+				continue; // Already known, or a gap left by a reordered packet
+			}
+			int keys = codec.getKeys(i);
+			int slot = remoteTick & INPUT_MASK;
+			remoteInputs[slot] = keys;
+			remoteConfirmed = remoteTick;
+			lastRemoteKeys = keys;
+			if (remoteTick < tick && remoteUsed[slot] != keys) {
+				rollbackFrom = Math.min(rollbackFrom, remoteTick);
+			}
+		}
+	}
+
+	private void sendInputs() {
+		int first = peerAck + 1;
+		InputCodec.encode(sendBuffer.clear(), remoteConfirmed, first, tick - first, localInputs, INPUT_MASK);
+		try {
+			transport.send(sendBuffer.flip());
+		} catch (IOException e) {
+			ioErrors++;
+		}
+	}
+}
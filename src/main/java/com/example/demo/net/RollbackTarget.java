@@ -0,0 +1,33 @@
+package com.example.demo.net;
+
+/**
+ * A deterministic simulation that a {@link RollbackSession} can rewind and replay.
+ * <p>
+ * Given the same saved state and the same inputs, {@link #step(int, int)} must produce the
+ * same result on every instance; otherwise the two players drift apart.
+ * </p>
+ */
+public interface RollbackTarget {
+
+	/**
+	 * Stores the current simulation state in a snapshot slot, overwriting what was there.
+	 *
+	 * @param slot the slot index, between 0 and {@link RollbackSession#SNAPSHOT_SLOTS}
+	 */
+	void saveState(int slot);
+
+	/**
+	 * Rewinds the simulation to the state stored in a snapshot slot.
+	 *
+	 * @param slot the slot index, between 0 and {@link RollbackSession#SNAPSHOT_SLOTS}
+	 */
+	void loadState(int slot);
+
+	/**
+	 * Advances the simulation by one tick.
+	 *
+	 * @param player1Keys the key-state bitset of player one
+	 * @param player2Keys the key-state bitset of player two
+	 */
+	void step(int player1Keys, int player2Keys);
+}
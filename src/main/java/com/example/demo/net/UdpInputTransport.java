@@ -0,0 +1,83 @@
+package com.example.demo.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Exchanges input packets over non-blocking UDP.
+ * <p>
+ * Packets from any address other than the configured peer are ignored. UDP may drop or
+ * reorder packets; the {@link InputCodec packet format} tolerates both.
+ * </p>
+ */
+public class UdpInputTransport implements InputTransport {
+
+	private final DatagramChannel channel;
+	private final SocketAddress peer;
+
+	/**
+	 * Opens a transport between two ports on the loopback interface.
+	 *
+	 * @param localPort the port to listen on, or 0 for any free port
+	 * @param peerPort  the port the other instance listens on
+	 * @return the transport
+	 * @throws IOException if the socket cannot be opened
+	 */
+	public static UdpInputTransport loopback(int localPort, int peerPort) throws IOException {
+		InetAddress loopback = InetAddress.getLoopbackAddress();
+		return new UdpInputTransport(new InetSocketAddress(loopback, localPort), new InetSocketAddress(loopback, peerPort));
+	}
+
+	/**
+	 * Opens a transport bound to a local address that talks to one peer.
+	 *
+	 * @param localAddress the address to listen on
+	 * @param peer         the address of the other instance
+	 * @throws IOException if the socket cannot be opened
+	 */
+	public UdpInputTransport(InetSocketAddress localAddress, InetSocketAddress peer) throws IOException {
+		this.peer = peer;
+		this.channel = DatagramChannel.open();
+		channel.bind(localAddress);
+		channel.configureBlocking(false);
+	}
+
+	/**
+	 * Gets the port this transport listens on.
+	 *
+	 * @return the local port
+	 * @throws IOException if the socket is closed
+	 */
+	public int getLocalPort() throws IOException {
+		return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+	}
+
+	@Override
+	public void send(ByteBuffer packet) throws IOException {
+		channel.send(packet, peer);
+	}
+
+	@Override
+	public boolean receive(ByteBuffer packet) throws IOException {
+		while (true) {
+			SocketAddress sender = channel.receive(packet);
+			if (sender == null) {
+				return false;
+			}
+			if (sender.equals(peer)) {
+				packet.flip();
+				return true;
+			}
+			packet.clear(); // Stray packet from someone else
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.demo.utilities;
+
+/**
+ * A small, seedable random number generator for gameplay decisions.
+ * <p>
+ * Uses the xorshift64* algorithm: one {@code long} of state, no allocation and no
+ * synchronization. Two generators with the same seed produce the same sequence, which
+ * keeps patterns built from it reproducible.
+ * </p>
+ */
+public class GameRandom {
+
+	private long state;
+
+	/**
+	 * Constructs a generator with the given seed.
+	 *
+	 * @param seed the seed; zero is replaced by a fixed non-zero constant
+	 */
+	public GameRandom(long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Restarts the sequence from a seed.
+	 *
+	 * @param seed the seed; zero is replaced by a fixed non-zero constant
+	 */
+	public void setSeed(long seed) {
+		state = seed == 0 ? 0x9E3779B97F4A7C15L : seed;
+	}
+
+	/**
+	 * Gets the current state, which can later be restored with {@link #setSeed(long)}.
+	 *
+	 * @return the generator state
+	 */
+	public long getState() {
+		return state;
+	}
+
+	/**
+	 * Returns the next 64 random bits.
+	 *
+	 * @return a random {@code long}
+	 */
+	public long nextLong() {
+		state ^= state >>> 12;
+		state ^= state << 25;
+		state ^= state >>> 27;
+		return state * 0x2545F4914F6CDD1DL;
+	}
+
+	/**
+	 * Returns a random integer between zero (inclusive) and a bound (exclusive).
+	 *
+	 * @param bound the upper bound, must be positive
+	 * @return a random integer in {@code [0, bound)}
+	 */
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("Bound must be positive: " + bound);
+		}
+		return (int) (((nextLong() >>> 33) * bound) >>> 31);
+	}
+
+	/**
+	 * Returns a random double between zero (inclusive) and one (exclusive).
+	 *
+	 * @return a random double in {@code [0, 1)}
+	 */
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+}
@@ -0,0 +1,102 @@
+package com.example.demo.utilities;
+
+import java.util.Comparator;
+
+/**
+ * One finished run as stored by the {@link HighScoreStore}.
+ */
+public final class HighScore {
+
+	/**
+	 * Orders runs from best to worst: more kills first, then a higher level, then a
+	 * faster boss kill, then the earlier run.
+	 */
+	public static final Comparator<HighScore> RANKING = Comparator
+			.comparingInt(HighScore::getKills).reversed()
+			.thenComparing(Comparator.comparingInt(HighScore::getLevelReached).reversed())
+			.thenComparingLong(score -> score.getBossTimeMillis() > 0 ? score.getBossTimeMillis() : Long.MAX_VALUE)
+			.thenComparingLong(HighScore::getTimestamp);
+
+	private final long timestamp;
+	private final int kills;
+	private final int levelReached;
+	private final long bossTimeMillis;
+
+	/**
+	 * Constructs a high score.
+	 *
+	 * @param timestamp      the end of the run in milliseconds since the epoch
+	 * @param kills          the enemies destroyed over the whole run
+	 * @param levelReached   the highest level reached, starting at 1
+	 * @param bossTimeMillis the time taken to defeat the boss, or 0 if it was not defeated
+	 */
+	public HighScore(long timestamp, int kills, int levelReached, long bossTimeMillis) {
+		this.timestamp = timestamp;
+		this.kills = kills;
+		this.levelReached = levelReached;
+		this.bossTimeMillis = bossTimeMillis;
+	}
+
+	/**
+	 * Gets the end of the run.
+	 *
+	 * @return the timestamp in milliseconds since the epoch
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Gets the enemies destroyed over the whole run.
+	 *
+	 * @return the number of kills
+	 */
+	public int getKills() {
+		return kills;
+	}
+
+	/**
+	 * Gets the highest level reached.
+	 *
+	 * @return the level number, starting at 1
+	 */
+	public int getLevelReached() {
+		return levelReached;
+	}
+
+	/**
+	 * Gets the time taken to defeat the boss.
+	 *
+	 * @return the boss time in milliseconds, or 0 if the boss was not defeated
+	 */
+	public long getBossTimeMillis() {
+		return bossTimeMillis;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof HighScore)) {
+			return false;
+		}
+		HighScore score = (HighScore) other;
+		return timestamp == score.timestamp && kills == score.kills
+				&& levelReached == score.levelReached && bossTimeMillis == score.bossTimeMillis;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Long.hashCode(timestamp);
+		result = 31 * result + kills;
+		result = 31 * result + levelReached;
+		return 31 * result + Long.hashCode(bossTimeMillis);
+	}
+
+	@Override
+	public String toString() {
+		return "HighScore{kills=" + kills + ", level=" + levelReached + ", bossTimeMillis=" + bossTimeMillis
+				+ ", timestamp=" + timestamp + "}";
+	}
+}
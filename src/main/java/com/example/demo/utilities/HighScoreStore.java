@@ -0,0 +1,259 @@
+package com.example.demo.utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Stores finished runs in an append-only log file and keeps the best ones in memory.
+ * <p>
+ * Every run is one fixed-width record of {@value #RECORD_SIZE} bytes:
+ * </p>
+ * <pre>
+ * int magic | long timestamp | int kills | int level | long bossTimeMillis | int crc32
+ * </pre>
+ * <p>
+ * Records are written through a memory-mapped region while holding an exclusive
+ * {@link FileLock}, so several game instances can share one file. The checksum covers
+ * the rest of the record. Readers skip a damaged record by scanning forward for the next
+ * magic number with a valid checksum, so one bad record never hides the runs after it.
+ * A writer killed halfway through leaves at most one torn record at the end of the file,
+ * which the next writer overwrites.
+ * </p>
+ * <p>
+ * All file access happens on one background thread. The sorted top-N list is
+ * published as an immutable snapshot, so {@link #getTopScores()} never touches the
+ * disk and never blocks the FX thread.
+ * </p>
+ */
+public class HighScoreStore implements AutoCloseable {
+
+	/** The size of one record in bytes. */
+	public static final int RECORD_SIZE = 32;
+
+	private static final int MAGIC = 0x48535231; // "HSR1"
+	private static final int CHECKED_BYTES = RECORD_SIZE - Integer.BYTES;
+	private static final int DEFAULT_TOP_SIZE = 10;
+
+	// FileLock guards against other processes only; stores in this JVM serialize here
+	private static final Object JVM_LOCK = new Object();
+
+	private final Path path;
+	private final int topSize;
+	private final ExecutorService writer;
+	private final List<HighScore> ranking = new ArrayList<>(); // Writer thread only
+	private final CRC32 crc = new CRC32(); // Writer thread only
+	private long readOffset; // Writer thread only
+
+	private volatile List<HighScore> topScores = Collections.emptyList();
+	private volatile int runCount;
+
+	/**
+	 * Constructs a store that keeps the ten best runs of the given log file.
+	 *
+	 * @param path the log file, created on the first write
+	 */
+	public HighScoreStore(Path path) {
+		this(path, DEFAULT_TOP_SIZE);
+	}
+
+	/**
+	 * Constructs a store and starts loading the log file in the background.
+	 *
+	 * @param path    the log file, created on the first write
+	 * @param topSize the number of best runs kept in memory
+	 */
+	public HighScoreStore(Path path, int topSize) {
+		this.path = path;
+		this.topSize = topSize;
+		this.writer = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "high-score-store");
+			thread.setDaemon(true);
+			return thread;
+		});
+		refresh();
+	}
+
+	/**
+	 * Appends a run to the log in the background.
+	 *
+	 * @param score the finished run
+	 */
+	public void record(HighScore score) {
+		writer.execute(() -> {
+			try {
+				append(score);
+			} catch (IOException e) {
+				System.err.println("Failed to save high score: " + e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Reads runs appended by other game instances in the background.
+	 */
+	public void refresh() {
+		writer.execute(() -> {
+			try {
+				readNewRecords();
+			} catch (IOException e) {
+				System.err.println("Failed to read high scores: " + e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Waits until all earlier {@link #record(HighScore)} and {@link #refresh()} calls
+	 * have reached the file.
+	 *
+	 * @throws InterruptedException if the calling thread is interrupted while waiting
+	 */
+	public void awaitPendingWrites() throws InterruptedException {
+		try {
+			writer.submit(() -> { }).get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the best runs, best first.
+	 *
+	 * @return an unmodifiable snapshot of the top runs
+	 */
+	public List<HighScore> getTopScores() {
+		return topScores;
+	}
+
+	/**
+	 * Gets the number of runs in the log.
+	 *
+	 * @return the run count
+	 */
+	public int getRunCount() {
+		return runCount;
+	}
+
+	/**
+	 * Finishes pending writes and stops the background thread. If the calling thread is
+	 * interrupted while waiting, the interrupt status is restored and pending writes may
+	 * be lost.
+	 */
+	@Override
+	public void close() {
+		writer.shutdown();
+		try {
+			writer.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void append(HighScore score) throws IOException {
+		Path directory = path.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		synchronized (JVM_LOCK) {
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+					StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				FileLock lock = channel.lock();
+				try {
+					long end = readNewRecords(channel);
+					if (channel.size() > end) {
+						channel.truncate(end); // Drop the torn record of a writer that crashed
+					}
+					MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, end, RECORD_SIZE);
+					buffer.putInt(MAGIC);
+					buffer.putLong(score.getTimestamp());
+					buffer.putInt(score.getKills());
+					buffer.putInt(score.getLevelReached());
+					buffer.putLong(score.getBossTimeMillis());
+					buffer.putInt(checksum(buffer, 0));
+					buffer.force();
+					readOffset = end + RECORD_SIZE;
+				} finally {
+					lock.release();
+				}
+			}
+		}
+		add(score);
+		publish();
+	}
+
+	private void readNewRecords() throws IOException {
+		if (!Files.exists(path)) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			readNewRecords(channel);
+		}
+		publish();
+	}
+
+	/**
+	 * Reads the complete, valid records after {@link #readOffset}. Damaged bytes between
+	 * valid records are skipped; damaged bytes after the last valid record are left
+	 * unread, since they may be a record another instance is still writing.
+	 *
+	 * @return the end of the last valid record
+	 */
+	private long readNewRecords(FileChannel channel) throws IOException {
+		long available = channel.size() - readOffset;
+		if (available < RECORD_SIZE) {
+			return readOffset;
+		}
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, readOffset, available);
+		long start = readOffset;
+		int position = 0;
+		while (position + RECORD_SIZE <= available) {
+			if (buffer.getInt(position) != MAGIC
+					|| buffer.getInt(position + CHECKED_BYTES) != checksum(buffer, position)) {
+				position++; // Damaged record, scan for the next one
+				continue;
+			}
+			add(new HighScore(buffer.getLong(position + 4), buffer.getInt(position + 12),
+					buffer.getInt(position + 16), buffer.getLong(position + 20)));
+			position += RECORD_SIZE;
+			readOffset = start + position;
+		}
+		return readOffset;
+	}
+
+	private int checksum(ByteBuffer buffer, int position) {
+		crc.reset();
+		crc.update(buffer.slice(position, CHECKED_BYTES));
+		return (int) crc.getValue();
+	}
+
+	private void add(HighScore score) {
+		runCount++;
+		int index = Collections.binarySearch(ranking, score, HighScore.RANKING);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		if (index < topSize) {
+			ranking.add(index, score);
+			if (ranking.size() > topSize) {
+				ranking.remove(ranking.size() - 1);
+			}
+		}
+	}
+
+	private void publish() {
+		topScores = Collections.unmodifiableList(new ArrayList<>(ranking));
+	}
+}
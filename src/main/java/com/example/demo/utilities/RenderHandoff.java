@@ -0,0 +1,70 @@
+package com.example.demo.utilities;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands the latest render state from a simulation thread to the JavaFX thread without locks.
+ * <p>
+ * The handoff owns three preallocated state objects. The producer fills its back buffer
+ * and {@link #publish()}es it, which swaps it with the shared middle slot; the consumer
+ * {@link #acquire()}s the newest published state by swapping its front buffer with the
+ * middle slot. Each side only ever touches its own buffer, so the producer never waits for
+ * a slow frame and the consumer never sees a half-written tick. States that are published
+ * but never acquired are simply overwritten.
+ * </p>
+ *
+ * @param <T> the type of the render state
+ */
+public class RenderHandoff<T> {
+
+	private static final int INDEX_MASK = 0b11;
+	private static final int FRESH = 0b100;
+
+	private final Object[] buffers = new Object[3];
+	/** Index of the middle buffer, plus {@link #FRESH} if it holds an unread state. */
+	private final AtomicInteger middle = new AtomicInteger(1);
+	private int back; // Producer thread only
+	private int front = 2; // Consumer thread only
+
+	/**
+	 * Constructs a handoff with three states made by the given factory.
+	 *
+	 * @param factory creates one empty render state
+	 */
+	public RenderHandoff(Supplier<T> factory) {
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = factory.get();
+		}
+	}
+
+	/**
+	 * Gets the state the producer fills next. Only call from the producer thread.
+	 *
+	 * @return the back buffer
+	 */
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		return (T) buffers[back];
+	}
+
+	/**
+	 * Publishes the back buffer as the newest state. Only call from the producer thread.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Gets the newest published state. Only call from the consumer thread.
+	 *
+	 * @return the newest state, or the last one acquired if nothing was published since
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+		}
+		return (T) buffers[front];
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo.utilities;
+
+import java.util.Arrays;
+
+/**
+ * A reusable, growable buffer that holds one snapshot of simulation state.
+ * <p>
+ * Primitive values are packed into a {@code long[]} and object references, such as the
+ * actors that were alive, into a separate array. Values are read back in the order they
+ * were written. The arrays only grow, so once a buffer has held the largest state of a
+ * level, saving and restoring allocate nothing.
+ * </p>
+ */
+public class SnapshotBuffer {
+
+	private long[] values = new long[256];
+	private Object[] references = new Object[64];
+	private int valueCount;
+	private int referenceCount;
+	private int valueCursor;
+	private int referenceCursor;
+
+	/**
+	 * Empties the buffer for a new snapshot, keeping its capacity.
+	 */
+	public void clear() {
+		Arrays.fill(references, 0, referenceCount, null);
+		valueCount = 0;
+		referenceCount = 0;
+		rewind();
+	}
+
+	/**
+	 * Moves the read position back to the start of the snapshot.
+	 */
+	public void rewind() {
+		valueCursor = 0;
+		referenceCursor = 0;
+	}
+
+	/**
+	 * Checks whether the buffer holds a snapshot.
+	 *
+	 * @return {@code true} if nothing was written since the last {@link #clear()}
+	 */
+	public boolean isEmpty() {
+		return valueCount == 0 && referenceCount == 0;
+	}
+
+	/**
+	 * Gets the size of the primitive part of the snapshot.
+	 *
+	 * @return the number of bytes of primitive state
+	 */
+	public int getByteSize() {
+		return valueCount * Long.BYTES;
+	}
+
+	/**
+	 * Appends a {@code long}.
+	 *
+	 * @param value the value
+	 */
+	public void putLong(long value) {
+		if (valueCount == values.length) {
+			values = Arrays.copyOf(values, values.length * 2);
+		}
+		values[valueCount++] = value;
+	}
+
+	/**
+	 * Appends an {@code int}.
+	 *
+	 * @param value the value
+	 */
+	public void putInt(int value) {
+		putLong(value);
+	}
+
+	/**
+	 * Appends a {@code double}.
+	 *
+	 * @param value the value
+	 */
+	public void putDouble(double value) {
+		putLong(Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Appends a {@code boolean}.
+	 *
+	 * @param value the value
+	 */
+	public void putBoolean(boolean value) {
+		putLong(value ? 1 : 0);
+	}
+
+	/**
+	 * Appends an object reference.
+	 *
+	 * @param reference the object, kept as is rather than copied
+	 */
+	public void putReference(Object reference) {
+		if (referenceCount == references.length) {
+			references = Arrays.copyOf(references, references.length * 2);
+		}
+		references[referenceCount++] = reference;
+	}
+
+	/**
+	 * Reads the next {@code long}.
+	 *
+	 * @return the value
+	 */
+	public long getLong() {
+		if (valueCursor == valueCount) {
+			throw new IllegalStateException("Read past the end of the snapshot.");
+		}
+		return values[valueCursor++];
+	}
+
+	/**
+	 * Reads the next {@code int}.
+	 *
+	 * @return the value
+	 */
+	public int getInt() {
+		return (int) getLong();
+	}
+
+	/**
+	 * Reads the next {@code double}.
+	 *
+	 * @return the value
+	 */
+	public double getDouble() {
+		return Double.longBitsToDouble(getLong());
+	}
+
+	/**
+	 * Reads the next {@code boolean}.
+	 *
+	 * @return the value
+	 */
+	public boolean getBoolean() {
+		return getLong() != 0;
+	}
+
+	/**
+	 * Reads the next object reference.
+	 *
+	 * @param type the expected class of the object
+	 * @param <T>  the type of the object
+	 * @return the object
+	 */
+	public <T> T getReference(Class<T> type) {
+		if (referenceCursor == referenceCount) {
+			throw new IllegalStateException("Read past the end of the snapshot.");
+		}
+		return type.cast(references[referenceCursor++]);
+	}
+}
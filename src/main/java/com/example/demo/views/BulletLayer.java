@@ -0,0 +1,66 @@
+package com.example.demo.views;
+
+import com.example.demo.actors.BulletFrame;
+import com.example.demo.actors.BulletType;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Draws every bullet of a {@link BulletFrame} onto a single canvas.
+ * <p>
+ * The layer is one node in the scene graph regardless of how many bullets are alive,
+ * and each frame is drawn in one pass over the frame's arrays. Sprites are loaded once
+ * per bullet type when the layer is created.
+ * </p>
+ */
+public class BulletLayer extends Canvas {
+
+	private final Image[] sprites;
+	private final double[] spriteWidths;
+	private final double[] spriteHeights;
+
+	/**
+	 * Constructs a {@code BulletLayer} covering the given area.
+	 *
+	 * @param width  the width of the layer
+	 * @param height the height of the layer
+	 */
+	public BulletLayer(double width, double height) {
+		super(width, height);
+		BulletType[] types = BulletType.values();
+		this.sprites = new Image[types.length];
+		this.spriteWidths = new double[types.length];
+		this.spriteHeights = new double[types.length];
+		for (BulletType type : types) {
+			sprites[type.ordinal()] = new Image(getClass().getResource(type.getImagePath()).toExternalForm());
+			spriteWidths[type.ordinal()] = type.getWidth();
+			spriteHeights[type.ordinal()] = type.getHeight();
+		}
+		setMouseTransparent(true);
+	}
+
+	/**
+	 * Redraws the layer with the current bullet positions.
+	 * <p>
+	 * Bullets are drawn between their previous and current simulation positions, and
+	 * bullets outside the camera view are skipped.
+	 * </p>
+	 *
+	 * @param frame  the bullets to draw
+	 * @param camera the camera of the level
+	 * @param alpha  the fraction of the frame's tick that has elapsed, from 0 to 1
+	 */
+	public void render(BulletFrame frame, Camera camera, double alpha) {
+		GraphicsContext gc = getGraphicsContext2D();
+		gc.clearRect(0, 0, getWidth(), getHeight());
+		for (int i = 0; i < frame.size(); i++) {
+			int t = frame.getType(i).ordinal();
+			double x = frame.getRenderX(i, alpha);
+			double y = frame.getRenderY(i, alpha);
+			if (camera.isVisible(x, y, spriteWidths[t], spriteHeights[t])) {
+				gc.drawImage(sprites[t], x, y, spriteWidths[t], spriteHeights[t]);
+			}
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package com.example.demo.views;
+
+import javafx.scene.Node;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+
+/**
+ * Maps the level's world coordinates onto the window.
+ * <p>
+ * Actors and bullets are positioned in world space. The camera owns one scale and one
+ * translate transform that are attached to the world layer, so moving or resizing the
+ * view touches a single node instead of every actor. Visibility tests are plain
+ * rectangle comparisons against the visible part of the world.
+ * </p>
+ */
+public class Camera {
+
+	private final double worldWidth;
+	private final double worldHeight;
+	private final double viewWidth;
+	private final double viewHeight;
+	private final Scale scaleTransform = new Scale(1, 1);
+	private final Translate translateTransform = new Translate(0, 0);
+	private double visibleWidth;
+	private double visibleHeight;
+	private double scale = 1;
+	private double x;
+	private double y;
+	private boolean dirty = true;
+
+	/**
+	 * Constructs a camera that shows the whole world at once.
+	 *
+	 * @param worldWidth  the width of the world
+	 * @param worldHeight the height of the world
+	 */
+	public Camera(double worldWidth, double worldHeight) {
+		this(worldWidth, worldHeight, worldWidth, worldHeight);
+	}
+
+	/**
+	 * Constructs a camera that shows a window of the world at a time.
+	 *
+	 * @param worldWidth  the width of the world
+	 * @param worldHeight the height of the world
+	 * @param viewWidth   the width of the world area shown at once
+	 * @param viewHeight  the height of the world area shown at once
+	 */
+	public Camera(double worldWidth, double worldHeight, double viewWidth, double viewHeight) {
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
+		this.viewWidth = viewWidth;
+		this.viewHeight = viewHeight;
+		setViewport(viewWidth, viewHeight);
+	}
+
+	/**
+	 * Attaches the camera transform to the node that holds all world content.
+	 *
+	 * @param worldLayer the world layer
+	 */
+	public void attach(Node worldLayer) {
+		worldLayer.getTransforms().setAll(scaleTransform, translateTransform);
+	}
+
+	/**
+	 * Sets the size of the window area the world is shown in.
+	 * <p>
+	 * The view is scaled uniformly so that it fits the viewport.
+	 * </p>
+	 *
+	 * @param width  the viewport width in pixels
+	 * @param height the viewport height in pixels
+	 */
+	public void setViewport(double width, double height) {
+		if (width <= 0 || height <= 0) {
+			return; // Scene not laid out yet, keep the previous viewport
+		}
+		scale = Math.min(width / viewWidth, height / viewHeight);
+		visibleWidth = Math.min(worldWidth, width / scale);
+		visibleHeight = Math.min(worldHeight, height / scale);
+		moveTo(x, y);
+		dirty = true;
+	}
+
+	/**
+	 * Moves the top-left corner of the view, clamped to the world.
+	 *
+	 * @param worldX the X-coordinate of the view in world space
+	 * @param worldY the Y-coordinate of the view in world space
+	 */
+	public void moveTo(double worldX, double worldY) {
+		double clampedX = Math.max(0, Math.min(worldX, worldWidth - visibleWidth));
+		double clampedY = Math.max(0, Math.min(worldY, worldHeight - visibleHeight));
+		if (clampedX != x || clampedY != y) {
+			x = clampedX;
+			y = clampedY;
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Pushes pending camera changes to the world layer transform.
+	 * <p>
+	 * Does nothing when the camera has not moved since the last call.
+	 * </p>
+	 */
+	public void update() {
+		if (!dirty) {
+			return;
+		}
+		scaleTransform.setX(scale);
+		scaleTransform.setY(scale);
+		translateTransform.setX(-x);
+		translateTransform.setY(-y);
+		dirty = false;
+	}
+
+	/**
+	 * Checks whether a rectangle in world space overlaps the visible area.
+	 *
+	 * @param minX   the left edge of the rectangle
+	 * @param minY   the top edge of the rectangle
+	 * @param width  the width of the rectangle
+	 * @param height the height of the rectangle
+	 * @return {@code true} if any part of the rectangle is visible
+	 */
+	public boolean isVisible(double minX, double minY, double width, double height) {
+		return minX + width > x && minX < x + visibleWidth
+				&& minY + height > y && minY < y + visibleHeight;
+	}
+
+	/**
+	 * Gets the left edge of the visible area in world space.
+	 *
+	 * @return the minimum visible X-coordinate
+	 */
+	public double getMinX() {
+		return x;
+	}
+
+	/**
+	 * Gets the top edge of the visible area in world space.
+	 *
+	 * @return the minimum visible Y-coordinate
+	 */
+	public double getMinY() {
+		return y;
+	}
+
+	/**
+	 * Gets the width of the visible area in world units.
+	 *
+	 * @return the visible width
+	 */
+	public double getVisibleWidth() {
+		return visibleWidth;
+	}
+
+	/**
+	 * Gets the height of the visible area in world units.
+	 *
+	 * @return the visible height
+	 */
+	public double getVisibleHeight() {
+		return visibleHeight;
+	}
+
+	/**
+	 * Gets the width of the world.
+	 *
+	 * @return the world width
+	 */
+	public double getWorldWidth() {
+		return worldWidth;
+	}
+
+	/**
+	 * Gets the height of the world.
+	 *
+	 * @return the world height
+	 */
+	public double getWorldHeight() {
+		return worldHeight;
+	}
+
+	/**
+	 * Gets the factor world units are scaled by on screen.
+	 *
+	 * @return the world-to-viewport scale
+	 */
+	public double getScale() {
+		return scale;
+	}
+}
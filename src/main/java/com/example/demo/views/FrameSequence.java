@@ -0,0 +1,221 @@
+package com.example.demo.views;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+
+import com.example.demo.diagnostics.AssetLoadEvent;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The frames of an animation, decoded once and played back by elapsed time.
+ * <p>
+ * GIF frames are composited with their offsets and disposal methods when the sequence
+ * is created, and frames larger than the requested size are scaled down at that point.
+ * Playing the animation afterwards only picks one of the prepared images.
+ * </p>
+ */
+public class FrameSequence {
+
+	private static final String GIF_METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+	private static final long DEFAULT_FRAME_NANOS = 100_000_000L; // Browsers treat a 0 delay as 100 ms
+	private static final long NANOS_PER_GIF_DELAY_UNIT = 10_000_000L; // GIF delays are in 1/100 s
+
+	// Restarting a level reuses its frames unless memory ran low in between
+	private static final Map<String, SoftReference<FrameSequence>> GIF_CACHE = new HashMap<>();
+
+	private final Image[] frames;
+	private final long frameNanos;
+
+	private FrameSequence(Image[] frames, long frameNanos) {
+		this.frames = frames;
+		this.frameNanos = frameNanos;
+	}
+
+	/**
+	 * Decodes every frame of a GIF resource.
+	 * <p>
+	 * Falls back to a single still frame if the GIF cannot be decoded frame by frame.
+	 * Decoded sequences are cached softly, so asking for the same GIF again is cheap.
+	 * </p>
+	 *
+	 * @param resourcePath the classpath location of the GIF
+	 * @param maxWidth     the largest width a frame is stored at
+	 * @param maxHeight    the largest height a frame is stored at
+	 * @return the decoded frames, played at the GIF's own average frame delay
+	 */
+	public static synchronized FrameSequence fromGif(String resourcePath, double maxWidth, double maxHeight) {
+		String key = resourcePath + '@' + maxWidth + 'x' + maxHeight;
+		SoftReference<FrameSequence> cached = GIF_CACHE.get(key);
+		FrameSequence sequence = cached == null ? null : cached.get();
+		if (sequence == null) {
+			AssetLoadEvent load = new AssetLoadEvent();
+			load.begin();
+			sequence = loadGif(resourcePath, maxWidth, maxHeight);
+			load.asset = resourcePath;
+			load.frames = sequence.getFrameCount();
+			load.commit();
+			GIF_CACHE.put(key, new SoftReference<>(sequence));
+		}
+		return sequence;
+	}
+
+	private static FrameSequence loadGif(String resourcePath, double maxWidth, double maxHeight) {
+		try (InputStream stream = FrameSequence.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Image file not found: " + resourcePath);
+			}
+			return decodeGif(stream, maxWidth, maxHeight);
+		} catch (IOException | RuntimeException e) {
+			System.err.println("Could not decode GIF frames of " + resourcePath + ": " + e.getMessage());
+			return still(new Image(FrameSequence.class.getResource(resourcePath).toExternalForm()));
+		}
+	}
+
+	/**
+	 * Wraps a single image as a sequence of one frame.
+	 *
+	 * @param image the image
+	 * @return a still sequence
+	 */
+	public static FrameSequence still(Image image) {
+		return new FrameSequence(new Image[] {image}, DEFAULT_FRAME_NANOS);
+	}
+
+	/**
+	 * Gets a copy of this sequence that plays at a fixed frame rate.
+	 *
+	 * @param framesPerSecond the playback rate
+	 * @return the re-timed sequence sharing the same frames
+	 */
+	public FrameSequence withFrameRate(double framesPerSecond) {
+		return new FrameSequence(frames, (long) (1_000_000_000L / framesPerSecond));
+	}
+
+	/**
+	 * Gets the frame to show after the animation has played for a while.
+	 *
+	 * @param elapsedNanos the time since the animation started
+	 * @return the current frame
+	 */
+	public Image getFrame(long elapsedNanos) {
+		return frames[(int) ((elapsedNanos / frameNanos) % frames.length)];
+	}
+
+	/**
+	 * Gets the number of frames.
+	 *
+	 * @return the frame count
+	 */
+	public int getFrameCount() {
+		return frames.length;
+	}
+
+	/**
+	 * Gets the time each frame is shown for.
+	 *
+	 * @return the frame duration in nanoseconds
+	 */
+	public long getFrameNanos() {
+		return frameNanos;
+	}
+
+	private static FrameSequence decodeGif(InputStream stream, double maxWidth, double maxHeight) throws IOException {
+		Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+		if (!readers.hasNext()) {
+			throw new IOException("No GIF reader available");
+		}
+		ImageReader reader = readers.next();
+		try (ImageInputStream input = ImageIO.createImageInputStream(stream)) {
+			reader.setInput(input, false);
+			int frameCount = reader.getNumImages(true);
+
+			// The first frame covers the logical screen in the GIFs this game ships
+			BufferedImage first = reader.read(0);
+			int width = first.getWidth();
+			int height = first.getHeight();
+			double scale = Math.min(1.0, Math.min(maxWidth / width, maxHeight / height));
+			int frameWidth = Math.max(1, (int) Math.round(width * scale));
+			int frameHeight = Math.max(1, (int) Math.round(height * scale));
+
+			BufferedImage screen = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			BufferedImage scaled = new BufferedImage(frameWidth, frameHeight, BufferedImage.TYPE_INT_ARGB);
+			int[] pixels = new int[frameWidth * frameHeight];
+			Graphics2D screenGraphics = screen.createGraphics();
+			Graphics2D scaledGraphics = scaled.createGraphics();
+			scaledGraphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			scaledGraphics.setComposite(AlphaComposite.Src);
+
+			Image[] frames = new Image[frameCount];
+			long totalDelay = 0;
+			for (int i = 0; i < frameCount; i++) {
+				BufferedImage frame = i == 0 ? first : reader.read(i);
+				IIOMetadataNode metadata = (IIOMetadataNode) reader.getImageMetadata(i).getAsTree(GIF_METADATA_FORMAT);
+				IIOMetadataNode descriptor = child(metadata, "ImageDescriptor");
+				IIOMetadataNode control = child(metadata, "GraphicControlExtension");
+				int left = descriptor == null ? 0 : Integer.parseInt(descriptor.getAttribute("imageLeftPosition"));
+				int top = descriptor == null ? 0 : Integer.parseInt(descriptor.getAttribute("imageTopPosition"));
+				String disposal = control == null ? "none" : control.getAttribute("disposalMethod");
+				totalDelay += control == null ? 0 : Integer.parseInt(control.getAttribute("delayTime"));
+
+				BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(screen) : null;
+				screenGraphics.drawImage(frame, left, top, null);
+
+				scaledGraphics.drawImage(screen, 0, 0, frameWidth, frameHeight, null);
+				scaled.getRGB(0, 0, frameWidth, frameHeight, pixels, 0, frameWidth);
+				WritableImage image = new WritableImage(frameWidth, frameHeight);
+				image.getPixelWriter().setPixels(0, 0, frameWidth, frameHeight,
+						PixelFormat.getIntArgbInstance(), pixels, 0, frameWidth);
+				frames[i] = image;
+
+				if ("restoreToBackgroundColor".equals(disposal)) {
+					screenGraphics.setComposite(AlphaComposite.Clear);
+					screenGraphics.fillRect(left, top, frame.getWidth(), frame.getHeight());
+					screenGraphics.setComposite(AlphaComposite.SrcOver);
+				} else if (previous != null) {
+					screenGraphics.setComposite(AlphaComposite.Src);
+					screenGraphics.drawImage(previous, 0, 0, null);
+					screenGraphics.setComposite(AlphaComposite.SrcOver);
+				}
+			}
+			screenGraphics.dispose();
+			scaledGraphics.dispose();
+
+			long averageDelay = totalDelay / frameCount * NANOS_PER_GIF_DELAY_UNIT;
+			return new FrameSequence(frames, averageDelay > 0 ? averageDelay : DEFAULT_FRAME_NANOS);
+		} finally {
+			reader.dispose();
+		}
+	}
+
+	private static IIOMetadataNode child(IIOMetadataNode parent, String name) {
+		for (int i = 0; i < parent.getLength(); i++) {
+			if (parent.item(i).getNodeName().equals(name)) {
+				return (IIOMetadataNode) parent.item(i);
+			}
+		}
+		return null;
+	}
+
+	private static BufferedImage copy(BufferedImage image) {
+		BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = copy.createGraphics();
+		graphics.drawImage(image, 0, 0, null);
+		graphics.dispose();
+		return copy;
+	}
+}
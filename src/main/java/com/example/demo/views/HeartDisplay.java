@@ -1,5 +1,8 @@
 package com.example.demo.views;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -29,6 +32,9 @@ public class HeartDisplay {
 	/** The number of hearts to display initially. */
 	private int numberOfHeartsToDisplay;
 
+	/** Every heart created, so hearts can be shown again without new nodes. */
+	private final List<ImageView> hearts = new ArrayList<>();
+
 	/**
 	 * Constructs a new {@code HeartDisplay}.
 	 *
@@ -63,6 +69,7 @@ public class HeartDisplay {
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
+			hearts.add(heart);
 		}
 	}
 	/**
@@ -73,6 +80,16 @@ public class HeartDisplay {
 			container.getChildren().remove(INDEX_OF_FIRST_ITEM);
 	}
 
+	/**
+	 * Shows a given number of hearts, reusing the hearts removed earlier.
+	 *
+	 * @param count the number of hearts to show
+	 */
+	public void setHearts(int count) {
+		int shown = Math.max(0, Math.min(count, hearts.size()));
+		container.getChildren().setAll(hearts.subList(hearts.size() - shown, hearts.size()));
+	}
+
 	/**
 	 * Retrieves the container that holds the heart images.
 	 *
@@ -29,6 +29,8 @@ public class LevelUIManager {
     private final double screenHeight;
     private final Group root;
     private final Controller controller;
+    private Pane gameOverPane;
+    private Pane winPane;
 
     /**
      * Constructs a new {@code LevelUIManager}.
@@ -78,7 +80,7 @@ public class LevelUIManager {
      */
     public void showGameOverMenu(Runnable restartLevel, Runnable goToMainMenu) {
         // Create a pane for the game-over menu
-        Pane gameOverPane = new Pane();
+        gameOverPane = new Pane();
         gameOverPane.setPrefSize(screenWidth, screenHeight);
 
         // Add a semi-transparent black background
@@ -120,7 +122,7 @@ public class LevelUIManager {
      * @param goToMainMenu the action to navigate to the main menu
      */
     public void showWinMenu(Runnable restartToLevelOne, Runnable goToMainMenu) {
-        Pane winPane = new Pane();
+        winPane = new Pane();
         winPane.setPrefSize(screenWidth, screenHeight);
 
         // Add a semi-transparent black background
@@ -151,6 +153,20 @@ public class LevelUIManager {
         root.getChildren().add(winPane);
     }
 
+    /**
+     * Removes the game over and win menus, if they are shown.
+     */
+    public void hideMenus() {
+        if (gameOverPane != null) {
+            root.getChildren().remove(gameOverPane);
+            gameOverPane = null;
+        }
+        if (winPane != null) {
+            root.getChildren().remove(winPane);
+            winPane = null;
+        }
+    }
+
     /**
      * Starts a countdown timer before the level begins.
      *
@@ -91,28 +91,27 @@ public class LevelView {
 			root.getChildren().add(killCountDisplay);
 		}
 
-		// Add visual effects: scale and fade animation
-		ScaleTransition scaleTransition = new ScaleTransition(Duration.seconds(0.3), killCountDisplay);
-		scaleTransition.setFromX(1.0);
-		scaleTransition.setFromY(1.0);
-		scaleTransition.setToX(1.5);
-		scaleTransition.setToY(1.5);
-		scaleTransition.setAutoReverse(true);
-
-		FadeTransition fadeTransition = new FadeTransition(Duration.seconds(0.3), killCountDisplay);
-		fadeTransition.setFromValue(1.0);
-		fadeTransition.setToValue(0.7);
-		fadeTransition.setAutoReverse(true);
-
-		// Play animations simultaneously
-		scaleTransition.play();
-		fadeTransition.play();
+		// Add visual effects: scale and fade animation, skipped when frames run over budget
+		if (QualityGovernor.getInstance().getLevel().hasKillCountAnimation()) {
+			ScaleTransition scaleTransition = new ScaleTransition(Duration.seconds(0.3), killCountDisplay);
+			scaleTransition.setFromX(1.0);
+			scaleTransition.setFromY(1.0);
+			scaleTransition.setToX(1.5);
+			scaleTransition.setToY(1.5);
+			scaleTransition.setAutoReverse(true);
+
+			FadeTransition fadeTransition = new FadeTransition(Duration.seconds(0.3), killCountDisplay);
+			fadeTransition.setFromValue(1.0);
+			fadeTransition.setToValue(0.7);
+			fadeTransition.setAutoReverse(true);
+
+			// Play animations simultaneously
+			scaleTransition.play();
+			fadeTransition.play();
+		}
 
 		// Bring the kill count display to the front
 		killCountDisplay.toFront();
-
-		// Debugging log
-		System.out.println("Kill count positioned at X=" + killCountXPosition + ", Y=" + killCountYPosition + " with value: " + kills);
 	}
 
 
@@ -140,7 +139,6 @@ public class LevelView {
 
 	public void updateShieldPosition(double bossX, double bossY) {
 		// Default implementation: Do nothing
-		System.out.println("updateShieldPosition is not implemented in LevelView.");
 	}
 
 
@@ -149,6 +147,15 @@ public class LevelView {
 		root.getChildren().add(gameOverImage);
 	}
 
+	/**
+	 * Shows exactly the given number of hearts, for example after a restart.
+	 *
+	 * @param hearts the number of hearts to show
+	 */
+	public void setHearts(int hearts) {
+		heartDisplay.setHearts(hearts);
+	}
+
 	/**
 	 * Removes hearts from the health display.
 	 *
@@ -156,7 +163,6 @@ public class LevelView {
 	 */
 	public void removeHearts(int heartsRemaining) {
 		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		System.out.println("Current hearts: " + currentNumberOfHearts + ", Hearts remaining: " + heartsRemaining);
 		for (int i = currentNumberOfHearts; i > heartsRemaining; i--) {
 			heartDisplay.removeHeart();
 		}
@@ -17,6 +17,7 @@ public class LevelViewLevelTwo extends LevelView {
 	protected final Rectangle shieldHealthBar;
 	private final Rectangle shieldHealthBarBorder;
 	private final Group root;
+	private final Group shieldLayer;
 	protected final ShieldImage shieldImage;
 	protected final Rectangle healthBar;
 	private final Rectangle healthBarBorder;
@@ -28,8 +29,21 @@ public class LevelViewLevelTwo extends LevelView {
 	 * @param heartsToDisplay the initial number of hearts to display
 	 */
 	public LevelViewLevelTwo(Group root, int heartsToDisplay) {
+		this(root, root, heartsToDisplay);
+	}
+
+	/**
+	 * Constructs a new {@code LevelViewLevelTwo} whose shield is drawn in the level's world,
+	 * so it moves and scales with the boss it covers.
+	 *
+	 * @param root            the root {@link Group} for the level, holding the health bars
+	 * @param worldLayer      the {@link Group} holding the level's actors
+	 * @param heartsToDisplay the initial number of hearts to display
+	 */
+	public LevelViewLevelTwo(Group root, Group worldLayer, int heartsToDisplay) {
 		super(root, heartsToDisplay, true);
 		this.root = root;
+		this.shieldLayer = worldLayer;
 
 		// Initialize shield image
 		this.shieldImage = new ShieldImage(600, 100); // Position above boss
@@ -108,8 +122,8 @@ public class LevelViewLevelTwo extends LevelView {
 		if (!root.getChildren().contains(shieldHealthBar)) {
 			root.getChildren().add(shieldHealthBar);
 		}
-		if (!root.getChildren().contains(shieldImage)) {
-			root.getChildren().add(shieldImage);
+		if (!shieldLayer.getChildren().contains(shieldImage)) {
+			shieldLayer.getChildren().add(shieldImage);
 		}
 	}
 
@@ -128,13 +142,6 @@ public class LevelViewLevelTwo extends LevelView {
 		// Update the health bar width
 		healthBar.setWidth(newWidth);
 
-		// Debugging information
-		System.out.println("Updating Boss Health Bar:");
-		System.out.println(" - Current Health: " + currentHealth);
-		System.out.println(" - Max Health: " + maxHealth);
-		System.out.println(" - Health Percentage: " + (healthPercentage * 100) + "%");
-		System.out.println(" - New Health Bar Width: " + newWidth);
-
 		// Ensure the health bar is added and visible
 		if (!root.getChildren().contains(healthBar)) {
 			root.getChildren().add(healthBar);
@@ -151,12 +158,10 @@ public class LevelViewLevelTwo extends LevelView {
 
 
 	public void showShield() {
-		System.out.println("Showing shield");
 		shieldImage.showShield();
 	}
 
 	public void hideShield() {
-		System.out.println("Hiding shield");
 		shieldImage.hideShield();
 	}
 
@@ -170,8 +175,6 @@ public class LevelViewLevelTwo extends LevelView {
 			// Apply the calculated position to the shield image
 			shieldImage.setLayoutX(shieldX);
 			shieldImage.setLayoutY(shieldY);
-
-			System.out.println("Shield repositioned to: (" + shieldX + ", " + shieldY + ")");
 		}
 	}
 
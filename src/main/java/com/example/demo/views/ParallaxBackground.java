@@ -0,0 +1,123 @@
+package com.example.demo.views;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.stage.Window;
+
+/**
+ * Draws a level or menu background from pre-decoded animation frames.
+ * <p>
+ * The background is a stack of layers drawn back to front on one canvas. Each layer
+ * fills the canvas, plays its {@link FrameSequence}, and may scroll horizontally at its
+ * own speed, wrapping around so it tiles seamlessly. Slower layers behind faster ones
+ * give a parallax effect.
+ * </p>
+ * <p>
+ * The background animates only while its scene is shown in a window, so replaced
+ * scenes stop drawing on their own. At lower {@link QualityLevel}s the timer skips
+ * pulses and draws the frames without filtering.
+ * </p>
+ */
+public class ParallaxBackground extends Canvas {
+
+	private final List<FrameSequence> layerFrames = new ArrayList<>();
+	private final List<Double> layerSpeeds = new ArrayList<>();
+	private final AnimationTimer timer;
+	private long startNanos = -1;
+	private int pulsesSinceDraw;
+
+	/**
+	 * Constructs an empty background of the given size.
+	 *
+	 * @param width  the width of the background
+	 * @param height the height of the background
+	 */
+	public ParallaxBackground(double width, double height) {
+		super(width, height);
+		this.timer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				QualityLevel quality = QualityGovernor.getInstance().getLevel();
+				if (++pulsesSinceDraw >= quality.getBackgroundInterval()) {
+					pulsesSinceDraw = 0;
+					getGraphicsContext2D().setImageSmoothing(quality.hasSmoothSprites());
+					render(now);
+				}
+			}
+		};
+		sceneProperty().addListener((observable, oldScene, newScene) -> {
+			if (newScene != null) {
+				newScene.windowProperty().addListener((windowObservable, oldWindow, newWindow) -> updateTimer());
+			}
+			updateTimer();
+		});
+	}
+
+	/**
+	 * Constructs a background of one still-standing animated layer from a GIF.
+	 *
+	 * @param resourcePath the classpath location of the GIF
+	 * @param width        the width of the background
+	 * @param height       the height of the background
+	 */
+	public ParallaxBackground(String resourcePath, double width, double height) {
+		this(width, height);
+		addLayer(FrameSequence.fromGif(resourcePath, width, height), 0);
+	}
+
+	/**
+	 * Adds a layer in front of the existing ones.
+	 *
+	 * @param frames      the animation of the layer
+	 * @param scrollSpeed the scroll speed in pixels per second, positive to the left
+	 */
+	public void addLayer(FrameSequence frames, double scrollSpeed) {
+		layerFrames.add(frames);
+		layerSpeeds.add(scrollSpeed);
+	}
+
+	/**
+	 * Draws every layer at the given time.
+	 *
+	 * @param now the current time in nanoseconds, as passed to an {@link AnimationTimer}
+	 */
+	public void render(long now) {
+		if (startNanos < 0) {
+			startNanos = now;
+		}
+		long elapsedNanos = now - startNanos;
+		double width = getWidth();
+		double height = getHeight();
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.clearRect(0, 0, width, height);
+
+		for (int i = 0; i < layerFrames.size(); i++) {
+			Image frame = layerFrames.get(i).getFrame(elapsedNanos);
+			double offset = (layerSpeeds.get(i) * elapsedNanos / 1_000_000_000.0) % width;
+			if (offset < 0) {
+				offset += width;
+			}
+			// Two tiles cover the canvas at any scroll offset
+			graphics.drawImage(frame, -offset, 0, width, height);
+			if (offset > 0) {
+				graphics.drawImage(frame, width - offset, 0, width, height);
+			}
+		}
+	}
+
+	private void updateTimer() {
+		Scene scene = getScene();
+		Window window = scene == null ? null : scene.getWindow();
+		if (window != null) {
+			timer.start();
+		} else {
+			timer.stop();
+		}
+	}
+}
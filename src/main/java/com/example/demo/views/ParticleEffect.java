@@ -0,0 +1,172 @@
+package com.example.demo.views;
+
+/**
+ * Describes the kinds of particle bursts emitted by the {@link ParticleSystem}.
+ * <p>
+ * Each effect fixes how many particles one burst holds, how fast and in which directions
+ * they fly, how long they live, how they shrink and fall, and the colour they fade
+ * through. Colours are packed ARGB values so the simulation needs no JavaFX types.
+ * </p>
+ */
+public enum ParticleEffect {
+
+	/** Hot core of an enemy explosion. */
+	EXPLOSION(90, 60, 340, 0, Math.PI, 0.35, 0.8, 7, 1, 0, 3.0, 0xFFFFF3B0, 0x00C0300A),
+	/** Heavier wreckage that tumbles down after an explosion. */
+	DEBRIS(24, 80, 260, -Math.PI / 2, Math.PI, 0.8, 1.6, 4, 3, 520, 0.8, 0xFF8A8F99, 0x002B2E33),
+	/** Sparks of a projectile hitting a plane. */
+	SPARKS(18, 120, 380, Math.PI, Math.PI / 3, 0.12, 0.3, 3, 1, 0, 6.0, 0xFFFFFFFF, 0x00FFB030),
+	/** Sparks of a projectile glancing off the boss shield. */
+	SHIELD_SPARKS(22, 150, 420, Math.PI, Math.PI / 2, 0.15, 0.35, 3, 1, 0, 5.0, 0xFFE0FFFF, 0x0000C8FF),
+	/** Short flash in front of the player's gun. */
+	MUZZLE_FLASH(8, 200, 420, 0, Math.PI / 8, 0.05, 0.12, 4, 1, 0, 10.0, 0xFFFFFFE0, 0x00FFD040);
+
+	private final int count;
+	private final double minSpeed;
+	private final double maxSpeed;
+	private final double direction;
+	private final double spread;
+	private final double minLife;
+	private final double maxLife;
+	private final double startSize;
+	private final double endSize;
+	private final double gravity;
+	private final double drag;
+	private final int startColor;
+	private final int endColor;
+
+	ParticleEffect(int count, double minSpeed, double maxSpeed, double direction, double spread,
+				   double minLife, double maxLife, double startSize, double endSize,
+				   double gravity, double drag, int startColor, int endColor) {
+		this.count = count;
+		this.minSpeed = minSpeed;
+		this.maxSpeed = maxSpeed;
+		this.direction = direction;
+		this.spread = spread;
+		this.minLife = minLife;
+		this.maxLife = maxLife;
+		this.startSize = startSize;
+		this.endSize = endSize;
+		this.gravity = gravity;
+		this.drag = drag;
+		this.startColor = startColor;
+		this.endColor = endColor;
+	}
+
+	/**
+	 * Gets the number of particles in a full-quality burst.
+	 *
+	 * @return the particle count
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the slowest launch speed.
+	 *
+	 * @return the speed in pixels per second
+	 */
+	public double getMinSpeed() {
+		return minSpeed;
+	}
+
+	/**
+	 * Gets the fastest launch speed.
+	 *
+	 * @return the speed in pixels per second
+	 */
+	public double getMaxSpeed() {
+		return maxSpeed;
+	}
+
+	/**
+	 * Gets the centre of the launch directions.
+	 *
+	 * @return the angle in radians, 0 pointing right
+	 */
+	public double getDirection() {
+		return direction;
+	}
+
+	/**
+	 * Gets how far launch directions may stray from the centre on either side.
+	 *
+	 * @return the half-angle in radians, {@code Math.PI} for every direction
+	 */
+	public double getSpread() {
+		return spread;
+	}
+
+	/**
+	 * Gets the shortest particle lifetime.
+	 *
+	 * @return the lifetime in seconds
+	 */
+	public double getMinLife() {
+		return minLife;
+	}
+
+	/**
+	 * Gets the longest particle lifetime.
+	 *
+	 * @return the lifetime in seconds
+	 */
+	public double getMaxLife() {
+		return maxLife;
+	}
+
+	/**
+	 * Gets the edge length of a particle when it is born.
+	 *
+	 * @return the size in pixels
+	 */
+	public double getStartSize() {
+		return startSize;
+	}
+
+	/**
+	 * Gets the edge length of a particle when it dies.
+	 *
+	 * @return the size in pixels
+	 */
+	public double getEndSize() {
+		return endSize;
+	}
+
+	/**
+	 * Gets the downward acceleration.
+	 *
+	 * @return the acceleration in pixels per second squared
+	 */
+	public double getGravity() {
+		return gravity;
+	}
+
+	/**
+	 * Gets how quickly particles slow down.
+	 *
+	 * @return the drag rate per second
+	 */
+	public double getDrag() {
+		return drag;
+	}
+
+	/**
+	 * Gets the colour of a newborn particle.
+	 *
+	 * @return the colour as packed ARGB
+	 */
+	public int getStartColor() {
+		return startColor;
+	}
+
+	/**
+	 * Gets the colour a particle fades to when it dies.
+	 *
+	 * @return the colour as packed ARGB
+	 */
+	public int getEndColor() {
+		return endColor;
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.demo.views;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws every particle of a {@link ParticleSystem} onto a single canvas.
+ * <p>
+ * Particles are drawn as small squares in a palette of a few colours per effect, built
+ * once when the layer is created. Each frame the particles are bucketed by colour with a
+ * counting sort over preallocated arrays, so the fill colour changes once per bucket
+ * rather than once per particle and drawing allocates nothing.
+ * </p>
+ */
+public class ParticleLayer extends Canvas {
+
+	private final Color[] palette;
+	private final int[] bucketStart;
+	private int[] order = new int[0];
+
+	/**
+	 * Constructs a {@code ParticleLayer} covering the given area.
+	 *
+	 * @param width  the width of the layer
+	 * @param height the height of the layer
+	 */
+	public ParticleLayer(double width, double height) {
+		super(width, height);
+		ParticleEffect[] effects = ParticleEffect.values();
+		this.palette = new Color[effects.length * ParticleSystem.COLOR_STEPS];
+		for (ParticleEffect effect : effects) {
+			for (int step = 0; step < ParticleSystem.COLOR_STEPS; step++) {
+				double t = step / (double) (ParticleSystem.COLOR_STEPS - 1);
+				palette[effect.ordinal() * ParticleSystem.COLOR_STEPS + step] =
+						blend(effect.getStartColor(), effect.getEndColor(), t);
+			}
+		}
+		this.bucketStart = new int[palette.length + 1];
+		setMouseTransparent(true);
+	}
+
+	private static Color blend(int from, int to, double t) {
+		return Color.rgb(
+				(int) Math.round(channel(from, 16) + (channel(to, 16) - channel(from, 16)) * t),
+				(int) Math.round(channel(from, 8) + (channel(to, 8) - channel(from, 8)) * t),
+				(int) Math.round(channel(from, 0) + (channel(to, 0) - channel(from, 0)) * t),
+				(channel(from, 24) + (channel(to, 24) - channel(from, 24)) * t) / 255.0);
+	}
+
+	private static int channel(int argb, int shift) {
+		return (argb >>> shift) & 0xFF;
+	}
+
+	/**
+	 * Redraws the layer with the current particles, skipping the ones outside the camera view.
+	 *
+	 * @param particles the particles to draw
+	 * @param camera    the camera of the level
+	 */
+	public void render(ParticleSystem particles, Camera camera) {
+		GraphicsContext gc = getGraphicsContext2D();
+		gc.clearRect(0, 0, getWidth(), getHeight());
+		int count = particles.size();
+		if (count == 0) {
+			return;
+		}
+		if (order.length < particles.getCapacity()) {
+			order = new int[particles.getCapacity()];
+		}
+
+		// Counting sort of particle indices by colour
+		Arrays.fill(bucketStart, 0);
+		for (int i = 0; i < count; i++) {
+			bucketStart[particles.getColorIndex(i) + 1]++;
+		}
+		for (int b = 0; b < palette.length; b++) {
+			bucketStart[b + 1] += bucketStart[b];
+		}
+		for (int i = 0; i < count; i++) {
+			order[bucketStart[particles.getColorIndex(i)]++] = i;
+		}
+
+		// bucketStart now holds each bucket's end, which is the next bucket's start
+		int start = 0;
+		for (int b = 0; b < palette.length; b++) {
+			int end = bucketStart[b];
+			if (end > start) {
+				gc.setFill(palette[b]);
+				for (int k = start; k < end; k++) {
+					int i = order[k];
+					double size = particles.getSize(i);
+					double left = particles.getX(i) - size / 2;
+					double top = particles.getY(i) - size / 2;
+					if (camera.isVisible(left, top, size, size)) {
+						gc.fillRect(left, top, size, size);
+					}
+				}
+			}
+			start = end;
+		}
+	}
+}
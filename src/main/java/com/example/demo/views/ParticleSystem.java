@@ -0,0 +1,234 @@
+package com.example.demo.views;
+
+import com.example.demo.utilities.GameRandom;
+
+/**
+ * Simulates short-lived visual particles without creating an object per particle.
+ * <p>
+ * Particles live in parallel primitive arrays of a fixed capacity, like the bullets of
+ * a {@link com.example.demo.actors.BulletPool}. Dead particles are removed by swapping
+ * the last live particle into their slot. When a burst finds the system full it recycles
+ * slots in turn instead of dropping the burst, so the newest effects always show.
+ * </p>
+ * <p>
+ * Particles only decorate the game: they use their own random generator, are stepped by
+ * the render loop in real time and are not part of level snapshots.
+ * </p>
+ */
+public class ParticleSystem {
+
+	/** Default number of particles alive at once. */
+	public static final int DEFAULT_CAPACITY = 16384;
+	/** Number of colours each effect fades through over a particle's life. */
+	public static final int COLOR_STEPS = 8;
+
+	private static final ParticleEffect[] EFFECTS = ParticleEffect.values();
+
+	private final int capacity;
+	private final double[] x;
+	private final double[] y;
+	private final double[] vx;
+	private final double[] vy;
+	private final double[] age;
+	private final double[] life;
+	private final byte[] effect;
+	private int size;
+	private int recycleCursor;
+	private long recycled;
+	private final GameRandom random = new GameRandom(0x5EED5EEDL);
+
+	// Per-effect parameters unpacked from ParticleEffect so the bulk loop only reads arrays
+	private final double[] effectGravity = new double[EFFECTS.length];
+	private final double[] effectDrag = new double[EFFECTS.length];
+	private final double[] effectStartSize = new double[EFFECTS.length];
+	private final double[] effectSizeChange = new double[EFFECTS.length];
+	private final double[] dragFactor = new double[EFFECTS.length];
+
+	/**
+	 * Constructs a system with the {@link #DEFAULT_CAPACITY}.
+	 */
+	public ParticleSystem() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a system that holds up to {@code capacity} live particles.
+	 *
+	 * @param capacity the maximum number of simultaneous particles
+	 */
+	public ParticleSystem(int capacity) {
+		this.capacity = capacity;
+		this.x = new double[capacity];
+		this.y = new double[capacity];
+		this.vx = new double[capacity];
+		this.vy = new double[capacity];
+		this.age = new double[capacity];
+		this.life = new double[capacity];
+		this.effect = new byte[capacity];
+		for (ParticleEffect particleEffect : EFFECTS) {
+			int e = particleEffect.ordinal();
+			effectGravity[e] = particleEffect.getGravity();
+			effectDrag[e] = particleEffect.getDrag();
+			effectStartSize[e] = particleEffect.getStartSize();
+			effectSizeChange[e] = particleEffect.getEndSize() - particleEffect.getStartSize();
+		}
+	}
+
+	/**
+	 * Emits one burst of an effect.
+	 *
+	 * @param particleEffect the kind of burst
+	 * @param originX        the X-coordinate of the burst centre
+	 * @param originY        the Y-coordinate of the burst centre
+	 * @param density        the share of the effect's particles to emit, from 0 to 1
+	 * @return the number of particles emitted
+	 */
+	public int emit(ParticleEffect particleEffect, double originX, double originY, double density) {
+		int count = (int) Math.ceil(particleEffect.getCount() * Math.min(1.0, Math.max(0.0, density)));
+		byte e = (byte) particleEffect.ordinal();
+		double minSpeed = particleEffect.getMinSpeed();
+		double speedRange = particleEffect.getMaxSpeed() - minSpeed;
+		double minLife = particleEffect.getMinLife();
+		double lifeRange = particleEffect.getMaxLife() - minLife;
+		for (int k = 0; k < count; k++) {
+			int i = claim();
+			double angle = particleEffect.getDirection() + (random.nextDouble() * 2 - 1) * particleEffect.getSpread();
+			double speed = minSpeed + random.nextDouble() * speedRange;
+			x[i] = originX;
+			y[i] = originY;
+			vx[i] = Math.cos(angle) * speed;
+			vy[i] = Math.sin(angle) * speed;
+			age[i] = 0;
+			life[i] = minLife + random.nextDouble() * lifeRange;
+			effect[i] = e;
+		}
+		return count;
+	}
+
+	private int claim() {
+		if (size < capacity) {
+			return size++;
+		}
+		recycled++;
+		int slot = recycleCursor;
+		recycleCursor = (recycleCursor + 1) % capacity;
+		return slot;
+	}
+
+	/**
+	 * Moves every particle forward in time and removes the ones that burnt out.
+	 *
+	 * @param seconds the time since the last update
+	 */
+	public void update(double seconds) {
+		if (seconds <= 0) {
+			return;
+		}
+		for (int e = 0; e < EFFECTS.length; e++) {
+			dragFactor[e] = Math.exp(-effectDrag[e] * seconds);
+		}
+		int i = 0;
+		while (i < size) {
+			age[i] += seconds;
+			if (age[i] >= life[i]) {
+				removeAt(i); // The last particle moved into slot i has not been updated yet
+				continue;
+			}
+			int e = effect[i];
+			vx[i] *= dragFactor[e];
+			vy[i] = vy[i] * dragFactor[e] + effectGravity[e] * seconds;
+			x[i] += vx[i] * seconds;
+			y[i] += vy[i] * seconds;
+			i++;
+		}
+	}
+
+	/**
+	 * Removes all particles.
+	 */
+	public void clear() {
+		size = 0;
+		recycleCursor = 0;
+	}
+
+	/**
+	 * Gets the number of live particles.
+	 *
+	 * @return the particle count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the maximum number of simultaneous particles.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets how many particles were overwritten because the system was full.
+	 *
+	 * @return the number of recycled particles since the system was created
+	 */
+	public long getRecycled() {
+		return recycled;
+	}
+
+	/**
+	 * Gets the X-coordinate of a particle's centre.
+	 *
+	 * @param index the particle index, between 0 and {@link #size()}
+	 * @return the X-coordinate
+	 */
+	public double getX(int index) {
+		return x[index];
+	}
+
+	/**
+	 * Gets the Y-coordinate of a particle's centre.
+	 *
+	 * @param index the particle index, between 0 and {@link #size()}
+	 * @return the Y-coordinate
+	 */
+	public double getY(int index) {
+		return y[index];
+	}
+
+	/**
+	 * Gets the current edge length of a particle.
+	 *
+	 * @param index the particle index, between 0 and {@link #size()}
+	 * @return the size in pixels
+	 */
+	public double getSize(int index) {
+		int e = effect[index];
+		return effectStartSize[e] + effectSizeChange[e] * (age[index] / life[index]);
+	}
+
+	/**
+	 * Gets the colour step a particle is drawn with.
+	 *
+	 * @param index the particle index, between 0 and {@link #size()}
+	 * @return the effect's ordinal times {@link #COLOR_STEPS}, plus how far the particle
+	 *         has faded
+	 */
+	public int getColorIndex(int index) {
+		int step = (int) (age[index] / life[index] * COLOR_STEPS);
+		return effect[index] * COLOR_STEPS + Math.min(step, COLOR_STEPS - 1);
+	}
+
+	private void removeAt(int i) {
+		int last = --size;
+		x[i] = x[last];
+		y[i] = y[last];
+		vx[i] = vx[last];
+		vy[i] = vy[last];
+		age[i] = age[last];
+		life[i] = life[last];
+		effect[i] = effect[last];
+	}
+}
@@ -0,0 +1,216 @@
+package com.example.demo.views;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.example.demo.diagnostics.TimingHistory;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * A toggleable panel of live performance numbers, drawn on a single canvas.
+ * <p>
+ * The level records the duration of every frame and tick, which only writes into
+ * preallocated rings. The panel itself is redrawn every
+ * {@link #REFRESH_INTERVAL_NANOS} while it is shown. Each refresh shows frame and tick
+ * times, the input-to-tick latency and dropped key events, ticks per second, a
+ * sparkline of recent frame times, entity and scene-graph node counts, heap use and
+ * garbage collections. Nothing is measured or drawn while the
+ * panel is hidden, apart from recording the timings.
+ * </p>
+ */
+public class PerformanceOverlay extends Canvas {
+
+	/** Time between two redraws of the panel. */
+	public static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+	private static final double WIDTH = 300;
+	private static final double HEIGHT = 225;
+	private static final double PADDING = 8;
+	private static final double LINE_HEIGHT = 15;
+	private static final double SPARKLINE_HEIGHT = 40;
+	private static final int FRAME_HISTORY = 120;
+	private static final int TICK_HISTORY = 40;
+	private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.65);
+	private static final Color BUDGET_COLOR = Color.rgb(255, 80, 80, 0.8);
+	private static final Color SPARKLINE_COLOR = Color.rgb(120, 230, 120);
+	private static final Font FONT = Font.font("Monospaced", 12);
+
+	private final TimingHistory frameIntervals = new TimingHistory(FRAME_HISTORY);
+	private final TimingHistory renderTimes = new TimingHistory(FRAME_HISTORY);
+	private final TimingHistory tickTimes = new TimingHistory(TICK_HISTORY);
+	private final TimingHistory inputLatencies = new TimingHistory(TICK_HISTORY);
+	private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+	private long ticksSinceRefresh;
+	private long lastRefreshNanos;
+
+	/**
+	 * Constructs a hidden overlay with its top-left corner at the given position.
+	 *
+	 * @param x the X-coordinate of the panel
+	 * @param y the Y-coordinate of the panel
+	 */
+	public PerformanceOverlay(double x, double y) {
+		super(WIDTH, HEIGHT);
+		setLayoutX(x);
+		setLayoutY(y);
+		setMouseTransparent(true);
+		setVisible(false);
+	}
+
+	/**
+	 * Shows the overlay if it is hidden and hides it otherwise.
+	 */
+	public void toggle() {
+		setVisible(!isVisible());
+		if (isVisible()) {
+			toFront();
+			lastRefreshNanos = 0; // Draw on the next frame instead of showing a stale panel
+		}
+	}
+
+	/**
+	 * Records one display frame.
+	 *
+	 * @param intervalNanos the time since the previous frame
+	 * @param renderNanos   the time spent drawing this frame
+	 */
+	public void recordFrame(long intervalNanos, long renderNanos) {
+		frameIntervals.record(intervalNanos);
+		renderTimes.record(renderNanos);
+	}
+
+	/**
+	 * Records one simulation tick.
+	 *
+	 * @param simulationNanos the time the tick took
+	 */
+	public void recordTick(long simulationNanos) {
+		tickTimes.record(simulationNanos);
+		ticksSinceRefresh++;
+	}
+
+	/**
+	 * Records the input-to-tick latency of a tick that consumed key events.
+	 *
+	 * @param latencyNanos the longest latency among the tick's key events
+	 */
+	public void recordInput(long latencyNanos) {
+		inputLatencies.record(latencyNanos);
+	}
+
+	/**
+	 * Checks whether the overlay is shown and its last redraw is old enough to redraw.
+	 *
+	 * @param now the current time in nanoseconds
+	 * @return {@code true} if {@link #refresh} should be called
+	 */
+	public boolean isRefreshDue(long now) {
+		return isVisible() && now - lastRefreshNanos >= REFRESH_INTERVAL_NANOS;
+	}
+
+	/**
+	 * Redraws the panel with the current numbers.
+	 *
+	 * @param now             the current time in nanoseconds
+	 * @param sceneRoot       the root whose nodes are counted
+	 * @param friendlyUnits   the number of friendly units
+	 * @param enemyUnits      the number of enemy units
+	 * @param userProjectiles the number of projectiles fired by the player
+	 * @param enemyBullets    the number of enemy bullets
+	 * @param particles       the number of live particles
+	 * @param droppedInputs   the number of key events dropped because the input buffer was full
+	 */
+	public void refresh(long now, Parent sceneRoot, int friendlyUnits, int enemyUnits,
+						int userProjectiles, int enemyBullets, int particles, int droppedInputs) {
+		double seconds = lastRefreshNanos == 0 ? 0 : (now - lastRefreshNanos) / 1_000_000_000.0;
+		double ticksPerSecond = seconds > 0 ? ticksSinceRefresh / seconds : 0;
+		ticksSinceRefresh = 0;
+		lastRefreshNanos = now;
+
+		Runtime runtime = Runtime.getRuntime();
+		long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+		long collections = 0;
+		long collectionMillis = 0;
+		for (GarbageCollectorMXBean collector : collectors) {
+			collections += Math.max(0, collector.getCollectionCount());
+			collectionMillis += Math.max(0, collector.getCollectionTime());
+		}
+
+		GraphicsContext gc = getGraphicsContext2D();
+		gc.clearRect(0, 0, WIDTH, HEIGHT);
+		gc.setFill(BACKGROUND);
+		gc.fillRect(0, 0, WIDTH, HEIGHT);
+		gc.setFont(FONT);
+		gc.setFill(Color.WHITE);
+		String[] lines = {
+				String.format("frame  %5.1f ms avg %5.1f max", millis(frameIntervals.getAverage()), millis(frameIntervals.getMax())),
+				String.format("render %5.2f ms avg %5.2f max", millis(renderTimes.getAverage()), millis(renderTimes.getMax())),
+				String.format("tick   %5.2f ms avg %5.2f max", millis(tickTimes.getAverage()), millis(tickTimes.getMax())),
+				String.format("input  %5.1f ms avg %5.1f max %d lost", millis(inputLatencies.getAverage()),
+						millis(inputLatencies.getMax()), droppedInputs),
+				String.format("ticks/s %4.1f   quality %s", ticksPerSecond, QualityGovernor.getInstance().getLevel()),
+				String.format("friendly %d  enemies %d", friendlyUnits, enemyUnits),
+				String.format("shots %d  bullets %d  particles %d", userProjectiles, enemyBullets, particles),
+				String.format("nodes %d", countNodes(sceneRoot)),
+				String.format("heap %d / %d MB", usedHeap >> 20, runtime.maxMemory() >> 20),
+				String.format("gc %d (%d ms)", collections, collectionMillis)
+		};
+		double y = PADDING + LINE_HEIGHT - 3;
+		for (String line : lines) {
+			gc.fillText(line, PADDING, y);
+			y += LINE_HEIGHT;
+		}
+		drawSparkline(gc, HEIGHT - PADDING - SPARKLINE_HEIGHT);
+	}
+
+	private void drawSparkline(GraphicsContext gc, double top) {
+		double width = WIDTH - 2 * PADDING;
+		double bottom = top + SPARKLINE_HEIGHT;
+		// Twice the 60 Hz budget fills the graph, so the budget line sits halfway up
+		double scale = SPARKLINE_HEIGHT / (2.0 * QualityGovernor.DEFAULT_BUDGET_NANOS);
+		gc.setStroke(BUDGET_COLOR);
+		gc.setLineWidth(1);
+		gc.strokeLine(PADDING, bottom - QualityGovernor.DEFAULT_BUDGET_NANOS * scale,
+				PADDING + width, bottom - QualityGovernor.DEFAULT_BUDGET_NANOS * scale);
+
+		int count = frameIntervals.size();
+		if (count < 2) {
+			return;
+		}
+		gc.setStroke(SPARKLINE_COLOR);
+		gc.beginPath();
+		double step = width / (frameIntervals.getCapacity() - 1);
+		double x = PADDING + width - (count - 1) * step; // Newest sample on the right edge
+		for (int i = 0; i < count; i++) {
+			double height = Math.min(SPARKLINE_HEIGHT, frameIntervals.get(i) * scale);
+			if (i == 0) {
+				gc.moveTo(x, bottom - height);
+			} else {
+				gc.lineTo(x, bottom - height);
+			}
+			x += step;
+		}
+		gc.stroke();
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static int countNodes(Parent parent) {
+		int count = 0;
+		for (Node child : parent.getChildrenUnmodifiable()) {
+			count++;
+			if (child instanceof Parent childParent) {
+				count += countNodes(childParent);
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,202 @@
+package com.example.demo.views;
+
+import java.util.Arrays;
+
+import com.example.demo.diagnostics.QualityChangeEvent;
+
+/**
+ * Steps the visual quality up and down to keep frames within their time budget.
+ * <p>
+ * The render loop reports the time between display pulses with
+ * {@link #recordFrame(long)}. The governor keeps a moving window of recent frame times
+ * and, every {@value #EVALUATION_INTERVAL} frames, looks at the
+ * {@value #PERCENTILE}th percentile. When it is over budget for
+ * {@value #EVALUATIONS_OVER_TO_LOWER} evaluations in a row the quality drops one
+ * {@link QualityLevel}; it only rises again after {@value #EVALUATIONS_UNDER_TO_RAISE}
+ * evaluations in a row well under budget. The gap between the two thresholds keeps the
+ * quality from flickering between levels. After a change the window starts over, so the
+ * new level is judged on its own frames.
+ * </p>
+ * <p>
+ * Effects ask for a slot with {@link #tryStartEffect()} and give it back with
+ * {@link #endEffect()}, so the number of hit flashes and explosions playing at once
+ * never exceeds what the current level allows.
+ * </p>
+ * <p>
+ * All methods are meant to be called from the JavaFX application thread.
+ * </p>
+ */
+public class QualityGovernor {
+
+	/** Frame time budget of a 60 Hz display. */
+	public static final long DEFAULT_BUDGET_NANOS = 16_666_667L;
+
+	static final int WINDOW_SIZE = 120;
+	static final int EVALUATION_INTERVAL = 30;
+	static final int PERCENTILE = 95;
+	static final int EVALUATIONS_OVER_TO_LOWER = 2;
+	static final int EVALUATIONS_UNDER_TO_RAISE = 6;
+	/** Share of the budget the percentile must stay under before quality rises. */
+	private static final double RAISE_THRESHOLD = 0.7;
+	/** Gaps longer than this are stalls, such as a moved window, and are not counted. */
+	private static final long MAX_SAMPLE_NANOS = 250_000_000L;
+
+	private static QualityGovernor instance;
+
+	private final long budgetNanos;
+	private final long[] samples = new long[WINDOW_SIZE];
+	private final long[] sorted = new long[WINDOW_SIZE];
+	private int sampleCount;
+	private int nextSample;
+	private int framesSinceEvaluation;
+	private int evaluationsOver;
+	private int evaluationsUnder;
+	private long lastPercentileNanos;
+	private QualityLevel level = QualityLevel.HIGH;
+	private int changes;
+	private int activeEffects;
+
+	/**
+	 * Gets the governor shared by the whole game, creating it on first use.
+	 *
+	 * @return the shared governor
+	 */
+	public static synchronized QualityGovernor getInstance() {
+		if (instance == null) {
+			instance = new QualityGovernor(DEFAULT_BUDGET_NANOS);
+		}
+		return instance;
+	}
+
+	QualityGovernor(long budgetNanos) {
+		this.budgetNanos = budgetNanos;
+	}
+
+	/**
+	 * Records the duration of one display frame and adjusts the quality if needed.
+	 *
+	 * @param frameNanos the time since the previous frame in nanoseconds
+	 */
+	public void recordFrame(long frameNanos) {
+		if (frameNanos <= 0 || frameNanos > MAX_SAMPLE_NANOS) {
+			return;
+		}
+		samples[nextSample] = frameNanos;
+		nextSample = (nextSample + 1) % WINDOW_SIZE;
+		if (sampleCount < WINDOW_SIZE) {
+			sampleCount++;
+		}
+		if (++framesSinceEvaluation >= EVALUATION_INTERVAL) {
+			framesSinceEvaluation = 0;
+			evaluate();
+		}
+	}
+
+	private void evaluate() {
+		System.arraycopy(samples, 0, sorted, 0, sampleCount);
+		Arrays.sort(sorted, 0, sampleCount);
+		lastPercentileNanos = sorted[(sampleCount - 1) * PERCENTILE / 100];
+
+		if (lastPercentileNanos > budgetNanos) {
+			evaluationsUnder = 0;
+			if (++evaluationsOver >= EVALUATIONS_OVER_TO_LOWER) {
+				changeLevel(level.lower());
+			}
+		} else if (lastPercentileNanos < budgetNanos * RAISE_THRESHOLD) {
+			evaluationsOver = 0;
+			if (++evaluationsUnder >= EVALUATIONS_UNDER_TO_RAISE) {
+				changeLevel(level.higher());
+			}
+		} else {
+			evaluationsOver = 0;
+			evaluationsUnder = 0;
+		}
+	}
+
+	private void changeLevel(QualityLevel next) {
+		evaluationsOver = 0;
+		evaluationsUnder = 0;
+		if (next == level) {
+			return;
+		}
+		QualityChangeEvent event = new QualityChangeEvent();
+		if (event.shouldCommit()) {
+			event.from = level.name();
+			event.to = next.name();
+			event.percentileNanos = lastPercentileNanos;
+			event.commit();
+		}
+		level = next;
+		changes++;
+		sampleCount = 0;
+		nextSample = 0;
+	}
+
+	/**
+	 * Gets the current quality level.
+	 *
+	 * @return the level effects and rendering should follow
+	 */
+	public QualityLevel getLevel() {
+		return level;
+	}
+
+	/**
+	 * Forces a quality level, for example from a settings menu or a benchmark.
+	 *
+	 * @param level the level to use until the governor decides otherwise
+	 */
+	public void setLevel(QualityLevel level) {
+		changeLevel(level);
+	}
+
+	/**
+	 * Gets how many times the quality level changed, so callers can cheaply notice a change.
+	 *
+	 * @return the number of changes so far
+	 */
+	public int getChangeCount() {
+		return changes;
+	}
+
+	/**
+	 * Gets the frame time percentile of the last evaluation.
+	 *
+	 * @return the percentile in nanoseconds, or 0 before the first evaluation
+	 */
+	public long getLastPercentileNanos() {
+		return lastPercentileNanos;
+	}
+
+	/**
+	 * Asks for a slot to play a visual effect.
+	 *
+	 * @return {@code true} if the effect may play, in which case {@link #endEffect()}
+	 *         must be called when it finishes
+	 */
+	public boolean tryStartEffect() {
+		if (activeEffects >= level.getMaxEffects()) {
+			return false;
+		}
+		activeEffects++;
+		return true;
+	}
+
+	/**
+	 * Gives back the slot of a finished effect.
+	 */
+	public void endEffect() {
+		if (activeEffects > 0) {
+			activeEffects--;
+		}
+	}
+
+	/**
+	 * Gets the number of effects currently playing.
+	 *
+	 * @return the active effect count
+	 */
+	public int getActiveEffects() {
+		return activeEffects;
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.demo.views;
+
+/**
+ * The visual quality steps the {@link QualityGovernor} moves between.
+ * <p>
+ * Each step trades a little of the presentation for frame time: fewer simultaneous
+ * hit effects and particles, a background that redraws less often, flashes without drop
+ * shadows, sprites drawn without filtering, no kill counter animation and fewer enemies
+ * on screen at once. The gameplay rules themselves never change.
+ * </p>
+ */
+public enum QualityLevel {
+
+	/** Every effect, as designed. */
+	HIGH(24, 1, true, true, true, 1.0, 1.0),
+	/** Fewer effects and a background redrawn every second pulse. */
+	MEDIUM(12, 2, true, true, true, 1.0, 0.6),
+	/** No drop shadows, unfiltered sprites and a slower background. */
+	LOW(6, 3, false, false, false, 0.75, 0.35),
+	/** Only the effects needed to read the game. */
+	MINIMAL(2, 6, false, false, false, 0.5, 0.15);
+
+	private final int maxEffects;
+	private final int backgroundInterval;
+	private final boolean dropShadows;
+	private final boolean smoothSprites;
+	private final boolean killCountAnimation;
+	private final double spawnDensity;
+	private final double particleDensity;
+
+	QualityLevel(int maxEffects, int backgroundInterval, boolean dropShadows, boolean smoothSprites,
+				 boolean killCountAnimation, double spawnDensity, double particleDensity) {
+		this.maxEffects = maxEffects;
+		this.backgroundInterval = backgroundInterval;
+		this.dropShadows = dropShadows;
+		this.smoothSprites = smoothSprites;
+		this.killCountAnimation = killCountAnimation;
+		this.spawnDensity = spawnDensity;
+		this.particleDensity = particleDensity;
+	}
+
+	/**
+	 * Gets how many hit and damage effects may play at the same time.
+	 *
+	 * @return the effect limit
+	 */
+	public int getMaxEffects() {
+		return maxEffects;
+	}
+
+	/**
+	 * Gets how often the animated background is redrawn.
+	 *
+	 * @return the number of pulses per redraw, 1 for every pulse
+	 */
+	public int getBackgroundInterval() {
+		return backgroundInterval;
+	}
+
+	/**
+	 * Checks whether hit flashes may use a drop shadow.
+	 *
+	 * @return {@code true} if drop shadows are drawn
+	 */
+	public boolean hasDropShadows() {
+		return dropShadows;
+	}
+
+	/**
+	 * Checks whether sprites and the background are drawn with image filtering.
+	 *
+	 * @return {@code true} for filtered images
+	 */
+	public boolean hasSmoothSprites() {
+		return smoothSprites;
+	}
+
+	/**
+	 * Checks whether the kill counter animates on every kill.
+	 *
+	 * @return {@code true} if the counter animates
+	 */
+	public boolean hasKillCountAnimation() {
+		return killCountAnimation;
+	}
+
+	/**
+	 * Gets the share of a level's enemy limit that may be on screen at once.
+	 *
+	 * @return a fraction between 0 and 1
+	 */
+	public double getSpawnDensity() {
+		return spawnDensity;
+	}
+
+	/**
+	 * Gets the share of each particle burst that is emitted.
+	 *
+	 * @return a fraction between 0 and 1
+	 */
+	public double getParticleDensity() {
+		return particleDensity;
+	}
+
+	/**
+	 * Gets the next cheaper level.
+	 *
+	 * @return the lower level, or this one if it is already the lowest
+	 */
+	public QualityLevel lower() {
+		return this == MINIMAL ? this : values()[ordinal() + 1];
+	}
+
+	/**
+	 * Gets the next richer level.
+	 *
+	 * @return the higher level, or this one if it is already the highest
+	 */
+	public QualityLevel higher() {
+		return this == HIGH ? this : values()[ordinal() - 1];
+	}
+}
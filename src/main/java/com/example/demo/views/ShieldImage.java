@@ -43,7 +43,6 @@ public class ShieldImage extends ImageView {
 	 * Makes the shield visible and brings it to the front.
 	 */
 	public void showShield() {
-		System.out.println("Showing shield");
 		this.setVisible(true);
 		this.toFront();
 	}
@@ -53,7 +52,6 @@ public class ShieldImage extends ImageView {
 	 */
 	
 	public void hideShield() {
-		System.out.println("Hiding shield");
 		this.setVisible(false);
 		this.toFront();
 	}
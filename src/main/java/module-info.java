@@ -2,16 +2,28 @@ module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
+    requires java.desktop;
+    requires jdk.jfr;
+    requires java.management;
+    requires jdk.management;
 
     opens com.example.demo.controller to javafx.fxml;
     opens com.example.demo.levels to javafx.fxml;
     opens com.example.demo.actors to javafx.fxml;
     opens com.example.demo.views to javafx.fxml;
     opens com.example.demo.utilities to javafx.fxml;
+    opens com.example.demo.events to javafx.fxml;
+    opens com.example.demo.diagnostics to javafx.fxml;
+    opens com.example.demo.collision to javafx.fxml;
+    opens com.example.demo.net to javafx.fxml;
 
     exports com.example.demo.controller;
     exports com.example.demo.levels;
     exports com.example.demo.actors;
     exports com.example.demo.views;
     exports com.example.demo.utilities;
+    exports com.example.demo.events;
+    exports com.example.demo.diagnostics;
+    exports com.example.demo.collision;
+    exports com.example.demo.net;
 }
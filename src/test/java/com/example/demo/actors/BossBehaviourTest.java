@@ -0,0 +1,94 @@
+package com.example.demo.actors;
+
+import com.example.demo.utilities.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BossBehaviourTest {
+
+    private static BossPhase phase(String name, int duration, boolean shielded) {
+        return new BossPhase(name, duration, new int[] {1, -1}, BossPhase.fireEvery(2), shielded);
+    }
+
+    @Test
+    void testPhasesFollowTheirSchedule() {
+        BossBehaviour behaviour = new BossBehaviour()
+                .addPhase(phase("idle", 2, false), "strafe")
+                .addPhase(phase("strafe", 3, false), "idle");
+
+        behaviour.tick(100);
+        assertEquals("idle", behaviour.getPhase().getName());
+        behaviour.tick(100);
+        assertEquals("idle", behaviour.getPhase().getName());
+        behaviour.tick(100);
+        assertEquals("strafe", behaviour.getPhase().getName(), "Idle should end after its duration.");
+        assertTrue(behaviour.hasPhaseChanged());
+
+        behaviour.tick(100);
+        behaviour.tick(100);
+        behaviour.tick(100);
+        assertEquals("idle", behaviour.getPhase().getName(), "Strafe should hand back to idle.");
+    }
+
+    @Test
+    void testStepTablesRepeatWithinAPhase() {
+        BossBehaviour behaviour = new BossBehaviour().addPhase(phase("strafe", 10, false), "strafe");
+
+        behaviour.tick(100);
+        assertEquals(1, behaviour.getMove());
+        assertFalse(behaviour.firesThisTick());
+        behaviour.tick(100);
+        assertEquals(-1, behaviour.getMove());
+        assertTrue(behaviour.firesThisTick(), "fireEvery(2) should fire on every second tick.");
+        behaviour.tick(100);
+        assertEquals(1, behaviour.getMove(), "The movement table should wrap around.");
+    }
+
+    @Test
+    void testHealthGatedPhaseIsSkippedUntilThresholdIsReached() {
+        BossBehaviour behaviour = new BossBehaviour()
+                .addPhase(phase("strafe", 1, false), "shielded")
+                .addPhase(phase("shielded", 1, true), "strafe", 75);
+
+        behaviour.tick(100);
+        behaviour.tick(100);
+        assertEquals("strafe", behaviour.getPhase().getName(), "Shielded should be skipped above 75 health.");
+
+        behaviour.tick(70);
+        assertTrue(behaviour.getPhase().isShielded(), "Shielded should be entered at 75 health or less.");
+    }
+
+    @Test
+    void testEnrageInterruptsTheScheduleOnce() {
+        BossBehaviour behaviour = new BossBehaviour()
+                .addPhase(phase("strafe", 100, false), "strafe")
+                .addPhase(phase("enraged", 2, false), "strafe")
+                .enrageAt(25, "enraged");
+
+        behaviour.tick(100);
+        behaviour.tick(20);
+        assertEquals("enraged", behaviour.getPhase().getName());
+        behaviour.tick(20);
+        behaviour.tick(20);
+        assertEquals("strafe", behaviour.getPhase().getName(), "Enrage should only trigger once.");
+    }
+
+    @Test
+    void testStandardFightIsReproducibleFromASeed() {
+        BossBehaviour first = BossBehaviour.standard(new GameRandom(42));
+        BossBehaviour second = BossBehaviour.standard(new GameRandom(42));
+        for (int i = 0; i < 1000; i++) {
+            first.tick(60);
+            second.tick(60);
+            assertEquals(first.getMove(), second.getMove(), "Moves should match at tick " + i);
+            assertEquals(first.firesThisTick(), second.firesThisTick(), "Shots should match at tick " + i);
+        }
+    }
+
+    @Test
+    void testUnknownPhaseIsRejected() {
+        BossBehaviour behaviour = new BossBehaviour().addPhase(phase("idle", 1, false), "missing");
+        assertThrows(IllegalStateException.class, () -> behaviour.tick(100));
+    }
+}
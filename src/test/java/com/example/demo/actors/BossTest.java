@@ -1,7 +1,9 @@
 package com.example.demo.actors;
 
+import com.example.demo.events.GameEventBus;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelThree;
+import com.example.demo.utilities.GameRandom;
 import com.example.demo.views.LevelViewLevelTwo;
 import javafx.application.Platform;
 import javafx.scene.Group;
@@ -34,6 +36,8 @@ class BossTest {
         LevelViewLevelTwo mockLevelView = Mockito.mock(LevelViewLevelTwo.class);
         Mockito.when(mockLevel.getLevelView()).thenReturn(mockLevelView);
         Mockito.when(mockLevel.getUserPlane()).thenReturn(mockUserPlane);
+        Mockito.when(mockLevel.getEventBus()).thenReturn(new GameEventBus());
+        Mockito.when(mockLevel.getRandom()).thenReturn(new GameRandom(42));
 
         // Initialize the Boss instance
         boss = new Boss(mockLevel);
@@ -96,33 +100,33 @@ class BossTest {
 
     @Test
     void testFireProjectile() {
-        // Simulate firing a projectile
-        Mockito.when(mockUserPlane.getLayoutX()).thenReturn(0.0);
-        Mockito.when(mockUserPlane.getLayoutY()).thenReturn(0.0);
-
-        ActiveActorDestructible projectile = boss.fireProjectile();
-        if (projectile != null) {
-            assertTrue(projectile instanceof BossProjectile, "Projectile fired should be of type BossProjectile.");
+        // Simulate firing into the bullet engine
+        BulletPool bullets = new BulletPool(16);
+        boss.fireBullets(bullets);
+        assertTrue(bullets.size() <= 1, "Boss should fire at most one fireball per tick.");
+        if (bullets.size() == 1) {
+            assertEquals(BulletType.BOSS_PROJECTILE, bullets.getType(0), "Fired bullet should be a boss fireball.");
         }
     }
 
     @Test
     void testBossProjectileBehavior() {
-        // Create a BossProjectile and test its behavior
-        BossProjectile projectile = new BossProjectile(500, 300, mockUserPlane);
+        // Spawn a boss fireball and test its behavior
+        BulletPool bullets = new BulletPool(16);
+        bullets.spawn(BulletType.BOSS_PROJECTILE, 500, 300);
 
-        // Simulate movement
-        projectile.updatePosition();
-        double xPosition = projectile.getTranslateX() + projectile.getLayoutX();
-        double yPosition = projectile.getTranslateY() + projectile.getLayoutY();
+        // Simulate movement towards a player at the origin
+        bullets.update(0, 0, 1920, 1080);
+        double xPosition = bullets.getX(0);
+        double yPosition = bullets.getY(0);
 
         assertTrue(xPosition >= 0 && xPosition <= 1920, "Projectile should stay within horizontal bounds.");
         assertTrue(yPosition >= 0 && yPosition <= 1080, "Projectile should stay within vertical bounds.");
 
         // Simulate projectile lifespan
         for (int i = 0; i < 300; i++) {
-            projectile.updatePosition();
+            bullets.update(0, 0, 1920, 1080);
         }
-        assertTrue(projectile.isDestroyed(), "Projectile should be destroyed after exceeding its lifespan.");
+        assertEquals(0, bullets.size(), "Projectile should be destroyed after exceeding its lifespan.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.example.demo.actors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulletPatternTest {
+
+    private static final double WORLD_WIDTH = 1920;
+    private static final double WORLD_HEIGHT = 1080;
+
+    @Test
+    void testRadialVolleySpawnsEveryBulletAtOnce() {
+        BulletPool bullets = new BulletPool(1024);
+        BulletPattern ring = BulletPattern.radial(BulletType.BOSS_PROJECTILE, 360, 10);
+
+        assertEquals(360, ring.emit(bullets, 960, 540, 0, 0, 0));
+        assertEquals(360, bullets.size());
+
+        bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        for (int i = 0; i < bullets.size(); i++) {
+            double distance = Math.hypot(bullets.getX(i) - 960, bullets.getY(i) - 540);
+            assertEquals(10, distance, 1e-9, "Every ring bullet should fly straight out at the pattern speed.");
+        }
+    }
+
+    @Test
+    void testVolleyIsLimitedByFreeCapacity() {
+        BulletPool bullets = new BulletPool(100);
+        BulletPattern ring = BulletPattern.radial(BulletType.BOSS_PROJECTILE, 64, 10);
+
+        assertEquals(64, ring.emit(bullets, 500, 500, 0, 0, 0));
+        assertEquals(36, ring.emit(bullets, 500, 500, 0, 0, 1), "A full pool should only take what fits.");
+        assertEquals(0, ring.emit(bullets, 500, 500, 0, 0, 2));
+        assertEquals(100, bullets.size());
+    }
+
+    @Test
+    void testAimedFanIsCentredOnTarget() {
+        BulletPool bullets = new BulletPool(16);
+        BulletPattern fan = BulletPattern.aimedFan(BulletType.BOSS_PROJECTILE, 3, 40, 10);
+
+        fan.emit(bullets, 500, 500, 500, 900, 0); // Target straight below the origin
+        bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+
+        assertEquals(500, bullets.getX(1), 1e-9, "The middle bullet should fly straight at the target.");
+        assertEquals(510, bullets.getY(1), 1e-9);
+        assertEquals(bullets.getY(0), bullets.getY(2), 1e-9, "Outer bullets should spread symmetrically.");
+    }
+
+    @Test
+    void testSpiralTurnsBetweenVolleys() {
+        BulletPool bullets = new BulletPool(16);
+        BulletPattern spiral = BulletPattern.spiral(BulletType.BOSS_PROJECTILE, 1, 10, 90);
+
+        spiral.emit(bullets, 500, 500, 0, 0, 0);
+        spiral.emit(bullets, 500, 500, 0, 0, 1);
+        bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+
+        assertEquals(490, bullets.getX(0), 1e-9, "The first volley should fly left.");
+        assertEquals(500, bullets.getX(1), 1e-9, "The second volley should be turned by 90 degrees.");
+        assertEquals(490, bullets.getY(1), 1e-9);
+    }
+
+    @Test
+    void testWallBulletsAreStackedVertically() {
+        BulletPool bullets = new BulletPool(16);
+        BulletPattern wall = BulletPattern.wall(BulletType.BOSS_PROJECTILE, 3, 50, 10);
+
+        wall.emit(bullets, 500, 500, 0, 0, 0);
+
+        assertEquals(450, bullets.getY(0), 1e-9);
+        assertEquals(500, bullets.getY(1), 1e-9);
+        assertEquals(550, bullets.getY(2), 1e-9);
+        assertEquals(500, bullets.getX(2), 1e-9);
+    }
+}
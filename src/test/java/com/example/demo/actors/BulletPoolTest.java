@@ -0,0 +1,129 @@
+package com.example.demo.actors;
+
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.utilities.SnapshotBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulletPoolTest {
+
+    private static final double WORLD_WIDTH = 1920;
+    private static final double WORLD_HEIGHT = 1080;
+
+    private BulletPool bullets;
+
+    @BeforeEach
+    void setUp() {
+        bullets = new BulletPool(50_000);
+    }
+
+    @Test
+    void testSpawnRespectsCapacity() {
+        BulletPool small = new BulletPool(2);
+        assertTrue(small.spawn(BulletType.ENEMY_PROJECTILE, 0, 0));
+        assertTrue(small.spawn(BulletType.ENEMY_PROJECTILE, 10, 10));
+        assertFalse(small.spawn(BulletType.ENEMY_PROJECTILE, 20, 20), "A full pool should reject new bullets.");
+        assertEquals(2, small.size());
+    }
+
+    @Test
+    void testDirectedBulletsMoveInBulk() {
+        bullets.spawnDirected(BulletType.BOSS_PROJECTILE, 100, 100, -5, 2);
+        bullets.spawnDirected(BulletType.BOSS_PROJECTILE, 200, 200, 0, -3);
+
+        bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+
+        assertEquals(95, bullets.getX(0), 1e-9);
+        assertEquals(102, bullets.getY(0), 1e-9);
+        assertEquals(200, bullets.getX(1), 1e-9);
+        assertEquals(197, bullets.getY(1), 1e-9);
+    }
+
+    @Test
+    void testHomingBulletSteersTowardsTarget() {
+        bullets.spawn(BulletType.ENEMY_PROJECTILE, 500, 500);
+        bullets.update(300, 500, WORLD_WIDTH, WORLD_HEIGHT);
+
+        assertTrue(bullets.getX(0) < 500, "Homing bullet should move towards the target.");
+        assertEquals(500, bullets.getY(0), 1e-9, "Homing bullet should not drift off the line to the target.");
+    }
+
+    @Test
+    void testOffScreenBulletsAreRemoved() {
+        bullets.spawnDirected(BulletType.ENEMY_PROJECTILE, -45, 100, -10, 0);
+        bullets.spawnDirected(BulletType.ENEMY_PROJECTILE, 100, 100, -10, 0);
+
+        bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+
+        assertEquals(1, bullets.size(), "Bullet that left the world should be removed.");
+        assertEquals(90, bullets.getX(0), 1e-9, "Surviving bullet should be compacted into the first slot.");
+    }
+
+    @Test
+    void testCollideOnlyHitsOverlappingBullets() {
+        // Spread bullets over the whole world; only the ones inside the box may be hit
+        for (int i = 0; i < 40_000; i++) {
+            double x = (i * 37) % WORLD_WIDTH;
+            double y = (i * 53) % WORLD_HEIGHT;
+            bullets.spawnDirected(BulletType.ENEMY_PROJECTILE, x, y, 0, 0);
+        }
+        bullets.spawnDirected(BulletType.ENEMY_PROJECTILE, 5000, 5000, 0, 0); // Outside the grid extent
+
+        int expected = 0;
+        for (int i = 0; i < bullets.size(); i++) {
+            double hitMinX = bullets.getX(i) + (BulletType.ENEMY_PROJECTILE.getWidth() - BulletType.ENEMY_PROJECTILE.getHitWidth()) / 2;
+            double hitMinY = bullets.getY(i) + (BulletType.ENEMY_PROJECTILE.getHeight() - BulletType.ENEMY_PROJECTILE.getHitHeight()) / 2;
+            if (hitMinX < 700 && hitMinX + BulletType.ENEMY_PROJECTILE.getHitWidth() > 600
+                    && hitMinY < 450 && hitMinY + BulletType.ENEMY_PROJECTILE.getHitHeight() > 400) {
+                expected++;
+            }
+        }
+
+        int hits = bullets.collide(600, 400, 700, 450);
+        assertEquals(expected, hits, "Grid query should find exactly the overlapping bullets.");
+        assertEquals(0, bullets.collide(600, 400, 700, 450), "Bullets should only hit once.");
+
+        int before = bullets.size();
+        bullets.update(0, 0, 10_000, 10_000);
+        assertEquals(before - hits, bullets.size(), "Bullets that hit should be removed on the next update.");
+    }
+
+    @Test
+    void testSnapshotRestoresBulletsInPlace() {
+        bullets.spawn(BulletType.ENEMY_PROJECTILE, 500, 500);
+        bullets.spawnDirected(BulletType.BOSS_PROJECTILE, 800, 300, -4, 1);
+        SnapshotBuffer snapshot = new SnapshotBuffer();
+        bullets.saveState(snapshot);
+
+        for (int i = 0; i < 10; i++) {
+            bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        }
+        bullets.spawn(BulletType.ENEMY_PROJECTILE, 100, 100);
+        bullets.restoreState(snapshot);
+
+        assertEquals(2, bullets.size(), "Bullets spawned after the snapshot should be gone.");
+        assertEquals(500, bullets.getX(0), 1e-9);
+        assertEquals(800, bullets.getX(1), 1e-9);
+        bullets.update(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        assertEquals(796, bullets.getX(1), 1e-9, "Restored bullets should keep their velocity.");
+    }
+
+    @Test
+    void testTargetMaskRejectsBulletsInTransparentPixels() {
+        // A 200x200 target that is only solid along its left column
+        int[] argb = new int[200 * 200];
+        for (int y = 0; y < 200; y++) {
+            argb[y * 200] = 0xFF000000;
+        }
+        CollisionMask leftEdge = CollisionMask.fromArgb(argb, 200, 200, 200, 200);
+        bullets.spawnDirected(BulletType.ENEMY_PROJECTILE, 1100, 1100, 0, 0);
+        bullets.spawnDirected(BulletType.ENEMY_PROJECTILE, 850, 1050, 0, 0);
+
+        assertEquals(0, bullets.collide(1000, 1000, 1200, 1200, leftEdge),
+                "A bullet inside the box but over clear pixels should miss.");
+        assertEquals(1, bullets.collide(900, 1000, 1100, 1200, leftEdge), "The second bullet covers the solid column.");
+        assertEquals(1, bullets.collide(1000, 1000, 1200, 1200), "Without a mask the first bullet still hits the box.");
+    }
+}
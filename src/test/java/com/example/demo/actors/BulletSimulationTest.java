@@ -0,0 +1,113 @@
+package com.example.demo.actors;
+
+import com.example.demo.utilities.SnapshotBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulletSimulationTest {
+
+    private static final double WORLD_WIDTH = 1920;
+    private static final double WORLD_HEIGHT = 1080;
+    private static final BulletPattern RING = BulletPattern.radial(BulletType.BOSS_PROJECTILE, 36, 7);
+
+    private BulletSimulation threaded;
+
+    @AfterEach
+    void tearDown() {
+        if (threaded != null) {
+            threaded.stop();
+        }
+    }
+
+    /** Fires a ring every few ticks and steps the bullets, as a level would. */
+    private static int play(BulletSimulation simulation, int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            if (tick % 5 == 0) {
+                simulation.spawnVolley(RING, 960, 540, 100, 540, tick / 5);
+                simulation.spawn(BulletType.ENEMY_PROJECTILE, 1500, 300);
+            }
+            simulation.step(tick, 100, 540, 80, 500, 180, 580, true);
+        }
+        simulation.awaitIdle();
+        return simulation.takeHits();
+    }
+
+    @Test
+    void testCommandsRunInlineBeforeStart() {
+        BulletSimulation simulation = new BulletSimulation(new BulletPool(1024), WORLD_WIDTH, WORLD_HEIGHT);
+        simulation.spawn(BulletType.ENEMY_PROJECTILE, 500, 500);
+        simulation.step(42, 0, 0, 0, 0, 0, 0, false);
+
+        assertFalse(simulation.isThreaded());
+        assertEquals(1, simulation.getBulletCount(), "The step should have run on the calling thread.");
+        BulletFrame frame = simulation.getLatestFrame();
+        assertEquals(1, frame.size());
+        assertEquals(42, frame.getPublishedNanos());
+        assertEquals(BulletType.ENEMY_PROJECTILE, frame.getType(0));
+    }
+
+    @Test
+    void testThreadedRunMatchesInlineRun() {
+        BulletSimulation inline = new BulletSimulation(new BulletPool(4096), WORLD_WIDTH, WORLD_HEIGHT);
+        int inlineHits = play(inline, 200);
+
+        threaded = new BulletSimulation(new BulletPool(4096), WORLD_WIDTH, WORLD_HEIGHT, 64);
+        threaded.start();
+        int threadedHits = play(threaded, 200);
+
+        assertTrue(inlineHits > 0, "Some ring bullets should have hit the player box.");
+        assertEquals(inlineHits, threadedHits, "The simulation thread should not change the outcome.");
+        assertEquals(inline.getBulletCount(), threaded.getBulletCount());
+        assertEquals(inline.getLatestFrame().getRenderX(0, 1), threaded.getLatestFrame().getRenderX(0, 1), 1e-9);
+    }
+
+    @Test
+    void testFullQueueWaitsForSimulation() {
+        threaded = new BulletSimulation(new BulletPool(4096), WORLD_WIDTH, WORLD_HEIGHT, 8);
+        threaded.start();
+        for (int i = 0; i < 100; i++) {
+            threaded.spawn(BulletType.ENEMY_PROJECTILE, 1000, i * 10);
+        }
+        threaded.step(0, 0, 0, 0, 0, 0, 0, false);
+        threaded.awaitIdle();
+
+        assertEquals(100, threaded.getBulletCount(), "No command should be lost when the ring is full.");
+        assertTrue(threaded.getQueueStalls() > 0);
+    }
+
+    @Test
+    void testSnapshotWaitsForPendingCommands() {
+        threaded = new BulletSimulation(new BulletPool(4096), WORLD_WIDTH, WORLD_HEIGHT);
+        threaded.start();
+        threaded.spawnVolley(RING, 960, 540, 0, 0, 0);
+        threaded.step(0, 0, 0, 0, 0, 0, 0, false);
+
+        SnapshotBuffer snapshot = new SnapshotBuffer();
+        threaded.saveState(snapshot);
+        threaded.clear();
+        threaded.awaitIdle();
+        assertEquals(0, threaded.getBulletCount());
+
+        snapshot.rewind();
+        threaded.restoreState(snapshot);
+        threaded.awaitIdle();
+        assertEquals(RING.getCount(), threaded.getBulletCount(), "Restoring should bring back the saved volley.");
+        assertEquals(RING.getCount(), threaded.getLatestFrame().size());
+    }
+
+    @Test
+    void testSecondPlayerHitsAreCountedApart() {
+        BulletSimulation simulation = new BulletSimulation(new BulletPool(1024), WORLD_WIDTH, WORLD_HEIGHT);
+        simulation.spawn(BulletType.ENEMY_PROJECTILE, 500, 100);
+        simulation.spawn(BulletType.ENEMY_PROJECTILE, 500, 700);
+        simulation.step(1, 0, 0, 0, 0, 1000, 300, true);
+        simulation.collideSecondary(0, 500, 1000, 900, null);
+
+        assertEquals(1, simulation.takeHits());
+        assertEquals(1, simulation.takeSecondaryHits());
+        assertEquals(0, simulation.takeSecondaryHits(), "Taking the hits should reset them.");
+        assertEquals(0, simulation.getLatestFrame().size(), "Bullets that hit either player should leave the frame.");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionMaskTest {
+
+    private static final int OPAQUE = 0xFFFFFFFF;
+    private static final int CLEAR = 0x00FFFFFF;
+
+    /** Builds a mask at source size from rows where '#' is solid. */
+    private static CollisionMask mask(String... rows) {
+        int width = rows[0].length();
+        int[] argb = new int[width * rows.length];
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < width; x++) {
+                argb[y * width + x] = rows[y].charAt(x) == '#' ? OPAQUE : CLEAR;
+            }
+        }
+        return CollisionMask.fromArgb(argb, width, rows.length, width, rows.length);
+    }
+
+    private static CollisionMask filled(int width, int height) {
+        int[] argb = new int[width * height];
+        Arrays.fill(argb, OPAQUE);
+        return CollisionMask.fromArgb(argb, width, height, width, height);
+    }
+
+    @Test
+    void testAlphaThresholdDecidesSolidPixels() {
+        int[] argb = {0x7F000000, 0x80000000, 0x00000000, 0xFF000000};
+        CollisionMask mask = CollisionMask.fromArgb(argb, 2, 2, 2, 2);
+
+        assertFalse(mask.isSolid(0, 0));
+        assertTrue(mask.isSolid(1, 0));
+        assertFalse(mask.isSolid(0, 1));
+        assertTrue(mask.isSolid(1, 1));
+        assertEquals(2, mask.getSolidCount());
+    }
+
+    @Test
+    void testDiagonalSpritesWithOverlappingBoxesDoNotTouch() {
+        CollisionMask upper = mask(
+                "#...",
+                "##..",
+                "###.",
+                "####");
+        CollisionMask lower = mask(
+                "####",
+                ".###",
+                "..##",
+                "...#");
+
+        assertFalse(upper.overlaps(lower, 1, -1), "Only the transparent corners should overlap.");
+        assertTrue(upper.overlaps(lower, 0, 0), "The diagonal is shared when the sprites are on top of each other.");
+        assertTrue(upper.overlaps(lower, -1, 1));
+        assertFalse(upper.overlaps(lower, 4, 0), "Masks side by side share no pixel.");
+    }
+
+    @Test
+    void testOverlapAcrossWordBoundaries() {
+        CollisionMask wide = mask(".".repeat(130) + "#");
+        CollisionMask dot = mask("#");
+
+        for (int offset = -1; offset <= 132; offset++) {
+            assertEquals(offset == 130, wide.overlaps(dot, offset, 0), "Offset " + offset);
+            assertEquals(offset == 130, dot.overlaps(wide, -offset, 0), "Reversed offset " + offset);
+        }
+        assertTrue(filled(200, 3).overlaps(filled(70, 2), 100, 2));
+        assertFalse(filled(200, 3).overlaps(filled(70, 2), 100, 3));
+    }
+
+    @Test
+    void testBoxQueryOnlySeesSolidPixelsInside() {
+        CollisionMask ring = mask(
+                "#####",
+                "#...#",
+                "#...#",
+                "#...#",
+                "#####");
+
+        assertFalse(ring.overlapsBox(1, 1, 4, 4), "The hole of the ring is empty.");
+        assertTrue(ring.overlapsBox(3, 3, 5, 5));
+        assertFalse(ring.overlapsBox(5, 0, 9, 5), "A box beside the mask touches nothing.");
+        assertTrue(filled(128, 1).overlapsBox(63, 0, 65, 1));
+    }
+
+    @Test
+    void testDownsamplingKeepsTheShape() {
+        int[] argb = new int[8 * 8];
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 4; x++) {
+                argb[y * 8 + x] = OPAQUE; // Left half solid
+            }
+        }
+        CollisionMask half = CollisionMask.fromArgb(argb, 8, 8, 4, 2);
+
+        assertEquals(4, half.getWidth());
+        assertEquals(2, half.getHeight());
+        for (int y = 0; y < 2; y++) {
+            assertTrue(half.isSolid(0, y));
+            assertTrue(half.isSolid(1, y));
+            assertFalse(half.isSolid(2, y));
+            assertFalse(half.isSolid(3, y));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CollisionSystemTest {
+
+    private CollisionSystem collisions;
+
+    @BeforeEach
+    void setUp() {
+        collisions = new CollisionSystem();
+    }
+
+    private ActiveActorDestructible actorAt(double x, double y, double size) {
+        ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
+        when(actor.getAdjustedBounds()).thenReturn(new BoundingBox(x, y, size, size));
+        return actor;
+    }
+
+    @Test
+    void testMaskMatrixIsSymmetric() {
+        collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY, (a, b) -> { });
+
+        assertTrue(collisions.collides(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY));
+        assertTrue(collisions.collides(CollisionLayer.ENEMY, CollisionLayer.PLAYER_BULLET));
+        assertFalse(collisions.collides(CollisionLayer.ENEMY, CollisionLayer.ENEMY), "Undeclared pairs should not collide.");
+    }
+
+    @Test
+    void testResponseReceivesActorsInDeclaredOrder() {
+        List<ActiveActorDestructible[]> pairs = new ArrayList<>();
+        collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY,
+                (projectile, enemy) -> pairs.add(new ActiveActorDestructible[] {projectile, enemy}));
+        ActiveActorDestructible enemy = actorAt(0, 0, 10); // Left of the projectile, so found first
+        ActiveActorDestructible projectile = actorAt(5, 5, 10);
+
+        collisions.add(enemy, CollisionLayer.ENEMY);
+        collisions.add(projectile, CollisionLayer.PLAYER_BULLET);
+        collisions.resolve();
+
+        assertEquals(1, pairs.size(), "Each overlapping pair should be resolved exactly once.");
+        assertSame(projectile, pairs.get(0)[0]);
+        assertSame(enemy, pairs.get(0)[1]);
+        assertEquals(1, collisions.getHits());
+    }
+
+    @Test
+    void testUndeclaredAndDistantPairsAreNotTested() {
+        collisions.when(CollisionLayer.PLAYER, CollisionLayer.ENEMY, (a, b) -> fail("Nothing should collide."));
+        collisions.add(actorAt(0, 0, 10), CollisionLayer.ENEMY);
+        collisions.add(actorAt(5, 0, 10), CollisionLayer.ENEMY);
+        collisions.add(actorAt(500, 0, 10), CollisionLayer.PLAYER);
+        collisions.add(actorAt(8, 100, 10), CollisionLayer.PLAYER);
+        collisions.resolve();
+
+        assertEquals(2, collisions.getPairsTested(), "Only player/enemy pairs that overlap horizontally should be compared.");
+        assertEquals(0, collisions.getPairTests(CollisionLayer.ENEMY, CollisionLayer.ENEMY));
+        assertEquals(0, collisions.getHits());
+    }
+
+    @Test
+    void testDestroyedActorsAreSkipped() {
+        List<ActiveActorDestructible> hit = new ArrayList<>();
+        collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY, (projectile, enemy) -> {
+            hit.add(enemy);
+            when(projectile.isDestroyed()).thenReturn(true);
+        });
+        ActiveActorDestructible projectile = actorAt(0, 0, 10);
+        collisions.add(projectile, CollisionLayer.PLAYER_BULLET);
+        collisions.add(actorAt(2, 0, 10), CollisionLayer.ENEMY);
+        collisions.add(actorAt(4, 0, 10), CollisionLayer.ENEMY);
+        collisions.resolve();
+
+        assertEquals(1, hit.size(), "A projectile destroyed by its first hit should not hit again.");
+    }
+
+    @Test
+    void testKillIsRecordedOnceForEnemyHitTwice() {
+        collisions.when(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY, (projectile, enemy) -> {
+            when(projectile.isDestroyed()).thenReturn(true);
+            when(enemy.isDestroyed()).thenReturn(true);
+        });
+        collisions.creditKills(CollisionLayer.ENEMY);
+        ActiveActorDestructible enemy = actorAt(0, 0, 10);
+        collisions.add(enemy, CollisionLayer.ENEMY);
+        collisions.add(actorAt(2, 0, 10), CollisionLayer.PLAYER_BULLET);
+        collisions.add(actorAt(4, 0, 10), CollisionLayer.PLAYER_BULLET);
+        collisions.resolve();
+
+        int kills = 0;
+        for (int i = 0; i < collisions.getOutcomeCount(); i++) {
+            if (collisions.getOutcome(i) == CollisionOutcome.KILLED) {
+                kills++;
+                assertSame(enemy, collisions.getOutcomeActor(i));
+            }
+        }
+        assertEquals(1, kills, "A destroyed enemy should be credited exactly once.");
+        assertEquals(2, collisions.getOutcomeCount(), "The second projectile should not reach the destroyed enemy.");
+
+        collisions.resolve();
+        assertEquals(0, collisions.getOutcomeCount(), "Outcomes should only cover the last tick.");
+    }
+}
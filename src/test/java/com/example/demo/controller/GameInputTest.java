@@ -0,0 +1,97 @@
+package com.example.demo.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameInputTest {
+
+    private GameInput input;
+
+    @BeforeEach
+    void setUp() {
+        input = new GameInput(8);
+    }
+
+    @Test
+    void testHeldKeyPersistsAcrossTicks() {
+        input.post(GameKey.UP, true, 100);
+        input.sampleTick(200);
+        assertTrue(input.isDown(GameKey.UP));
+        assertTrue(input.wasPressed(GameKey.UP));
+
+        input.sampleTick(300);
+        assertTrue(input.isDown(GameKey.UP), "Key should stay down without OS key repeat.");
+        assertFalse(input.wasPressed(GameKey.UP), "Press edge should only last one tick.");
+
+        input.post(GameKey.UP, false, 350);
+        input.sampleTick(400);
+        assertFalse(input.isDown(GameKey.UP));
+    }
+
+    @Test
+    void testTapBetweenTicksIsNotLost() {
+        input.post(GameKey.FIRE, true, 100);
+        input.post(GameKey.FIRE, false, 120);
+        input.sampleTick(200);
+
+        assertTrue(input.isDown(GameKey.FIRE), "A tap shorter than a tick should still count for one tick.");
+        input.sampleTick(300);
+        assertFalse(input.isDown(GameKey.FIRE));
+    }
+
+    @Test
+    void testKeyRepeatIsIgnored() {
+        for (int i = 0; i < 100; i++) {
+            input.post(GameKey.LEFT, true, i);
+        }
+        input.post(GameKey.LEFT, false, 100);
+        input.sampleTick(200);
+
+        assertEquals(0, input.getDroppedEvents(), "Repeated presses should not fill the queue.");
+        assertEquals(GameKey.LEFT.mask(), input.getKeyState());
+    }
+
+    @Test
+    void testKeyHeldThroughReleaseAllIsPickedUpByItsRepeat() {
+        input.post(GameKey.UP, true, 100);
+        input.sampleTick(200);
+
+        input.releaseAll();
+        input.sampleTick(300);
+        assertFalse(input.isDown(GameKey.UP));
+
+        input.post(GameKey.UP, true, 350); // OS repeat of the key that is still held
+        input.sampleTick(400);
+        assertTrue(input.isDown(GameKey.UP), "The repeat should bring back a key held through a release.");
+    }
+
+    @Test
+    void testLatencyIsMeasuredPerEvent() {
+        input.post(GameKey.DOWN, true, 1_000);
+        input.post(GameKey.RIGHT, true, 3_000);
+        input.sampleTick(5_000);
+
+        assertEquals(2_000, input.getLastLatencyNanos());
+        assertEquals(4_000, input.getMaxLatencyNanos());
+        assertEquals(3_000, input.getAverageLatencyNanos());
+        assertEquals(2, input.getTickEvents());
+        assertEquals(4_000, input.getTickLatencyNanos(), "The tick should report its slowest event.");
+
+        input.sampleTick(6_000);
+        assertEquals(0, input.getTickEvents());
+        assertEquals(0, input.getTickLatencyNanos(), "A tick without events should report no latency.");
+        assertEquals(4_000, input.getMaxLatencyNanos(), "Running totals should outlive the tick.");
+    }
+
+    @Test
+    void testFullQueueDropsNewEvents() {
+        GameKey[] keys = GameKey.values();
+        for (int i = 0; i < 10; i++) {
+            GameKey key = keys[i % keys.length];
+            input.post(key, i < keys.length, i);
+        }
+        assertEquals(2, input.getDroppedEvents(), "Events beyond the capacity should be dropped.");
+    }
+}
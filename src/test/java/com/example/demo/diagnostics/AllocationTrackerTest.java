@@ -0,0 +1,71 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationTrackerTest {
+
+    /** Stands in for the thread allocation counter, advanced by hand. */
+    private long allocated;
+
+    @Test
+    void testBytesAreAttributedToTicksAndPhases() {
+        AllocationTracker tracker = new AllocationTracker(() -> allocated, false);
+
+        tracker.beginTick(1);
+        allocated += 10; // Before the first phase, counted for the tick only
+        tracker.beginPhase(TickPhase.UPDATE);
+        allocated += 100;
+        tracker.beginPhase(TickPhase.CLEANUP);
+        allocated += 40;
+        tracker.endTick();
+
+        tracker.beginTick(2);
+        tracker.beginPhase(TickPhase.UPDATE);
+        allocated += 60;
+        tracker.endTick();
+
+        assertEquals(2, tracker.getTicks());
+        assertEquals(210, tracker.getTotalBytes());
+        assertEquals(160, tracker.getPhaseBytes(TickPhase.UPDATE));
+        assertEquals(40, tracker.getPhaseBytes(TickPhase.CLEANUP));
+        assertEquals(0, tracker.getPhaseBytes(TickPhase.SPAWN));
+        assertEquals(150, tracker.getTickPercentile(100));
+        assertEquals(60, tracker.getTickPercentile(50));
+    }
+
+    @Test
+    void testActorsAreOnlySampledOnSampledTicksInSamplingMode() {
+        AllocationTracker ticksOnly = new AllocationTracker(() -> allocated, false);
+        ticksOnly.beginTick(0);
+        assertFalse(ticksOnly.isSamplingActors(), "Tick mode should never measure single actors.");
+
+        AllocationTracker sampling = new AllocationTracker(() -> allocated, true);
+        sampling.beginTick(AllocationTracker.ACTOR_SAMPLE_INTERVAL + 1);
+        assertFalse(sampling.isSamplingActors());
+        sampling.endTick();
+
+        sampling.beginTick(AllocationTracker.ACTOR_SAMPLE_INTERVAL);
+        assertTrue(sampling.isSamplingActors());
+        for (int update = 0; update < 4; update++) {
+            sampling.beginActor();
+            allocated += 32;
+            sampling.endActor(String.class);
+        }
+        sampling.endTick();
+
+        assertEquals(32, sampling.getActorBytesPerUpdate(String.class));
+        assertEquals(0, sampling.getActorBytesPerUpdate(Integer.class));
+        assertTrue(sampling.summarize().contains("String"), "The summary should list sampled actor types.");
+    }
+
+    @Test
+    void testEndWithoutTickRecordsNothing() {
+        AllocationTracker tracker = new AllocationTracker(() -> allocated, false);
+        tracker.endTick();
+
+        assertEquals(0, tracker.getTicks());
+        assertEquals(0, tracker.getTickPercentile(50));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkReportTest {
+
+    private static BenchmarkReport report(double ticksPerSecond, double p99Micros, double bytesPerTick) {
+        BenchmarkReport report = new BenchmarkReport("boss-500-fireballs", 42, 500, 2000);
+        report.set(BenchmarkMetric.TICKS_PER_SECOND, ticksPerSecond);
+        report.set(BenchmarkMetric.TICK_P99_MICROS, p99Micros);
+        report.set(BenchmarkMetric.BYTES_PER_TICK, bytesPerTick);
+        report.set(BenchmarkMetric.GC_COUNT, 3);
+        report.setPhaseMicros(TickPhase.COLLISION, 123.25);
+        return report;
+    }
+
+    @Test
+    void testJsonRoundTripKeepsEveryValue() {
+        BenchmarkReport original = report(1500.5, 900, 0);
+
+        BenchmarkReport read = BenchmarkReport.fromJson(original.toJson());
+
+        assertEquals("boss-500-fireballs", read.getScenario());
+        assertEquals(42, read.getSeed());
+        assertEquals(500, read.getWarmUpTicks());
+        assertEquals(2000, read.getTicks());
+        assertEquals(1500.5, read.get(BenchmarkMetric.TICKS_PER_SECOND), 1e-9);
+        assertEquals(0, read.get(BenchmarkMetric.BYTES_PER_TICK), 1e-9);
+        assertEquals(123.25, read.getPhaseMicros(TickPhase.COLLISION), 1e-9);
+        assertTrue(Double.isNaN(read.get(BenchmarkMetric.GC_MILLIS)), "Unmeasured metrics should stay missing.");
+        assertTrue(Double.isNaN(read.getPhaseMicros(TickPhase.INPUT)));
+    }
+
+    @Test
+    void testCsvRowMatchesTheHeader() {
+        String header = BenchmarkReport.csvHeader();
+        String row = report(1500, 900, 16).toCsvRow();
+
+        String[] columns = header.split(",", -1);
+        String[] cells = row.split(",", -1);
+        assertEquals(columns.length, cells.length, "Every column should have a cell.");
+        List<String> names = List.of(columns);
+        assertEquals("1500.000", cells[names.indexOf("ticksPerSecond")]);
+        assertEquals("123.250", cells[names.indexOf("COLLISION_micros")]);
+        assertEquals("", cells[names.indexOf("gcMillis")], "Missing values should leave the cell empty.");
+    }
+
+    @Test
+    void testRegressionsOnlyCountGatedMetricsBeyondTolerance() {
+        BenchmarkReport baseline = report(1000, 900, 0);
+
+        assertEquals(List.of(), report(950, 950, 32).findRegressions(baseline, 0.10),
+                "Changes within the tolerance or the noise floor should pass.");
+        assertEquals(List.of(BenchmarkMetric.TICKS_PER_SECOND, BenchmarkMetric.BYTES_PER_TICK),
+                report(850, 900, 500).findRegressions(baseline, 0.10));
+        assertEquals(List.of(), report(2000, 100, 0).findRegressions(baseline, 0.10),
+                "Improvements are not regressions.");
+    }
+
+    @Test
+    void testReadingSomethingElseFails() {
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkReport.fromJson("{\"ticks\": 5}"));
+    }
+}
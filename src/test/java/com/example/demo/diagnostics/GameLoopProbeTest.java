@@ -0,0 +1,103 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopProbeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSlowTickIsRecordedWithItsPhases() throws Exception {
+        List<RecordedEvent> events = record(Duration.ofMillis(5), () -> {
+            GameLoopProbe probe = new GameLoopProbe("TestLevel");
+            probe.beginTick(7);
+            probe.beginPhase(TickPhase.INPUT);
+            probe.beginPhase(TickPhase.UPDATE);
+            sleep(20);
+            probe.endTick(3, 42, 12_000_000);
+        });
+
+        RecordedEvent tick = single(events, "com.example.demo.Tick");
+        assertEquals("TestLevel", tick.getString("level"));
+        assertEquals(7, tick.getLong("tick"));
+        assertEquals(42, tick.getInt("enemyBullets"));
+        assertEquals(Duration.ofMillis(12), tick.getDuration("inputLatency"));
+
+        List<String> phases = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.demo.TickPhase"))
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("UPDATE"), phases, "Only phases above the threshold should be recorded.");
+    }
+
+    @Test
+    void testFastTickIsFilteredByThreshold() throws Exception {
+        List<RecordedEvent> events = record(Duration.ofMillis(50), () -> {
+            GameLoopProbe probe = new GameLoopProbe("TestLevel");
+            probe.beginTick(1);
+            probe.beginPhase(TickPhase.INPUT);
+            probe.endTick(0, 0, 0);
+        });
+
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().equals("com.example.demo.Tick")),
+                "Ticks faster than the threshold should not be recorded.");
+    }
+
+    @Test
+    void testSpawnWithoutEnemiesIsNotRecorded() throws Exception {
+        List<RecordedEvent> events = record(Duration.ZERO, () -> {
+            GameLoopProbe probe = new GameLoopProbe("TestLevel");
+            probe.beginTick(1);
+            probe.beginSpawn();
+            probe.endSpawn(0, 0);
+            probe.beginSpawn();
+            probe.endSpawn(2, 2);
+            probe.endTick(2, 0, 0);
+        });
+
+        RecordedEvent spawn = single(events, "com.example.demo.Spawn");
+        assertEquals(2, spawn.getInt("spawned"));
+    }
+
+    private List<RecordedEvent> record(Duration threshold, Runnable work) throws Exception {
+        Path file = tempDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TickEvent.class).withThreshold(threshold);
+            recording.enable(TickPhaseEvent.class).withThreshold(threshold);
+            recording.enable(SpawnEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), "Expected exactly one " + name + " event.");
+        return matching.get(0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
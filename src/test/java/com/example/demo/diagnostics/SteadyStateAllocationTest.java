@@ -0,0 +1,142 @@
+package com.example.demo.diagnostics;
+
+import com.example.demo.actors.BulletFrame;
+import com.example.demo.actors.BulletPattern;
+import com.example.demo.actors.BulletPool;
+import com.example.demo.actors.BulletSimulation;
+import com.example.demo.actors.BulletType;
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.controller.GameInput;
+import com.example.demo.controller.GameKey;
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.GameEventType;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.views.ParticleEffect;
+import com.example.demo.views.ParticleSystem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the node-free parts of a level tick in steady state and fails if they start
+ * allocating. The budget can be raised with {@code -Dskybattle.allocationBudget=<bytes>}.
+ * <p>
+ * This supplements {@code SteadyStateLevelAllocationTest}, which steps a real level but
+ * needs the JavaFX toolkit; this one runs headless.
+ * </p>
+ */
+class SteadyStateAllocationTest {
+
+    private static final long BUDGET_BYTES_PER_TICK = Long.getLong("skybattle.allocationBudget", 64);
+    private static final int WARM_UP_TICKS = 2_000;
+    private static final int MEASURED_TICKS = 3_000;
+    private static final int ENEMIES = 8;
+    private static final double WORLD_WIDTH = 1300;
+    private static final double WORLD_HEIGHT = 750;
+    private static final long TICK_NANOS = 50_000_000L;
+
+    private final GameRandom random = new GameRandom(42);
+    private final GameInput input = new GameInput();
+    private final GameEventBus eventBus = new GameEventBus();
+    private final ParticleSystem particles = new ParticleSystem();
+    private final BulletSimulation bullets = new BulletSimulation(new BulletPool(), WORLD_WIDTH, WORLD_HEIGHT);
+    private final BulletPattern spiral = BulletPattern.spiral(BulletType.BOSS_PROJECTILE, 12, 6, 11);
+    private final double[] enemyX = new double[ENEMIES];
+    private final double[] enemyY = new double[ENEMIES];
+    private final CollisionMask playerMask = playerMask();
+    private double playerY = WORLD_HEIGHT / 2;
+    private long renderedBullets;
+
+    private static CollisionMask playerMask() {
+        int[] argb = new int[120 * 40];
+        for (int y = 10; y < 30; y++) {
+            for (int x = 0; x < 120; x++) {
+                argb[y * 120 + x] = 0xFF000000; // A fuselage with clear pixels above and below
+            }
+        }
+        return CollisionMask.fromArgb(argb, 120, 40, 120, 40);
+    }
+
+    @Test
+    void testSteadyStateTicksStayWithinAllocationBudget() {
+        AllocationTracker allocations = AllocationTracker.forCurrentThread(false);
+        assumeTrue(allocations != null, "This JVM cannot measure thread allocations.");
+        for (int i = 0; i < ENEMIES; i++) {
+            enemyX[i] = WORLD_WIDTH - 200 + random.nextDouble() * 150;
+            enemyY[i] = random.nextDouble() * (WORLD_HEIGHT - 100);
+        }
+        eventBus.subscribe(GameEventType.PROJECTILE_HIT, event ->
+                particles.emit(ParticleEffect.SPARKS, event.getX(), event.getY(), 1.0));
+        eventBus.subscribe(GameEventType.PLAYER_FIRED, event ->
+                particles.emit(ParticleEffect.MUZZLE_FLASH, event.getX(), event.getY(), 1.0));
+
+        AllocationTracker warmUp = AllocationTracker.forCurrentThread(false);
+        for (int tick = 0; tick < WARM_UP_TICKS; tick++) {
+            runTick(tick, warmUp);
+        }
+        for (int tick = WARM_UP_TICKS; tick < WARM_UP_TICKS + MEASURED_TICKS; tick++) {
+            runTick(tick, allocations);
+        }
+
+        assertTrue(renderedBullets > 0, "The scripted level should keep bullets in flight.");
+        long average = allocations.getTotalBytes() / allocations.getTicks();
+        long p99 = allocations.getTickPercentile(99);
+        assertTrue(average <= BUDGET_BYTES_PER_TICK && p99 <= BUDGET_BYTES_PER_TICK,
+                "Steady-state ticks allocate more than " + BUDGET_BYTES_PER_TICK + " bytes:\n"
+                        + allocations.summarize());
+    }
+
+    /**
+     * One scripted tick, split into the phases of {@code LevelParent.updateScene}.
+     */
+    private void runTick(int tick, AllocationTracker allocations) {
+        long now = tick * TICK_NANOS;
+        allocations.beginTick(tick);
+
+        allocations.beginPhase(TickPhase.INPUT);
+        input.post(GameKey.FIRE, tick % 2 == 0, now);
+        input.post(tick % 80 < 40 ? GameKey.UP : GameKey.DOWN, true, now);
+        input.sampleTick(now);
+        if (input.isDown(GameKey.UP)) {
+            playerY = Math.max(0, playerY - 8);
+        } else if (input.isDown(GameKey.DOWN)) {
+            playerY = Math.min(WORLD_HEIGHT - 40, playerY + 8);
+        }
+
+        allocations.beginPhase(TickPhase.UPDATE);
+        for (int i = 0; i < ENEMIES; i++) {
+            enemyX[i] = enemyX[i] < 400 ? WORLD_WIDTH - 50 : enemyX[i] - 4;
+        }
+        bullets.step(now, 100, playerY, 100, playerY, 220, playerY + 40, playerMask, true);
+
+        allocations.beginPhase(TickPhase.FIRE);
+        if (input.wasPressed(GameKey.FIRE)) {
+            eventBus.publish(GameEventType.PLAYER_FIRED).at(220, playerY + 20);
+        }
+        for (int i = 0; i < ENEMIES; i++) {
+            if (random.nextDouble() < 0.2) {
+                bullets.spawn(BulletType.ENEMY_PROJECTILE, enemyX[i], enemyY[i]);
+            }
+        }
+        if (tick % 10 == 0) {
+            bullets.spawnVolley(spiral, WORLD_WIDTH - 300, WORLD_HEIGHT / 2, 100, playerY, tick / 10);
+        }
+
+        allocations.beginPhase(TickPhase.COLLISION);
+        int hits = bullets.takeHits();
+        for (int i = 0; i < hits; i++) {
+            eventBus.publish(GameEventType.PROJECTILE_HIT).at(160, playerY + 20).active(false);
+        }
+
+        allocations.beginPhase(TickPhase.EVENTS);
+        eventBus.dispatch();
+
+        allocations.beginPhase(TickPhase.PRESENTATION);
+        particles.update(TICK_NANOS / 1_000_000_000.0);
+        BulletFrame frame = bullets.getLatestFrame();
+        renderedBullets += frame.size();
+
+        allocations.endTick();
+    }
+}
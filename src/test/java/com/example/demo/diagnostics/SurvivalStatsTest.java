@@ -0,0 +1,42 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SurvivalStatsTest {
+
+    private static final long TICK_NANOS = 50_000_000L;
+
+    @Test
+    void testWavesPerMinuteUseSimulatedTime() {
+        SurvivalStats stats = new SurvivalStats(TICK_NANOS);
+        assertEquals(0, stats.getWavesPerMinute(), "No ticks should give no rate.");
+
+        for (int i = 0; i < 2400; i++) { // Two minutes at 20 ticks per second
+            stats.recordTick(0, 0, 0, 0, 0);
+        }
+        stats.recordWave();
+        stats.recordWave();
+        stats.recordWave();
+
+        assertEquals(3, stats.getWavesCompleted());
+        assertEquals(1.5, stats.getWavesPerMinute(), 1e-9);
+    }
+
+    @Test
+    void testPeaksKeepTheHighestCounts() {
+        SurvivalStats stats = new SurvivalStats(TICK_NANOS);
+
+        stats.recordTick(3, 10, 200, 50, 40);
+        stats.recordTick(8, 2, 100, 300, 45);
+        stats.recordTick(1, 1, 0, 0, 41);
+
+        assertEquals(8, stats.getPeakEnemies());
+        assertEquals(10, stats.getPeakUserProjectiles());
+        assertEquals(200, stats.getPeakEnemyBullets());
+        assertEquals(300, stats.getPeakParticles());
+        assertEquals(45, stats.getPeakSceneNodes());
+        assertTrue(stats.summarize().contains("41 now, 45 at peak"), stats.summarize());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingHistoryTest {
+
+    @Test
+    void testSamplesReadFromOldestToNewest() {
+        TimingHistory history = new TimingHistory(4);
+        history.record(10);
+        history.record(20);
+        history.record(30);
+
+        assertEquals(3, history.size());
+        assertEquals(10, history.get(0));
+        assertEquals(30, history.get(2));
+        assertEquals(30, history.getLatest());
+        assertEquals(20, history.getAverage());
+        assertEquals(30, history.getMax());
+    }
+
+    @Test
+    void testFullHistoryDropsOldestSample() {
+        TimingHistory history = new TimingHistory(3);
+        for (long sample = 1; sample <= 5; sample++) {
+            history.record(sample * 100);
+        }
+
+        assertEquals(3, history.size(), "The history should never hold more than its capacity.");
+        assertEquals(300, history.get(0));
+        assertEquals(500, history.get(2));
+        assertEquals(400, history.getAverage());
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(3));
+    }
+
+    @Test
+    void testEmptyHistoryReportsZero() {
+        TimingHistory history = new TimingHistory(8);
+        history.record(50);
+        history.clear();
+
+        assertEquals(0, history.size());
+        assertEquals(0, history.getAverage());
+        assertEquals(0, history.getMax());
+        assertEquals(0, history.getLatest());
+    }
+}
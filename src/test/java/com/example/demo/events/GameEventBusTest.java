@@ -0,0 +1,91 @@
+package com.example.demo.events;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    private GameEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new GameEventBus(4);
+    }
+
+    @Test
+    void testEventsAreDeliveredOnDispatchOnly() {
+        List<Integer> kills = new ArrayList<>();
+        bus.subscribe(GameEventType.ENEMY_KILLED, event -> kills.add(event.getValue()));
+
+        bus.publish(GameEventType.ENEMY_KILLED).value(1);
+        bus.publish(GameEventType.ENEMY_KILLED).value(2);
+        assertTrue(kills.isEmpty(), "Events should wait for the tick's dispatch.");
+
+        bus.dispatch();
+        assertEquals(List.of(1, 2), kills, "Events should be delivered in publishing order.");
+        assertEquals(0, bus.getPendingCount());
+    }
+
+    @Test
+    void testListenersOnlyReceiveTheirType() {
+        List<GameEventType> received = new ArrayList<>();
+        bus.subscribe(GameEventType.PLAYER_DAMAGED, event -> received.add(event.getType()));
+
+        bus.publish(GameEventType.ENEMY_KILLED);
+        bus.publish(GameEventType.PLAYER_DAMAGED).value(3);
+        bus.publish(GameEventType.PLAYER_FIRED);
+        bus.dispatch();
+
+        assertEquals(List.of(GameEventType.PLAYER_DAMAGED), received);
+    }
+
+    @Test
+    void testRingGrowsWithoutLosingEvents() {
+        List<Integer> values = new ArrayList<>();
+        bus.subscribe(GameEventType.BOSS_DAMAGED, event -> values.add(event.getValue()));
+
+        // Offset the ring first so that growing has to unwrap it
+        bus.publish(GameEventType.BOSS_DAMAGED).value(-1);
+        bus.dispatch();
+        values.clear();
+
+        for (int i = 0; i < 10; i++) {
+            bus.publish(GameEventType.BOSS_DAMAGED).value(i, 100);
+        }
+        bus.dispatch();
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), values, "No event should be lost when the ring grows.");
+    }
+
+    @Test
+    void testEventsPublishedDuringDispatchAreDeliveredInSameBatch() {
+        List<String> targets = new ArrayList<>();
+        bus.subscribe(GameEventType.ENEMY_KILLED, event -> bus.publish(GameEventType.LEVEL_COMPLETED).target("next"));
+        bus.subscribe(GameEventType.LEVEL_COMPLETED, event -> targets.add(event.getTarget()));
+
+        bus.publish(GameEventType.ENEMY_KILLED);
+        bus.dispatch();
+
+        assertEquals(List.of("next"), targets);
+    }
+
+    @Test
+    void testReusedEventsAreReset() {
+        List<String> targets = new ArrayList<>();
+        bus.subscribe(GameEventType.LEVEL_COMPLETED, event -> targets.add(event.getTarget()));
+
+        bus.publish(GameEventType.LEVEL_COMPLETED).target("LevelTwo");
+        bus.dispatch();
+        for (int i = 0; i < 4; i++) {
+            bus.publish(GameEventType.LEVEL_COMPLETED);
+        }
+        bus.dispatch();
+
+        assertNull(targets.get(4), "A reused event should not keep the previous target.");
+    }
+}
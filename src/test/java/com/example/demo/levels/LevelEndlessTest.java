@@ -0,0 +1,152 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.UserPlane;
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.GameKey;
+import com.example.demo.net.RollbackSession;
+import com.example.demo.net.UdpInputTransport;
+import com.example.demo.utilities.SnapshotBuffer;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelEndlessTest {
+
+    private static final long SEED = 99;
+
+    private Controller mockController;
+
+    @BeforeAll
+    static void initJavaFX() {
+        // Initialize JavaFX toolkit
+        Platform.startup(() -> {});
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockController = Mockito.mock(Controller.class);
+        Mockito.when(mockController.getStage()).thenReturn(null);
+    }
+
+    private LevelHarness harness() {
+        LevelHarness harness = new LevelHarness(new LevelEndless(750, 1300, mockController), SEED);
+        harness.setPlayerHealth(BenchmarkScenario.PLAYER_HEALTH).press(GameKey.FIRE);
+        return harness;
+    }
+
+    @Test
+    void testWavesAdvanceAndStayWithinTheEnemyCap() {
+        LevelHarness harness = harness();
+        LevelEndless level = (LevelEndless) harness.getLevel();
+
+        int ticks = harness.stepUntil(() -> level.getStats().getWavesCompleted() >= 3, 10_000);
+
+        assertTrue(ticks > 0, "Three waves should be cleared within the tick limit.");
+        assertTrue(level.getWave().getNumber() >= 3);
+        assertTrue(level.getStats().getPeakEnemies() <= Wave.MAX_ENEMIES_ON_SCREEN);
+        assertTrue(level.getStats().getWavesPerMinute() > 0);
+        harness.close();
+    }
+
+    @Test
+    void testLongRunsKeepTheSceneBounded() {
+        LevelHarness harness = harness();
+        LevelEndless level = (LevelEndless) harness.getLevel();
+
+        harness.step(2_000);
+        int nodesAfterWarmUp = level.getStats().getPeakSceneNodes();
+        harness.step(6_000);
+
+        assertFalse(level.getUser().isDestroyed());
+        assertTrue(level.getUserProjectileCount() < 40,
+                "Projectiles that left the screen should be removed, found " + level.getUserProjectileCount());
+        assertTrue(level.getStats().getPeakSceneNodes() <= nodesAfterWarmUp + Wave.MAX_ENEMIES_ON_SCREEN,
+                "The scene grew from " + nodesAfterWarmUp + " to " + level.getStats().getPeakSceneNodes() + " nodes.");
+        harness.close();
+    }
+
+    @Test
+    void testRestoringASnapshotRewindsTheWave() {
+        LevelHarness harness = harness();
+        LevelEndless level = (LevelEndless) harness.getLevel();
+        harness.stepUntil(() -> level.getWave() != null && level.getWave().getNumber() == 2, 10_000);
+        SnapshotBuffer snapshot = new SnapshotBuffer();
+        level.saveSnapshot(snapshot);
+        int enemies = level.enemyUnits.size();
+
+        harness.stepUntil(() -> level.getWave().getNumber() == 3, 10_000);
+        level.restoreSnapshot(snapshot);
+
+        assertEquals(2, level.getWave().getNumber());
+        assertEquals(enemies, level.enemyUnits.size());
+        harness.step(200); // Pooled enemies that the snapshot brought back must not be spawned twice
+        assertEquals(level.enemyUnits.size(), level.enemyUnits.stream().distinct().count());
+        harness.close();
+    }
+
+    private static void assertSamePlane(UserPlane expected, UserPlane actual) {
+        assertEquals(expected.getWorldX(), actual.getWorldX(), 1e-9);
+        assertEquals(expected.getWorldY(), actual.getWorldY(), 1e-9);
+        assertEquals(expected.getHealth(), actual.getHealth());
+        assertEquals(expected.isDestroyed(), actual.isDestroyed());
+    }
+
+    @Test
+    void testCoopInstancesAgreeAfterRollbacks() throws IOException {
+        UdpInputTransport hostTransport = UdpInputTransport.loopback(0, 0);
+        int hostPort = hostTransport.getLocalPort();
+        UdpInputTransport joinTransport = UdpInputTransport.loopback(0, hostPort);
+        hostTransport.close();
+        hostTransport = UdpInputTransport.loopback(hostPort, joinTransport.getLocalPort());
+        LevelEndless hostLevel = new LevelEndless(750, 1300, mockController);
+        hostLevel.enableCoop(hostTransport, true);
+        LevelEndless joinLevel = new LevelEndless(750, 1300, mockController);
+        joinLevel.enableCoop(joinTransport, false);
+        LevelHarness host = new LevelHarness(hostLevel, SEED);
+        LevelHarness join = new LevelHarness(joinLevel, SEED);
+
+        // Both players keep changing keys, so each side keeps mispredicting the other
+        GameKey[] moves = {GameKey.UP, GameKey.RIGHT, GameKey.DOWN, GameKey.LEFT};
+        for (int tick = 0; tick < 400; tick++) {
+            if (tick % 7 == 0) {
+                host.releaseAll().press(moves[tick / 7 % moves.length]).press(GameKey.FIRE);
+            }
+            if (tick % 5 == 0) {
+                join.releaseAll().press(moves[(tick / 5 + 2) % moves.length]);
+            }
+            // Alternate who steps first, so both sides run ahead of the other's input
+            LevelHarness first = tick % 2 == 0 ? host : join;
+            LevelHarness second = first == host ? join : host;
+            first.step();
+            second.step();
+        }
+        host.releaseAll();
+        join.releaseAll();
+        for (int tick = 0; tick < RollbackSession.MAX_ROLLBACK * 2; tick++) {
+            host.step();
+            join.step();
+        }
+
+        assertTrue(hostLevel.getCoopSession().getRollbacks() > 0, "The key changes should have caused rollbacks.");
+        assertTrue(joinLevel.getCoopSession().getRollbacks() > 0);
+        assertEquals(hostLevel.getTicksElapsed(), joinLevel.getTicksElapsed());
+        assertSamePlane(hostLevel.getUser(), joinLevel.getUser());
+        assertSamePlane(hostLevel.getPartner(), joinLevel.getPartner());
+        assertEquals(hostLevel.getUser().getNumberOfKills(), joinLevel.getUser().getNumberOfKills());
+        assertEquals(hostLevel.getWave().getNumber(), joinLevel.getWave().getNumber());
+        assertEquals(hostLevel.enemyUnits.size(), joinLevel.enemyUnits.size());
+        for (int i = 0; i < hostLevel.enemyUnits.size(); i++) {
+            assertEquals(hostLevel.enemyUnits.get(i).getWorldX(), joinLevel.enemyUnits.get(i).getWorldX(), 1e-9);
+            assertEquals(hostLevel.enemyUnits.get(i).getWorldY(), joinLevel.enemyUnits.get(i).getWorldY(), 1e-9);
+        }
+        assertEquals(hostLevel.getEnemyBulletCount(), joinLevel.getEnemyBulletCount());
+        host.close();
+        join.close();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.controller.Controller;
+import com.example.demo.controller.GameKey;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelHarnessTest {
+
+    private static final long SEED = 1234;
+
+    private Controller mockController;
+
+    @BeforeAll
+    static void initJavaFX() {
+        // Initialize JavaFX toolkit
+        Platform.startup(() -> {});
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockController = Mockito.mock(Controller.class);
+        Mockito.when(mockController.getStage()).thenReturn(null);
+    }
+
+    private LevelHarness harness() {
+        return new LevelHarness(new LevelOne(600, 800, mockController), SEED);
+    }
+
+    private static double[] enemyPositions(LevelParent level) {
+        double[] positions = new double[level.enemyUnits.size() * 2];
+        for (int i = 0; i < level.enemyUnits.size(); i++) {
+            ActiveActorDestructible enemy = level.enemyUnits.get(i);
+            positions[2 * i] = enemy.getWorldX();
+            positions[2 * i + 1] = enemy.getWorldY();
+        }
+        return positions;
+    }
+
+    @Test
+    void testStepsAdvanceTheLevelSynchronously() {
+        LevelHarness harness = harness();
+
+        harness.step(40);
+
+        assertEquals(40, harness.getLevel().getTicksElapsed(), "Every step should run exactly one tick.");
+        assertEquals(40 * LevelHarness.TICK_NANOS, harness.getClockNanos());
+        assertFalse(harness.getLevel().enemyUnits.isEmpty(), "Enemies should spawn without the countdown.");
+        harness.close();
+    }
+
+    @Test
+    void testSameSeedAndInputsGiveTheSameRun() {
+        LevelHarness first = harness();
+        LevelHarness second = harness();
+
+        for (LevelHarness harness : new LevelHarness[] {first, second}) {
+            harness.press(GameKey.UP).step(20).release(GameKey.UP).press(GameKey.FIRE).step(100);
+        }
+
+        assertArrayEquals(enemyPositions(first.getLevel()), enemyPositions(second.getLevel()));
+        assertEquals(first.getLevel().getUser().getWorldY(), second.getLevel().getUser().getWorldY());
+        assertEquals(first.getLevel().getEnemyBulletCount(), second.getLevel().getEnemyBulletCount());
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void testSameSeedGivesTheSameBossFight() {
+        LevelHarness first = new LevelHarness(new LevelThree(600, 800, mockController), SEED);
+        LevelHarness second = new LevelHarness(new LevelThree(600, 800, mockController), SEED);
+
+        for (LevelHarness harness : new LevelHarness[] {first, second}) {
+            harness.setPlayerHealth(1000);
+            harness.step(200);
+        }
+
+        assertArrayEquals(enemyPositions(first.getLevel()), enemyPositions(second.getLevel()),
+                "The boss should move by the harness seed.");
+        assertEquals(first.getLevel().getEnemyBulletCount(), second.getLevel().getEnemyBulletCount(),
+                "The boss should fire by the harness seed.");
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void testScriptedKeysMoveAndFire() {
+        LevelHarness harness = harness();
+        double startY = harness.getLevel().getUser().getWorldY();
+
+        harness.press(GameKey.UP).step(10).release(GameKey.UP);
+        assertTrue(harness.getLevel().getUser().getWorldY() < startY, "Holding UP should move the player up.");
+
+        int ticks = harness.press(GameKey.FIRE).stepUntil(() -> harness.getLevel().getUserProjectileCount() > 0, 20);
+        assertTrue(ticks >= 0, "Holding FIRE should launch a projectile within 20 ticks.");
+        harness.close();
+    }
+}
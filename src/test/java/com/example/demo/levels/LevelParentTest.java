@@ -61,7 +61,7 @@ class LevelParentTest {
         assertEquals(initialEnemies + 1, testLevel.getCurrentNumberOfEnemies(), "Enemy count should increment by 1");
 
         // Assert the enemy has been added to the scene graph
-        assertTrue(testLevel.getRoot().getChildren().contains(enemy), "Enemy should be added to the root");
+        assertTrue(testLevel.getWorld().getChildren().contains(enemy), "Enemy should be added to the world");
     }
 
 
@@ -86,7 +86,7 @@ class TestLevelParent extends LevelParent {
     @Override
     protected void initializeFriendlyUnits() {
         // Minimal implementation for testing
-        getRoot().getChildren().add(getUser());
+        getWorld().getChildren().add(getUser());
     }
 
     @Override
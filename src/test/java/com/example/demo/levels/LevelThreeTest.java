@@ -5,6 +5,8 @@ import com.example.demo.controller.Controller;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,7 +70,7 @@ class LevelThreeTest {
     @Test
     void testBossAddedToScene() {
         levelThree.spawnEnemyUnits();
-        assertTrue(levelThree.getRoot().getChildren().contains(levelThree.boss), "Boss should be added to the scene");
+        assertTrue(levelThree.getWorld().getChildren().contains(levelThree.boss), "Boss should be added to the world");
         assertEquals(1, levelThree.getCurrentNumberOfEnemies(), "There should be one enemy (the boss) in the level");
     }
 
@@ -97,7 +99,7 @@ class LevelThreeTest {
         levelThree.checkIfGameOver();
 
         // Explicitly remove the boss from the enemyUnits list for testing
-        levelThree.getRoot().getChildren().remove(levelThree.boss);
+        levelThree.getWorld().getChildren().remove(levelThree.boss);
         levelThree.enemyUnits.remove(levelThree.boss);
 
         // Assert that the enemy list is cleared after the boss is destroyed
@@ -109,24 +111,18 @@ class LevelThreeTest {
 
     @Test
     void testBossHealthBarUpdate() {
-        // Mock the Boss object to simulate health changes and bounds
-        Boss mockBoss = Mockito.mock(Boss.class);
-        Mockito.when(mockBoss.getHealth()).thenReturn(50); // Simulate boss health at 50%
-
-        // Use BoundingBox, a concrete implementation of Bounds, for mock bounds
-        javafx.geometry.Bounds mockBounds = new javafx.geometry.BoundingBox(0, 0, 50, 50);
-        Mockito.when(mockBoss.getBoundsInLocal()).thenReturn(mockBounds);
-
-        levelThree.boss = mockBoss;
-
-        // Call the method to update the level view
-        levelThree.updateLevelView();
-
-        // Verify that the boss health is correctly retrieved
-        Mockito.verify(mockBoss).getHealth();
-
-        // Assert that the health value matches
-        assertEquals(50, levelThree.boss.getHealth(), "Boss health should update correctly");
+        // Damage the boss, which publishes a boss health event
+        levelThree.boss.takeDamage();
+        assertEquals(1, levelThree.getEventBus().getPendingCount(), "Boss damage should publish one event");
+
+        // The health bar is updated when the tick's events are dispatched
+        levelThree.getEventBus().dispatch();
+        boolean healthBarShrunk = levelThree.getRoot().getChildren().stream()
+                .anyMatch(node -> node instanceof Rectangle && ((Rectangle) node).getFill() == Color.RED
+                        && ((Rectangle) node).getWidth() == 297.0);
+
+        assertEquals(99, levelThree.boss.getHealth(), "Boss health should update correctly");
+        assertTrue(healthBarShrunk, "Boss health bar should shrink to 99%");
     }
 
 
@@ -0,0 +1,83 @@
+package com.example.demo.levels;
+
+import com.example.demo.controller.GameKey;
+import com.example.demo.diagnostics.AllocationTracker;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Steps a real level under a fixed load through a {@link LevelHarness} and fails if its
+ * steady ticks start allocating. The load is LevelOne topped up to 50 enemies before
+ * every tick, as in {@link BenchmarkScenario#LEVEL_ONE_50_ENEMIES}. Ticks that add or
+ * remove nodes in the level's world allocate inside JavaFX, so exactly those ticks are
+ * left out; every other tick is gated on its mean and its p99. The level's own probe
+ * feeds the tracker, so a failure shows which phase allocated. The budget can be raised
+ * with {@code -Dskybattle.allocationBudget=<bytes>}.
+ */
+class SteadyStateLevelAllocationTest {
+
+    private static final long BUDGET_BYTES_PER_TICK = Long.getLong("skybattle.allocationBudget", 64);
+    private static final int WARM_UP_TICKS = 2_000;
+    private static final int MEASURED_TICKS = 3_000;
+    private static final long SEED = 42;
+
+    @BeforeAll
+    static void initJavaFX() {
+        // Initialize JavaFX toolkit
+        Platform.startup(() -> {});
+    }
+
+    @Test
+    void testSteadyTicksUnderFixedLoadStayWithinAllocationBudget() {
+        AllocationTracker allocations = AllocationTracker.forCurrentThread(false);
+        assumeTrue(allocations != null, "This JVM cannot measure thread allocations.");
+        BenchmarkScenario scenario = BenchmarkScenario.LEVEL_ONE_50_ENEMIES;
+        LevelParent level = scenario.createLevel(750, 1300);
+        LevelHarness harness = new LevelHarness(level, SEED);
+        scenario.prepare(harness);
+        boolean[] sceneChanged = new boolean[1];
+        level.getWorld().getChildren().addListener((ListChangeListener<Node>) change -> sceneChanged[0] = true);
+
+        long[] steadyBytes = new long[MEASURED_TICKS];
+        int steadyTicks = 0;
+        for (int tick = 0; tick < WARM_UP_TICKS + MEASURED_TICKS; tick++) {
+            if (tick == WARM_UP_TICKS) {
+                harness.trackAllocations(allocations);
+            }
+            if (tick % 40 == 0) {
+                harness.release(GameKey.DOWN).press(GameKey.UP);
+            } else if (tick % 40 == 20) {
+                harness.release(GameKey.UP).press(GameKey.DOWN);
+            }
+            sceneChanged[0] = false;
+            scenario.beforeTick(harness); // Top-ups spawn enemies, so they mark the tick too
+            long before = allocations.getTotalBytes();
+            harness.step();
+            if (tick >= WARM_UP_TICKS && !sceneChanged[0]) {
+                steadyBytes[steadyTicks++] = allocations.getTotalBytes() - before;
+            }
+        }
+
+        assertEquals(MEASURED_TICKS, allocations.getTicks(), "The level's probe should feed every measured tick.");
+        assertTrue(steadyTicks >= MEASURED_TICKS / 2,
+                "Only " + steadyTicks + " of " + MEASURED_TICKS + " ticks left the scene unchanged.");
+        assertFalse(level.getUser().isDestroyed());
+        long[] sorted = Arrays.copyOf(steadyBytes, steadyTicks);
+        Arrays.sort(sorted);
+        long mean = Arrays.stream(sorted).sum() / steadyTicks;
+        long p99 = sorted[(int) Math.ceil(0.99 * steadyTicks) - 1];
+        String report = steadyTicks + " steady ticks: mean " + mean + " B, p99 " + p99 + " B\n"
+                + allocations.summarize();
+        assertTrue(mean <= BUDGET_BYTES_PER_TICK, "The mean steady tick allocates too much. " + report);
+        assertTrue(p99 <= BUDGET_BYTES_PER_TICK, "The p99 steady tick allocates too much. " + report);
+        harness.close();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.levels;
+
+import com.example.demo.utilities.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveTest {
+
+    @Test
+    void testLaterWavesAreDenserButStayBounded() {
+        Wave previous = new Wave(1, WaveFormation.COLUMN);
+        for (int number = 2; number <= 200; number++) {
+            Wave wave = new Wave(number, WaveFormation.COLUMN);
+            assertTrue(wave.getEnemyCount() > previous.getEnemyCount(), "Every wave should bring more enemies.");
+            assertTrue(wave.getMaxOnScreen() >= previous.getMaxOnScreen());
+            assertTrue(wave.getSpawnIntervalTicks() <= previous.getSpawnIntervalTicks());
+            assertTrue(wave.getMaxOnScreen() <= Wave.MAX_ENEMIES_ON_SCREEN, "Wave " + number + " exceeds the cap.");
+            assertTrue(wave.getSpawnIntervalTicks() > 0);
+            previous = wave;
+        }
+    }
+
+    @Test
+    void testVolleysStartAtTheirFirstWaveAndSpeedUp() {
+        assertEquals(0, new Wave(Wave.FIRST_VOLLEY_WAVE - 1, WaveFormation.SCATTER).getVolleyIntervalTicks());
+        int first = new Wave(Wave.FIRST_VOLLEY_WAVE, WaveFormation.SCATTER).getVolleyIntervalTicks();
+        int later = new Wave(Wave.FIRST_VOLLEY_WAVE + 5, WaveFormation.SCATTER).getVolleyIntervalTicks();
+        assertTrue(first > 0);
+        assertTrue(later < first, "Volleys should come more often in later waves.");
+    }
+
+    @Test
+    void testGenerationIsReproducibleAndStartsScattered() {
+        GameRandom first = new GameRandom(7);
+        GameRandom second = new GameRandom(7);
+
+        assertEquals(WaveFormation.SCATTER, Wave.generate(1, first).getFormation());
+        Wave.generate(1, second);
+        for (int number = 2; number < 20; number++) {
+            assertEquals(Wave.generate(number, first).getFormation(), Wave.generate(number, second).getFormation());
+        }
+    }
+
+    @Test
+    void testFormationsKeepTheirMembersApartAndWithinTheirHeight() {
+        for (WaveFormation formation : new WaveFormation[] {WaveFormation.COLUMN, WaveFormation.WEDGE}) {
+            for (int size = 1; size <= 5; size++) {
+                for (int i = 0; i < size; i++) {
+                    double y = formation.getOffsetY(i, size);
+                    assertTrue(y >= 0 && y <= formation.getHeight(size), formation + " member " + i + " of " + size);
+                    for (int j = 0; j < i; j++) {
+                        assertNotEquals(y, formation.getOffsetY(j, size), "Members should not share a row.");
+                    }
+                }
+            }
+        }
+    }
+}
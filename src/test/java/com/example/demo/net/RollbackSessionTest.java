@@ -0,0 +1,135 @@
+package com.example.demo.net;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollbackSessionTest {
+
+    /** Two players on a line; the state depends on the order of every input. */
+    private static class LineWorld implements RollbackTarget {
+        long player1;
+        long player2;
+        long hash = 17;
+        int steps;
+        private final long[][] slots = new long[RollbackSession.SNAPSHOT_SLOTS][3];
+
+        @Override
+        public void saveState(int slot) {
+            slots[slot][0] = player1;
+            slots[slot][1] = player2;
+            slots[slot][2] = hash;
+        }
+
+        @Override
+        public void loadState(int slot) {
+            player1 = slots[slot][0];
+            player2 = slots[slot][1];
+            hash = slots[slot][2];
+        }
+
+        @Override
+        public void step(int player1Keys, int player2Keys) {
+            player1 += player1Keys;
+            player2 += player2Keys;
+            hash = hash * 31 + player1 * 7 + player2;
+            steps++;
+        }
+    }
+
+    private UdpInputTransport first;
+    private UdpInputTransport second;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = UdpInputTransport.loopback(0, 0);
+        int firstPort = first.getLocalPort();
+        second = UdpInputTransport.loopback(0, firstPort);
+        first.close();
+        first = UdpInputTransport.loopback(firstPort, second.getLocalPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        first.close();
+        second.close();
+    }
+
+    private static int keysAt(int tick, int seed) {
+        return ((tick * seed) >> 3) & 0x1F;
+    }
+
+    @Test
+    void testCodecRoundTripCompressesRuns() {
+        int[] inputs = new int[RollbackSession.INPUT_WINDOW];
+        for (int i = 0; i < 40; i++) {
+            inputs[i] = i < 30 ? 4 : 1;
+        }
+        ByteBuffer packet = ByteBuffer.allocate(InputCodec.MAX_PACKET_SIZE);
+        InputCodec.encode(packet, 7, 0, 40, inputs, RollbackSession.INPUT_WINDOW - 1);
+        assertEquals(14 + 4, packet.position(), "Two runs should take four bytes.");
+
+        InputCodec codec = new InputCodec();
+        assertTrue(codec.decode(packet.flip()));
+        assertEquals(7, codec.getAckTick());
+        assertEquals(40, codec.getTickCount());
+        assertEquals(4, codec.getKeys(29));
+        assertEquals(1, codec.getKeys(30));
+    }
+
+    @Test
+    void testLateInputIsRolledBackAndBothInstancesConverge() throws InterruptedException {
+        LineWorld worldOne = new LineWorld();
+        LineWorld worldTwo = new LineWorld();
+        RollbackSession one = new RollbackSession(worldOne, first, true);
+        RollbackSession two = new RollbackSession(worldTwo, second, false);
+
+        // Player one runs ahead on predictions that player two's keys will stay at zero
+        for (int tick = 0; tick < 5; tick++) {
+            assertTrue(one.advance(keysAt(tick, 5)));
+        }
+        int tickOne = 5;
+        int tickTwo = 0;
+        while (tickOne < 200 || tickTwo < 200) {
+            if (tickTwo < 200 && two.advance(keysAt(tickTwo, 11))) {
+                tickTwo++;
+            }
+            Thread.sleep(0, 200_000);
+            if (tickOne < 200 && one.advance(keysAt(tickOne, 5))) {
+                tickOne++;
+            }
+        }
+        // Idle ticks flush the last inputs through both sides
+        for (int i = 0; i < 50; i++) {
+            one.advance(0);
+            two.advance(0);
+            Thread.sleep(1);
+        }
+
+        assertTrue(one.getRollbacks() > 0, "Player one should have corrected mispredictions.");
+        assertTrue(one.getResimulatedTicks() <= (long) one.getRollbacks() * RollbackSession.MAX_ROLLBACK,
+                "A rollback should never replay more than the prediction window.");
+        assertEquals(one.getTick(), two.getTick());
+        assertEquals(worldOne.player1, worldTwo.player1);
+        assertEquals(worldOne.player2, worldTwo.player2);
+        assertEquals(worldOne.hash, worldTwo.hash, "Both instances should end in the same state.");
+    }
+
+    @Test
+    void testSessionStallsWhenRemoteFallsTooFarBehind() {
+        RollbackSession lonely = new RollbackSession(new LineWorld(), first, true);
+        int simulated = 0;
+        for (int i = 0; i < 20; i++) {
+            if (lonely.advance(1)) {
+                simulated++;
+            }
+        }
+        assertEquals(RollbackSession.MAX_ROLLBACK, simulated, "Prediction should stop at the rollback window.");
+        assertEquals(20 - RollbackSession.MAX_ROLLBACK, lonely.getStalledTicks());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HighScoreStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTopScoresAreSortedAndLimited() throws Exception {
+        try (HighScoreStore store = new HighScoreStore(tempDir.resolve("scores.dat"), 3)) {
+            store.record(new HighScore(1, 5, 1, 0));
+            store.record(new HighScore(2, 20, 3, 40_000));
+            store.record(new HighScore(3, 20, 3, 30_000));
+            store.record(new HighScore(4, 12, 2, 0));
+            store.awaitPendingWrites();
+
+            List<HighScore> top = store.getTopScores();
+            assertEquals(3, top.size(), "Only the best runs should be kept in memory.");
+            assertEquals(3, top.get(0).getTimestamp(), "A faster boss kill should rank first on equal kills.");
+            assertEquals(2, top.get(1).getTimestamp());
+            assertEquals(4, top.get(2).getTimestamp());
+            assertEquals(4, store.getRunCount());
+        }
+    }
+
+    @Test
+    void testScoresSurviveReopening() throws Exception {
+        Path file = tempDir.resolve("scores.dat");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.record(new HighScore(10, 7, 2, 0));
+            store.awaitPendingWrites();
+        }
+        assertEquals(HighScoreStore.RECORD_SIZE, Files.size(file), "Each run should use one fixed-width record.");
+
+        try (HighScoreStore reopened = new HighScoreStore(file)) {
+            reopened.awaitPendingWrites();
+            assertEquals(List.of(new HighScore(10, 7, 2, 0)), reopened.getTopScores());
+        }
+    }
+
+    @Test
+    void testTornRecordIsIgnoredAndOverwritten() throws Exception {
+        Path file = tempDir.resolve("scores.dat");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.record(new HighScore(1, 3, 1, 0));
+            store.awaitPendingWrites();
+        }
+        // A writer killed mid-record leaves a partial record behind
+        Files.write(file, new byte[] {0x48, 0x53, 0x52, 0x31, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.awaitPendingWrites();
+            assertEquals(1, store.getRunCount(), "The torn record should be skipped.");
+
+            store.record(new HighScore(2, 9, 2, 0));
+            store.awaitPendingWrites();
+        }
+        assertEquals(2L * HighScoreStore.RECORD_SIZE, Files.size(file), "The torn record should be overwritten.");
+    }
+
+    @Test
+    void testCorruptedRecordFailsChecksum() throws Exception {
+        Path file = tempDir.resolve("scores.dat");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.record(new HighScore(1, 3, 1, 0));
+            store.record(new HighScore(2, 4, 1, 0));
+            store.awaitPendingWrites();
+        }
+        corruptByte(file, HighScoreStore.RECORD_SIZE + 12);
+
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.awaitPendingWrites();
+            assertEquals(List.of(new HighScore(1, 3, 1, 0)), store.getTopScores(),
+                    "A record with a bad checksum should not be loaded.");
+        }
+    }
+
+    @Test
+    void testCorruptedRecordDoesNotHideLaterRecords() throws Exception {
+        Path file = tempDir.resolve("scores.dat");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.record(new HighScore(1, 3, 1, 0));
+            store.record(new HighScore(2, 4, 1, 0));
+            store.record(new HighScore(3, 5, 1, 0));
+            store.awaitPendingWrites();
+        }
+        corruptByte(file, HighScoreStore.RECORD_SIZE + 12);
+
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.awaitPendingWrites();
+            assertEquals(List.of(new HighScore(3, 5, 1, 0), new HighScore(1, 3, 1, 0)), store.getTopScores(),
+                    "Records after a damaged one should still be loaded.");
+
+            store.record(new HighScore(4, 6, 1, 0));
+            store.awaitPendingWrites();
+        }
+        assertEquals(4L * HighScoreStore.RECORD_SIZE, Files.size(file),
+                "Appending should not truncate the valid records after a damaged one.");
+    }
+
+    @Test
+    void testTwoStoresShareOneFile() throws Exception {
+        Path file = tempDir.resolve("scores.dat");
+        try (HighScoreStore first = new HighScoreStore(file);
+             HighScoreStore second = new HighScoreStore(file)) {
+            for (int i = 0; i < 20; i++) {
+                first.record(new HighScore(i, i, 1, 0));
+                second.record(new HighScore(100 + i, i, 1, 0));
+            }
+            first.awaitPendingWrites();
+            second.awaitPendingWrites();
+
+            first.refresh();
+            first.awaitPendingWrites();
+            assertEquals(40, first.getRunCount(), "Runs written by another store should be read back.");
+        }
+        assertEquals(40L * HighScoreStore.RECORD_SIZE, Files.size(file));
+    }
+
+    private static void corruptByte(Path file, long position) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xFF);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderHandoffTest {
+
+    @Test
+    void testConsumerSeesNewestPublishedState() {
+        RenderHandoff<long[]> handoff = new RenderHandoff<>(() -> new long[1]);
+        long[] initial = handoff.acquire();
+
+        handoff.getBack()[0] = 1;
+        handoff.publish();
+        handoff.getBack()[0] = 2;
+        handoff.publish();
+
+        assertEquals(2, handoff.acquire()[0], "Only the newest state should be handed over.");
+        assertNotSame(initial, handoff.acquire());
+        assertEquals(2, handoff.acquire()[0], "Without a new publish the same state should be kept.");
+    }
+
+    @Test
+    void testProducerNeverWritesTheAcquiredState() {
+        RenderHandoff<long[]> handoff = new RenderHandoff<>(() -> new long[1]);
+        Set<long[]> seen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            handoff.getBack()[0] = i;
+            handoff.publish();
+            long[] front = handoff.acquire();
+            seen.add(front);
+            assertNotSame(front, handoff.getBack(), "The producer must not share the consumer's buffer.");
+            assertEquals(i, front[0]);
+        }
+        assertEquals(3, seen.size());
+    }
+}
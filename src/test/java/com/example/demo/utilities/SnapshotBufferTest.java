@@ -0,0 +1,53 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotBufferTest {
+
+    @Test
+    void testValuesAreReadBackInWriteOrder() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        Object actor = new Object();
+        buffer.putInt(-7);
+        buffer.putDouble(12.5);
+        buffer.putBoolean(true);
+        buffer.putLong(Long.MIN_VALUE);
+        buffer.putReference(actor);
+
+        buffer.rewind();
+        assertEquals(-7, buffer.getInt());
+        assertEquals(12.5, buffer.getDouble());
+        assertTrue(buffer.getBoolean());
+        assertEquals(Long.MIN_VALUE, buffer.getLong());
+        assertSame(actor, buffer.getReference(Object.class), "References should be kept, not copied.");
+    }
+
+    @Test
+    void testSnapshotCanBeRestoredRepeatedly() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        buffer.putInt(42);
+
+        buffer.rewind();
+        assertEquals(42, buffer.getInt());
+        buffer.rewind();
+        assertEquals(42, buffer.getInt(), "Rewinding should allow restoring the same snapshot again.");
+    }
+
+    @Test
+    void testBufferGrowsAndIsReusedAfterClear() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        for (int i = 0; i < 10_000; i++) {
+            buffer.putInt(i);
+        }
+        assertEquals(10_000 * Long.BYTES, buffer.getByteSize());
+
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        buffer.putInt(1);
+        buffer.rewind();
+        assertEquals(1, buffer.getInt());
+        assertThrows(IllegalStateException.class, buffer::getInt, "Reading past the snapshot should fail.");
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.views;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CameraTest {
+
+    @Test
+    void testWholeWorldVisibleAtAnyResolution() {
+        Camera camera = new Camera(1920, 1080);
+
+        camera.setViewport(1280, 720);
+        assertEquals(1280.0 / 1920.0, camera.getScale(), 1e-9, "World should be scaled down to fit 720p.");
+        assertEquals(1920, camera.getVisibleWidth(), 1e-9);
+        assertEquals(1080, camera.getVisibleHeight(), 1e-9);
+
+        camera.setViewport(3840, 2160);
+        assertEquals(2.0, camera.getScale(), 1e-9, "World should be scaled up to fit 4K.");
+        assertTrue(camera.isVisible(1900, 1000, 50, 50), "Actor near the far corner should be visible at 4K.");
+    }
+
+    @Test
+    void testVisibilityUsesCameraRectangle() {
+        Camera camera = new Camera(1920, 1080);
+
+        assertTrue(camera.isVisible(-40, 100, 50, 50), "Partially visible actor should not be culled.");
+        assertFalse(camera.isVisible(-60, 100, 50, 50), "Actor left of the view should be culled.");
+        assertFalse(camera.isVisible(1920, 100, 50, 50), "Actor right of the view should be culled.");
+        assertFalse(camera.isVisible(100, 1080, 50, 50), "Actor below the view should be culled.");
+    }
+
+    @Test
+    void testMoveIsClampedToWorld() {
+        Camera camera = new Camera(4000, 1080, 1920, 1080);
+
+        camera.moveTo(5000, 50);
+        assertEquals(4000 - 1920, camera.getMinX(), 1e-9, "Camera should stop at the right edge of the world.");
+        assertEquals(0, camera.getMinY(), 1e-9, "World is exactly as tall as the view.");
+        assertFalse(camera.isVisible(100, 100, 50, 50), "Actors behind the camera should be culled.");
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.views;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSystemTest {
+
+    @Test
+    void testBurstEmitsEffectCountScaledByDensity() {
+        ParticleSystem particles = new ParticleSystem(1024);
+
+        assertEquals(ParticleEffect.EXPLOSION.getCount(), particles.emit(ParticleEffect.EXPLOSION, 100, 100, 1.0));
+        int half = particles.emit(ParticleEffect.EXPLOSION, 100, 100, 0.5);
+        assertEquals((int) Math.ceil(ParticleEffect.EXPLOSION.getCount() * 0.5), half);
+        assertEquals(ParticleEffect.EXPLOSION.getCount() + half, particles.size());
+    }
+
+    @Test
+    void testParticlesBurnOutAfterTheirLife() {
+        ParticleSystem particles = new ParticleSystem(1024);
+        particles.emit(ParticleEffect.SPARKS, 500, 500, 1.0);
+
+        particles.update(ParticleEffect.SPARKS.getMinLife() / 2);
+        assertEquals(ParticleEffect.SPARKS.getCount(), particles.size(), "No spark should die before its minimum life.");
+
+        particles.update(ParticleEffect.SPARKS.getMaxLife());
+        assertEquals(0, particles.size(), "Every spark should be gone after its maximum life.");
+    }
+
+    @Test
+    void testFullSystemRecyclesInsteadOfDropping() {
+        ParticleSystem particles = new ParticleSystem(100);
+        particles.emit(ParticleEffect.EXPLOSION, 0, 0, 1.0);
+        particles.emit(ParticleEffect.EXPLOSION, 0, 0, 1.0);
+
+        assertEquals(100, particles.size());
+        assertEquals(2L * ParticleEffect.EXPLOSION.getCount() - 100, particles.getRecycled());
+    }
+
+    @Test
+    void testDebrisFallsAndFades() {
+        ParticleSystem particles = new ParticleSystem(1024);
+        particles.emit(ParticleEffect.DEBRIS, 500, 500, 1.0);
+        int firstColor = ParticleEffect.DEBRIS.ordinal() * ParticleSystem.COLOR_STEPS;
+        for (int i = 0; i < particles.size(); i++) {
+            assertEquals(firstColor, particles.getColorIndex(i), "Newborn particles should use the first colour.");
+        }
+
+        double totalY = 0;
+        for (int frame = 0; frame < 30; frame++) {
+            particles.update(1 / 60.0);
+        }
+        for (int i = 0; i < particles.size(); i++) {
+            totalY += particles.getY(i);
+            assertTrue(particles.getColorIndex(i) > firstColor);
+            assertTrue(particles.getSize(i) < ParticleEffect.DEBRIS.getStartSize());
+        }
+        assertTrue(totalY / particles.size() > 500, "Gravity should pull the debris down on average.");
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.views;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualityGovernorTest {
+
+    private static final long BUDGET = 16_000_000L;
+    private static final long SLOW_FRAME = 25_000_000L;
+    private static final long FAST_FRAME = 8_000_000L;
+    private static final long STEADY_FRAME = 14_000_000L;
+
+    private static void feed(QualityGovernor governor, long frameNanos, int evaluations) {
+        for (int i = 0; i < evaluations * QualityGovernor.EVALUATION_INTERVAL; i++) {
+            governor.recordFrame(frameNanos);
+        }
+    }
+
+    @Test
+    void testSlowFramesLowerQualityAfterHysteresis() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+
+        feed(governor, SLOW_FRAME, QualityGovernor.EVALUATIONS_OVER_TO_LOWER - 1);
+        assertEquals(QualityLevel.HIGH, governor.getLevel(), "A single slow evaluation should not lower quality.");
+
+        feed(governor, SLOW_FRAME, 1);
+        assertEquals(QualityLevel.MEDIUM, governor.getLevel());
+        assertEquals(1, governor.getChangeCount());
+    }
+
+    @Test
+    void testFastFramesRaiseQualityOnlyAfterLongerRun() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.setLevel(QualityLevel.LOW);
+
+        feed(governor, FAST_FRAME, QualityGovernor.EVALUATIONS_UNDER_TO_RAISE - 1);
+        assertEquals(QualityLevel.LOW, governor.getLevel());
+
+        feed(governor, FAST_FRAME, 1);
+        assertEquals(QualityLevel.MEDIUM, governor.getLevel(), "A long run of fast frames should raise quality.");
+    }
+
+    @Test
+    void testFramesBetweenThresholdsKeepLevel() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.setLevel(QualityLevel.MEDIUM);
+
+        feed(governor, STEADY_FRAME, 20);
+        assertEquals(QualityLevel.MEDIUM, governor.getLevel(), "Frames near the budget should not flicker the level.");
+    }
+
+    @Test
+    void testPercentileIgnoresRareSpikes() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int i = 0; i < 10 * QualityGovernor.EVALUATION_INTERVAL; i++) {
+            governor.recordFrame(i % 30 == 0 ? SLOW_FRAME : STEADY_FRAME);
+        }
+        assertEquals(QualityLevel.HIGH, governor.getLevel(), "One spike in thirty frames is below the percentile.");
+        assertEquals(STEADY_FRAME, governor.getLastPercentileNanos());
+    }
+
+    @Test
+    void testStallsAreNotCounted() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        feed(governor, 2_000_000_000L, 10);
+        assertEquals(QualityLevel.HIGH, governor.getLevel());
+        assertEquals(0, governor.getLastPercentileNanos());
+    }
+
+    @Test
+    void testEffectBudgetFollowsLevel() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.setLevel(QualityLevel.MINIMAL);
+
+        for (int i = 0; i < QualityLevel.MINIMAL.getMaxEffects(); i++) {
+            assertTrue(governor.tryStartEffect());
+        }
+        assertFalse(governor.tryStartEffect(), "Effects past the limit should be skipped.");
+
+        governor.endEffect();
+        assertTrue(governor.tryStartEffect(), "A finished effect should free its slot.");
+    }
+
+    @Test
+    void testLevelsAreClampedAtBothEnds() {
+        assertEquals(QualityLevel.HIGH, QualityLevel.HIGH.higher());
+        assertEquals(QualityLevel.MINIMAL, QualityLevel.MINIMAL.lower());
+    }
+}